@@ -0,0 +1,26 @@
+-- mission 회원 참여 조회용 인덱스 (수신자 / 요청자 각각)
+-- 쿼리: mission/infrastructure/MissionJpaRepository (findLatestActiveByCategory / findLatestActive / findTop1LatestActiveDashboard)
+--
+-- 기존 쿼리의 (recipient_id = ? OR requester_id = ?) 조건은 회원 컬럼 인덱스가 없어 mission 전체를 읽었다.
+-- 쿼리를 역할별 UNION ALL로 바꾸고, 가지마다 아래 인덱스 하나로 (회원, 상태) 범위만 읽는다.
+-- created_at은 최신순 정렬용, id(PK)는 InnoDB 보조 인덱스에 자동으로 붙는다.
+
+ALTER TABLE mission
+    ADD INDEX idx_mission_recipient_status_created (recipient_id, status, created_at),
+    ADD INDEX idx_mission_requester_status_created (requester_id, status, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 확인: 두 가지 모두 type = ref, key = idx_mission_recipient_status_created / idx_mission_requester_status_created
+-- (derived 테이블의 join은 eq_ref / PRIMARY)
+EXPLAIN
+SELECT m.id, m.category_id, m.status, m.created_at
+FROM (
+    SELECT r.id, r.created_at FROM mission r
+    WHERE r.recipient_id = 1 AND r.status = 'IN_PROGRESS'
+    UNION ALL
+    SELECT q.id, q.created_at FROM mission q
+    WHERE q.requester_id = 1 AND q.recipient_id <> 1 AND q.status = 'IN_PROGRESS'
+) p
+JOIN mission m ON m.id = p.id
+ORDER BY p.created_at DESC, p.id DESC
+LIMIT 1;
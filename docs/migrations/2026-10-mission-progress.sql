@@ -0,0 +1,30 @@
+-- mission_progress projection 테이블 (미션당 1 row 진행 현황)
+-- 엔티티: mission/domain/progress/MissionProgress
+-- 읽는 곳: 홈 대시보드 헤더 쿼리 (MissionJpaRepository.findTop1LatestActiveDashboard, left join), 미션 판정
+-- 쓰는 곳: 퀴즈 제출 (MissionProgressAdapter.recordSubmission -> insertIfAbsent upsert 후 행 잠금)
+--
+-- 1단계 (배포 전): 테이블 생성
+--   prod는 ddl-auto가 none이므로 이 테이블이 없으면 대시보드 조회와 퀴즈 제출이 모두 실패한다.
+--   completed_days: 완료한 학습 일차 비트셋 (BitSet.toByteArray, MissionDays.MAX_DAYS = 365비트 -> 46바이트)
+CREATE TABLE mission_progress (
+    mission_id         BIGINT        NOT NULL,
+    completed_days     VARBINARY(46) NOT NULL,
+    completed_count    INT           NOT NULL,
+    solved_quiz_count  INT           NOT NULL,
+    correct_quiz_count INT           NOT NULL,
+    last_updated_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (mission_id)
+) ENGINE = InnoDB;
+
+-- 2단계 (배포 직후 1회, 필수): 기존 제출 기록으로 재구축
+--   이 단계 전까지 진행 중인 미션은 새 제출이 들어올 때까지 진행률 0%, 빈 캘린더로 보이고,
+--   배포 후 첫 제출로 생긴 행에는 그 제출만 반영되어 있다.
+--   재구축은 study_records + quiz_attempt를 처음부터 재생해 미션별로 덮어쓰므로 배포 후 언제 돌려도 되고, 다시 돌려도 같다.
+--   java -jar app.jar --mission-progress.rebuild-on-startup=true
+--   종료 로그의 실패 건수가 0인지 확인한다.
+--   확인: 제출 기록이 있는데 projection이 없는 미션 (0이 되어야 한다)
+SELECT COUNT(DISTINCT sr.mission_id)
+FROM study_records sr
+LEFT JOIN mission_progress mp ON mp.mission_id = sr.mission_id
+WHERE sr.quiz_status IN ('RETRY_AVAILABLE', 'PASSED', 'FAILED')
+  AND mp.mission_id IS NULL;
@@ -0,0 +1,27 @@
+-- quiz_attempt 저장 포맷 변경: quiz_ids(TEXT JSON) / answers(json) -> quiz_ids_bin / answers_bin (VARBINARY)
+-- 포맷: StudyRecord/infrastructure/converter/QuizAttemptBinaryCodec
+--
+-- 1단계 (배포 전): 바이너리 컬럼 추가
+--   새 버전은 바이너리 컬럼이 비어 있는 이전 행만 JSON 컬럼을 파싱해 읽는다. (dual-read)
+--   quiz-attempt.legacy-format.dual-write=true(기본)인 동안은 JSON 컬럼에도 함께 쓴다. (dual-write)
+--   JSON 컬럼이 계속 채워지므로 이전 버전과 섞여 돌거나 이전 버전으로 롤백해도 된다.
+ALTER TABLE quiz_attempt
+    ADD COLUMN quiz_ids_bin VARBINARY(64) NULL,
+    ADD COLUMN answers_bin  VARBINARY(64) NULL;
+
+-- 2단계 (배포 후): backfill (바이너리 컬럼만 채우고 JSON 컬럼은 그대로 둔다)
+--   java -jar app.jar --quiz-attempt.backfill-binary-format-on-startup=true
+--   종료 로그의 "변환" 건수는 실제 UPDATE된 행 수다.
+--   남은 건수 확인 (0이 되어야 한다)
+SELECT COUNT(*) FROM quiz_attempt WHERE quiz_ids_bin IS NULL;
+
+-- 3단계 (backfill 확인 후, 이전 버전이 모두 내려가고 롤백할 일이 없어지면): dual-write 끄기
+--   quiz-attempt.legacy-format.dual-write=false (환경변수 QUIZ_ATTEMPT_LEGACY_FORMAT_DUAL_WRITE=false)
+--   이후 새 행은 바이너리 컬럼만 저장한다. 이 시점부터 이전 버전으로 롤백할 수 없다.
+
+-- 4단계 (전환 확정 후 다음 배포): QuizAttemptLegacyFormatListener와 legacyQuizIdsJson / legacyAnswersJson 매핑을 제거한다.
+--   배포가 끝나면 컬럼을 정리한다.
+-- ALTER TABLE quiz_attempt
+--     DROP COLUMN quiz_ids,
+--     DROP COLUMN answers,
+--     MODIFY COLUMN quiz_ids_bin VARBINARY(64) NOT NULL;
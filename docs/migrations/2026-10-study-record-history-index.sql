@@ -0,0 +1,26 @@
+-- study_records 히스토리 커서 페이징용 커버링 인덱스
+-- 쿼리: StudyRecord/infrastructure/persistence/StudyRecordJpaRepository (findHistory* / findBookmarkedHistory*)
+--
+-- 기존 idx_member_submitted_id(member_id, quiz_submitted_date, id)에는 quiz_status / is_bookmarked /
+-- daily_content_id가 없어서 페이지마다 행을 읽어 걸러야 했다.
+-- 새 인덱스는 조회에 필요한 컬럼을 모두 포함하므로 EXPLAIN의 Extra에 "Using index"가 나와야 한다.
+
+-- 1단계: 새 인덱스 추가 (온라인 DDL)
+ALTER TABLE study_records
+    ADD INDEX idx_member_history (member_id, quiz_submitted_date, id, quiz_status, is_bookmarked, daily_content_id),
+    ADD INDEX idx_member_bookmark_history (member_id, is_bookmarked, quiz_submitted_date, id, quiz_status, daily_content_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 확인: key = idx_member_history, Extra = Using where; Backward index scan; Using index
+EXPLAIN
+SELECT id, quiz_submitted_date, is_bookmarked, daily_content_id
+FROM study_records
+WHERE member_id = 1
+  AND quiz_status IN ('RETRY_AVAILABLE', 'PASSED', 'FAILED')
+  AND quiz_submitted_date <= '2026-10-01'
+  AND (quiz_submitted_date, id) < ('2026-10-01', 500000)
+ORDER BY member_id DESC, quiz_submitted_date DESC, id DESC
+LIMIT 21;
+
+-- 2단계 (새 버전 배포 후): 앞부분이 같은 기존 인덱스 제거
+ALTER TABLE study_records DROP INDEX idx_member_submitted_id;
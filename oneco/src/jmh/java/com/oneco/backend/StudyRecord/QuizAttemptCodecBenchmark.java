@@ -0,0 +1,278 @@
+package com.oneco.backend.StudyRecord;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.oneco.backend.StudyRecord.infrastructure.converter.LongIntMapJsonConverter;
+import com.oneco.backend.StudyRecord.infrastructure.converter.LongListJsonConverter;
+import com.oneco.backend.StudyRecord.infrastructure.converter.QuizAttemptBinaryCodec;
+
+/**
+ * quiz_attempt.quiz_ids / answers 컬럼 코덱 비교 (QuizAttempt 엔티티 1건 저장/조회마다 실행된다)
+ * <p>
+ * 후보
+ * - converter: 현재 LongListJsonConverter / LongIntMapJsonConverter (ObjectMapper + TypeReference)
+ * - reader: 같은 JSON 포맷, 미리 만든 ObjectReader / ObjectWriter 재사용 (타입 해석을 호출마다 하지 않는다)
+ * - manual: 같은 JSON 포맷, Jackson 없이 직접 쓰고 파싱 (DB 컬럼 호환)
+ * - binary: 고정 길이 바이너리 (quizId 8byte / 답안 quizId 8byte + 보기 1byte), VARBINARY 컬럼 전제
+ * - compact: 현재 저장 포맷 QuizAttemptBinaryCodec (버전 + delta varint + nibble), quiz_ids_bin / answers_bin
+ * <p>
+ * 페이로드: 한 번에 출제되는 3문제 (QuizAttempt.start 검증과 동일)
+ * 인코딩 크기: quizIds JSON 19B / binary 24B / compact 7B, answers JSON 31B / binary 27B / compact 9B
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=QuizAttemptCodec 실행 (기준 결과: docs/benchmarks/codec-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizAttemptCodecBenchmark {
+
+	private static final ObjectMapper OM = new ObjectMapper();
+	private static final ObjectReader QUIZ_IDS_READER = OM.readerFor(new TypeReference<List<Long>>() {
+	});
+	private static final ObjectReader ANSWERS_READER = OM.readerFor(new TypeReference<Map<Long, Integer>>() {
+	});
+	private static final ObjectWriter WRITER = OM.writer();
+
+	private final LongListJsonConverter quizIdsConverter = new LongListJsonConverter();
+	private final LongIntMapJsonConverter answersConverter = new LongIntMapJsonConverter();
+
+	private List<Long> quizIds;
+	private Map<Long, Integer> answers;
+
+	private String quizIdsJson;
+	private String answersJson;
+	private byte[] quizIdsBinary;
+	private byte[] answersBinary;
+	private byte[] quizIdsCompact;
+	private byte[] answersCompact;
+
+	@Setup
+	public void setUp() {
+		quizIds = List.of(10_231L, 10_232L, 10_233L);
+		// AnswerSheet.toAnswerMap()과 같은 불변 Map
+		answers = Map.of(10_231L, 1, 10_232L, 0, 10_233L, 1);
+
+		quizIdsJson = quizIdsConverter.convertToDatabaseColumn(quizIds);
+		answersJson = answersConverter.convertToDatabaseColumn(answers);
+		quizIdsBinary = encodeQuizIdsBinary(quizIds);
+		answersBinary = encodeAnswersBinary(answers);
+		quizIdsCompact = QuizAttemptBinaryCodec.encodeQuizIds(quizIds);
+		answersCompact = QuizAttemptBinaryCodec.encodeAnswers(answers);
+	}
+
+	// =============================
+	// quizIds (List<Long>)
+	// =============================
+
+	@Benchmark
+	public String quizIdsConverterEncode() {
+		return quizIdsConverter.convertToDatabaseColumn(quizIds);
+	}
+
+	@Benchmark
+	public List<Long> quizIdsConverterDecode() {
+		return quizIdsConverter.convertToEntityAttribute(quizIdsJson);
+	}
+
+	@Benchmark
+	public String quizIdsReaderEncode() throws JsonProcessingException {
+		return WRITER.writeValueAsString(quizIds);
+	}
+
+	@Benchmark
+	public List<Long> quizIdsReaderDecode() throws JsonProcessingException {
+		return QUIZ_IDS_READER.readValue(quizIdsJson);
+	}
+
+	@Benchmark
+	public String quizIdsManualEncode() {
+		StringBuilder sb = new StringBuilder(quizIds.size() * 8 + 2).append('[');
+		for (int i = 0; i < quizIds.size(); i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append(quizIds.get(i).longValue());
+		}
+		return sb.append(']').toString();
+	}
+
+	@Benchmark
+	public List<Long> quizIdsManualDecode() {
+		String json = quizIdsJson;
+		Long[] values = new Long[countSeparators(json, ',') + 1];
+		int count = 0;
+		int i = 1; // '[' 다음부터
+		while (i < json.length() - 1) {
+			int end = json.indexOf(',', i);
+			if (end < 0) {
+				end = json.length() - 1;
+			}
+			values[count++] = parseLong(json, i, end);
+			i = end + 1;
+		}
+		return List.of(values);
+	}
+
+	@Benchmark
+	public byte[] quizIdsBinaryEncode() {
+		return encodeQuizIdsBinary(quizIds);
+	}
+
+	@Benchmark
+	public List<Long> quizIdsBinaryDecode() {
+		ByteBuffer buffer = ByteBuffer.wrap(quizIdsBinary);
+		Long[] values = new Long[quizIdsBinary.length / Long.BYTES];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = buffer.getLong();
+		}
+		return List.of(values);
+	}
+
+	@Benchmark
+	public byte[] quizIdsCompactEncode() {
+		return QuizAttemptBinaryCodec.encodeQuizIds(quizIds);
+	}
+
+	@Benchmark
+	public List<Long> quizIdsCompactDecode() {
+		return QuizAttemptBinaryCodec.decodeQuizIds(quizIdsCompact);
+	}
+
+	// =============================
+	// answers (Map<Long, Integer>)
+	// =============================
+
+	@Benchmark
+	public String answersConverterEncode() {
+		return answersConverter.convertToDatabaseColumn(answers);
+	}
+
+	@Benchmark
+	public Map<Long, Integer> answersConverterDecode() {
+		return answersConverter.convertToEntityAttribute(answersJson);
+	}
+
+	@Benchmark
+	public String answersReaderEncode() throws JsonProcessingException {
+		return WRITER.writeValueAsString(answers);
+	}
+
+	@Benchmark
+	public Map<Long, Integer> answersReaderDecode() throws JsonProcessingException {
+		return ANSWERS_READER.readValue(answersJson);
+	}
+
+	@Benchmark
+	public String answersManualEncode() {
+		StringBuilder sb = new StringBuilder(answers.size() * 12 + 2).append('{');
+		boolean first = true;
+		for (Map.Entry<Long, Integer> entry : answers.entrySet()) {
+			if (!first) {
+				sb.append(',');
+			}
+			sb.append('"').append(entry.getKey().longValue()).append("\":").append(entry.getValue().intValue());
+			first = false;
+		}
+		return sb.append('}').toString();
+	}
+
+	@Benchmark
+	public Map<Long, Integer> answersManualDecode() {
+		String json = answersJson;
+		Map<Long, Integer> result = new HashMap<>();
+		int i = 1; // '{' 다음부터
+		while (i < json.length() - 1) {
+			int keyEnd = json.indexOf('"', i + 1);
+			int valueEnd = json.indexOf(',', keyEnd);
+			if (valueEnd < 0) {
+				valueEnd = json.length() - 1;
+			}
+			result.put(parseLong(json, i + 1, keyEnd), (int)parseLong(json, keyEnd + 2, valueEnd));
+			i = valueEnd + 1;
+		}
+		return result;
+	}
+
+	@Benchmark
+	public byte[] answersBinaryEncode() {
+		return encodeAnswersBinary(answers);
+	}
+
+	@Benchmark
+	public Map<Long, Integer> answersBinaryDecode() {
+		ByteBuffer buffer = ByteBuffer.wrap(answersBinary);
+		int size = answersBinary.length / (Long.BYTES + 1);
+		Map<Long, Integer> result = new LinkedHashMap<>(size * 2);
+		for (int i = 0; i < size; i++) {
+			result.put(buffer.getLong(), (int)buffer.get());
+		}
+		return result;
+	}
+
+	@Benchmark
+	public byte[] answersCompactEncode() {
+		return QuizAttemptBinaryCodec.encodeAnswers(answers);
+	}
+
+	@Benchmark
+	public Map<Long, Integer> answersCompactDecode() {
+		return QuizAttemptBinaryCodec.decodeAnswers(answersCompact);
+	}
+
+	// =============================
+	// helpers
+	// =============================
+
+	private static byte[] encodeQuizIdsBinary(List<Long> quizIds) {
+		ByteBuffer buffer = ByteBuffer.allocate(quizIds.size() * Long.BYTES);
+		for (Long quizId : quizIds) {
+			buffer.putLong(quizId);
+		}
+		return buffer.array();
+	}
+
+	private static byte[] encodeAnswersBinary(Map<Long, Integer> answers) {
+		ByteBuffer buffer = ByteBuffer.allocate(answers.size() * (Long.BYTES + 1));
+		for (Map.Entry<Long, Integer> entry : answers.entrySet()) {
+			buffer.putLong(entry.getKey()).put((byte)(int)entry.getValue());
+		}
+		return buffer.array();
+	}
+
+	private static int countSeparators(String s, char separator) {
+		int count = 0;
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) == separator) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// 부호 없는 10진수만 (quizId / 보기 인덱스)
+	private static long parseLong(String s, int from, int to) {
+		long value = 0;
+		for (int i = from; i < to; i++) {
+			value = value * 10 + (s.charAt(i) - '0');
+		}
+		return value;
+	}
+}
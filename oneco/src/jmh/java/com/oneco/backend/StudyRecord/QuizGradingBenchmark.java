@@ -0,0 +1,103 @@
+package com.oneco.backend.StudyRecord;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.oneco.backend.StudyRecord.application.port.dto.QuizForGrading;
+import com.oneco.backend.StudyRecord.application.service.QuizGrader;
+
+/**
+ * 제출 1건 채점 비용 비교 (log.info 호출은 제외)
+ * - legacy: HashSet 2개 + Collectors.toMap + boxed Map 조회 2회 + 도메인에서 HashSet 비교 반복
+ * - grader: QuizGrader (primitive 채점표/답안지, 1회 루프) + 도메인에서 배열 비교
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=QuizGrading 실행 후 gc.alloc.rate.norm(B/op)으로 제출당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuizGradingBenchmark {
+
+	private final QuizGrader quizGrader = new QuizGrader();
+
+	private List<Long> quizIds;
+	private List<QuizForGrading> quizzes;
+	private Map<Long, Integer> answers;
+
+	@Setup
+	public void setUp() {
+		quizIds = List.of(1001L, 1002L, 1003L);
+		quizzes = List.of(
+			new QuizForGrading(1001L, 1, 2),
+			new QuizForGrading(1002L, 0, 2),
+			new QuizForGrading(1003L, 1, 2)
+		);
+		answers = Map.of(1001L, 1, 1002L, 0, 1003L, 0);
+	}
+
+	@Benchmark
+	public Object legacy() {
+		// 서비스: 집합 비교
+		Set<Long> issued = new HashSet<>(quizIds);
+		Set<Long> submitted = new HashSet<>(answers.keySet());
+		if (!issued.equals(submitted)) {
+			throw new IllegalStateException();
+		}
+
+		// 서비스: 보기 범위 검증
+		Map<Long, QuizForGrading> quizMap = quizzes.stream()
+			.collect(Collectors.toMap(QuizForGrading::quizId, Function.identity()));
+		for (Long quizId : quizIds) {
+			Integer selected = answers.get(quizId);
+			if (selected == null || selected < 0 || selected >= quizMap.get(quizId).optionCount()) {
+				throw new IllegalStateException();
+			}
+		}
+
+		// 서비스: 정답 비교
+		int correct = 0;
+		for (Long quizId : quizIds) {
+			Integer selected = answers.get(quizId);
+			Integer answerIndex = quizMap.get(quizId).correctIndex();
+			if (selected.equals(answerIndex)) {
+				correct++;
+			}
+		}
+
+		// 도메인(QuizAttempt.submit): 같은 집합 비교 반복 + 방어적 복사
+		Set<Long> issuedAgain = new HashSet<>(quizIds);
+		Set<Long> submittedAgain = new HashSet<>(answers.keySet());
+		if (!issuedAgain.equals(submittedAgain)) {
+			throw new IllegalStateException();
+		}
+		Map<Long, Integer> stored = Map.copyOf(answers);
+
+		return correct + stored.size();
+	}
+
+	@Benchmark
+	public Object grader() {
+		QuizGrader.Grading grading = quizGrader.grade(quizIds, quizzes, answers);
+
+		// 도메인(QuizAttempt.submit): 배열 비교 + 저장용 Map
+		if (!grading.answerSheet().isFor(quizIds)) {
+			throw new IllegalStateException();
+		}
+		Map<Long, Integer> stored = grading.answerSheet().toAnswerMap();
+
+		return grading.correctCount() + stored.size();
+	}
+}
@@ -0,0 +1,263 @@
+package com.oneco.backend.StudyRecord;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 히스토리 커서 페이징 1페이지 조회 비용 (study_records 100만 행, H2 MySQL 모드)
+ * - legacy: 기존 쿼리 (엔티티 전체 컬럼 + OR로 펼친 커서 조건 + idx_member_submitted_id)
+ * - covering: StudyRecordJpaRepository.findHistory* (4컬럼 projection + row-value 커서 + 커버링 인덱스)
+ * - page: first(첫 페이지) / deep(대상 회원 기록 20만 건 중 90% 지점의 커서)
+ * <p>
+ * SQL은 Hibernate가 만드는 문장과 같은 모양으로 JDBC에서 직접 실행한다.
+ * ./gradlew jmh -Pjmh.includes=StudyRecordHistoryQuery 실행 (기준 결과: docs/benchmarks/history-query-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudyRecordHistoryQueryBenchmark {
+
+	private static final int TOTAL_ROWS = 1_000_000;
+	private static final int TARGET_MEMBER_ROWS = 200_000; // 조회 대상 회원 (id 1 ~ 200,000)
+	private static final int ROWS_PER_OTHER_MEMBER = 1_000;
+	private static final int ROWS_PER_DAY = 100;
+	private static final int PAGE_SIZE = 20;
+	private static final long TARGET_MEMBER_ID = 1L;
+	private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+	private static final String[] STATUSES = {"PASSED", "FAILED", "RETRY_AVAILABLE"};
+
+	private static final String LEGACY_COLUMNS = """
+		select id, category_id, created_at, daily_content_id, is_bookmarked, member_id, mission_id,
+		       news_unlocked, quiz_status, quiz_submitted_date, updated_at
+		from study_records
+		""";
+	private static final String LEGACY_CURSOR = """
+		and quiz_status in (?, ?, ?)
+		and (? is null or quiz_submitted_date < ? or (quiz_submitted_date = ? and id < ?))
+		order by quiz_submitted_date desc, id desc
+		limit ?
+		""";
+	private static final String COVERING_COLUMNS = """
+		select id, quiz_submitted_date, is_bookmarked, daily_content_id
+		from study_records
+		""";
+	private static final String COVERING_ORDER = """
+		order by member_id desc, quiz_submitted_date desc, id desc
+		limit ?
+		""";
+	private static final String COVERING_BOOKMARKED_ORDER = """
+		order by member_id desc, is_bookmarked desc, quiz_submitted_date desc, id desc
+		limit ?
+		""";
+	private static final String COVERING_CURSOR = """
+		and quiz_submitted_date <= ?
+		and (quiz_submitted_date, id) < (?, ?)
+		""";
+
+	@Param({"legacy", "covering"})
+	private String variant;
+
+	@Param({"all", "bookmarked"})
+	private String mode;
+
+	@Param({"first", "deep"})
+	private String page;
+
+	private Connection connection;
+	private PreparedStatement query;
+	private LocalDate cursorDate;
+	private long cursorId;
+
+	@Setup
+	public void setUp() throws SQLException {
+		// jmh jar에는 MySQL 드라이버의 ServiceLoader 등록만 남으므로 H2 드라이버를 직접 사용한다.
+		// OPTIMIZE_REUSE_RESULTS=FALSE: 같은 파라미터의 직전 결과를 재사용하지 않고 매번 실행한다.
+		connection = new org.h2.Driver().connect(
+			"jdbc:h2:mem:history_" + variant + "_" + mode + "_" + page
+				+ ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;OPTIMIZE_REUSE_RESULTS=FALSE",
+			new Properties());
+		createTable();
+		insertRows();
+		createIndexes();
+
+		// 대상 회원 기록은 오래된 순으로 id가 커진다. 최신순 90% 지점 = id 20,000 부근
+		long deepId = TARGET_MEMBER_ROWS / 10;
+		cursorDate = BASE_DATE.plusDays((deepId - 1) / ROWS_PER_DAY);
+		cursorId = deepId;
+
+		query = connection.prepareStatement(sql());
+		bind();
+		if (countRows() != PAGE_SIZE + 1) {
+			throw new IllegalStateException("page must be full: " + variant + "/" + mode + "/" + page);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public void loadPage(Blackhole blackhole) throws SQLException {
+		try (ResultSet rs = query.executeQuery()) {
+			while (rs.next()) {
+				blackhole.consume(rs.getLong(1));
+				blackhole.consume(rs.getObject(2));
+			}
+		}
+	}
+
+	private int countRows() throws SQLException {
+		int rows = 0;
+		try (ResultSet rs = query.executeQuery()) {
+			while (rs.next()) {
+				rows++;
+			}
+		}
+		return rows;
+	}
+
+	private String sql() {
+		String bookmarkFilter = mode.equals("bookmarked") ? "and is_bookmarked = true\n" : "";
+		if (variant.equals("legacy")) {
+			return LEGACY_COLUMNS + "where member_id = ?\n" + bookmarkFilter + LEGACY_CURSOR;
+		}
+		String cursor = page.equals("deep") ? COVERING_CURSOR : "";
+		String order = mode.equals("bookmarked") ? COVERING_BOOKMARKED_ORDER : COVERING_ORDER;
+		return COVERING_COLUMNS + "where member_id = ?\n" + bookmarkFilter
+			+ "and quiz_status in (?, ?, ?)\n" + cursor + order;
+	}
+
+	private void bind() throws SQLException {
+		int i = 1;
+		query.setLong(i++, TARGET_MEMBER_ID);
+		boolean deep = page.equals("deep");
+		if (variant.equals("legacy")) {
+			for (String status : STATUSES) {
+				query.setString(i++, status);
+			}
+			// 첫 페이지는 커서가 모두 null (기존 서비스와 같다)
+			for (int n = 0; n < 3; n++) {
+				if (deep) {
+					query.setDate(i++, Date.valueOf(cursorDate));
+				} else {
+					query.setNull(i++, Types.DATE);
+				}
+			}
+			if (deep) {
+				query.setLong(i++, cursorId);
+			} else {
+				query.setNull(i++, Types.BIGINT);
+			}
+		} else {
+			for (String status : STATUSES) {
+				query.setString(i++, status);
+			}
+			if (deep) {
+				query.setDate(i++, Date.valueOf(cursorDate));
+				query.setDate(i++, Date.valueOf(cursorDate));
+				query.setLong(i++, cursorId);
+			}
+		}
+		query.setInt(i, PAGE_SIZE + 1); // Slice: size + 1
+	}
+
+	private void createTable() throws SQLException {
+		try (Statement st = connection.createStatement()) {
+			st.execute("""
+				create table study_records (
+					id bigint not null primary key,
+					mission_id bigint not null,
+					is_bookmarked boolean not null,
+					quiz_submitted_date date,
+					member_id bigint not null,
+					category_id bigint not null,
+					daily_content_id bigint not null,
+					quiz_status varchar(50) not null,
+					news_unlocked boolean not null,
+					created_at timestamp(6) not null,
+					updated_at timestamp(6) not null
+				)
+				""");
+		}
+	}
+
+	// 20개 중 18개는 제출 완료, 1개는 진행 중(제출일 있음), 1개는 미제출. 5개 중 1개는 북마크
+	private void insertRows() throws SQLException {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+			"insert into study_records values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+			for (int id = 1; id <= TOTAL_ROWS; id++) {
+				int seq = id <= TARGET_MEMBER_ROWS ? id : (id - TARGET_MEMBER_ROWS - 1) % ROWS_PER_OTHER_MEMBER + 1;
+				long memberId = id <= TARGET_MEMBER_ROWS
+					? TARGET_MEMBER_ID
+					: 2L + (id - TARGET_MEMBER_ROWS - 1) / ROWS_PER_OTHER_MEMBER;
+				int kind = id % 20;
+				String status = kind == 0 ? "READY" : kind == 1 ? "IN_PROGRESS" : STATUSES[kind % 3];
+
+				insert.setLong(1, id);
+				insert.setLong(2, 1L + seq / 100);
+				insert.setBoolean(3, id % 5 == 0);
+				if (kind == 0) {
+					insert.setNull(4, Types.DATE);
+				} else {
+					insert.setDate(4, Date.valueOf(BASE_DATE.plusDays((seq - 1) / ROWS_PER_DAY)));
+				}
+				insert.setLong(5, memberId);
+				insert.setLong(6, 1L + seq % 5);
+				insert.setLong(7, seq);
+				insert.setString(8, status);
+				insert.setBoolean(9, !status.equals("READY") && !status.equals("IN_PROGRESS"));
+				insert.setTimestamp(10, now);
+				insert.setTimestamp(11, now);
+				insert.addBatch();
+				if (id % 10_000 == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		connection.setAutoCommit(true);
+	}
+
+	private void createIndexes() throws SQLException {
+		try (Statement st = connection.createStatement()) {
+			st.execute("alter table study_records add constraint uk_member_daily unique (member_id, daily_content_id)");
+			if (variant.equals("legacy")) {
+				st.execute("create index idx_member_submitted_id on study_records (member_id, quiz_submitted_date, id)");
+			} else {
+				st.execute("""
+					create index idx_member_history on study_records
+					(member_id, quiz_submitted_date, id, quiz_status, is_bookmarked, daily_content_id)
+					""");
+				st.execute("""
+					create index idx_member_bookmark_history on study_records
+					(member_id, is_bookmarked, quiz_submitted_date, id, quiz_status, daily_content_id)
+					""");
+			}
+			st.execute("analyze");
+		}
+	}
+}
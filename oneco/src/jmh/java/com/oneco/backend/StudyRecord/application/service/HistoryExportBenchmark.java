@@ -0,0 +1,165 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.oneco.backend.StudyRecord.application.dto.command.HistoryExportFormat;
+import com.oneco.backend.StudyRecord.application.dto.result.HistoryExportRow;
+import com.oneco.backend.StudyRecord.application.port.dto.DailyContentSummary;
+
+/**
+ * 히스토리 내보내기 처리량 (rows/s)
+ * - 회원 1명의 제출 기록 10만 건을 H2(MySQL 모드)에서 fetch size 1000으로 읽는다.
+ * - 행마다 콘텐츠 요약 Map으로 제목/요약을 붙이고 HistoryExportWriter로 쓴다. (응답 대신 버리는 OutputStream)
+ * - 1회 호출 = 10만 행이므로 점수(ops/s)가 곧 초당 행 수다.
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=HistoryExport 실행 (기준 결과: docs/benchmarks/history-export-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HistoryExportBenchmark {
+
+	private static final int ROWS = 100_000;
+	private static final int CONTENTS = 300;
+	private static final int FETCH_SIZE = 1_000;
+	private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+	// HistoryExportService와 같은 조회 (Hibernate가 만드는 SQL 모양)
+	private static final String QUERY = """
+		select id, quiz_submitted_date, is_bookmarked, daily_content_id
+		from study_records
+		where member_id = ? and quiz_status in ('RETRY_AVAILABLE', 'PASSED', 'FAILED')
+		order by member_id desc, quiz_submitted_date desc, id desc
+		""";
+
+	@Param({"NDJSON", "CSV"})
+	private HistoryExportFormat format;
+
+	private Connection connection;
+	private ObjectMapper objectMapper;
+	private Map<Long, DailyContentSummary> summaries;
+
+	@Setup
+	public void setUp() throws SQLException {
+		// fat jar 에서는 모듈 자동 탐색(ServiceLoader) 파일이 덮어써지므로 직접 등록한다.
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		connection = new org.h2.Driver().connect(
+			"jdbc:h2:mem:history_export_" + format + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;OPTIMIZE_REUSE_RESULTS=FALSE",
+			new Properties());
+
+		try (Statement st = connection.createStatement()) {
+			st.execute("""
+				create table study_records (
+					id bigint not null primary key,
+					is_bookmarked boolean not null,
+					quiz_submitted_date date,
+					member_id bigint not null,
+					daily_content_id bigint not null,
+					quiz_status varchar(50) not null
+				)
+				""");
+		}
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+			"insert into study_records values (?, ?, ?, 1, ?, 'PASSED')")) {
+			for (int id = 1; id <= ROWS; id++) {
+				insert.setLong(1, id);
+				insert.setBoolean(2, id % 5 == 0);
+				insert.setDate(3, Date.valueOf(FIRST_DAY.plusDays(id / 3)));
+				insert.setLong(4, 1_000L + id % CONTENTS);
+				insert.addBatch();
+				if (id % 10_000 == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		try (Statement st = connection.createStatement()) {
+			st.execute("""
+				create index idx_member_history on study_records
+				(member_id, quiz_submitted_date, id, quiz_status, is_bookmarked, daily_content_id)
+				""");
+		}
+
+		summaries = new HashMap<>();
+		for (long id = 1_000; id < 1_000 + CONTENTS; id++) {
+			summaries.put(id, new DailyContentSummary(
+				id, "금리가 오르면 무슨 일이 생길까 " + id, "중앙은행이 기준금리를 올리면, 대출 이자와 예금 이자가 함께 오른다.", List.of()));
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public long export() throws SQLException, IOException {
+		CountingOutputStream out = new CountingOutputStream();
+		try (PreparedStatement ps = connection.prepareStatement(QUERY)) {
+			ps.setFetchSize(FETCH_SIZE);
+			ps.setLong(1, 1L);
+			try (ResultSet rs = ps.executeQuery();
+				 HistoryExportWriter writer = HistoryExportWriter.of(format, out, objectMapper)) {
+				while (rs.next()) {
+					long dailyContentId = rs.getLong(4);
+					DailyContentSummary summary = summaries.get(dailyContentId);
+					writer.write(new HistoryExportRow(
+						rs.getLong(1),
+						rs.getObject(2, LocalDate.class),
+						rs.getBoolean(3),
+						dailyContentId,
+						summary.title(),
+						summary.summary()
+					));
+				}
+			}
+		}
+		return out.bytes;
+	}
+
+	// 응답 대신 바이트 수만 센다.
+	private static final class CountingOutputStream extends OutputStream {
+		private long bytes;
+
+		@Override
+		public void write(int b) {
+			bytes++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			bytes += len;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult.CalendarDateResult;
+import com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult.DailyContentResult;
+import com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult.MissionResult;
+import com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult.StudyStatusResult;
+import com.oneco.backend.mission.domain.policy.MissionSchedulePolicy;
+
+/**
+ * 홈 대시보드 캘린더 생성 비용 (GetHomeDashboardService.buildCalendarDateResults)
+ * - 미션 기간을 하루씩 순회하며 평일마다 CalendarDateResult를 만든다.
+ * - 콘텐츠는 missionDays개, 오늘(기간 가운데)까지 열린 날 중 절반을 COMPLETED로 둔다.
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=HomeDashboardCalendar 실행 (기준 결과: docs/benchmarks/mission-date-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HomeDashboardCalendarBenchmark {
+
+	// 2026-03-02 (월요일)
+	private static final LocalDate START_DATE = LocalDate.of(2026, 3, 2);
+
+	@Param({"5", "20", "60", "365"})
+	private int missionDays;
+
+	private MissionResult mission;
+	private LocalDate today;
+	private List<DailyContentResult> dailyContents;
+	private Map<Long, StudyStatusResult> statusByDailyContentId;
+
+	@Setup
+	public void setUp() {
+		LocalDate endDate = new MissionSchedulePolicy().calculateDueDate(START_DATE, missionDays);
+		mission = MissionResult.of(1L, 2L, 3L, "놀이공원", START_DATE, endDate);
+		today = START_DATE.plusDays(ChronoUnit.DAYS.between(START_DATE, endDate) / 2);
+
+		dailyContents = new ArrayList<>(missionDays);
+		statusByDailyContentId = new HashMap<>();
+		for (int day = 1; day <= missionDays; day++) {
+			long dailyContentId = 10_000L + day;
+			dailyContents.add(DailyContentResult.of(dailyContentId, "키워드" + day));
+			if (day <= missionDays / 4) {
+				statusByDailyContentId.put(dailyContentId, StudyStatusResult.COMPLETED);
+			}
+		}
+	}
+
+	@Benchmark
+	public List<CalendarDateResult> buildCalendar() {
+		return GetHomeDashboardService.buildCalendarDateResults(mission, today, dailyContents, statusByDailyContentId);
+	}
+}
@@ -0,0 +1,113 @@
+package com.oneco.backend.dailycontent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.oneco.backend.dailycontent.domain.quiz.QuizOptions;
+import com.oneco.backend.dailycontent.infrastructure.converter.QuizOptionsConverter;
+
+/**
+ * quiz.options 컬럼 코덱 비교 (Quiz 엔티티 1건 저장/조회마다 실행된다)
+ * <p>
+ * 후보
+ * - converter: 현재 QuizOptionsConverter (호출마다 익명 TypeReference 생성 + 스트림 변환)
+ * - reader: 같은 JSON 포맷, 미리 만든 ObjectReader / ObjectWriter 재사용
+ * - binary: 보기 개수(1byte) + [UTF-8 길이(2byte) + 본문] 반복
+ * <p>
+ * 모든 후보는 도메인 값 객체(QuizOptions)까지 변환한 비용을 잰다.
+ * 페이로드: 한글 보기 2개 (QuizOptions.OPTION_COUNT), 인코딩 크기 JSON 88B / binary 86B
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=QuizOptionsCodec 실행 (기준 결과: docs/benchmarks/codec-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizOptionsCodecBenchmark {
+
+	private static final ObjectMapper OM = new ObjectMapper();
+	private static final ObjectReader READER = OM.readerFor(new TypeReference<List<String>>() {
+	});
+	private static final ObjectWriter WRITER = OM.writer();
+
+	private final QuizOptionsConverter converter = new QuizOptionsConverter();
+
+	private QuizOptions options;
+	private String json;
+	private byte[] binary;
+
+	@Setup
+	public void setUp() {
+		options = QuizOptions.ofTexts(List.of(
+			"물건을 살 때 가격을 비교해 본다",
+			"갖고 싶은 물건은 바로 산다"
+		));
+		json = converter.convertToDatabaseColumn(options);
+		binary = binaryEncode();
+	}
+
+	@Benchmark
+	public String converterEncode() {
+		return converter.convertToDatabaseColumn(options);
+	}
+
+	@Benchmark
+	public QuizOptions converterDecode() {
+		return converter.convertToEntityAttribute(json);
+	}
+
+	@Benchmark
+	public String readerEncode() throws JsonProcessingException {
+		return WRITER.writeValueAsString(options.getOptionTexts());
+	}
+
+	@Benchmark
+	public QuizOptions readerDecode() throws JsonProcessingException {
+		List<String> texts = READER.readValue(json);
+		return QuizOptions.ofTexts(texts);
+	}
+
+	@Benchmark
+	public byte[] binaryEncode() {
+		List<String> texts = options.getOptionTexts();
+		byte[][] encoded = new byte[texts.size()][];
+		int size = 1;
+		for (int i = 0; i < encoded.length; i++) {
+			encoded[i] = texts.get(i).getBytes(StandardCharsets.UTF_8);
+			size += Short.BYTES + encoded[i].length;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size).put((byte)encoded.length);
+		for (byte[] text : encoded) {
+			buffer.putShort((short)text.length).put(text);
+		}
+		return buffer.array();
+	}
+
+	@Benchmark
+	public QuizOptions binaryDecode() {
+		ByteBuffer buffer = ByteBuffer.wrap(binary);
+		int count = buffer.get();
+		List<String> texts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int length = buffer.getShort();
+			texts.add(new String(binary, buffer.position(), length, StandardCharsets.UTF_8));
+			buffer.position(buffer.position() + length);
+		}
+		return QuizOptions.ofTexts(texts);
+	}
+}
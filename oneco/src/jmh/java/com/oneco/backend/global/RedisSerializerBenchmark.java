@@ -0,0 +1,111 @@
+package com.oneco.backend.global;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.oneco.backend.auth.application.dto.KakaoLoginResponse;
+import com.oneco.backend.family.domain.invitation.dto.FamilyInvitationRedisInfo;
+
+/**
+ * Redis 값 직렬화 비교 (RedisConfig의 RedisTemplate<String, Object>)
+ * <p>
+ * 후보
+ * - generic: 현재 GenericJackson2JsonRedisSerializer (값마다 "@class" 타입 정보를 함께 저장)
+ * - typed: 값 타입을 고정한 Jackson2JsonRedisSerializer (타입 정보 없음, 저장소별 템플릿 필요)
+ * - string: StringRedisSerializer로 원시 값만 저장 (초대 코드의 inviterId처럼 값이 하나뿐인 경우)
+ * <p>
+ * 페이로드
+ * - login: RedisLoginBridgeStore의 KakaoLoginResponse (기존 회원, JWT 2개)
+ * - invitation: InvitationCodeRedisAdapter의 FamilyInvitationRedisInfo
+ * 인코딩 크기: login generic 466B / typed 397B, invitation generic 103B / string 5B
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=RedisSerializer 실행 (기준 결과: docs/benchmarks/codec-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializerBenchmark {
+
+	// 실제 발급되는 HS256 토큰과 비슷한 길이 (header.payload.signature)
+	private static final String ACCESS_TOKEN = "eyJhbGciOiJIUzI1NiJ9."
+		+ "eyJzdWIiOiIxMjM0NSIsInJvbGUiOiJQQVJFTlQiLCJ0eXAiOiJBQ0NFU1MiLCJpYXQiOjE3NjA3NDU2MDAsImV4cCI6MTc2MDc0OTIwMH0."
+		+ "3q2-7wQv8yJx1Wq5u0m1sPq9V7a2bR4cX8nE6tY0kLs";
+	private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9."
+		+ "eyJzdWIiOiIxMjM0NSIsInR5cCI6IlJFRlJFU0giLCJpYXQiOjE3NjA3NDU2MDAsImV4cCI6MTc2MTk1NTIwMH0."
+		+ "Zt4p8Qm2xV0cL6rN1sB9wE3yU7iO5aK2dF8gH4jT6cM";
+
+	private final GenericJackson2JsonRedisSerializer generic = new GenericJackson2JsonRedisSerializer();
+	private final Jackson2JsonRedisSerializer<KakaoLoginResponse> typedLogin =
+		new Jackson2JsonRedisSerializer<>(KakaoLoginResponse.class);
+	private final StringRedisSerializer string = new StringRedisSerializer();
+
+	private KakaoLoginResponse login;
+	private FamilyInvitationRedisInfo invitation;
+
+	private byte[] loginGenericBytes;
+	private byte[] loginTypedBytes;
+	private byte[] invitationGenericBytes;
+	private byte[] invitationStringBytes;
+
+	@Setup
+	public void setUp() {
+		login = KakaoLoginResponse.existing(ACCESS_TOKEN, REFRESH_TOKEN);
+		invitation = new FamilyInvitationRedisInfo(12_345L);
+
+		loginGenericBytes = generic.serialize(login);
+		loginTypedBytes = typedLogin.serialize(login);
+		invitationGenericBytes = generic.serialize(invitation);
+		invitationStringBytes = string.serialize(String.valueOf(invitation.getInviterId()));
+	}
+
+	@Benchmark
+	public byte[] loginGenericEncode() {
+		return generic.serialize(login);
+	}
+
+	@Benchmark
+	public Object loginGenericDecode() {
+		return generic.deserialize(loginGenericBytes);
+	}
+
+	@Benchmark
+	public byte[] loginTypedEncode() {
+		return typedLogin.serialize(login);
+	}
+
+	@Benchmark
+	public KakaoLoginResponse loginTypedDecode() {
+		return typedLogin.deserialize(loginTypedBytes);
+	}
+
+	@Benchmark
+	public byte[] invitationGenericEncode() {
+		return generic.serialize(invitation);
+	}
+
+	@Benchmark
+	public Object invitationGenericDecode() {
+		return generic.deserialize(invitationGenericBytes);
+	}
+
+	@Benchmark
+	public byte[] invitationStringEncode() {
+		return String.valueOf(invitation.getInviterId()).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public FamilyInvitationRedisInfo invitationStringDecode() {
+		return new FamilyInvitationRedisInfo(Long.valueOf(string.deserialize(invitationStringBytes)));
+	}
+}
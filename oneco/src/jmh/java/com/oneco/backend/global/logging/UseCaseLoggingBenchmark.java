@@ -0,0 +1,177 @@
+package com.oneco.backend.global.logging;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * 퀴즈 제출 1건당 로깅 비용 (SubmitQuizSubmissionService 기준)
+ * - perStepSync: 변경 전. 단계마다 log.info 12줄 (엔티티/Map toString 포함) + 동기 앱더
+ * - summarySync: 변경 후 로그 호출 (꺼진 log.debug 5줄 + UseCaseLog 요약 1건) + 동기 앱더
+ * - summaryAsync: 변경 후 로그 호출 + logback-spring.xml과 같은 ASYNC 앱더(neverBlock) + LogSamplingFilter
+ * <p>
+ * 전역 logback 설정과 섞이지 않도록 별도 LoggerContext를 만들고, 출력은 버린다. (콘솔 I/O 제외, 포맷팅/인코딩 비용만 측정)
+ * ./gradlew jmh -Pjmh.includes=UseCaseLogging 실행 (기준 결과: docs/benchmarks/logging-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UseCaseLoggingBenchmark {
+
+	private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%15.15t] %-40.40logger{39} : %m %kvp%n";
+
+	private LoggerContext loggerContext;
+	private Logger syncLogger;
+	private Logger asyncLogger;
+
+	private FakeStudyRecord studyRecord;
+	private FakeAttempt attempt;
+	private Map<Long, Integer> answers;
+	private List<String> newsItems;
+
+	@Setup
+	public void setUp() {
+		loggerContext = new LoggerContext();
+		// 별도 LoggerContext는 MDC 어댑터가 비어 있어 이벤트마다 내부 예외가 난다. (실제 앱의 기본 컨텍스트와 맞춘다)
+		loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+		loggerContext.start();
+
+		Appender<ILoggingEvent> sync = nullAppender("SYNC");
+
+		AsyncAppender async = new AsyncAppender();
+		async.setContext(loggerContext);
+		async.setName("ASYNC");
+		async.setQueueSize(1024);
+		async.setDiscardingThreshold(205);
+		async.setNeverBlock(true);
+		async.setIncludeCallerData(false);
+		async.addAppender(nullAppender("ASYNC_TARGET"));
+		LogSamplingFilter filter = new LogSamplingFilter();
+		filter.setLoggers("bench.async");
+		filter.start();
+		async.addFilter(filter);
+		async.start();
+
+		ch.qos.logback.classic.Logger syncLogback = loggerContext.getLogger("bench.sync");
+		syncLogback.setLevel(Level.INFO);
+		syncLogback.setAdditive(false);
+		syncLogback.addAppender(sync);
+		syncLogger = syncLogback;
+
+		ch.qos.logback.classic.Logger asyncLogback = loggerContext.getLogger("bench.async");
+		asyncLogback.setLevel(Level.INFO);
+		asyncLogback.setAdditive(false);
+		asyncLogback.addAppender(async);
+		asyncLogger = asyncLogback;
+
+		attempt = new FakeAttempt(501L, 1, List.of(1001L, 1002L, 1003L), Map.of(1001L, 1, 1002L, 0, 1003L, 2), 2, "FAIL");
+		studyRecord = new FakeStudyRecord(301L, 7L, 11L, 21L, 1101L, "RETRY_AVAILABLE", false, LocalDate.of(2026, 10, 18),
+			List.of(attempt));
+		answers = Map.of(1001L, 1, 1002L, 0, 1003L, 2);
+		newsItems = List.of("NewsItemSummary[title=금리 인상, url=https://news.example.com/1]",
+			"NewsItemSummary[title=환율 하락, url=https://news.example.com/2]");
+	}
+
+	@TearDown
+	public void tearDown() {
+		loggerContext.stop();
+	}
+
+	@Benchmark
+	public void perStepSync() {
+		Logger log = syncLogger;
+		long studyRecordId = 301L;
+		long attemptId = 501L;
+		long memberId = 7L;
+		log.info("제출 답안 받음: studyRecordId={}, attemptId={}, answers={}", studyRecordId, attemptId, answers);
+		log.info("학습기록 조회 완료: {}", studyRecord);
+		log.info("학습기록 멤버ID: {}, 요청 멤버ID: {}", studyRecord.memberId(), memberId);
+		log.info("멤버 권한 검증 통과: memberId={}는 studyRecordId={}에 대한 권한 보유", memberId, studyRecordId);
+		log.info("퀴즈 시도 조회 완료: {}", attempt);
+		log.info("채점 완료: attemptId={}, correctCount={}/{}", attemptId, 2, 3);
+		log.info("도메인 제출 처리 완료: {}", studyRecord);
+		log.info("학습기록 저장 완료: {}", studyRecord);
+		log.info("저장 후 업데이트된 퀴즈 시도 조회 완료: {}", attempt);
+		log.info("응답용 남은 시도 횟수 계산 완료: {}", 1);
+		log.info("뉴스 아이템 요약 조회 완료: {}", newsItems);
+		log.info("미션 진행 현황 갱신 완료: missionId={}, daySequence={}", 11L, 4);
+	}
+
+	@Benchmark
+	public void summarySync() {
+		submitAfter(syncLogger);
+	}
+
+	@Benchmark
+	public void summaryAsync() {
+		submitAfter(asyncLogger);
+	}
+
+	// 변경 후 SubmitQuizSubmissionService의 로그 호출 순서
+	private void submitAfter(Logger log) {
+		UseCaseLog event = UseCaseLog.start(log, "quiz.submit");
+		long studyRecordId = 301L;
+		long attemptId = 501L;
+		log.debug("제출 답안 받음: studyRecordId={}, attemptId={}, answers={}", studyRecordId, attemptId, answers);
+		log.debug("학습기록 조회 완료: {}", studyRecord);
+		log.debug("퀴즈 시도 조회 완료: {}", attempt);
+		log.debug("도메인 제출 처리 완료: {}", studyRecord);
+		log.debug("뉴스 아이템 요약 조회 완료: {}", newsItems);
+		event.with("memberId", 7L)
+			.with("studyRecordId", studyRecordId)
+			.with("attemptId", attemptId)
+			.with("attemptNo", 1)
+			.with("correct", 2)
+			.with("total", 3)
+			.with("result", "FAIL")
+			.with("missionId", 11L)
+			.with("daySequence", 4)
+			.emit();
+	}
+
+	private Appender<ILoggingEvent> nullAppender(String name) {
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggerContext);
+		encoder.setPattern(PATTERN);
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+		appender.setContext(loggerContext);
+		appender.setName(name);
+		appender.setEncoder(encoder);
+		appender.setOutputStream(OutputStream.nullOutputStream());
+		appender.start();
+		return appender;
+	}
+
+	// 엔티티 toString(Lombok @ToString) 비용을 흉내 내는 값 객체
+	private record FakeAttempt(Long id, int attemptNo, List<Long> quizIds, Map<Long, Integer> answers, int correctCount,
+							   String attemptResult) {
+	}
+
+	private record FakeStudyRecord(Long id, Long memberId, Long missionId, Long categoryId, Long dailyContentId,
+								   String quizProgressStatus, boolean newsUnlocked, LocalDate quizSubmittedDate,
+								   List<FakeAttempt> attempts) {
+	}
+}
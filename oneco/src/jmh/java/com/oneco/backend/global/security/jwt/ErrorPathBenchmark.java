@@ -0,0 +1,109 @@
+package com.oneco.backend.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AnswerSheet;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AttemptNo;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.CorrectCount;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.security.jwt.config.JwtProperties;
+import com.oneco.backend.global.security.jwt.config.JwtPurpose;
+
+/**
+ * 비즈니스 예외 경로 처리량 (BaseException을 던지고 받는 비용)
+ * - alreadySubmitted: 이미 제출된 시도에 다시 제출 (QuizAttempt.submit -> QUIZ_ALREADY_SUBMITTED)
+ * - tokenExpired: 만료된 access 토큰 검증 (JwtTokenValidator -> EXPIRED_TOKEN, jjwt의 ExpiredJwtException 포함)
+ * <p>
+ * 실제 요청에서는 필터 체인 / Spring AOP / Hibernate 프록시를 거친 깊은 스택에서 예외가 나므로
+ * depth만큼 재귀한 뒤 호출해서 스택 트레이스 채우기 비용을 재현한다.
+ * (JwtKeyProvider.init()이 package-private이라 jwt 패키지에 둔다)
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=ErrorPath 실행 (기준 결과: docs/benchmarks/error-path-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorPathBenchmark {
+
+	@Param({"10", "150"})
+	private int depth;
+
+	private QuizAttempt submittedAttempt;
+	private AnswerSheet answerSheet;
+	private CorrectCount correctCount;
+
+	private JwtTokenValidator validator;
+	private String expiredToken;
+
+	@Setup
+	public void setUp() {
+		List<Long> quizIds = List.of(101L, 102L, 103L);
+		answerSheet = AnswerSheet.of(quizIds, Map.of(101L, 1, 102L, 0, 103L, 1));
+		correctCount = CorrectCount.of(2);
+		submittedAttempt = QuizAttempt.start(AttemptNo.of(1), quizIds);
+		submittedAttempt.submit(answerSheet, correctCount);
+
+		JwtProperties properties = new JwtProperties();
+		String secret = Base64.getEncoder()
+			.encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+		properties.getAccess().setSecretKey(secret);
+		properties.getAccess().setValidityInSeconds(-60); // 발급 즉시 만료
+		properties.getRefresh().setSecretKey(secret);
+		properties.getRefresh().setValidityInSeconds(3600);
+		properties.getOnboarding().setSecretKey(secret);
+		properties.getOnboarding().setValidityInSeconds(600);
+
+		JwtKeyProvider keyProvider = new JwtKeyProvider(properties);
+		keyProvider.init();
+		expiredToken = new JwtTokenProvider(properties, keyProvider).createAccessToken(1L, "ROLE_USER");
+		validator = new JwtTokenValidator(properties, keyProvider);
+	}
+
+	@Benchmark
+	public String alreadySubmitted() {
+		return alreadySubmitted(depth);
+	}
+
+	@Benchmark
+	public String tokenExpired() {
+		return tokenExpired(depth);
+	}
+
+	private String alreadySubmitted(int remaining) {
+		if (remaining > 0) {
+			return alreadySubmitted(remaining - 1);
+		}
+		try {
+			submittedAttempt.submit(answerSheet, correctCount);
+			throw new IllegalStateException("expected QUIZ_ALREADY_SUBMITTED");
+		} catch (BaseException e) {
+			return e.getCode();
+		}
+	}
+
+	private String tokenExpired(int remaining) {
+		if (remaining > 0) {
+			return tokenExpired(remaining - 1);
+		}
+		try {
+			validator.validateAndGetClaims(expiredToken, JwtPurpose.ACCESS);
+			throw new IllegalStateException("expected EXPIRED_TOKEN");
+		} catch (BaseException e) {
+			return e.getCode();
+		}
+	}
+}
@@ -0,0 +1,233 @@
+package com.oneco.backend.mission;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 회원 참여 진행중 미션 조회 비용 (mission 100만 행, H2 MySQL 모드)
+ * - or: 기존 쿼리 ((recipient_id = ? OR requester_id = ?), 회원 컬럼 인덱스 없음)
+ * - or_indexed: 기존 쿼리 + 새 인덱스 (OR 조건만으로는 인덱스를 쓰지 못함을 보인다)
+ * - union: MissionJpaRepository.findLatestActive* (역할별 UNION ALL + 새 인덱스)
+ * - latest: 홈 대시보드 / 활성 미션 목록, byCategory: 학습 시작 (카테고리 조건 추가)
+ * <p>
+ * SQL은 Hibernate가 만드는 문장과 같은 모양으로 JDBC에서 직접 실행한다.
+ * ./gradlew jmh -Pjmh.includes=MissionMemberLookup 실행 (기준 결과: docs/benchmarks/mission-member-lookup-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MissionMemberLookupBenchmark {
+
+	private static final int TOTAL_ROWS = 1_000_000;
+	private static final int MISSIONS_PER_FAMILY = 10; // 가족 10만 개
+	private static final int CATEGORIES = 5;
+	private static final long TARGET_FAMILY = 50_000; // 가운데 가족의 자녀
+	private static final long TARGET_MEMBER_ID = TARGET_FAMILY * 2 + 1;
+	private static final long TARGET_CATEGORY_ID = 4L; // 진행중 2개 중 하나 (seq 8)
+	private static final String[] FINISHED = {"COMPLETED", "FAILED", "REWARD_COMPLETED", "APPROVAL_REJECTED"};
+
+	private static final String COLUMNS = """
+		m.id, m.category_id, m.created_at, m.family_relation_id, m.end_date, m.start_date,
+		m.recipient_id, m.requester_id, m.message, m.title, m.status, m.updated_at
+		""";
+	private static final String OR_LATEST = "select " + COLUMNS + """
+		from mission m
+		where (m.recipient_id = ? or m.requester_id = ?)
+		  and m.status = 'IN_PROGRESS'
+		order by m.created_at desc
+		""";
+	private static final String OR_BY_CATEGORY = "select " + COLUMNS + """
+		from mission m
+		where (m.recipient_id = ? or m.requester_id = ?)
+		  and m.category_id = ?
+		  and m.status = 'IN_PROGRESS'
+		order by m.created_at desc
+		""";
+	private static final String UNION_LATEST = "select " + COLUMNS + """
+		from (
+			select r.id, r.created_at from mission r
+			where r.recipient_id = ? and r.status = 'IN_PROGRESS'
+			union all
+			select q.id, q.created_at from mission q
+			where q.requester_id = ? and q.recipient_id <> ? and q.status = 'IN_PROGRESS'
+		) p(id, created_at)
+		join mission m on m.id = p.id
+		order by p.created_at desc, p.id desc
+		""";
+	private static final String UNION_BY_CATEGORY = "select " + COLUMNS + """
+		from (
+			select r.id, r.created_at from mission r
+			where r.recipient_id = ? and r.status = 'IN_PROGRESS' and r.category_id = ?
+			union all
+			select q.id, q.created_at from mission q
+			where q.requester_id = ? and q.recipient_id <> ? and q.status = 'IN_PROGRESS' and q.category_id = ?
+		) p(id, created_at)
+		join mission m on m.id = p.id
+		order by p.created_at desc, p.id desc
+		""";
+
+	@Param({"or", "or_indexed", "union"})
+	private String variant;
+
+	private Connection connection;
+	private PreparedStatement latest;
+	private PreparedStatement byCategory;
+
+	@Setup
+	public void setUp() throws SQLException {
+		// jmh jar에는 MySQL 드라이버의 ServiceLoader 등록만 남으므로 H2 드라이버를 직접 사용한다.
+		// OPTIMIZE_REUSE_RESULTS=FALSE: 같은 파라미터의 직전 결과를 재사용하지 않고 매번 실행한다.
+		connection = new org.h2.Driver().connect(
+			"jdbc:h2:mem:mission_member_" + variant
+				+ ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;OPTIMIZE_REUSE_RESULTS=FALSE",
+			new Properties());
+		createTable();
+		insertRows();
+		createIndexes();
+
+		boolean union = variant.equals("union");
+		latest = connection.prepareStatement(union ? UNION_LATEST : OR_LATEST);
+		byCategory = connection.prepareStatement(union ? UNION_BY_CATEGORY : OR_BY_CATEGORY);
+		bind();
+		if (countRows(latest) != 2 || countRows(byCategory) != 1) {
+			throw new IllegalStateException("unexpected result: " + variant);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public void latest(Blackhole blackhole) throws SQLException {
+		consume(latest, blackhole);
+	}
+
+	@Benchmark
+	public void byCategory(Blackhole blackhole) throws SQLException {
+		consume(byCategory, blackhole);
+	}
+
+	private void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+		try (ResultSet rs = query.executeQuery()) {
+			while (rs.next()) {
+				blackhole.consume(rs.getLong(1));
+				blackhole.consume(rs.getObject(3));
+			}
+		}
+	}
+
+	private int countRows(PreparedStatement query) throws SQLException {
+		int rows = 0;
+		try (ResultSet rs = query.executeQuery()) {
+			while (rs.next()) {
+				rows++;
+			}
+		}
+		return rows;
+	}
+
+	private void bind() throws SQLException {
+		if (variant.equals("union")) {
+			latest.setLong(1, TARGET_MEMBER_ID);
+			latest.setLong(2, TARGET_MEMBER_ID);
+			latest.setLong(3, TARGET_MEMBER_ID);
+			byCategory.setLong(1, TARGET_MEMBER_ID);
+			byCategory.setLong(2, TARGET_CATEGORY_ID);
+			byCategory.setLong(3, TARGET_MEMBER_ID);
+			byCategory.setLong(4, TARGET_MEMBER_ID);
+			byCategory.setLong(5, TARGET_CATEGORY_ID);
+		} else {
+			latest.setLong(1, TARGET_MEMBER_ID);
+			latest.setLong(2, TARGET_MEMBER_ID);
+			byCategory.setLong(1, TARGET_MEMBER_ID);
+			byCategory.setLong(2, TARGET_MEMBER_ID);
+			byCategory.setLong(3, TARGET_CATEGORY_ID);
+		}
+	}
+
+	private void createTable() throws SQLException {
+		try (Statement st = connection.createStatement()) {
+			st.execute("""
+				create table mission (
+					id bigint not null primary key,
+					category_id bigint not null,
+					created_at timestamp(6),
+					family_relation_id bigint not null,
+					end_date date,
+					start_date date,
+					recipient_id bigint not null,
+					requester_id bigint not null,
+					message varchar(255),
+					title varchar(255),
+					status varchar(50),
+					updated_at timestamp(6)
+				)
+				""");
+		}
+	}
+
+	// 가족마다 부모(2f)가 자녀(2f + 1)에게 미션 10개. 진행중 2개(카테고리가 다름), 나머지는 종료
+	private void insertRows() throws SQLException {
+		Instant base = Instant.parse("2024-01-01T00:00:00Z");
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+			"insert into mission values (?, ?, ?, ?, date '2025-03-01', date '2025-03-14', ?, ?, '잘했어!', '놀이공원', ?, ?)")) {
+			for (int id = 1; id <= TOTAL_ROWS; id++) {
+				long family = (id - 1) / MISSIONS_PER_FAMILY;
+				int seq = (id - 1) % MISSIONS_PER_FAMILY;
+				Timestamp createdAt = Timestamp.from(base.plusSeconds(id));
+				insert.setLong(1, id);
+				insert.setLong(2, 1L + seq % CATEGORIES);
+				insert.setTimestamp(3, createdAt);
+				insert.setLong(4, family + 1);
+				insert.setLong(5, family * 2 + 1);
+				insert.setLong(6, family * 2);
+				insert.setString(7, seq >= MISSIONS_PER_FAMILY - 2 ? "IN_PROGRESS" : FINISHED[seq % FINISHED.length]);
+				insert.setTimestamp(8, createdAt);
+				insert.addBatch();
+				if (id % 10_000 == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		connection.setAutoCommit(true);
+	}
+
+	private void createIndexes() throws SQLException {
+		try (Statement st = connection.createStatement()) {
+			if (!variant.equals("or")) {
+				st.execute("""
+					create index idx_mission_recipient_status_created on mission
+					(recipient_id, status, created_at)
+					""");
+				st.execute("""
+					create index idx_mission_requester_status_created on mission
+					(requester_id, status, created_at)
+					""");
+			}
+			st.execute("analyze");
+		}
+	}
+}
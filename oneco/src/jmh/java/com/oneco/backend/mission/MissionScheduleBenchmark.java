@@ -0,0 +1,69 @@
+package com.oneco.backend.mission;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.oneco.backend.mission.domain.mission.MissionDateCalculator;
+import com.oneco.backend.mission.domain.mission.MissionPeriod;
+import com.oneco.backend.mission.domain.policy.MissionSchedulePolicy;
+
+/**
+ * 미션 일정 계산 비용 (미션 생성 / 학습 시작 / 홈 대시보드마다 호출된다)
+ * - dueDate: MissionSchedulePolicy.calculateDueDate (미션 생성 시 종료일 계산)
+ * - openedDaySequence: MissionDateCalculator.openedDaySequenceExcludeWeekend (오늘이 몇 번째 학습일인가)
+ * - periodOpenedDaySequence: MissionPeriod를 통한 같은 계산 (학습 시작 경로)
+ * <p>
+ * missionDays는 카테고리 학습일수(1 ~ MissionDays.MAX_DAYS)의 대표값이다.
+ * 시작일은 토요일로 두어 주말 보정 분기까지 타게 하고, today는 미션 기간의 가운데 날짜로 둔다.
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=MissionSchedule 실행 (기준 결과: docs/benchmarks/mission-date-baseline.md)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MissionScheduleBenchmark {
+
+	// 2026-02-28 (토요일)
+	private static final LocalDate START_DATE = LocalDate.of(2026, 2, 28);
+
+	@Param({"5", "20", "60", "365"})
+	private int missionDays;
+
+	private final MissionSchedulePolicy missionSchedulePolicy = new MissionSchedulePolicy();
+
+	private LocalDate endDate;
+	private LocalDate today;
+	private MissionPeriod period;
+
+	@Setup
+	public void setUp() {
+		endDate = missionSchedulePolicy.calculateDueDate(START_DATE, missionDays);
+		today = START_DATE.plusDays(ChronoUnit.DAYS.between(START_DATE, endDate) / 2);
+		period = MissionPeriod.of(START_DATE, endDate);
+	}
+
+	@Benchmark
+	public LocalDate dueDate() {
+		return missionSchedulePolicy.calculateDueDate(START_DATE, missionDays);
+	}
+
+	@Benchmark
+	public int openedDaySequence() {
+		return MissionDateCalculator.openedDaySequenceExcludeWeekend(START_DATE, endDate, today);
+	}
+
+	@Benchmark
+	public int periodOpenedDaySequence() {
+		return period.openedDaySequenceExcludeWeekend(today);
+	}
+}
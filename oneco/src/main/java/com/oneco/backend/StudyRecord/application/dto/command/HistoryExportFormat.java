@@ -0,0 +1,6 @@
+package com.oneco.backend.StudyRecord.application.dto.command;
+
+public enum HistoryExportFormat {
+	NDJSON, // 한 줄에 JSON 1건 (application/x-ndjson)
+	CSV     // 엑셀 호환 CSV (UTF-8 BOM + 헤더)
+}
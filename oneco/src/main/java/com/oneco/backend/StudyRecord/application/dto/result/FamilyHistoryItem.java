@@ -0,0 +1,15 @@
+package com.oneco.backend.StudyRecord.application.dto.result;
+
+import java.time.LocalDate;
+
+import com.oneco.backend.StudyRecord.application.port.dto.DailyContentSummary;
+
+public record FamilyHistoryItem(
+	// 어느 자녀의 기록인지
+	Long childId,
+	Long studyRecordId,
+	LocalDate quizAttemptDate,
+	boolean isBookmarked,
+	DailyContentSummary dailyContentSummary
+) {
+}
@@ -0,0 +1,15 @@
+package com.oneco.backend.StudyRecord.application.dto.result;
+
+import java.util.List;
+
+public record FamilyHistoryResult(
+	// 아이템 더 있는지
+	boolean hasNext,
+	// 다음 페이지 요청에 그대로 보내는 커서 (hasNext=false면 null)
+	String nextCursor,
+	// 연결된 자녀 멤버들 정보
+	List<MemberItem> memberItems,
+	// 자녀들의 히스토리를 제출일 최신순으로 합친 아이템들
+	List<FamilyHistoryItem> historyItems
+) {
+}
@@ -0,0 +1,14 @@
+package com.oneco.backend.StudyRecord.application.dto.result;
+
+import java.time.LocalDate;
+
+// 히스토리 내보내기 1줄 (StudyRecordHistoryRow + 콘텐츠 제목/요약)
+public record HistoryExportRow(
+	Long studyRecordId,
+	LocalDate submittedDate,
+	boolean bookmarked,
+	Long dailyContentId,
+	String title,
+	String summary
+) {
+}
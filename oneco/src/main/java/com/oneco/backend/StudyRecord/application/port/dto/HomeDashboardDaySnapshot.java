@@ -0,0 +1,11 @@
+package com.oneco.backend.StudyRecord.application.port.dto;
+
+import com.oneco.backend.dailycontent.domain.dailycontent.DaySequence;
+
+// 홈 대시보드 캘린더 1칸 (DailyContent)을 담는 조회 모델
+public record HomeDashboardDaySnapshot(
+	Long dailyContentId,
+	DaySequence daySequence,
+	String keyword
+) {
+}
@@ -0,0 +1,20 @@
+package com.oneco.backend.StudyRecord.application.port.dto;
+
+import java.time.LocalDate;
+
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+// 홈 대시보드 상단 정보 (Mission + FamilyRelation.childId + Category.title + MissionProgress)를 한 번에 담는 조회 모델
+// - childId / categoryTitle / progress는 left join 결과이므로 연관 데이터가 없으면 null일 수 있다.
+// - progress가 null이면 아직 퀴즈 제출 기록이 없는 미션이다.
+public record HomeDashboardMissionSnapshot(
+	Long missionId,
+	Long childId,
+	Long categoryId,
+	String categoryTitle,
+	String rewardTitle,
+	LocalDate startDate,
+	LocalDate endDate,
+	MissionProgress progress
+) {
+}
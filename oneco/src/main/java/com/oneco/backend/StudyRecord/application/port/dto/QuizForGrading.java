@@ -1,6 +1,5 @@
 package com.oneco.backend.StudyRecord.application.port.dto;
 
-import java.util.List;
-
-public record QuizForGrading(Long quizId, int correctIndex, List<String> options) {
+// 채점에 필요한 최소 정보 (정답 인덱스 + 보기 개수)
+public record QuizForGrading(Long quizId, int correctIndex, int optionCount) {
 }
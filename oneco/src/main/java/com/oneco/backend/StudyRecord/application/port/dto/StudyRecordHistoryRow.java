@@ -0,0 +1,12 @@
+package com.oneco.backend.StudyRecord.application.port.dto;
+
+import java.time.LocalDate;
+
+// 히스토리 목록 1줄을 담는 조회 모델 (엔티티/attempts 로드 없이 커버링 인덱스만으로 읽는다)
+public record StudyRecordHistoryRow(
+	Long studyRecordId,
+	LocalDate submittedDate,
+	boolean bookmarked,
+	Long dailyContentId
+) {
+}
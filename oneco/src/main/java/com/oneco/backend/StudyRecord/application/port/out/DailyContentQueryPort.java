@@ -28,5 +28,8 @@ public interface DailyContentQueryPort {
 
 	Map<Long,DailyContentSummary> findDailyContentSummariesByIds(List<Long> dailyContentIds);
 
+	// dailyContentId -> daySequence (mission_progress 재구축용)
+	Map<Long, Integer> findDaySequencesByIds(List<Long> dailyContentIds);
+
 
 }
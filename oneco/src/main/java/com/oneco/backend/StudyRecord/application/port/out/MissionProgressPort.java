@@ -0,0 +1,22 @@
+package com.oneco.backend.StudyRecord.application.port.out;
+
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+/**
+ * 미션 진행 현황(mission_progress) 갱신 Port
+ * - 퀴즈 제출 트랜잭션 안에서 projection을 함께 갱신한다.
+ */
+public interface MissionProgressPort {
+
+	// 퀴즈 제출 1건 반영 (row가 없으면 생성)
+	void recordSubmission(
+		Long missionId,
+		int daySequence,
+		int solvedQuizCount,
+		int correctQuizCount,
+		int previousCorrectQuizCount
+	);
+
+	// 재구축한 진행 현황으로 기존 row를 통째로 교체
+	void replace(MissionProgress progress);
+}
@@ -0,0 +1,16 @@
+package com.oneco.backend.StudyRecord.application.port.out;
+
+import java.util.List;
+
+/**
+ * quiz_attempt 저장 포맷 마이그레이션 Port (JSON 컬럼 -> 바이너리 컬럼)
+ * - backfill 전용이며, 완료 후 JSON 컬럼과 함께 제거한다.
+ */
+public interface QuizAttemptFormatMigrationPort {
+
+	// 아직 JSON 컬럼에만 값이 있는 시도 ID를 id 오름차순 keyset 페이지로 조회한다.
+	List<Long> findLegacyAttemptIds(Long lastId, int size);
+
+	// 시도들의 바이너리 컬럼을 UPDATE로 채운다. (JSON 컬럼은 유지) 실제로 바뀐 행 수를 반환한다.
+	int upgrade(List<Long> attemptIds);
+}
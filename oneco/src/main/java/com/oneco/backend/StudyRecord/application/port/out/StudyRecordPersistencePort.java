@@ -1,10 +1,13 @@
 package com.oneco.backend.StudyRecord.application.port.out;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Slice;
 
+import com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow;
 import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
 
 /**
@@ -18,16 +21,35 @@ public interface StudyRecordPersistencePort {
 
 	StudyRecord save(StudyRecord studyRecord);
 
-	Slice<StudyRecord> findByLastStudyRecordIdAndMemberId(
+	/**
+	 * (memberId, dailyContentId) 기록이 없으면 draft 값으로 생성하고, 있으면 기존 기록을 돌려준다.
+	 * - 동시에 같은 쌍을 처음 여는 요청이 겹쳐도 예외 없이 같은 기록을 돌려준다.
+	 */
+	StudyRecord createOrGet(StudyRecord draft);
+
+	// 히스토리 커서 페이징: lastSubmittedDate가 null이면 첫 페이지
+	Slice<StudyRecordHistoryRow> findHistoryByMemberId(
 		Long memberId,
 		Long lastStudyRecordId,
 		LocalDate lastSubmittedDate,
 		int size);
 
-	Slice<StudyRecord> findBookmarkedByLastStudyRecordIdAndMemberId(
+	Slice<StudyRecordHistoryRow> findBookmarkedHistoryByMemberId(
 		Long memberId,
 		Long lastStudyRecordId,
 		LocalDate lastSubmittedDate,
 		int size
 	);
+
+	// 히스토리 전체를 최신순으로 흘려보낸다. 호출한 트랜잭션 안에서 소비하고 닫아야 한다.
+	Stream<StudyRecordHistoryRow> streamHistoryByMemberId(Long memberId);
+
+	// 히스토리에 나오는 dailyContentId 목록 (중복 제거)
+	List<Long> findHistoryDailyContentIds(Long memberId);
+
+	// 퀴즈를 한 번이라도 제출한 학습 기록이 있는 미션 ID 목록 (mission_progress 재구축용)
+	List<Long> findMissionIdsWithSubmissions();
+
+	// 미션의 제출 완료 학습 기록을 시도(attempts)와 함께 조회 (mission_progress 재구축용)
+	List<StudyRecord> findSubmittedByMissionIdWithAttempts(Long missionId);
 }
@@ -0,0 +1,85 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
+
+/**
+ * 가족 히스토리(자녀 합친 타임라인) 커서
+ * - 자녀마다 어디까지 내려줬는지를 따로 가진다.
+ * - 커서에 없는 자녀: 아직 한 건도 내려주지 않음 (처음부터 읽는다)
+ * - done: 끝까지 다 내려줌 (더 조회하지 않는다)
+ * <p>
+ * 문자열 형식(Base64 URL 인코딩 전): "childId:epochDay:studyRecordId" 또는 "childId:-" 를 ','로 잇는다.
+ * 클라이언트는 내용을 해석하지 않고 받은 그대로 돌려보낸다.
+ */
+record FamilyHistoryCursor(Map<Long, Position> positions) {
+
+	// 자녀 수 제한(4명)보다 넉넉하게. 조작된 긴 커서를 막는다.
+	private static final int MAX_ENTRIES = 16;
+	private static final String DONE = "-";
+
+	static final FamilyHistoryCursor FIRST = new FamilyHistoryCursor(Map.of());
+
+	record Position(LocalDate submittedDate, Long studyRecordId, boolean done) {
+
+		static final Position EXHAUSTED = new Position(null, null, true);
+
+		static Position after(LocalDate submittedDate, Long studyRecordId) {
+			return new Position(submittedDate, studyRecordId, false);
+		}
+	}
+
+	Position positionOf(Long childId) {
+		return positions.get(childId);
+	}
+
+	static FamilyHistoryCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return FIRST;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] entries = raw.split(",");
+			if (entries.length > MAX_ENTRIES) {
+				throw BaseException.from(StudyErrorCode.INVALID_CURSOR);
+			}
+
+			Map<Long, Position> positions = new LinkedHashMap<>();
+			for (String entry : entries) {
+				String[] parts = entry.split(":");
+				Long childId = Long.valueOf(parts[0]);
+				Position position;
+				if (parts.length == 2 && DONE.equals(parts[1])) {
+					position = Position.EXHAUSTED;
+				} else if (parts.length == 3) {
+					position = Position.after(LocalDate.ofEpochDay(Long.parseLong(parts[1])), Long.valueOf(parts[2]));
+				} else {
+					throw BaseException.from(StudyErrorCode.INVALID_CURSOR);
+				}
+				if (positions.put(childId, position) != null) {
+					throw BaseException.from(StudyErrorCode.INVALID_CURSOR);
+				}
+			}
+			return new FamilyHistoryCursor(positions);
+		} catch (IllegalArgumentException | DateTimeException e) {
+			// Base64 / 숫자 / 날짜 형식 오류 (NumberFormatException 포함)
+			throw BaseException.from(StudyErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	String encode() {
+		StringJoiner joiner = new StringJoiner(",");
+		positions.forEach((childId, position) -> joiner.add(position.done()
+			? childId + ":" + DONE
+			: childId + ":" + position.submittedDate().toEpochDay() + ":" + position.studyRecordId()));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,216 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import com.oneco.backend.StudyRecord.application.dto.result.FamilyHistoryItem;
+import com.oneco.backend.StudyRecord.application.dto.result.FamilyHistoryResult;
+import com.oneco.backend.StudyRecord.application.dto.result.MemberItem;
+import com.oneco.backend.StudyRecord.application.port.dto.DailyContentSummary;
+import com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow;
+import com.oneco.backend.StudyRecord.application.port.out.DailyContentQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.FamilyRelationQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.StudyRecordPersistencePort;
+import com.oneco.backend.StudyRecord.application.service.FamilyHistoryCursor.Position;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+import com.oneco.backend.global.logging.UseCaseLog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * [부모 가족 히스토리 조회]
+ * - 연결된 자녀 전체의 히스토리를 제출일 최신순 (quiz_submitted_date desc, id desc) 하나의 타임라인으로 합친다.
+ * - 자녀마다 기존 커서 페이징 쿼리(findHistoryByMemberId)로 size 건씩 읽고 k-way merge 해서 size 건을 고른다.
+ *   한 페이지의 쿼리 수 = 자녀 목록 1 + 아직 끝나지 않은 자녀 수 + 콘텐츠 요약 1. (page size와 무관)
+ * - 자녀별 조회는 요청 스레드에서 차례로 실행한다. 자녀는 몇 명 안 되고 각 조회는 keyset 인덱스 범위 size 건이라 짧다.
+ *   (별도 스레드 풀로 넘기면 풀 대기열에서 요청이 밀리고, 요청 단위 SQL 예산(SqlStatementCounter)에도 잡히지 않는다)
+ * - 각 조회는 어댑터의 읽기 전용 트랜잭션으로 커넥션을 잠깐만 쓴다. 이 서비스는 트랜잭션을 열지 않는다.
+ * - 자녀 목록은 매 페이지 다시 읽는다. 커서는 서명이 없으므로 커서 안의 childId를 믿지 않고 부모-자녀 관계로 거른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FamilyHistoryService {
+
+	private static final int MAX_PAGE_SIZE = 100;
+
+	// 최신순: 제출일 desc, id desc (id는 전체에서 유일하므로 자녀가 달라도 순서가 정해진다)
+	private static final Comparator<StudyRecordHistoryRow> NEWEST_FIRST = Comparator
+		.comparing(StudyRecordHistoryRow::submittedDate)
+		.thenComparing(StudyRecordHistoryRow::studyRecordId)
+		.reversed();
+
+	private final StudyRecordPersistencePort studyRecordPersistencePort;
+	private final DailyContentQueryPort dailyContentQueryPort;
+	private final FamilyRelationQueryPort familyRelationQueryPort;
+
+	/**
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 */
+	public FamilyHistoryResult load(Long parentId, String cursor, int size) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw BaseException.from(GlobalErrorCode.VALIDATION_ERROR, "size는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+		}
+		FamilyHistoryCursor current = FamilyHistoryCursor.decode(cursor);
+		UseCaseLog event = UseCaseLog.start(log, "history.family")
+			.with("parentId", parentId)
+			.with("firstPage", current.positions().isEmpty())
+			.with("size", size);
+
+		// 1) 자녀 목록. 커서에는 있지만 더 이상 연결되지 않은 자녀는 버린다.
+		List<MemberItem> memberItems = familyRelationQueryPort.findChildIdsByParentId(parentId);
+		if (memberItems.isEmpty()) {
+			event.with("children", 0).emit();
+			return new FamilyHistoryResult(false, null, List.of(), List.of());
+		}
+
+		// 2) 끝나지 않은 자녀만 조회
+		List<Lane> lanes = fetchLanes(memberItems, current, size);
+
+		// 3) k-way merge: 자녀별 결과의 맨 앞 행 중 가장 최신을 size 건 고른다.
+		PriorityQueue<Lane> heads = new PriorityQueue<>((a, b) -> NEWEST_FIRST.compare(a.head(), b.head()));
+		for (Lane lane : lanes) {
+			if (lane.hasHead()) {
+				heads.add(lane);
+			}
+		}
+		List<Lane> picked = new ArrayList<>(size);
+		List<StudyRecordHistoryRow> rows = new ArrayList<>(size);
+		while (rows.size() < size && !heads.isEmpty()) {
+			Lane lane = heads.poll();
+			rows.add(lane.head());
+			picked.add(lane);
+			lane.next++;
+			if (lane.hasHead()) {
+				heads.add(lane);
+			}
+		}
+
+		// 4) 다음 커서: 자녀마다 마지막으로 내려준 행 (못 내려준 자녀는 이전 위치 그대로)
+		Map<Long, Position> nextPositions = new LinkedHashMap<>();
+		boolean hasNext = false;
+		for (MemberItem child : memberItems) {
+			Position previous = current.positionOf(child.memberId());
+			if (previous != null) {
+				nextPositions.put(child.memberId(), previous);
+			}
+		}
+		for (Lane lane : lanes) {
+			if (lane.isExhausted()) {
+				nextPositions.put(lane.childId, Position.EXHAUSTED);
+			} else {
+				hasNext = true;
+				if (lane.next > 0) {
+					StudyRecordHistoryRow last = lane.rows.get(lane.next - 1);
+					nextPositions.put(lane.childId, Position.after(last.submittedDate(), last.studyRecordId()));
+				}
+			}
+		}
+
+		List<FamilyHistoryItem> historyItems = toHistoryItems(rows, picked);
+		String nextCursor = hasNext ? new FamilyHistoryCursor(nextPositions).encode() : null;
+
+		event.with("children", memberItems.size())
+			.with("childQueries", lanes.size())
+			.with("items", historyItems.size())
+			.with("hasNext", hasNext)
+			.emit();
+		return new FamilyHistoryResult(hasNext, nextCursor, memberItems, historyItems);
+	}
+
+	private List<Lane> fetchLanes(List<MemberItem> memberItems, FamilyHistoryCursor cursor, int size) {
+		List<Long> childIds = new ArrayList<>();
+		for (MemberItem child : memberItems) {
+			Position position = cursor.positionOf(child.memberId());
+			if (position == null || !position.done()) {
+				childIds.add(child.memberId());
+			}
+		}
+		log.debug("[히스토리 조회][가족] 자녀별 조회 - 자녀 수={}, 조회 대상={}", memberItems.size(), childIds);
+
+		List<Lane> lanes = new ArrayList<>(childIds.size());
+		for (Long childId : childIds) {
+			lanes.add(fetchLane(childId, cursor.positionOf(childId), size));
+		}
+		return lanes;
+	}
+
+	private Lane fetchLane(Long childId, Position position, int size) {
+		Slice<StudyRecordHistoryRow> slice = position == null
+			? studyRecordPersistencePort.findHistoryByMemberId(childId, null, null, size)
+			: studyRecordPersistencePort.findHistoryByMemberId(
+				childId, position.studyRecordId(), position.submittedDate(), size);
+		return new Lane(childId, slice.getContent(), slice.hasNext());
+	}
+
+	private List<FamilyHistoryItem> toHistoryItems(List<StudyRecordHistoryRow> rows, List<Lane> picked) {
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+
+		Set<Long> dailyContentIds = new LinkedHashSet<>();
+		for (StudyRecordHistoryRow row : rows) {
+			dailyContentIds.add(row.dailyContentId());
+		}
+		Map<Long, DailyContentSummary> summaries =
+			dailyContentQueryPort.findDailyContentSummariesByIds(new ArrayList<>(dailyContentIds));
+
+		List<FamilyHistoryItem> items = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			StudyRecordHistoryRow row = rows.get(i);
+			DailyContentSummary summary = summaries.get(row.dailyContentId());
+			if (summary == null) {
+				log.warn("[히스토리 조회][가족][오류] DailyContentSummary 누락 - dailyContentId={}, studyRecordId={}",
+					row.dailyContentId(), row.studyRecordId());
+				throw BaseException.from(StudyErrorCode.DAILY_CONTENT_NOT_FOUND);
+			}
+			items.add(new FamilyHistoryItem(
+				picked.get(i).childId,
+				row.studyRecordId(),
+				row.submittedDate(),
+				row.bookmarked(),
+				summary
+			));
+		}
+		return items;
+	}
+
+	// 자녀 1명의 이번 페이지 조회 결과와 merge 진행 위치
+	private static final class Lane {
+		private final Long childId;
+		private final List<StudyRecordHistoryRow> rows;
+		private final boolean moreInDb;
+		private int next;
+
+		private Lane(Long childId, List<StudyRecordHistoryRow> rows, boolean moreInDb) {
+			this.childId = childId;
+			this.rows = rows;
+			this.moreInDb = moreInDb;
+		}
+
+		private boolean hasHead() {
+			return next < rows.size();
+		}
+
+		private StudyRecordHistoryRow head() {
+			return rows.get(next);
+		}
+
+		// 읽은 행을 다 내려줬고 DB에도 더 없음
+		private boolean isExhausted() {
+			return !hasHead() && !moreInDb;
+		}
+	}
+}
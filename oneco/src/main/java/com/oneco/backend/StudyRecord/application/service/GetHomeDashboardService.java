@@ -11,18 +11,19 @@ import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardDaySnapshot;
+import com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardMissionSnapshot;
 import com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult;
 import com.oneco.backend.StudyRecord.application.port.in.GetHomeDashboardUseCase;
-import com.oneco.backend.StudyRecord.application.port.out.HomeDashboardCategoryReadPort;
 import com.oneco.backend.StudyRecord.application.port.out.HomeDashboardDailyContentReadPort;
 import com.oneco.backend.StudyRecord.application.port.out.HomeDashboardMissionReadPort;
-import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
-import com.oneco.backend.StudyRecord.infrastructure.persistence.StudyRecordJpaRepository;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
 import com.oneco.backend.category.domain.exception.constant.CategoryErrorCode;
-import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
+import com.oneco.backend.family.domain.exception.constant.FamilyErrorCode;
 import com.oneco.backend.global.exception.BaseException;
 import com.oneco.backend.mission.domain.exception.MissionErrorCode;
 import com.oneco.backend.mission.domain.mission.MissionDateCalculator;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,9 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class GetHomeDashboardService implements GetHomeDashboardUseCase {
 
 	private final HomeDashboardMissionReadPort homeDashboardMissionReadPort;
-	private final HomeDashboardCategoryReadPort homeDashboardCategoryReadPort;
 	private final HomeDashboardDailyContentReadPort homeDashboardDailyContentReadPort;
-	private final StudyRecordJpaRepository repository;
 
 	// ==========================
 	// 서비스 흐름 (HomeDashboard)
@@ -50,37 +49,34 @@ public class GetHomeDashboardService implements GetHomeDashboardUseCase {
 	//   4) 미션 진행률(%) 정보 (자녀의 학습 완료 일수 / 전체 학습일 수)
 	//   5) 오늘이 미션의 몇 번째 학습일인가 (elapsedDays)
 	//
-	// 전체 흐름:
-	// 1) memberId로 최신 진행중 미션 1건 조회 (MissionResult에 childId 포함)
+	// 전체 흐름 (DB 왕복 1회, ContentCatalog 적재 전 / 갱신 대기 중에는 2회):
+	// 1) [쿼리 1] memberId로 최신 진행중 미션 1건 조회
+	//    - Mission + FamilyRelation(childId) + Category(title) + MissionProgress를 join한 projection으로 한 번에 가져온다.
+	//    - MissionProgress(mission_progress)는 퀴즈 제출 시 갱신되는 미션당 1 row 진행 현황이다.
+	//      (완료한 학습 일차 비트셋 + 완료 일수) -> study_records를 훑지 않는다.
 	//    - 없으면 홈 대시보드 구성이 불가하므로 예외
+	//    - childId / categoryTitle이 비어 있으면 연관 데이터가 깨진 것이므로 각각의 도메인 예외
 	//
-	// 2) 미션의 categoryId로 카테고리 정보 조회
-	//
-	// 3) today 기준 "오늘이 미션의 몇 번째 학습일인가(daySequence)" 계산
+	// 2) today 기준 "오늘이 미션의 몇 번째 학습일인가(daySequence)" 계산
 	//    - 미션 기간: startDate ~ endDate
 	//    - 주말은 학습일 계산에서 제외
 	//    - 주말(today가 토/일)이라면 직전 금요일 콘텐츠가 선택되도록 계산 로직에 포함
 	//    => elapsedDays = 오늘에 해당하는 daySequence (1부터 시작)
 	//
-	// 4) (categoryId, elapsedDays)로 "오늘의 DailyContent" 1건 조회
-	//    - 여기서는 사용자가 했는지 여부보다 "오늘 해야 할 콘텐츠가 무엇인지"가 핵심
+	// 3) 카테고리의 DailyContent 전체를 daySequence 오름차순으로 조회
+	//    - ContentCatalog(메모리)에서 읽는다. 카탈로그에 없으면(적재 전 / stale / 새 카테고리) DB로 대체 조회 ([쿼리 2])
+	//    - dailyContents.get(daySequence - 1) 로 해당 날짜의 콘텐츠를 찾을 수 있게 준비
 	//
-	// 5) 캘린더 상태 계산을 위해 StudyRecord 목록 조회
-	//    - 조건: (childId, missionId, categoryId)  // 부모가 요청해도 자녀 기록 조회
-	//    - StudyRecord는 dailyContentId + quizProgressStatus를 통해 "학습 상태"를 결정하는 근거
+	// 4) 조회 결과에서 "오늘의 DailyContent" 1건을 daySequence == elapsedDays로 찾는다.
 	//
-	// 6) records를 dailyContentId 기준으로 요약(Map)한다.
-	//    - 이유: 캘린더는 날짜별로 생성되지만, 기록은 콘텐츠별로 존재하므로 빠른 조회(O(1))를 위해 인덱싱
+	// 5) 진행 현황 비트셋으로 학습 상태를 dailyContentId 기준으로 요약(Map)한다.
 	//    - Map<Long dailyContentId, StudyStatusResult> statusByDailyContentId
-	//    - quizProgressStatus -> StudyStatusResult 변환 규칙:
-	//        * RETRY_AVAILABLE / PASSED / FAILED  -> COMPLETED(파란조개)
-	//        * READY / IN_PROGRESS                -> IN_PROGRESS(하늘조개)
-	//    - 같은 dailyContentId 기록이 여러 개일 수 있으므로 merge로 "COMPLETED 우선" 규칙을 보장
+	//    - 비트가 켜진 학습 일차 -> COMPLETED(파란조개)
+	//      (퀴즈를 한 번이라도 제출한 날 = RETRY_AVAILABLE / PASSED / FAILED)
+	//    - 그 외(READY / IN_PROGRESS / 기록 없음)는 Map에 넣지 않고 캘린더에서 IN_PROGRESS(하늘조개)로 처리
+	//    - 진행률은 MissionProgress.completedCount / 전체 학습일 수
 	//
-	// 7) 캘린더의 날짜 -> dailyContentId 매핑을 위해, 해당 카테고리의 DailyContent 전체를 daySequence 오름차순으로 조회
-	//    - dailyContents.get(daySequence - 1) 로 해당 날짜의 콘텐츠를 찾을 수 있게 준비
-	//
-	// 8) 캘린더 리스트(calendarDateResults) 생성
+	// 6) 캘린더 리스트(calendarDateResults) 생성
 	//    - startDate ~ endDate 날짜를 하루씩 순회
 	//    - 주말(토/일)은 캘린더에서 제외(continue)
 	//    - 평일만 daySequence++ 하며 daySequence와 DailyContent를 1:1 매핑
@@ -88,112 +84,96 @@ public class GetHomeDashboardService implements GetHomeDashboardUseCase {
 	//        * date > today  -> NOT_AVAILABLE(회색조개)  // 미래 날짜
 	//        * date <= today -> (Map에 값 있으면 그 값, 없으면 IN_PROGRESS)  // 열린 날짜지만 기록이 없으면 "아직 안 함"
 	//
-	// 9) 최종 HomeDashboardResult 조립 후 반환
+	// 7) 최종 HomeDashboardResult 조립 후 반환
 	//    - missionResult / category / todayDailyContent / calendarDateResults 를 한 번에 내려준다.
 
 	@Override
 	public HomeDashboardResult getHomeDashboard(Long memberId, Long missionId) {
 		log.info("[getHomeDashboard 시작] - (Long) memberId: {}, (Long) missionId: {}", memberId, missionId);
 
-		MissionResult mission;
+		HomeDashboardMissionSnapshot snapshot;
 
 		// missionId가 없는경우
 		// 1. memberId로 진행중 가장 최신의 미션 1건 조회
 		if (missionId == null) {
-			mission = homeDashboardMissionReadPort.findLatestActiveMission(memberId)
+			snapshot = homeDashboardMissionReadPort.findLatestActiveMission(memberId)
 				.orElseThrow(() -> BaseException.from(MissionErrorCode.MISSION_NOT_FOUND));
 		} else {
 			// missionId가 있는경우
 			// 1. missionId, memberId, 진행중인 미션 1건 조회
-			mission = homeDashboardMissionReadPort.findActiveMissionById(memberId, missionId)
+			snapshot = homeDashboardMissionReadPort.findActiveMissionById(memberId, missionId)
 				.orElseThrow(() -> BaseException.from(MissionErrorCode.MISSION_NOT_FOUND));
 		}
 
-		log.info("[미션 조회 완료] - missionId: {}, childId: {}, categoryId: {}, rewardTitle: {}, startDate: {}, endDate: {}",
+		// left join 결과 검증: 가족 관계 / 카테고리가 없으면 대시보드를 구성할 수 없다.
+		if (snapshot.childId() == null) {
+			throw BaseException.from(FamilyErrorCode.FAMILY_RELATION_NOT_FOUND);
+		}
+		if (snapshot.categoryTitle() == null) {
+			throw BaseException.from(CategoryErrorCode.INVALID_CATEGORY_ID,
+				"Invalid categoryId: " + snapshot.categoryId());
+		}
+
+		MissionResult mission = MissionResult.of(
+			snapshot.missionId(),
+			snapshot.childId(),
+			snapshot.categoryId(),
+			snapshot.rewardTitle(),
+			snapshot.startDate(),
+			snapshot.endDate()
+		);
+		CategoryResult category = new CategoryResult(snapshot.categoryId(), snapshot.categoryTitle());
+
+		log.info("[미션 조회 완료] - missionId: {}, childId: {}, categoryId: {}, categoryTitle: {}, startDate: {}, endDate: {}",
 			mission.missionId(),
 			mission.childId(),
 			mission.categoryId(),
-			mission.rewardTitle(),
+			category.categoryTitle(),
 			mission.startDate(),
 			mission.endDate()
 		);
 
-
-		// 2. 미션의 categoryId로 카테고리 정보(CategoryResult) 조회
-		CategoryResult category = homeDashboardCategoryReadPort.findById(mission.categoryId())
-			.orElseThrow(() -> BaseException.from(CategoryErrorCode.INVALID_CATEGORY_ID,
-				"Invalid categoryId: " + mission.categoryId()));
-
-		log.info("[카테고리 조회 완료] - categoryId: {}, categoryTitle : {}",
-			category.categoryId(),
-			category.categoryTitle()
-		);
-
-		// 3. today 기준 "오늘이 미션의 몇 번째 학습일인가(daySequence)" 계산
+		// 2. today 기준 "오늘이 미션의 몇 번째 학습일인가(daySequence)" 계산
 		LocalDate today = LocalDate.now();
 
 		// elapsedDays(시작한지 몇 번째 날인가) = 오늘에 해당하는 daySequence (1부터 시작)
-		log.info("[elapsedDays 계산 시작] - startDate: {}, endDate: {}, today: {}",
-			mission.startDate(),
-			mission.endDate(),
-			today
-		);
-
 		int elapsedDays = MissionDateCalculator.openedDaySequenceExcludeWeekend(
 			mission.startDate(),
 			mission.endDate(),
 			today
 		);
 
-		log.info("[elapsedDays 계산 종료] - elapsedDays = {}", elapsedDays);
+		log.info("[elapsedDays 계산 완료] - elapsedDays = {}", elapsedDays);
 
-		// 4. (categoryId, elapsedDays)로 "오늘의 DailyContent" 1건 조회
-		DailyContentResult dailyContent = homeDashboardDailyContentReadPort.findByCategoryIdAndDaySequence(
-			mission.categoryId(),
-			elapsedDays
-		);
+		// 3. daySequence 오름차순으로 전체 콘텐츠 조회 (calendar 매핑용)
+		List<HomeDashboardDaySnapshot> days = homeDashboardDailyContentReadPort.findDashboardDays(mission.categoryId());
+
+		// 4. 조회 결과에서 "오늘의 DailyContent" 1건 선택
+		DailyContentResult dailyContent = days.stream()
+			.filter(day -> day.daySequence().value() == elapsedDays)
+			.findFirst()
+			.map(day -> DailyContentResult.of(day.dailyContentId(), day.keyword()))
+			.orElseThrow(() -> BaseException.from(StudyErrorCode.DAILY_CONTENT_NOT_FOUND));
 
 		log.info("[DailyContent 조회 완료] - dailyContentId: {}, contentKeyword: {}",
 			dailyContent.dailyContentId(),
 			dailyContent.contentKeyword()
 		);
 
-		// 5. 캘린더 상태 계산을 위해 StudyRecord 목록 조회
-		List<StudyRecord> records = repository.findByMemberIdAndMissionIdAndCategoryId(
-			mission.childId(),
-			mission.missionId(),
-			mission.categoryId()
-		);
-
-		// 6. records를 dailyContentId 기준으로 요약(Map)한다.
+		// 5. 진행 현황 비트셋으로 학습 상태를 dailyContentId 기준으로 요약(Map)한다.
+		MissionProgress progress = snapshot.progress(); // 제출 기록이 없으면 null
 		Map<Long, StudyStatusResult> statusByDailyContentId = new HashMap<>();
+		List<DailyContentResult> dailyContents = new ArrayList<>(days.size());
 
-		// records 순회하며 dailyContentId 별로 상태 매핑
-		for (StudyRecord record : records) {
-			DailyContentId dailyContentId = record.getDailyContentId();
-			Long dcIdValue = dailyContentId.getValue();
-			// quizProgressStatus -> StudyStatusResult 변환
-			// RETRY_AVAILABLE / PASSED / FAILED  -> COMPLETED(파란조개)
-			// READY / IN_PROGRESS                -> IN_PROGRESS(하늘조개)
-			StudyStatusResult mapped = switch (record.getQuizProgressStatus()) {
-				case RETRY_AVAILABLE, PASSED, FAILED -> StudyStatusResult.COMPLETED;
-				case READY, IN_PROGRESS -> StudyStatusResult.IN_PROGRESS;
-			};
-
-			// 동일한 dailyContentId에 대해 여러 개의 StudyRecord가 있을 수 있으므로 "완료가 최우선" 되도록 합치기
-			statusByDailyContentId.merge(dcIdValue, mapped, (oldV, newV) -> {
-				if (oldV == StudyStatusResult.COMPLETED || newV == StudyStatusResult.COMPLETED) {
-					return StudyStatusResult.COMPLETED;
-				}
-				return StudyStatusResult.IN_PROGRESS;
-			});
-		}
+		for (HomeDashboardDaySnapshot day : days) {
+			dailyContents.add(DailyContentResult.of(day.dailyContentId(), day.keyword()));
 
-		// daySequence 오름차순으로 전체 콘텐츠 조회 (calendar 매핑용)
-		List<DailyContentResult> dailyContents = homeDashboardDailyContentReadPort
-			.findAllByCategoryIdOrderByDaySequence(mission.categoryId());
+			if (progress != null && progress.isCompleted(day.daySequence().value())) {
+				statusByDailyContentId.put(day.dailyContentId(), StudyStatusResult.COMPLETED);
+			}
+		}
 
-		// 캘린더 날짜 생성 (주말 제외)
+		// 6. 캘린더 날짜 생성 (주말 제외)
 		List<CalendarDateResult> calendarDateResults = buildCalendarDateResults(
 			mission,
 			today,
@@ -202,8 +182,11 @@ public class GetHomeDashboardService implements GetHomeDashboardUseCase {
 		);
 
 		// progressPercentage 계산
-		// record에서 quizProgressStatus가 COMPLETED인 수 / 전체 학습일 수
-		long progressPercentage = calculateProgressPercentage(dailyContents, statusByDailyContentId);
+		// 완료한 학습일 수(MissionProgress.completedCount) / 전체 학습일 수
+		long progressPercentage = calculateProgressPercentage(
+			dailyContents.size(),
+			progress == null ? 0 : progress.getCompletedCount()
+		);
 		log.info("[진행률 계산 완료] - progressPercentage={}%", progressPercentage);
 
 		log.info("[getHomeDashboard 종료]");
@@ -217,8 +200,8 @@ public class GetHomeDashboardService implements GetHomeDashboardUseCase {
 		);
 	}
 
-	// 캘린더 생성 로직 분리
-	private List<CalendarDateResult> buildCalendarDateResults(
+	// 캘린더 생성 로직 분리 (상태가 없는 순수 계산 - HomeDashboardCalendarBenchmark에서 직접 호출한다)
+	static List<CalendarDateResult> buildCalendarDateResults(
 		MissionResult missionResult,
 		LocalDate today,
 		List<DailyContentResult> dailyContents,
@@ -267,14 +250,7 @@ public class GetHomeDashboardService implements GetHomeDashboardUseCase {
 	}
 
 	// 진행률 계산 메서드
-	private long calculateProgressPercentage(
-		List<DailyContentResult> dailyContents,
-		Map<Long, StudyStatusResult> statusByDailyContentId
-	) {
-		long totalStudyDays = dailyContents.size();
-		long completedDays = statusByDailyContentId.values().stream()
-			.filter(status -> status == StudyStatusResult.COMPLETED)
-			.count();
+	private long calculateProgressPercentage(long totalStudyDays, long completedDays) {
 		return totalStudyDays == 0 ? 0 : (completedDays * 100) / totalStudyDays;
 	}
 }
@@ -0,0 +1,192 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneco.backend.StudyRecord.application.dto.command.HistoryExportFormat;
+import com.oneco.backend.StudyRecord.application.dto.result.HistoryExportRow;
+import com.oneco.backend.StudyRecord.application.dto.result.MemberItem;
+import com.oneco.backend.StudyRecord.application.port.dto.DailyContentSummary;
+import com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow;
+import com.oneco.backend.StudyRecord.application.port.out.DailyContentQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.FamilyRelationQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.StudyRecordPersistencePort;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+import com.oneco.backend.global.logging.UseCaseLog;
+import com.oneco.backend.member.domain.FamilyRole;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 히스토리 전체 내보내기 (NDJSON / CSV)
+ * <p>
+ * 1. resolveTarget: 요청 스레드에서 권한을 확인한다. (오류를 일반 에러 응답으로 돌려주기 위해 응답 시작 전에 실행)
+ * 2. acquireSlot: 요청 스레드에서 동시 내보내기 자리를 잡는다. 자리가 없으면 503
+ *    - 내보내기 1건은 다운로드가 끝날 때까지(느린 클라이언트면 수 분) DB 커넥션 1개를 쥔다. (스트리밍 결과셋)
+ *      노드당 동시 실행 수(study-record.export.max-concurrent)를 커넥션 풀보다 충분히 작게 둬서
+ *      내보내기가 다른 API의 커넥션을 다 가져가지 않게 한다.
+ * 3. export: 응답을 쓰는 스레드에서 실행한다. 끝나면 잡은 자리를 돌려준다.
+ *    - 히스토리에 나오는 콘텐츠 요약을 한 번에 읽어 메모리 Map으로 둔다. (콘텐츠 수만큼, 기록 수와 무관)
+ *    - 기록은 DB 커서로 fetch size 만큼씩 읽으면서 바로 응답에 쓴다. 기록이 몇 건이든 메모리 사용량이 같다.
+ */
+@Slf4j
+@Service
+public class HistoryExportService {
+
+	// 이 행 수마다 응답으로 내보낸다. (클라이언트는 다운로드가 진행되는 것을 바로 본다)
+	private static final int FLUSH_EVERY_ROWS = 500;
+
+	private final StudyRecordPersistencePort studyRecordPersistencePort;
+	private final DailyContentQueryPort dailyContentQueryPort;
+	private final FamilyRelationQueryPort familyRelationQueryPort;
+	private final ObjectMapper objectMapper;
+	private final Semaphore exportSlots;
+
+	/**
+	 * @param maxConcurrent 노드당 동시 내보내기 수 (= 내보내기가 동시에 쥘 수 있는 DB 커넥션 수)
+	 */
+	public HistoryExportService(
+		StudyRecordPersistencePort studyRecordPersistencePort,
+		DailyContentQueryPort dailyContentQueryPort,
+		FamilyRelationQueryPort familyRelationQueryPort,
+		ObjectMapper objectMapper,
+		@Value("${study-record.export.max-concurrent:3}") int maxConcurrent
+	) {
+		this.studyRecordPersistencePort = studyRecordPersistencePort;
+		this.dailyContentQueryPort = dailyContentQueryPort;
+		this.familyRelationQueryPort = familyRelationQueryPort;
+		this.objectMapper = objectMapper;
+		this.exportSlots = new Semaphore(maxConcurrent);
+	}
+
+	/**
+	 * 내보낼 대상 memberId
+	 * - CHILD: 본인
+	 * - PARENT: childId (없으면 첫 번째 자녀). 연결된 자녀가 없으면 empty (빈 파일)
+	 */
+	public Optional<Long> resolveTarget(FamilyRole role, Long memberId, Long childId) {
+		if (role == FamilyRole.CHILD) {
+			return Optional.of(memberId);
+		}
+		if (role != FamilyRole.PARENT) {
+			throw BaseException.from(StudyErrorCode.INVALID_FAMILY_ROLE);
+		}
+
+		List<MemberItem> children = familyRelationQueryPort.findChildIdsByParentId(memberId);
+		if (childId == null) {
+			return children.stream().findFirst().map(MemberItem::memberId);
+		}
+		boolean isChildOfParent = children.stream().anyMatch(child -> childId.equals(child.memberId()));
+		if (!isChildOfParent) {
+			throw BaseException.from(StudyErrorCode.INVALID_CHILD_ACCESS);
+		}
+		return Optional.of(childId);
+	}
+
+	/**
+	 * 동시 내보내기 자리 1개를 잡는다. 기다리지 않고 없으면 바로 503
+	 * - 반환된 자리는 export가 끝난 뒤 close 한다. (응답을 쓰는 스레드에서)
+	 */
+	public ExportSlot acquireSlot() {
+		if (!exportSlots.tryAcquire()) {
+			log.warn("[히스토리 내보내기] 동시 내보내기 한도 초과 - 거절");
+			throw BaseException.from(GlobalErrorCode.SERVICE_UNAVAILABLE, "동시 내보내기 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+		}
+		return new ExportSlot(exportSlots);
+	}
+
+	/**
+	 * @return 내보낸 행 수
+	 */
+	@Transactional(readOnly = true)
+	public long export(Long targetMemberId, HistoryExportFormat format, OutputStream out) throws IOException {
+		UseCaseLog event = UseCaseLog.start(log, "history.export")
+			.with("memberId", targetMemberId)
+			.with("format", format);
+		long startedNanos = System.nanoTime();
+		long rows = 0;
+		long missingContents = 0;
+
+		try (HistoryExportWriter writer = HistoryExportWriter.of(format, out, objectMapper)) {
+			if (targetMemberId != null) {
+				// 1) 콘텐츠 요약을 한 번에 읽어 둔다.
+				List<Long> dailyContentIds = studyRecordPersistencePort.findHistoryDailyContentIds(targetMemberId);
+				Map<Long, DailyContentSummary> summaries = dailyContentIds.isEmpty()
+					? Map.of()
+					: dailyContentQueryPort.findDailyContentSummariesByIds(dailyContentIds);
+				log.debug("[히스토리 내보내기] 콘텐츠 요약 로드 - memberId={}, contents={}", targetMemberId, summaries.size());
+
+				// 2) 기록을 흘려보내면서 바로 쓴다.
+				try (Stream<StudyRecordHistoryRow> stream =
+					studyRecordPersistencePort.streamHistoryByMemberId(targetMemberId)) {
+					Iterator<StudyRecordHistoryRow> it = stream.iterator();
+					while (it.hasNext()) {
+						StudyRecordHistoryRow row = it.next();
+						DailyContentSummary summary = summaries.get(row.dailyContentId());
+						if (summary == null) {
+							missingContents++;
+						}
+						writer.write(toExportRow(row, summary));
+						if (++rows % FLUSH_EVERY_ROWS == 0) {
+							writer.flush();
+						}
+					}
+				}
+			}
+		}
+
+		long tookNanos = Math.max(1, System.nanoTime() - startedNanos);
+		event.with("rows", rows)
+			.with("rowsPerSec", rows * 1_000_000_000L / tookNanos)
+			.with("missingContents", missingContents)
+			.emit();
+		if (missingContents > 0) {
+			log.warn("[히스토리 내보내기] 콘텐츠 요약 누락 - memberId={}, rows={}", targetMemberId, missingContents);
+		}
+		return rows;
+	}
+
+	// 잡은 내보내기 자리. close를 여러 번 불러도 한 번만 돌려준다.
+	public static final class ExportSlot implements AutoCloseable {
+
+		private final Semaphore slots;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private ExportSlot(Semaphore slots) {
+			this.slots = slots;
+		}
+
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				slots.release();
+			}
+		}
+	}
+
+	// 콘텐츠 요약이 없으면 제목/요약만 비워서 내보낸다. (한 건 때문에 다운로드 전체를 끊지 않는다)
+	private HistoryExportRow toExportRow(StudyRecordHistoryRow row, DailyContentSummary summary) {
+		return new HistoryExportRow(
+			row.studyRecordId(),
+			row.submittedDate(),
+			row.bookmarked(),
+			row.dailyContentId(),
+			summary == null ? null : summary.title(),
+			summary == null ? null : summary.summary()
+		);
+	}
+}
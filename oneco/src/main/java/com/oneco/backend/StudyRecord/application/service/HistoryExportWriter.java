@@ -0,0 +1,120 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneco.backend.StudyRecord.application.dto.command.HistoryExportFormat;
+import com.oneco.backend.StudyRecord.application.dto.result.HistoryExportRow;
+
+/**
+ * 히스토리 내보내기 행 단위 출력
+ * - 행을 모으지 않고 바로 쓴다. 버퍼가 차거나 flush()를 부르면 응답으로 내보낸다.
+ * - close()는 응답 스트림을 닫지 않는다. (컨테이너가 닫는다)
+ */
+abstract class HistoryExportWriter implements AutoCloseable {
+
+	static HistoryExportWriter of(HistoryExportFormat format, OutputStream out, ObjectMapper objectMapper)
+		throws IOException {
+		return switch (format) {
+			case NDJSON -> new Ndjson(out, objectMapper);
+			case CSV -> new Csv(out);
+		};
+	}
+
+	abstract void write(HistoryExportRow row) throws IOException;
+
+	abstract void flush() throws IOException;
+
+	@Override
+	public abstract void close() throws IOException;
+
+	private static final class Ndjson extends HistoryExportWriter {
+
+		private final JsonGenerator generator;
+
+		private Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+			this.generator = objectMapper.getFactory().createGenerator(out)
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			this.generator.setCodec(objectMapper);
+		}
+
+		@Override
+		void write(HistoryExportRow row) throws IOException {
+			generator.writeObject(row);
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		void flush() throws IOException {
+			generator.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+
+	private static final class Csv extends HistoryExportWriter {
+
+		private static final String HEADER = "studyRecordId,submittedDate,bookmarked,dailyContentId,title,summary\r\n";
+
+		private final Writer writer;
+
+		private Csv(OutputStream out) throws IOException {
+			this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+			writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+			writer.write(HEADER);
+		}
+
+		@Override
+		void write(HistoryExportRow row) throws IOException {
+			writer.write(String.valueOf(row.studyRecordId()));
+			writer.write(',');
+			writer.write(row.submittedDate() == null ? "" : row.submittedDate().toString());
+			writer.write(',');
+			writer.write(String.valueOf(row.bookmarked()));
+			writer.write(',');
+			writer.write(String.valueOf(row.dailyContentId()));
+			writer.write(',');
+			writeText(row.title());
+			writer.write(',');
+			writeText(row.summary());
+			writer.write("\r\n");
+		}
+
+		// RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+		private void writeText(String value) throws IOException {
+			if (value == null) {
+				return;
+			}
+			boolean quote = false;
+			for (int i = 0; i < value.length() && !quote; i++) {
+				char c = value.charAt(i);
+				quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+			}
+			if (!quote) {
+				writer.write(value);
+				return;
+			}
+			writer.write('"');
+			writer.write(value.replace("\"", "\"\""));
+			writer.write('"');
+		}
+
+		@Override
+		void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.flush();
+		}
+	}
+}
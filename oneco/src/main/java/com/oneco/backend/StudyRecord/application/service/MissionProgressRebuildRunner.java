@@ -0,0 +1,48 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * mission_progress 재구축 커맨드
+ * <p>
+ * 기동 시 1회 실행된다. 평소에는 비활성이며 아래처럼 켜서 실행한다.
+ * - java -jar app.jar --mission-progress.rebuild-on-startup=true
+ * <p>
+ * 미션 단위로 트랜잭션을 분리하므로 한 미션이 실패해도 나머지는 계속 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mission-progress.rebuild-on-startup", havingValue = "true")
+public class MissionProgressRebuildRunner implements ApplicationRunner {
+
+	private final MissionProgressRebuildService missionProgressRebuildService;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		List<Long> missionIds = missionProgressRebuildService.findMissionIdsToRebuild();
+		log.info("[mission_progress 재구축 시작] 대상 미션 수={}", missionIds.size());
+
+		int succeeded = 0;
+		int failed = 0;
+		for (Long missionId : missionIds) {
+			try {
+				missionProgressRebuildService.rebuild(missionId);
+				succeeded++;
+			} catch (Exception e) {
+				failed++;
+				log.error("[mission_progress 재구축 실패] missionId={}", missionId, e);
+			}
+		}
+
+		log.info("[mission_progress 재구축 종료] 성공={}, 실패={}", succeeded, failed);
+	}
+}
@@ -0,0 +1,79 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneco.backend.StudyRecord.application.port.out.DailyContentQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.MissionProgressPort;
+import com.oneco.backend.StudyRecord.application.port.out.StudyRecordPersistencePort;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AttemptStatus;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * mission_progress projection 재구축 서비스
+ * <p>
+ * - study_records(+ quiz_attempt)를 원본으로 미션별 진행 현황을 처음부터 다시 계산해 덮어쓴다.
+ * - projection 도입 이전 데이터 backfill, 또는 projection이 어긋났을 때 복구용으로 사용한다.
+ * - 제출 시점과 동일하게 MissionProgress.applySubmission을 시도 순서대로 재생(replay)하므로 갱신 규칙이 한 곳에 유지된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MissionProgressRebuildService {
+
+	private final StudyRecordPersistencePort studyRecordPersistencePort;
+	private final DailyContentQueryPort dailyContentQueryPort;
+	private final MissionProgressPort missionProgressPort;
+
+	// 재구축 대상 미션 ID 목록 (제출 기록이 있는 미션)
+	@Transactional(readOnly = true)
+	public List<Long> findMissionIdsToRebuild() {
+		return studyRecordPersistencePort.findMissionIdsWithSubmissions();
+	}
+
+	// 미션 1건의 진행 현황을 재구축한다. (미션 단위 트랜잭션)
+	@Transactional
+	public MissionProgress rebuild(Long missionId) {
+		List<StudyRecord> records = studyRecordPersistencePort.findSubmittedByMissionIdWithAttempts(missionId);
+
+		List<Long> dailyContentIds = records.stream()
+			.map(sr -> sr.getDailyContentId().getValue())
+			.distinct()
+			.toList();
+		Map<Long, Integer> daySequenceByDailyContentId = dailyContentQueryPort.findDaySequencesByIds(dailyContentIds);
+
+		MissionProgress progress = MissionProgress.start(missionId);
+		for (StudyRecord sr : records) {
+			Integer daySequence = daySequenceByDailyContentId.get(sr.getDailyContentId().getValue());
+			if (daySequence == null) {
+				log.warn("[mission_progress 재구축] DailyContent 누락으로 건너뜀 - missionId={}, studyRecordId={}",
+					missionId, sr.getId());
+				continue;
+			}
+
+			// 1차 -> 2차 순서로 제출 이벤트를 재생한다.
+			int previousCorrect = 0;
+			List<QuizAttempt> submitted = sr.getAttempts().stream()
+				.filter(a -> a.getAttemptStatus() == AttemptStatus.SUBMITTED)
+				.sorted(Comparator.comparingInt(a -> a.getAttemptNo().getValue()))
+				.toList();
+			for (QuizAttempt attempt : submitted) {
+				int correct = attempt.getCorrectCount().getValue();
+				progress.applySubmission(daySequence, attempt.getQuizIds().size(), correct, previousCorrect);
+				previousCorrect = correct;
+			}
+		}
+
+		missionProgressPort.replace(progress);
+		return progress;
+	}
+}
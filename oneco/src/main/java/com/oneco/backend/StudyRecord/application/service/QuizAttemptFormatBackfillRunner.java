@@ -0,0 +1,57 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * quiz_attempt 저장 포맷 backfill 커맨드
+ * <p>
+ * 기동 시 1회 실행된다. 평소에는 비활성이며 아래처럼 켜서 실행한다.
+ * - java -jar app.jar --quiz-attempt.backfill-binary-format-on-startup=true
+ * <p>
+ * 청크 단위로 트랜잭션을 분리하므로 한 청크가 실패해도 다음 청크는 계속 진행한다.
+ * (실패한 청크는 JSON 컬럼이 그대로 남아 있으므로 다시 실행하면 이어서 옮긴다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "quiz-attempt.backfill-binary-format-on-startup", havingValue = "true")
+public class QuizAttemptFormatBackfillRunner implements ApplicationRunner {
+
+	private final QuizAttemptFormatBackfillService quizAttemptFormatBackfillService;
+
+	@Value("${quiz-attempt.backfill-chunk-size:500}")
+	private int chunkSize;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		log.info("[quiz_attempt 포맷 backfill 시작] chunkSize={}", chunkSize);
+
+		long lastId = 0L;
+		int upgraded = 0;
+		int failedChunks = 0;
+		while (true) {
+			List<Long> ids = quizAttemptFormatBackfillService.findLegacyAttemptIds(lastId, chunkSize);
+			if (ids.isEmpty()) {
+				break;
+			}
+			try {
+				upgraded += quizAttemptFormatBackfillService.upgrade(ids);
+			} catch (Exception e) {
+				failedChunks++;
+				log.error("[quiz_attempt 포맷 backfill 실패] id 범위={}~{}", ids.get(0), ids.get(ids.size() - 1), e);
+			}
+			lastId = ids.get(ids.size() - 1);
+		}
+
+		log.info("[quiz_attempt 포맷 backfill 종료] 변환={}, 실패 청크={}", upgraded, failedChunks);
+	}
+}
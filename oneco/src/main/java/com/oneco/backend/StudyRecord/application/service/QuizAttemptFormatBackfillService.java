@@ -0,0 +1,36 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneco.backend.StudyRecord.application.port.out.QuizAttemptFormatMigrationPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * quiz_attempt 저장 포맷 backfill 서비스 (quiz_ids / answers JSON -> quiz_ids_bin / answers_bin)
+ * <p>
+ * - 조회 경로는 이미 두 포맷을 모두 읽으므로(QuizAttempt.getQuizIds / getAnswers) backfill은 언제 돌려도 된다.
+ * - 청크 단위로 트랜잭션을 분리해서 긴 트랜잭션/대량 잠금을 만들지 않는다.
+ * - JSON 컬럼은 지우지 않는다. dual-write가 켜져 있는 동안은 새 행도 두 포맷에 함께 쓰므로 이전 버전으로 롤백해도 읽을 수 있다.
+ * - backfill이 끝나면 quiz-attempt.legacy-format.dual-write=false로 끈다. 전환을 확정하면 다음 배포에서 legacy 매핑을 제거하고 JSON 컬럼을 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizAttemptFormatBackfillService {
+
+	private final QuizAttemptFormatMigrationPort quizAttemptFormatMigrationPort;
+
+	@Transactional(readOnly = true)
+	public List<Long> findLegacyAttemptIds(Long lastId, int size) {
+		return quizAttemptFormatMigrationPort.findLegacyAttemptIds(lastId, size);
+	}
+
+	// 청크 1개를 옮겨 쓴다. (청크 단위 트랜잭션)
+	@Transactional
+	public int upgrade(List<Long> attemptIds) {
+		return quizAttemptFormatMigrationPort.upgrade(attemptIds);
+	}
+}
@@ -0,0 +1,64 @@
+package com.oneco.backend.StudyRecord.application.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.oneco.backend.StudyRecord.application.port.dto.QuizForGrading;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AnswerKey;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AnswerSheet;
+import com.oneco.backend.global.exception.BaseException;
+
+/**
+ * 퀴즈 채점 컴포넌트
+ * <p>
+ * 1) 출제된 quizIds + 채점용 퀴즈 정보를 primitive 채점표(AnswerKey)로 컴파일하고
+ * 2) 제출 답안을 같은 순서의 답안지(AnswerSheet)로 정렬한 뒤
+ * 3) 한 번의 루프로 보기 범위 검증 + 정답 비교를 수행한다.
+ * <p>
+ * 만들어진 AnswerSheet는 QuizAttempt.submit()에 그대로 넘겨 검증을 다시 하지 않는다.
+ */
+@Component
+public class QuizGrader {
+
+	public record Grading(AnswerSheet answerSheet, int correctCount) {
+	}
+
+	public Grading grade(List<Long> issuedQuizIds, List<QuizForGrading> quizzes, Map<Long, Integer> answers) {
+		AnswerKey key = compile(issuedQuizIds, quizzes);
+		AnswerSheet sheet = AnswerSheet.of(issuedQuizIds, answers);
+		return new Grading(sheet, key.grade(sheet));
+	}
+
+	/**
+	 * 출제 순서(issuedQuizIds)대로 채점표를 만든다.
+	 * - quizzes는 QuizQueryPort.loadQuizzesForGradingByIds(issuedQuizIds)의 결과(같은 순서)여야 한다.
+	 */
+	public AnswerKey compile(List<Long> issuedQuizIds, List<QuizForGrading> quizzes) {
+		// 누락 검증
+		if (quizzes == null || quizzes.size() != issuedQuizIds.size()) {
+			throw BaseException.from(StudyErrorCode.QUIZ_NOT_FOUND);
+		}
+
+		int size = issuedQuizIds.size();
+		long[] quizIds = new long[size];
+		byte[] correctIndex = new byte[size];
+		byte[] optionCount = new byte[size];
+
+		for (int i = 0; i < size; i++) {
+			QuizForGrading quiz = quizzes.get(i);
+			if (quiz == null || !issuedQuizIds.get(i).equals(quiz.quizId())) {
+				throw BaseException.from(StudyErrorCode.QUIZ_NOT_FOUND);
+			}
+
+			quizIds[i] = quiz.quizId();
+			// 정답 비교 규칙은 기존과 같다: 제출한 selectedIndex == QuizForGrading.correctIndex
+			correctIndex[i] = (byte)quiz.correctIndex();
+			optionCount[i] = (byte)quiz.optionCount();
+		}
+
+		return AnswerKey.of(quizIds, correctIndex, optionCount);
+	}
+}
@@ -18,6 +18,7 @@ import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
 import com.oneco.backend.category.domain.category.CategoryId;
 import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
 import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.logging.UseCaseLog;
 import com.oneco.backend.member.domain.FamilyRole;
 import com.oneco.backend.member.domain.MemberId;
 import com.oneco.backend.mission.domain.mission.MissionId;
@@ -37,20 +38,23 @@ public class StartStudyService implements StartStudyUseCase {
 	@Override
 	@Transactional
 	public StartStudyResult start(StartStudyCommand command, Long memberId, FamilyRole familyRole) {
+		UseCaseLog event = UseCaseLog.start(log, "study.start")
+			.with("memberId", memberId)
+			.with("role", familyRole);
 		Long dailyContentId = command.dailyContentId();
 
 		// 1) DailyContent 로드 (본문/키워드/이미지/+ categoryId/daySequence 포함)
 		DailyContentSnapshot dailyContent = dailyContentQueryPort.loadDailyContentSnapshot(dailyContentId);
-		log.info("로드된 DailyContentSnapshot: {}", dailyContent);
+		log.debug("로드된 DailyContentSnapshot: {}", dailyContent);
+		event.with("dailyContentId", dailyContentId)
+			.with("daySequence", dailyContent.daySequence());
 
 		//  부모면: 검증만 하고 StudyRecord 생성/조회/저장 없이 바로 반환
 		if (familyRole == FamilyRole.PARENT) {
-			log.info("부모 요청: StudyRecord 생성 없이 열람 처리. memberId={}, dailyContentId={}", memberId, dailyContentId);
-
 			ActiveMissionSnapshot activeMission =
 				missionQueryPort.findActiveMission(memberId, dailyContent.categoryId())
 					.orElseThrow(() -> BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS, "활성 미션이 없습니다."));
-			log.info("로드된 ActiveMissionSnapshot: {}", activeMission);
+			log.debug("로드된 ActiveMissionSnapshot: {}", activeMission);
 
 			if (!activeMission.active()) {
 				throw BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS, "미션이 active가 아닙니다.");
@@ -65,6 +69,7 @@ public class StartStudyService implements StartStudyUseCase {
 			}
 
 			//  StudyRecord 관련 값은 null/기본값 처리
+			event.with("outcome", "parent_view").emit();
 			return mapStartStudyResultForParent(dailyContent);
 		}
 
@@ -72,26 +77,24 @@ public class StartStudyService implements StartStudyUseCase {
 		// 2) 이미 StudyRecord가 존재하면 그대로 반환
 		Optional<StudyRecord> existing = studyRecordPersistencePort.findByMemberIdAndDailyContentId(memberId,
 			dailyContentId);
-		log.info("기존 StudyRecord 조회 결과: {}", existing);
 
 		if (existing.isPresent()) {
 			StudyRecord sr = existing.get();
-			log.info("기존 StudyRecord가 존재하므로 재사용: {}", sr);
+			log.debug("기존 StudyRecord가 존재하므로 재사용: {}", sr);
+			event.with("studyRecordId", sr.getId()).with("outcome", "reused").emit();
 			return mapStartStudyResult(sr, dailyContent);
 		}
-		log.info("기존 StudyRecord가 없으므로 새로 생성 진행");
-		log.info("memberId: {} , categoryId:{}", memberId, dailyContent.categoryId());
+		log.debug("기존 StudyRecord가 없으므로 새로 생성 진행. categoryId={}", dailyContent.categoryId());
 		// 3) Active 미션 조회
 		ActiveMissionSnapshot activeMission =
 			missionQueryPort.findActiveMission(memberId, dailyContent.categoryId())
 				.orElseThrow(() -> BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS, "활성 미션이 없습니다."));
-		log.info("로드된 ActiveMissionSnapshot: {}", activeMission);
+		log.debug("로드된 ActiveMissionSnapshot: {}", activeMission);
 
 		// 4) 미션 Active 상태인지 검증
 		if (!activeMission.active()) {
 			throw BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS, "미션이 active가 아닙니다.");
 		}
-		log.info("미션이 active 상태임을 검증 통과");
 
 		// 5) daySequence 잠금 검증
 		// - dailyContent.daySequence <= mission.openedDaySequence : OK
@@ -103,8 +106,6 @@ public class StartStudyService implements StartStudyUseCase {
 					+ ", openedDay=" + activeMission.openedDaySequence()
 			);
 		}
-		log.info("daySequence 잠금 검증 통과: contentDay={}, openedDay={}",
-			dailyContent.daySequence(), activeMission.openedDaySequence());
 
 		// 6) StudyRecord 생성(도메인 팩토리)
 		StudyRecord created = StudyRecord.openStudy(
@@ -113,11 +114,14 @@ public class StartStudyService implements StartStudyUseCase {
 			CategoryId.of(dailyContent.categoryId()),
 			DailyContentId.of(dailyContent.dailyContentId())
 		);
-		log.info("생성된 StudyRecord: {}", created);
 
-		// 7) 저장
-		StudyRecord saved = studyRecordPersistencePort.save(created);
-		log.info("저장된 StudyRecord: {}", saved);
+		// 7) 저장 (없으면 생성, 동시에 먼저 생성된 기록이 있으면 그 기록)
+		StudyRecord saved = studyRecordPersistencePort.createOrGet(created);
+		log.debug("저장된 StudyRecord: {}", saved);
+		event.with("studyRecordId", saved.getId())
+			.with("missionId", activeMission.missionId())
+			.with("outcome", "created")
+			.emit();
 
 		return mapStartStudyResult(saved, dailyContent);
 	}
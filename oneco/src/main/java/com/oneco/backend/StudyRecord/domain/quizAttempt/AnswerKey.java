@@ -0,0 +1,74 @@
+package com.oneco.backend.StudyRecord.domain.quizAttempt;
+
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
+
+/**
+ * 채점표 (출제 순서에 맞춰 정렬된 primitive 배열)
+ * <p>
+ * - quizIds[i] 문제의 정답은 correctIndex[i], 보기 개수는 optionCount[i] 이다.
+ * - 보기 수가 2개 고정이고 인덱스도 작으므로 byte로 충분하다.
+ * - grade()는 답안지를 한 번 훑으면서 보기 범위 검증과 정답 비교를 함께 수행한다.
+ */
+public final class AnswerKey {
+
+	private final long[] quizIds;
+	private final byte[] correctIndex;
+	private final byte[] optionCount;
+
+	private AnswerKey(long[] quizIds, byte[] correctIndex, byte[] optionCount) {
+		this.quizIds = quizIds;
+		this.correctIndex = correctIndex;
+		this.optionCount = optionCount;
+	}
+
+	public static AnswerKey of(long[] quizIds, byte[] correctIndex, byte[] optionCount) {
+		if (quizIds == null || correctIndex == null || optionCount == null) {
+			throw BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS, "answer key is null");
+		}
+		if (quizIds.length != correctIndex.length || quizIds.length != optionCount.length) {
+			throw BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS, "answer key size mismatch");
+		}
+		for (int i = 0; i < quizIds.length; i++) {
+			// 보기가 없으면 콘텐츠 데이터 자체가 이상한 것
+			if (optionCount[i] <= 0) {
+				throw BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS,
+					"options is empty. quizId=" + quizIds[i]);
+			}
+		}
+		return new AnswerKey(quizIds, correctIndex, optionCount);
+	}
+
+	public int size() {
+		return quizIds.length;
+	}
+
+	/**
+	 * 답안지를 채점해서 맞춘 개수를 반환한다.
+	 * - 답안지는 같은 출제 순서로 만들어져 있어야 한다. (AnswerSheet.of(attempt.quizIds, answers))
+	 * - 선택한 보기가 보기 개수를 넘으면 INVALID_OPTION_INDEX
+	 */
+	public int grade(AnswerSheet sheet) {
+		if (sheet.size() != quizIds.length) {
+			throw BaseException.from(StudyErrorCode.QUIZ_NOT_FOUND);
+		}
+
+		int correct = 0;
+		for (int i = 0; i < quizIds.length; i++) {
+			if (sheet.quizIdAt(i) != quizIds[i]) {
+				throw BaseException.from(StudyErrorCode.QUIZ_NOT_FOUND);
+			}
+
+			int selected = sheet.selectedAt(i);
+			if (selected >= optionCount[i]) {
+				throw BaseException.from(StudyErrorCode.INVALID_OPTION_INDEX,
+					"out of range. quizId=" + quizIds[i] + ", selected=" + selected + ", optionsSize=" + optionCount[i]);
+			}
+
+			if (selected == correctIndex[i]) {
+				correct++;
+			}
+		}
+		return correct;
+	}
+}
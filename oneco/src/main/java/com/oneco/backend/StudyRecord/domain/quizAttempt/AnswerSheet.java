@@ -0,0 +1,137 @@
+package com.oneco.backend.StudyRecord.domain.quizAttempt;
+
+import java.util.List;
+import java.util.Map;
+
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
+
+/**
+ * 제출 답안지 (출제 순서에 맞춰 정렬된 primitive 배열)
+ * <p>
+ * - quizIds[i] 문제에 selected[i] 보기를 골랐다는 뜻이다.
+ * - 생성 시점에 "출제된 문제 == 제출된 문제" / 보기 인덱스 음수 여부를 한 번만 검증한다.
+ *   (서비스의 채점과 QuizAttempt.submit()이 같은 답안지를 공유하므로 같은 검증을 반복하지 않는다)
+ * - HashSet 두 개를 만들어 비교하는 대신, 제출 답안을 한 번 훑으면서
+ *   출제 배열에서 위치를 찾고 비트마스크로 중복/누락을 확인한다. (문제 수는 최대 3개)
+ */
+public final class AnswerSheet {
+
+	// 한 번에 출제되는 최대 문제 수 (비트마스크 크기 제한)
+	private static final int MAX_QUESTIONS = Integer.SIZE - 1;
+
+	private final long[] quizIds;
+	private final byte[] selected;
+
+	private AnswerSheet(long[] quizIds, byte[] selected) {
+		this.quizIds = quizIds;
+		this.selected = selected;
+	}
+
+	/**
+	 * 출제된 quizIds 순서에 맞춰 제출 답안(quizId -> selectedIndex)을 정렬한다.
+	 * <p>
+	 * 오류 코드와 우선순위는 기존 SubmitQuizSubmissionService의 검증(도메인 검증보다 먼저 실행되던 것)과 같다.
+	 * 1. 답안이 비어 있음 -> INVALID_QUIZ_SUBMISSION
+	 * 2. 제출 문제 집합 != 출제 문제 집합 (개수 차이, null key 포함) -> QUIZ_ID_MISMATCH
+	 * 3. 출제 순서대로 보기 확인: null -> INVALID_QUIZ_SUBMISSION / 음수 -> INVALID_OPTION_INDEX
+	 *
+	 * @param issuedQuizIds 서버가 발급한 quizIds (attempt.quizIds)
+	 * @param answers       클라이언트가 제출한 답안
+	 */
+	public static AnswerSheet of(List<Long> issuedQuizIds, Map<Long, Integer> answers) {
+		if (answers == null || answers.isEmpty()) {
+			throw BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION);
+		}
+		if (issuedQuizIds == null || issuedQuizIds.isEmpty() || issuedQuizIds.size() > MAX_QUESTIONS) {
+			throw BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION);
+		}
+
+		int size = issuedQuizIds.size();
+		// 개수가 다르면 집합이 같을 수 없다. (예: 출제 [101,102,103] / 제출 [101,102])
+		if (answers.size() != size) {
+			throw BaseException.from(StudyErrorCode.QUIZ_ID_MISMATCH);
+		}
+
+		long[] quizIds = new long[size];
+		for (int i = 0; i < size; i++) {
+			quizIds[i] = issuedQuizIds.get(i);
+		}
+
+		// 1차: 문제 집합 비교. 보기 값은 출제 위치에 모아 두고 집합이 같을 때만 확인한다.
+		Integer[] values = new Integer[size];
+		int filled = 0; // i번째 문제 답안을 받았으면 i번째 비트를 켠다.
+
+		for (Map.Entry<Long, Integer> answer : answers.entrySet()) {
+			Long quizId = answer.getKey();
+			int index = quizId == null ? -1 : indexOf(quizIds, quizId);
+
+			// 출제되지 않은 문제 (예: 출제 [101,102,103] / 제출 [101,102,777])
+			if (index < 0 || (filled & (1 << index)) != 0) {
+				throw BaseException.from(StudyErrorCode.QUIZ_ID_MISMATCH);
+			}
+			values[index] = answer.getValue();
+			filled |= 1 << index;
+		}
+
+		// 2차: 출제 순서대로 보기 인덱스 확인 (제출 Map의 순회 순서와 무관하게 같은 오류가 나도록)
+		byte[] selected = new byte[size];
+		for (int i = 0; i < size; i++) {
+			Integer value = values[i];
+			if (value == null) {
+				throw BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION, "selected is null. quizId=" + quizIds[i]);
+			}
+			if (value < 0 || value > Byte.MAX_VALUE) {
+				throw BaseException.from(StudyErrorCode.INVALID_OPTION_INDEX, "out of range. quizId=" + quizIds[i]);
+			}
+			selected[i] = (byte)(int)value;
+		}
+
+		return new AnswerSheet(quizIds, selected);
+	}
+
+	private static int indexOf(long[] quizIds, long quizId) {
+		for (int i = 0; i < quizIds.length; i++) {
+			if (quizIds[i] == quizId) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public int size() {
+		return quizIds.length;
+	}
+
+	public long quizIdAt(int index) {
+		return quizIds[index];
+	}
+
+	public int selectedAt(int index) {
+		return selected[index];
+	}
+
+	// 이 답안지가 주어진 출제 목록(순서 포함)에 맞춰 만들어졌는지 확인한다.
+	public boolean isFor(List<Long> issuedQuizIds) {
+		if (issuedQuizIds == null || issuedQuizIds.size() != quizIds.length) {
+			return false;
+		}
+		for (int i = 0; i < quizIds.length; i++) {
+			Long issued = issuedQuizIds.get(i);
+			if (issued == null || issued != quizIds[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 저장용 (quiz_attempt.answers 컬럼)
+	@SuppressWarnings("unchecked")
+	public Map<Long, Integer> toAnswerMap() {
+		Map.Entry<Long, Integer>[] entries = new Map.Entry[quizIds.length];
+		for (int i = 0; i < quizIds.length; i++) {
+			entries[i] = Map.entry(quizIds[i], (int)selected[i]);
+		}
+		return Map.ofEntries(entries);
+	}
+}
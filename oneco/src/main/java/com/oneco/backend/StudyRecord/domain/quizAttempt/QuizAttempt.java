@@ -1,13 +1,14 @@
 package com.oneco.backend.StudyRecord.domain.quizAttempt;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.StudyRecord.infrastructure.converter.AnswersBinaryConverter;
 import com.oneco.backend.StudyRecord.infrastructure.converter.LongIntMapJsonConverter;
 import com.oneco.backend.StudyRecord.infrastructure.converter.LongListJsonConverter;
+import com.oneco.backend.StudyRecord.infrastructure.converter.QuizIdsBinaryConverter;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.QuizAttemptLegacyFormatListener;
 import com.oneco.backend.global.exception.BaseException;
 
 import jakarta.persistence.AttributeOverride;
@@ -15,6 +16,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -36,8 +38,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(QuizAttemptLegacyFormatListener.class)
 public class QuizAttempt {
 
+	private static final LongListJsonConverter LEGACY_QUIZ_IDS = new LongListJsonConverter();
+	private static final LongIntMapJsonConverter LEGACY_ANSWERS = new LongIntMapJsonConverter();
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -75,19 +81,36 @@ public class QuizAttempt {
 	 * 이 attemp에서 출제된 문제 3개를 저장
 	 * - 제출 시 클라가 임의의 quizId를 보내올 수 있기 때문에
 	 * - DB에 저장된 문제와 비교 검증이 필요
+	 * - 저장 포맷: QuizAttemptBinaryCodec (varint 바이너리)
+	 * - backfill 전의 이전 행은 null이다. (getQuizIds()가 JSON 컬럼 값을 대신 돌려준다)
 	 */
-	@Convert(converter = LongListJsonConverter.class)
-	@Column(name = "quiz_ids", nullable = false, columnDefinition = "TEXT")
+	@Convert(converter = QuizIdsBinaryConverter.class)
+	@Column(name = "quiz_ids_bin", columnDefinition = "VARBINARY(64)")
 	private List<Long> quizIds;
 
 	/**
 	 * 제출된 답안 (quizId -> selectedIndex)
 	 * - 제출전에는 null일 수 있음
+	 * - 저장 포맷: QuizAttemptBinaryCodec (varint + nibble 바이너리)
 	 */
-	@Convert(converter = LongIntMapJsonConverter.class)
-	@Column(name = "answers", columnDefinition = "json")
+	@Convert(converter = AnswersBinaryConverter.class)
+	@Column(name = "answers_bin", columnDefinition = "VARBINARY(64)")
 	private Map<Long, Integer> answers;
 
+	/**
+	 * 이전 JSON 포맷 컬럼 (전환 기간 동안 유지, 이전 버전 제거 후 삭제 예정)
+	 * - 변환기 없이 문자열 그대로 매핑한다. 조회 시 JSON 파싱을 하지 않는다.
+	 * - 읽기: 바이너리 컬럼이 비어 있는 이전 행만 getQuizIds / getAnswers에서 그때 파싱한다.
+	 * - 쓰기: quiz-attempt.legacy-format.dual-write가 켜져 있을 때만 저장 직전에 채운다. (QuizAttemptLegacyFormatListener)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Column(name = "quiz_ids", columnDefinition = "TEXT")
+	private String legacyQuizIdsJson;
+
+	@Getter(AccessLevel.NONE)
+	@Column(name = "answers", columnDefinition = "json")
+	private String legacyAnswersJson;
+
 	// =========================
 	// 생성: 시작 시점
 	// =========================
@@ -126,7 +149,9 @@ public class QuizAttempt {
 	// =========================
 	// 상태 전이: 제출 시점
 	// =========================
-	public void submit(Map<Long, Integer> answers, CorrectCount correctCount) {
+	// answerSheet: AnswerSheet.of(this.quizIds, answers)로 만든 답안지
+	// - 출제/제출 문제 일치, 보기 인덱스 음수 검증은 답안지 생성 시점에 이미 끝났다. (서비스 채점과 공유)
+	public void submit(AnswerSheet answerSheet, CorrectCount correctCount) {
 
 		// 1) 제출 가능한 상태인지 확인
 		// - 이미 제출된 시도면 "이미 제출됨" 예외
@@ -139,56 +164,27 @@ public class QuizAttempt {
 		}
 
 		// 2) 제출 데이터 필수
-		if (answers == null || answers.isEmpty()) {
+		if (answerSheet == null) {
 			throw BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION);
 		}
 		if (correctCount == null) {
 			throw BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION);
 		}
 
-		// 3) answers 자체에 null key/value가 있으면 "제출 데이터 이상"
-		for (Map.Entry<Long, Integer> e : answers.entrySet()) {
-			if (e.getKey() == null) {
-				throw BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION);
-			}
-			if (e.getValue() == null) {
-				throw BaseException.from(StudyErrorCode.INVALID_OPTION_INDEX);
-			}
-			if (e.getValue() < 0) {
-				throw BaseException.from(StudyErrorCode.INVALID_OPTION_INDEX);
-			}
-
-		}
-
-		// 4) "출제된 문제 3개"와 "제출된 문제 3개"가 정확히 일치해야 함
-		// - contains 체크만 하면 2개만 제출 같은 케이스를 놓치거나, 일부만 맞춰서 조작 가능
-		// - issued == submitted 집합 동일성 비교가 더 안전
-		if (answers.size() != this.quizIds.size()) {
-			throw BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION);
-		}
-
-		// 출제된 문제 집합 vs 제출된 문제 집합
-		// - Set으로 만들어서 비교
-		// keySet()는 Map에서 키들만 뽑아내서 Set으로 만들어줌
-		// - Set으로 만드는 이유
-		//  -> List는 순서가 다르면 동일성 비교에서 false가 나오기 때문
-		//   -> Set은 순서 상관없이 동일한 원소만 있으면 동일성 비교에서 true가 나오기 때문
-		//  -> 예: 출제 [101,205,309] / 제출 [309,205,101] 같은 케이스 허용
-		Set<Long> issued = new HashSet<>(this.quizIds);     // 서버가 출제한 quizIds(3개)
-		Set<Long> submitted = new HashSet<>(answers.keySet());             // 클라가 제출한 quizIds
-		if (!issued.equals(submitted)) {
-			// 예: 출제 [101,205,309] / 제출 [101,205,777] 또는 [101,205] 등
+		// 3) 답안지가 "이 시도에서 출제된 문제"로 만들어졌는지 확인
+		// - 다른 시도의 quizIds로 만든 답안지를 넘기는 실수를 막는다. (배열 비교 3번)
+		if (!answerSheet.isFor(getQuizIds())) {
 			throw BaseException.from(StudyErrorCode.QUIZ_ID_MISMATCH);
 		}
 
-		// 5) 상태 반영
-		this.answers = Map.copyOf(answers); // 방어적 복사
+		// 4) 상태 반영
+		this.answers = answerSheet.toAnswerMap(); // 불변 Map
 		this.correctCount = correctCount;
 
-		// 6) 결과 계산
+		// 5) 결과 계산
 		this.attemptResult = correctCount.isPerfect() ? AttemptResult.PASS : AttemptResult.FAIL;
 
-		// 7) 상태 전이
+		// 6) 상태 전이
 		this.attemptStatus = AttemptStatus.SUBMITTED;
 	}
 
@@ -203,6 +199,31 @@ public class QuizAttempt {
 		return isSubmitted() && this.correctCount != null && this.correctCount.isPerfect();
 	}
 
+	// =========================
+	// 저장 포맷 전환 (JSON -> 바이너리)
+	// =========================
+	// 바이너리 컬럼이 비어 있으면 JSON 컬럼 값을 파싱해 읽는다. (dual-read, backfill 전 이전 행만)
+	// - backfill은 QuizAttemptJpaRepository.upgradeFormat()으로 바이너리 컬럼만 명시적으로 채운다.
+	public List<Long> getQuizIds() {
+		if (this.quizIds != null || this.legacyQuizIdsJson == null) {
+			return this.quizIds;
+		}
+		return LEGACY_QUIZ_IDS.convertToEntityAttribute(this.legacyQuizIdsJson);
+	}
+
+	public Map<Long, Integer> getAnswers() {
+		if (this.answers != null || this.legacyAnswersJson == null) {
+			return this.answers;
+		}
+		return LEGACY_ANSWERS.convertToEntityAttribute(this.legacyAnswersJson);
+	}
+
+	// 전환 기간 전용: JSON 컬럼에도 같은 값을 쓴다. (dual-write, 이전 버전으로 롤백해도 새 행을 읽을 수 있게)
+	public void writeLegacyFormat() {
+		this.legacyQuizIdsJson = LEGACY_QUIZ_IDS.convertToDatabaseColumn(getQuizIds());
+		this.legacyAnswersJson = LEGACY_ANSWERS.convertToDatabaseColumn(getAnswers());
+	}
+
 	// =========================
 	// 상태 전이: 만료 처리
 	// =========================
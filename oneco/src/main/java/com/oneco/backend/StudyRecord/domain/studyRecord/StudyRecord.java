@@ -3,8 +3,8 @@ package com.oneco.backend.StudyRecord.domain.studyRecord;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AnswerSheet;
 import com.oneco.backend.StudyRecord.domain.quizAttempt.AttemptNo;
 import com.oneco.backend.StudyRecord.domain.quizAttempt.AttemptResult;
 import com.oneco.backend.StudyRecord.domain.quizAttempt.CorrectCount;
@@ -46,7 +46,12 @@ import lombok.NoArgsConstructor;
 		@UniqueConstraint(name = "uk_member_daily", columnNames = {"member_id", "daily_content_id"})
 	},
 	indexes = {
-		@Index(name = "idx_member_submitted_id", columnList = "member_id, quiz_submitted_date, id")
+		// 히스토리 커서 페이징용 커버링 인덱스: 조회 컬럼(quiz_status, is_bookmarked, daily_content_id)까지 포함
+		// 변경 SQL: docs/migrations/2026-10-study-record-history-index.sql
+		@Index(name = "idx_member_history",
+			columnList = "member_id, quiz_submitted_date, id, quiz_status, is_bookmarked, daily_content_id"),
+		@Index(name = "idx_member_bookmark_history",
+			columnList = "member_id, is_bookmarked, quiz_submitted_date, id, quiz_status, daily_content_id")
 	}
 
 )
@@ -179,13 +184,13 @@ public class StudyRecord extends BaseTimeEntity {
 	// 퀴즈 제출: 1차 FAIL이면 재시도 열어주고, 2차 FAIL이면 종료
 	// =========================
 	public void submitQuizAttempt(Long attemptId,
-		Map<Long, Integer> answers,
+		AnswerSheet answerSheet,
 		CorrectCount correctCount) {
 
 		QuizAttempt attempt = findAttemptOrThrow(attemptId);
 
 		// 자식 엔티티가 “제출 가능 상태/quizId mismatch/옵션 인덱스” 등 검증 + result 계산까지 수행
-		attempt.submit(answers, correctCount);
+		attempt.submit(answerSheet, correctCount);
 
 		// 퀴즈 1번이라도 제출하면 날짜 기록
 		this.quizSubmittedDate = LocalDate.now();
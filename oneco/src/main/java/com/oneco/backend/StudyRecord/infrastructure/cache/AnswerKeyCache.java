@@ -0,0 +1,138 @@
+package com.oneco.backend.StudyRecord.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneco.backend.dailycontent.domain.event.ContentChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채점용 정답 캐시 (quizId -> 정답 인덱스 / 보기 개수)
+ * <p>
+ * - 박싱 없는 고정 크기 캐시: 슬롯 1개 = long 1개
+ *   [ quizId (상위 48bit) | correctIndex (8bit) | optionCount (8bit) ]
+ * - direct-mapped: quizId 해시로 슬롯 위치가 정해지고, 충돌하면 나중에 들어온 값이 이전 값을 밀어낸다(eviction).
+ *   따라서 크기는 capacity를 넘지 않는다.
+ * - 슬롯을 long 하나로 읽고 쓰므로(AtomicLongArray) 락 없이도 key/value가 찢어져 보이지 않는다.
+ * - 콘텐츠 변경(ContentChangedEvent) 커밋 이후 해당 퀴즈(없으면 전체)를 무효화한다.
+ */
+@Slf4j
+@Component
+public class AnswerKeyCache {
+
+	public static final int MISS = -1;
+
+	private static final int VALUE_BITS = 16;
+	private static final long MAX_QUIZ_ID = (1L << (Long.SIZE - VALUE_BITS - 1)) - 1;
+
+	private final AtomicLongArray slots;
+	private final int mask;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public AnswerKeyCache(@Value("${answer-key-cache.capacity:4096}") int capacity) {
+		// 2의 거듭제곱으로 올려서 (hash & mask)로 슬롯을 찾는다.
+		int size = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+		this.slots = new AtomicLongArray(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * @return 포장된 정답 정보(packed), 없으면 MISS
+	 */
+	public int get(long quizId) {
+		if (!cacheable(quizId)) {
+			misses.increment();
+			return MISS;
+		}
+		long slot = slots.get(indexOf(quizId));
+		if (slot != 0 && (slot >>> VALUE_BITS) == quizId) {
+			hits.increment();
+			return (int)(slot & 0xFFFF);
+		}
+		misses.increment();
+		return MISS;
+	}
+
+	public void put(long quizId, int correctIndex, int optionCount) {
+		if (!cacheable(quizId) || correctIndex < 0 || correctIndex > 0xFF || optionCount < 0 || optionCount > 0xFF) {
+			return;
+		}
+		slots.set(indexOf(quizId), (quizId << VALUE_BITS) | pack(correctIndex, optionCount));
+	}
+
+	public void invalidate(long quizId) {
+		if (!cacheable(quizId)) {
+			return;
+		}
+		int index = indexOf(quizId);
+		long slot = slots.get(index);
+		if ((slot >>> VALUE_BITS) == quizId) {
+			// 그 사이 다른 퀴즈가 들어왔으면 건드리지 않는다.
+			slots.compareAndSet(index, slot, 0);
+		}
+	}
+
+	public void invalidateAll() {
+		for (int i = 0; i < slots.length(); i++) {
+			slots.set(i, 0);
+		}
+	}
+
+	// 콘텐츠 변경 트랜잭션이 커밋된 뒤 무효화한다. (트랜잭션 밖에서 발행되면 즉시 실행)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onContentChanged(ContentChangedEvent event) {
+		if (event.quizIds().isEmpty()) {
+			// 어떤 퀴즈가 바뀌었는지 모르면(추가/기타 변경) 안전하게 전체 무효화
+			invalidateAll();
+		} else {
+			event.quizIds().forEach(this::invalidate);
+		}
+		log.info("[AnswerKeyCache] 무효화 - dailyContentId={}, quizIds={}, reason={}",
+			event.dailyContentId(), event.quizIds(), event.reason());
+	}
+
+	public int capacity() {
+		return slots.length();
+	}
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	// =============================
+	// packed 값 해석
+	// =============================
+
+	public static int pack(int correctIndex, int optionCount) {
+		return (correctIndex << 8) | optionCount;
+	}
+
+	public static int correctIndex(int packed) {
+		return (packed >>> 8) & 0xFF;
+	}
+
+	public static int optionCount(int packed) {
+		return packed & 0xFF;
+	}
+
+	private static boolean cacheable(long quizId) {
+		return quizId > 0 && quizId <= MAX_QUIZ_ID;
+	}
+
+	private int indexOf(long quizId) {
+		// 연속된 ID가 한쪽 슬롯에 몰리지 않도록 섞는다. (Fibonacci hashing)
+		long h = quizId * 0x9E3779B97F4A7C15L;
+		return (int)(h >>> 32) & mask;
+	}
+}
@@ -0,0 +1,32 @@
+package com.oneco.backend.StudyRecord.infrastructure.converter;
+
+import java.util.Map;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Map<Long, Integer> <-> answers_bin(VARBINARY) 변환기 (포맷: QuizAttemptBinaryCodec)
+ * - 제출 전 시도는 answers가 null이므로 null은 그대로 null로 둔다.
+ */
+@Converter
+public class AnswersBinaryConverter implements AttributeConverter<Map<Long, Integer>, byte[]> {
+
+	@Override
+	public byte[] convertToDatabaseColumn(Map<Long, Integer> attribute) {
+		try {
+			return attribute == null ? null : QuizAttemptBinaryCodec.encodeAnswers(attribute);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("answers 직렬화 실패", e);
+		}
+	}
+
+	@Override
+	public Map<Long, Integer> convertToEntityAttribute(byte[] dbData) {
+		try {
+			return dbData == null ? null : QuizAttemptBinaryCodec.decodeAnswers(dbData);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("answers 역직렬화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.oneco.backend.StudyRecord.infrastructure.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * quiz_attempt.quiz_ids_bin / answers_bin 바이너리 포맷
+ * <p>
+ * quizIds: [version][count][quizId varint...]
+ * answers: [version][count][quizId varint...][selected...]
+ * <p>
+ * - quizId: 첫 값은 그대로, 이후 값은 직전 값과의 차이를 zigzag varint로 쓴다.
+ *   (한 학습일의 퀴즈는 보통 연속된 id라서 2번째부터는 1byte가 된다)
+ * - selected (answers만)
+ *   - VERSION_NIBBLE: 보기 인덱스가 모두 0~15이면 2개를 1byte에 담는다. (보기는 2개뿐이라 거의 항상 이 포맷)
+ *   - VERSION_BYTE: 16 이상이 섞이면 1개당 1byte
+ * - 첫 byte가 버전이라 포맷을 바꾸더라도 기존 행을 그대로 읽을 수 있다.
+ * <p>
+ * 예) quizIds [10231, 10232, 10233] -> 7byte (JSON 19byte)
+ *     answers {10231=1, 10232=0, 10233=1} -> 9byte (JSON 31byte)
+ */
+public final class QuizAttemptBinaryCodec {
+
+	static final byte VERSION_NIBBLE = 1;
+	static final byte VERSION_BYTE = 2;
+
+	private static final int MAX_NIBBLE = 0x0F;
+
+	private QuizAttemptBinaryCodec() {
+	}
+
+	// =============================
+	// quizIds
+	// =============================
+
+	public static byte[] encodeQuizIds(List<Long> quizIds) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(2 + quizIds.size() * 3);
+		out.write(VERSION_NIBBLE);
+		out.write(checkedCount(quizIds.size()));
+		long previous = 0;
+		for (Long quizId : quizIds) {
+			previous = writeQuizId(out, quizId, previous);
+		}
+		return out.toByteArray();
+	}
+
+	public static List<Long> decodeQuizIds(byte[] bytes) {
+		Reader in = new Reader(bytes);
+		in.readVersion();
+		Long[] quizIds = in.readQuizIds(in.readCount());
+		in.checkFullyRead();
+		return List.of(quizIds);
+	}
+
+	// =============================
+	// answers
+	// =============================
+
+	public static byte[] encodeAnswers(Map<Long, Integer> answers) {
+		int size = answers.size();
+		long[] quizIds = new long[size];
+		int[] selected = new int[size];
+		boolean fitsNibble = true;
+
+		int i = 0;
+		for (Map.Entry<Long, Integer> answer : answers.entrySet()) {
+			int value = answer.getValue();
+			if (value < 0 || value > Byte.MAX_VALUE) {
+				throw new IllegalArgumentException("selected index out of range: " + value);
+			}
+			quizIds[i] = answer.getKey();
+			selected[i] = value;
+			fitsNibble &= value <= MAX_NIBBLE;
+			i++;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(2 + size * 4);
+		out.write(fitsNibble ? VERSION_NIBBLE : VERSION_BYTE);
+		out.write(checkedCount(size));
+		long previous = 0;
+		for (long quizId : quizIds) {
+			previous = writeQuizId(out, quizId, previous);
+		}
+
+		if (fitsNibble) {
+			for (int j = 0; j < size; j += 2) {
+				int high = selected[j] << 4;
+				int low = j + 1 < size ? selected[j + 1] : 0;
+				out.write(high | low);
+			}
+		} else {
+			for (int value : selected) {
+				out.write(value);
+			}
+		}
+		return out.toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Map<Long, Integer> decodeAnswers(byte[] bytes) {
+		Reader in = new Reader(bytes);
+		byte version = in.readVersion();
+		int size = in.readCount();
+		Long[] quizIds = in.readQuizIds(size);
+
+		Map.Entry<Long, Integer>[] entries = new Map.Entry[size];
+		if (version == VERSION_NIBBLE) {
+			for (int j = 0; j < size; j += 2) {
+				int packed = in.readByte();
+				entries[j] = Map.entry(quizIds[j], packed >>> 4);
+				if (j + 1 < size) {
+					entries[j + 1] = Map.entry(quizIds[j + 1], packed & MAX_NIBBLE);
+				}
+			}
+		} else {
+			for (int j = 0; j < size; j++) {
+				entries[j] = Map.entry(quizIds[j], in.readByte());
+			}
+		}
+		in.checkFullyRead();
+		return Map.ofEntries(entries);
+	}
+
+	// =============================
+	// helpers
+	// =============================
+
+	private static int checkedCount(int count) {
+		if (count > Byte.MAX_VALUE) {
+			throw new IllegalArgumentException("too many quizzes: " + count);
+		}
+		return count;
+	}
+
+	// 직전 quizId와의 차이를 zigzag varint로 쓰고, 이번 quizId를 반환한다.
+	private static long writeQuizId(ByteArrayOutputStream out, long quizId, long previous) {
+		long delta = quizId - previous;
+		long zigzag = (delta << 1) ^ (delta >> 63);
+		while ((zigzag & ~0x7FL) != 0) {
+			out.write((int)((zigzag & 0x7F) | 0x80));
+			zigzag >>>= 7;
+		}
+		out.write((int)zigzag);
+		return quizId;
+	}
+
+	private static final class Reader {
+
+		private final byte[] bytes;
+		private int position;
+
+		private Reader(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		private byte readVersion() {
+			int version = readByte();
+			if (version != VERSION_NIBBLE && version != VERSION_BYTE) {
+				throw new IllegalArgumentException("unknown format version: " + version);
+			}
+			return (byte)version;
+		}
+
+		private int readCount() {
+			return readByte();
+		}
+
+		private Long[] readQuizIds(int count) {
+			Long[] quizIds = new Long[count];
+			long previous = 0;
+			for (int i = 0; i < count; i++) {
+				long zigzag = readVarint();
+				previous += (zigzag >>> 1) ^ -(zigzag & 1);
+				quizIds[i] = previous;
+			}
+			return quizIds;
+		}
+
+		private long readVarint() {
+			long value = 0;
+			for (int shift = 0; shift < Long.SIZE; shift += 7) {
+				int b = readByte();
+				value |= (long)(b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("malformed varint");
+		}
+
+		private int readByte() {
+			if (position >= bytes.length) {
+				throw new IllegalArgumentException("truncated data: length=" + bytes.length);
+			}
+			return bytes[position++] & 0xFF;
+		}
+
+		private void checkFullyRead() {
+			if (position != bytes.length) {
+				throw new IllegalArgumentException("trailing bytes: length=" + bytes.length + ", read=" + position);
+			}
+		}
+	}
+}
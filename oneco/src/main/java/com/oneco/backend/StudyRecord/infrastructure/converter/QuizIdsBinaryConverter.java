@@ -0,0 +1,32 @@
+package com.oneco.backend.StudyRecord.infrastructure.converter;
+
+import java.util.List;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * List<Long> <-> quiz_ids_bin(VARBINARY) 변환기 (포맷: QuizAttemptBinaryCodec)
+ * - null은 그대로 null로 둔다. (quiz_ids_bin이 null이면 아직 JSON 컬럼에만 값이 있는 이전 행이다)
+ */
+@Converter
+public class QuizIdsBinaryConverter implements AttributeConverter<List<Long>, byte[]> {
+
+	@Override
+	public byte[] convertToDatabaseColumn(List<Long> attribute) {
+		try {
+			return attribute == null ? null : QuizAttemptBinaryCodec.encodeQuizIds(attribute);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("quizIds 직렬화 실패", e);
+		}
+	}
+
+	@Override
+	public List<Long> convertToEntityAttribute(byte[] dbData) {
+		try {
+			return dbData == null ? null : QuizAttemptBinaryCodec.decodeQuizIds(dbData);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("quizIds 역직렬화 실패", e);
+		}
+	}
+}
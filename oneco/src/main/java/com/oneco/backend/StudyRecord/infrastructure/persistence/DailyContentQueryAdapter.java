@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,10 @@ import com.oneco.backend.StudyRecord.application.port.dto.DailyContentWithQuizze
 import com.oneco.backend.StudyRecord.application.port.dto.QuizSnapshot;
 import com.oneco.backend.StudyRecord.application.port.out.DailyContentQueryPort;
 import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalog;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalog.DayEntry;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalog.QuizEntry;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalogProvider;
 import com.oneco.backend.dailycontent.infrastructure.persistence.DailyContentJpaRepository;
 import com.oneco.backend.dailycontent.domain.dailycontent.DailyContent;
 import com.oneco.backend.dailycontent.domain.quiz.Quiz;
@@ -24,14 +29,22 @@ import com.oneco.backend.global.exception.BaseException;
 
 import lombok.RequiredArgsConstructor;
 
+// 콘텐츠는 ContentCatalog(메모리)에서 먼저 찾고,
+// 카탈로그에 아직 반영되지 않은 콘텐츠(적재 전/직후 추가분)만 DB에서 조회한다.
 @Component
 @RequiredArgsConstructor
 public class DailyContentQueryAdapter implements DailyContentQueryPort {
 	private final DailyContentJpaRepository dailyContentRepository;
+	private final ContentCatalogProvider contentCatalogProvider;
 
 	@Override
 	@Transactional(readOnly = true)
 	public DailyContentSnapshot loadDailyContentSnapshot(Long dailyContentId) {
+		Optional<DayEntry> cached = contentCatalogProvider.current().findDay(dailyContentId);
+		if (cached.isPresent()) {
+			return toDailyContentSnapshot(cached.get());
+		}
+
 		DailyContent dc = dailyContentRepository.findById(dailyContentId)
 			.orElseThrow(() -> BaseException.from(StudyErrorCode.DAILY_CONTENT_NOT_FOUND));
 
@@ -42,6 +55,11 @@ public class DailyContentQueryAdapter implements DailyContentQueryPort {
 	@Override
 	@Transactional(readOnly = true)
 	public List<NewsItemSummary> loadNewsItemSummary(Long dailyContentId) {
+		Optional<DayEntry> cached = contentCatalogProvider.current().findDay(dailyContentId);
+		if (cached.isPresent()) {
+			return toNewsItemSummaries(cached.get());
+		}
+
 		DailyContent dc = dailyContentRepository.findByIdWithNews(dailyContentId)
 			.orElseThrow(() -> BaseException.from(StudyErrorCode.DAILY_CONTENT_NOT_FOUND));
 
@@ -59,6 +77,15 @@ public class DailyContentQueryAdapter implements DailyContentQueryPort {
 	@Override
 	@Transactional(readOnly = true)
 	public DailyContentWithQuizzesSnapshot loadDailyContentWithQuizzes(Long dailyContentId) {
+		Optional<DayEntry> cached = contentCatalogProvider.current().findDay(dailyContentId);
+		if (cached.isPresent()) {
+			DayEntry day = cached.get();
+			List<QuizSnapshot> quizzes = day.quizzes().stream()
+				.map(this::toQuizSnapshot)
+				.toList();
+			return new DailyContentWithQuizzesSnapshot(toDailyContentSnapshot(day), quizzes);
+		}
+
 		DailyContent dc = dailyContentRepository.findByIdWithQuizzes(dailyContentId)
 			.orElseThrow(() -> BaseException.from(StudyErrorCode.DAILY_CONTENT_NOT_FOUND));
 
@@ -73,8 +100,28 @@ public class DailyContentQueryAdapter implements DailyContentQueryPort {
 	@Override
 	@Transactional(readOnly = true)
 	public Map<Long, DailyContentSummary> findDailyContentSummariesByIds(List<Long> dailyContentIds){
-		List<DailyContent> dailyContents = dailyContentRepository.findAllWithNewsItemsByIdIn(dailyContentIds);
+		ContentCatalog catalog = contentCatalogProvider.current();
 		Map<Long, DailyContentSummary> map = new HashMap<>();
+		List<Long> missingIds = new ArrayList<>();
+		for (Long dailyContentId : dailyContentIds) {
+			Optional<DayEntry> cached = catalog.findDay(dailyContentId);
+			if (cached.isEmpty()) {
+				missingIds.add(dailyContentId);
+				continue;
+			}
+			DayEntry day = cached.get();
+			map.put(day.dailyContentId(), new DailyContentSummary(
+				day.dailyContentId(),
+				day.title(),
+				day.summary(),
+				toNewsItemSummaries(day)
+			));
+		}
+		if (missingIds.isEmpty()) {
+			return map;
+		}
+
+		List<DailyContent> dailyContents = dailyContentRepository.findAllWithNewsItemsByIdIn(missingIds);
 		for(DailyContent dc:dailyContents){
 			var desc = dc.getDescription();
 			List<NewsItemSummary> newsSummaries = dc.getNewsItems().stream()
@@ -96,6 +143,30 @@ public class DailyContentQueryAdapter implements DailyContentQueryPort {
 		return map;
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, Integer> findDaySequencesByIds(List<Long> dailyContentIds) {
+		ContentCatalog catalog = contentCatalogProvider.current();
+		Map<Long, Integer> map = new HashMap<>();
+		List<Long> missingIds = new ArrayList<>();
+		for (Long dailyContentId : dailyContentIds) {
+			Optional<DayEntry> cached = catalog.findDay(dailyContentId);
+			if (cached.isPresent()) {
+				map.put(dailyContentId, cached.get().daySequence());
+			} else {
+				missingIds.add(dailyContentId);
+			}
+		}
+		if (missingIds.isEmpty()) {
+			return map;
+		}
+
+		for (DailyContent dc : dailyContentRepository.findAllById(missingIds)) {
+			map.put(dc.getId(), dc.getDaySequence().getValue());
+		}
+		return map;
+	}
+
 	private DailyContentSnapshot toDailyContentSnapshot(DailyContent dc) {
 		return new DailyContentSnapshot(
 			dc.getId(),
@@ -109,6 +180,34 @@ public class DailyContentQueryAdapter implements DailyContentQueryPort {
 		);
 	}
 
+	private DailyContentSnapshot toDailyContentSnapshot(DayEntry day) {
+		return new DailyContentSnapshot(
+			day.dailyContentId(),
+			day.categoryId(),
+			day.daySequence(),
+			day.title(),
+			day.bodyText(),
+			day.summary(),
+			day.keyword(),
+			day.imageUrl()
+		);
+	}
+
+	private List<NewsItemSummary> toNewsItemSummaries(DayEntry day) {
+		return day.newsItems().stream()
+			.map(news -> new NewsItemSummary(news.title(), news.url(), news.imageUrl()))
+			.toList();
+	}
+
+	private QuizSnapshot toQuizSnapshot(QuizEntry quiz) {
+		return new QuizSnapshot(
+			quiz.quizId(),
+			quiz.question(),
+			quiz.questionOrder(),
+			quiz.options()
+		);
+	}
+
 	private QuizSnapshot toQuizSnapshot(Quiz quiz) {
 		return new QuizSnapshot(
 			quiz.getId(),
@@ -7,8 +7,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.oneco.backend.StudyRecord.application.dto.result.MemberItem;
 import com.oneco.backend.StudyRecord.application.port.out.FamilyRelationQueryPort;
-import com.oneco.backend.family.domain.relation.FamilyRelation;
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
 import com.oneco.backend.family.infrastructure.persistence.FamilyRelationJpaRepository;
+import com.oneco.backend.member.domain.MemberId;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,9 +18,19 @@ import lombok.RequiredArgsConstructor;
 public class FamilyRelationQueryAdapter implements FamilyRelationQueryPort {
 
 	private final FamilyRelationJpaRepository familyRelationJpaRepository;
+	private final FamilyRelationCachePort relationCachePort;
+
+	// 가족 관계 캐시로 먼저 자녀가 있는지 확인하고, 자녀가 있을 때만 닉네임을 함께 조회한다.
 	@Override
 	@Transactional(readOnly = true)
 	public List<MemberItem> findChildIdsByParentId(Long parentId) {
+		MemberId parent = MemberId.of(parentId);
+		boolean hasChild = relationCachePort.findConnectedRelations(parent)
+			.stream()
+			.anyMatch(relation -> relation.isParent(parent));
+		if (!hasChild) {
+			return List.of();
+		}
 		return familyRelationJpaRepository.findAllConnectedChildrenByParentId(parentId);
 	}
 }
@@ -1,15 +1,18 @@
 package com.oneco.backend.StudyRecord.infrastructure.persistence;
 
-import static com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult.*;
-
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
+import com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardDaySnapshot;
 import com.oneco.backend.StudyRecord.application.port.dto.result.HomeKeywordResult;
 import com.oneco.backend.StudyRecord.application.port.out.HomeDashboardDailyContentReadPort;
 import com.oneco.backend.dailycontent.domain.dailycontent.DailyContent;
 import com.oneco.backend.dailycontent.domain.dailycontent.DaySequence;
+import com.oneco.backend.dailycontent.domain.dailycontent.Keyword;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalog.DayEntry;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalogProvider;
 import com.oneco.backend.dailycontent.infrastructure.persistence.DailyContentJpaRepository;
 import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
 import com.oneco.backend.global.exception.BaseException;
@@ -21,29 +24,33 @@ import lombok.RequiredArgsConstructor;
 public class HomeDashboardDailyContentReadAdapter implements HomeDashboardDailyContentReadPort {
 
 	private final DailyContentJpaRepository dailyContentJpaRepository;
+	private final ContentCatalogProvider contentCatalogProvider;
 
 	@Override
-	public DailyContentResult findByCategoryIdAndDaySequence(Long categoryId, int elapsedDays) {
-
-		DailyContent dailyContent = dailyContentJpaRepository.findByCategoryIdAndDaySequence(
-				categoryId,
-				new DaySequence(elapsedDays)
-			).orElseThrow(() -> BaseException.from(StudyErrorCode.DAILY_CONTENT_NOT_FOUND));
-
-		return new DailyContentResult(dailyContent.getId(), dailyContent.getKeyword().getValue());
-	}
-
-	@Override
-	public List<DailyContentResult> findAllByCategoryIdOrderByDaySequence(Long categoryId) {
-		// daySequence 오름차순으로 전체 조회
-		return dailyContentJpaRepository.findAllByCategoryId_ValueOrderByDaySequence(categoryId)
-			.stream()
-			.map(dc -> new DailyContentResult(dc.getId(), dc.getKeyword().getValue()))
-			.toList();
+	public List<HomeDashboardDaySnapshot> findDashboardDays(Long categoryId) {
+		// ContentCatalog의 카테고리 배열은 이미 daySequence 순서이므로 그대로 변환한다.
+		List<DayEntry> cached = contentCatalogProvider.current().daysOf(categoryId);
+		if (!cached.isEmpty()) {
+			return cached.stream()
+				.map(day -> new HomeDashboardDaySnapshot(
+					day.dailyContentId(),
+					new DaySequence(day.daySequence()),
+					day.keyword()
+				))
+				.toList();
+		}
+
+		// 카탈로그에 없으면 daySequence 오름차순으로 전체 조회
+		return dailyContentJpaRepository.findDashboardDaysByCategoryId(categoryId);
 	}
 
 	@Override
 	public HomeKeywordResult findKeywordByDailyContentId(Long dailyContentId) {
+		Optional<DayEntry> cached = contentCatalogProvider.current().findDay(dailyContentId);
+		if (cached.isPresent()) {
+			return HomeKeywordResult.of(dailyContentId, Keyword.of(cached.get().keyword()));
+		}
+
 		DailyContent dailyContent = dailyContentJpaRepository.findById(dailyContentId)
 			.orElseThrow(() -> BaseException.from(StudyErrorCode.DAILY_CONTENT_NOT_FOUND));
 
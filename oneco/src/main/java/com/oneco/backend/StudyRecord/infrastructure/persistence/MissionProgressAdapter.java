@@ -0,0 +1,47 @@
+package com.oneco.backend.StudyRecord.infrastructure.persistence;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneco.backend.StudyRecord.application.port.out.MissionProgressPort;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+import com.oneco.backend.mission.infrastructure.MissionProgressJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MissionProgressAdapter implements MissionProgressPort {
+
+	private final MissionProgressJpaRepository repository;
+
+	@Override
+	@Transactional
+	public void recordSubmission(Long missionId, int daySequence, int solvedQuizCount, int correctQuizCount,
+		int previousCorrectQuizCount) {
+		// 같은 미션에 대한 동시 제출이 비트셋/카운트를 덮어쓰지 않도록 row 잠금 후 갱신
+		// - 첫 제출끼리 경쟁해도 insert ... on duplicate key로 row를 먼저 확보하므로 중복 insert가 없다.
+		MissionProgress progress = lockOrCreate(missionId);
+
+		progress.applySubmission(daySequence, solvedQuizCount, correctQuizCount, previousCorrectQuizCount);
+	}
+
+	@Override
+	@Transactional
+	public void replace(MissionProgress progress) {
+		// row를 확보해 잠근 뒤 merge로 덮어쓴다.
+		lockOrCreate(progress.getMissionId());
+		repository.save(progress);
+	}
+
+	private MissionProgress lockOrCreate(Long missionId) {
+		repository.insertIfAbsent(missionId, Instant.now());
+		return repository.findByIdForUpdate(missionId)
+			.orElseThrow(() -> BaseException.from(GlobalErrorCode.DATABASE_ERROR,
+				"mission progress upsert failed. missionId=" + missionId));
+	}
+}
@@ -0,0 +1,40 @@
+package com.oneco.backend.StudyRecord.infrastructure.persistence;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.oneco.backend.StudyRecord.application.port.out.QuizAttemptFormatMigrationPort;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class QuizAttemptFormatMigrationAdapter implements QuizAttemptFormatMigrationPort {
+
+	private final QuizAttemptJpaRepository repository;
+
+	@Override
+	public List<Long> findLegacyAttemptIds(Long lastId, int size) {
+		return repository.findLegacyFormatIds(lastId, PageRequest.ofSize(size));
+	}
+
+	@Override
+	public int upgrade(List<Long> attemptIds) {
+		// JSON 값을 읽어 행마다 UPDATE로 바이너리 컬럼만 채운다. 반환값은 실제로 바뀐 행 수다.
+		// - JSON 컬럼은 그대로 둔다. (이전 버전 롤백 대비, 컬럼 삭제는 전환이 끝난 뒤 별도 배포)
+		// - 바이너리 answers가 이미 있으면(이전 행을 새 버전에서 제출) 그 값을 유지한다. (getAnswers가 우선 반환)
+		List<QuizAttempt> attempts = repository.findAllById(attemptIds);
+		int upgraded = 0;
+		for (QuizAttempt attempt : attempts) {
+			List<Long> quizIds = attempt.getQuizIds();
+			if (quizIds == null || quizIds.isEmpty()) {
+				continue;
+			}
+			upgraded += repository.upgradeFormat(attempt.getId(), quizIds, attempt.getAnswers());
+		}
+		return upgraded;
+	}
+}
@@ -0,0 +1,39 @@
+package com.oneco.backend.StudyRecord.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+
+// QuizAttempt는 StudyRecord 애그리거트를 통해 저장한다. 이 저장소는 저장 포맷 backfill 전용이다.
+public interface QuizAttemptJpaRepository extends JpaRepository<QuizAttempt, Long> {
+
+	// 바이너리 컬럼(quiz_ids_bin)이 비어 있는 이전 행 ID (id 오름차순 keyset)
+	@Query("""
+		select a.id from QuizAttempt a
+		where a.quizIds is null
+		  and a.id > :lastId
+		order by a.id asc
+		""")
+	List<Long> findLegacyFormatIds(@Param("lastId") Long lastId, Pageable pageable);
+
+	// 이전 행 1건의 바이너리 컬럼을 채운다. JSON 컬럼은 그대로 둔다. (이미 옮겨진 행이면 0)
+	@Modifying
+	@Query("""
+		update QuizAttempt a
+		set a.quizIds = :quizIds, a.answers = :answers
+		where a.id = :id
+		  and a.quizIds is null
+		""")
+	int upgradeFormat(
+		@Param("id") Long id,
+		@Param("quizIds") List<Long> quizIds,
+		@Param("answers") Map<Long, Integer> answers
+	);
+}
@@ -0,0 +1,37 @@
+package com.oneco.backend.StudyRecord.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * quiz_attempt JSON 컬럼 dual-write 스위치 (포맷 전환 기간 전용)
+ * <p>
+ * - 켜져 있으면 저장 직전에 바이너리 값과 같은 값을 JSON 컬럼(quiz_ids / answers)에도 쓴다.
+ *   이전 버전(JSON만 읽음)으로 롤백해도 새 행을 읽을 수 있다.
+ * - backfill이 끝나고 롤백할 일이 없어지면 quiz-attempt.legacy-format.dual-write=false로 끈다.
+ *   이후 새 행은 바이너리 컬럼만 저장한다. (docs/migrations/2026-10-quiz-attempt-binary-format.sql)
+ */
+@Component
+public class QuizAttemptLegacyFormatListener {
+
+	private final boolean dualWrite;
+
+	public QuizAttemptLegacyFormatListener(
+		@Value("${quiz-attempt.legacy-format.dual-write:true}") boolean dualWrite
+	) {
+		this.dualWrite = dualWrite;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void beforeSave(QuizAttempt attempt) {
+		if (dualWrite) {
+			attempt.writeLegacyFormat();
+		}
+	}
+}
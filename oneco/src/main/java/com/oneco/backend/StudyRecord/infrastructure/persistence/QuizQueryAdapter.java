@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,57 +13,99 @@ import com.oneco.backend.StudyRecord.application.dto.result.QuizView;
 import com.oneco.backend.StudyRecord.application.port.dto.QuizForGrading;
 import com.oneco.backend.StudyRecord.application.port.out.QuizQueryPort;
 import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.StudyRecord.infrastructure.cache.AnswerKeyCache;
 import com.oneco.backend.dailycontent.domain.quiz.Quiz;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalog;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalog.QuizEntry;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalogProvider;
 import com.oneco.backend.dailycontent.infrastructure.persistence.QuizJpaRepository;
 import com.oneco.backend.global.exception.BaseException;
 
 import lombok.RequiredArgsConstructor;
 
+// 퀴즈는 ContentCatalog(메모리)에서 먼저 찾고, (채점용 정답 정보는 AnswerKeyCache가 그보다 앞선다)
+// 하나라도 카탈로그에 없으면(적재 전/직후 추가분) 기존처럼 DB에서 한 번에 조회한다.
 @Component
 @RequiredArgsConstructor
 public class QuizQueryAdapter implements QuizQueryPort {
 
 	private final QuizJpaRepository quizJpaRepository;
+	private final ContentCatalogProvider contentCatalogProvider;
+	private final AnswerKeyCache answerKeyCache;
 
+	// 채점용 정답 정보: AnswerKeyCache -> ContentCatalog -> DB 순서로 찾고, 찾은 값은 캐시에 채운다.
+	// 정상 상태에서는 quizzes 테이블을 읽지 않는다.
 	@Override
 	@Transactional(readOnly = true)
 	public List<QuizForGrading> loadQuizzesForGradingByIds(List<Long> quizIds) {
-		List<Quiz> quizzes = quizJpaRepository.findByIdIn(quizIds);
-
-		if (quizzes.size() != quizIds.size()) {
-			throw BaseException.from(StudyErrorCode.QUIZ_NOT_FOUND,
-				"quizIds size=" + quizIds.size() + ", loaded size=" + quizzes.size());
+		int size = quizIds.size();
+		int[] packed = new int[size];
+		List<Long> missingIds = null;
+
+		// 1) 정답 캐시 / 카탈로그
+		ContentCatalog catalog = contentCatalogProvider.current();
+		for (int i = 0; i < size; i++) {
+			Long id = quizIds.get(i);
+			int value = answerKeyCache.get(id);
+			if (value == AnswerKeyCache.MISS) {
+				Optional<QuizEntry> entry = catalog.findQuiz(id);
+				if (entry.isPresent()) {
+					value = cache(id, entry.get().answerIndex(), entry.get().options().size());
+				}
+			}
+			if (value == AnswerKeyCache.MISS) {
+				if (missingIds == null) {
+					missingIds = new ArrayList<>();
+				}
+				missingIds.add(id);
+			}
+			packed[i] = value;
 		}
 
-		// 재정렬: quizIds 순서대로
-		Map<Long, Quiz> map = new HashMap<>();
-		for (Quiz q : quizzes) {
-			Long id = q.getId();
-
-			if (!map.containsKey(id)) {
-				map.put(id, q);
+		// 2) 남은 퀴즈만 DB에서 조회
+		if (missingIds != null) {
+			Map<Long, Integer> loaded = new HashMap<>();
+			for (Quiz q : quizJpaRepository.findByIdIn(missingIds)) {
+				loaded.put(q.getId(), cache(q.getId(), q.getAnswerIndex().getValue(), q.getOptions().getOptions().size()));
+			}
+			if (loaded.size() != missingIds.size()) {
+				throw BaseException.from(StudyErrorCode.QUIZ_NOT_FOUND,
+					"quizIds size=" + size + ", missing size=" + (missingIds.size() - loaded.size()));
+			}
+			for (int i = 0; i < size; i++) {
+				if (packed[i] == AnswerKeyCache.MISS) {
+					packed[i] = loaded.get(quizIds.get(i));
+				}
 			}
 		}
 
-		List<QuizForGrading> result = new ArrayList<>();
-		for (Long id : quizIds) {
-			Quiz q = map.get(id);
-			if (q == null) {
-				throw BaseException.from(StudyErrorCode.QUIZ_NOT_FOUND);
-			}
-			QuizForGrading qfg = new QuizForGrading(
-				q.getId(),
-				q.getAnswerIndex().getValue(),
-				q.getOptions().getOptionTexts()
-			);
-			result.add(qfg);
+		// 3) quizIds 순서대로 반환
+		List<QuizForGrading> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			result.add(new QuizForGrading(
+				quizIds.get(i),
+				AnswerKeyCache.correctIndex(packed[i]),
+				AnswerKeyCache.optionCount(packed[i])
+			));
 		}
 		return result;
 	}
 
+	private int cache(Long quizId, int correctIndex, int optionCount) {
+		answerKeyCache.put(quizId, correctIndex, optionCount);
+		return AnswerKeyCache.pack(correctIndex, optionCount);
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public List<QuizView> loadQuizzesByIds(List<Long> quizIds) {
+		List<QuizEntry> cached = findAllInCatalog(quizIds);
+		if (cached != null) {
+			return cached.stream()
+				.map(q -> new QuizView(q.quizId(), q.question(), q.options()))
+				.toList();
+		}
+
 		List<Quiz> quizzes = quizJpaRepository.findByIdIn(quizIds);
 
 		if (quizzes.size() != quizIds.size()) {
@@ -95,4 +138,18 @@ public class QuizQueryAdapter implements QuizQueryPort {
 		}
 		return result;
 	}
+
+	// quizIds 순서대로 카탈로그에서 찾는다. 하나라도 없으면 null (-> DB 조회)
+	private List<QuizEntry> findAllInCatalog(List<Long> quizIds) {
+		ContentCatalog catalog = contentCatalogProvider.current();
+		List<QuizEntry> result = new ArrayList<>(quizIds.size());
+		for (Long id : quizIds) {
+			Optional<QuizEntry> quiz = catalog.findQuiz(id);
+			if (quiz.isEmpty()) {
+				return null;
+			}
+			result.add(quiz.get());
+		}
+		return result;
+	}
 }
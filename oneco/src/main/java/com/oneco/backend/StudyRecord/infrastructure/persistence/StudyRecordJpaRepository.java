@@ -1,5 +1,6 @@
 package com.oneco.backend.StudyRecord.infrastructure.persistence;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -7,17 +8,56 @@ import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow;
 import com.oneco.backend.StudyRecord.domain.studyRecord.QuizProgressStatus;
 import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
 
+import jakarta.persistence.LockModeType;
+
 public interface StudyRecordJpaRepository extends JpaRepository<StudyRecord, Long> {
 
 	// memberId.value 와 dailyContentId.value 로 기존 기록 조회
 	Optional<StudyRecord> findByMemberId_ValueAndDailyContentId_Value(Long memberId, Long dailyContentId);
 
+	/**
+	 * uk_member_daily 기준 "없으면 생성" (한 문장)
+	 * - 이미 있으면 아무것도 바꾸지 않는다. (동시 생성 경쟁에서도 예외 없이 0건 반영)
+	 * - MySQL 문법이라 H2 테스트는 MODE=MySQL 로 실행한다.
+	 */
+	@Modifying
+	@Query(value = """
+			insert into study_records
+				(mission_id, member_id, category_id, daily_content_id, quiz_status,
+				 is_bookmarked, news_unlocked, created_at, updated_at)
+			values
+				(:missionId, :memberId, :categoryId, :dailyContentId, :quizStatus,
+				 false, false, :now, :now)
+			on duplicate key update id = id
+		""", nativeQuery = true)
+	int insertIfAbsent(
+		@Param("missionId") Long missionId,
+		@Param("memberId") Long memberId,
+		@Param("categoryId") Long categoryId,
+		@Param("dailyContentId") Long dailyContentId,
+		@Param("quizStatus") String quizStatus,
+		@Param("now") Instant now);
+
+	// insertIfAbsent 직후 조회: 잠금 읽기여야 트랜잭션 스냅샷 이후 다른 트랜잭션이 커밋한 행도 보인다. (REPEATABLE READ)
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("""
+			select sr from StudyRecord sr
+			where sr.memberId.value = :memberId
+			and sr.dailyContentId.value = :dailyContentId
+		""")
+	Optional<StudyRecord> findByMemberIdAndDailyContentIdForShare(
+		@Param("memberId") Long memberId,
+		@Param("dailyContentId") Long dailyContentId);
+
 	@Query("""
 		select sr from StudyRecord sr
 		left join fetch sr.attempts a
@@ -36,19 +76,40 @@ public interface StudyRecordJpaRepository extends JpaRepository<StudyRecord, Lon
 		@Param("missionId") Long missionId,
 		@Param("categoryId") Long categoryId);
 
+	/*
+	 * 히스토리 커서 페이징 (ALL: idx_member_history / BOOKMARKED: idx_member_bookmark_history)
+	 * - 필요한 컬럼만 읽어서 인덱스만으로 처리한다. (테이블 행을 읽지 않음)
+	 * - 다음 페이지는 (제출일, id) row-value 비교로 커서 바로 뒤부터 읽는다.
+	 *   앞의 "제출일 <= 커서 제출일"은 row-value 비교를 range 조건으로 못 쓰는 옵티마이저를 위한 인덱스 시작 범위
+	 * - 첫 페이지/다음 페이지를 나눠서 ":cursor is null or ..." 조건이 인덱스 범위를 막지 않게 한다.
+	 * - order by 앞의 고정 값 컬럼(member_id, is_bookmarked)은 결과 순서를 바꾸지 않는다.
+	 *   인덱스 컬럼 순서와 똑같이 맞춰서 정렬 없이 인덱스를 역순으로 읽고 LIMIT에서 바로 멈추게 한다.
+	 */
+	@Query("""
+			select new com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow(
+				sr.id, sr.quizSubmittedDate, sr.bookmarked, sr.dailyContentId.value)
+			from StudyRecord sr
+			where sr.memberId.value = :memberId
+			and sr.quizProgressStatus in :statuses
+			order by sr.memberId.value desc, sr.quizSubmittedDate desc, sr.id desc
+		""")
+	Slice<StudyRecordHistoryRow> findHistoryFirstPage(
+		@Param("memberId") Long memberId,
+		@Param("statuses") List<QuizProgressStatus> statuses,
+		Pageable pageable
+	);
+
 	@Query("""
-			select sr 
+			select new com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow(
+				sr.id, sr.quizSubmittedDate, sr.bookmarked, sr.dailyContentId.value)
 			from StudyRecord sr
 			where sr.memberId.value = :memberId
 			and sr.quizProgressStatus in :statuses
-			and (
-				:lastSubmittedDate is null
-				or sr.quizSubmittedDate < :lastSubmittedDate
-				or (sr.quizSubmittedDate = :lastSubmittedDate and sr.id<:lastStudyRecordId)
-			)
-			order by sr.quizSubmittedDate desc, sr.id desc
+			and sr.quizSubmittedDate <= :lastSubmittedDate
+			and (sr.quizSubmittedDate, sr.id) < (:lastSubmittedDate, :lastStudyRecordId)
+			order by sr.memberId.value desc, sr.quizSubmittedDate desc, sr.id desc
 		""")
-	Slice<StudyRecord> findByLastStudyRecordIdAndMemberId(
+	Slice<StudyRecordHistoryRow> findHistoryNextPage(
 		@Param("memberId") Long memberId,
 		@Param("lastStudyRecordId") Long lastStudyRecordId,
 		@Param("lastSubmittedDate") LocalDate lastSubmittedDate,
@@ -57,25 +118,66 @@ public interface StudyRecordJpaRepository extends JpaRepository<StudyRecord, Lon
 	);
 
 	@Query("""
-			select sr
-				from StudyRecord sr
-				where sr.bookmarked= :isBookmarked
-				and sr.memberId.value = :memberId
-				and sr.quizProgressStatus in :statuses
-				and (
-					:lastSubmittedDate is null
-					or sr.quizSubmittedDate < :lastSubmittedDate
-					or (sr.quizSubmittedDate=:lastSubmittedDate and sr.id < :lastStudyRecordId)
-				)
-				order by sr.quizSubmittedDate desc, sr.id desc
+			select new com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow(
+				sr.id, sr.quizSubmittedDate, sr.bookmarked, sr.dailyContentId.value)
+			from StudyRecord sr
+			where sr.memberId.value = :memberId
+			and sr.bookmarked = true
+			and sr.quizProgressStatus in :statuses
+			order by sr.memberId.value desc, sr.bookmarked desc, sr.quizSubmittedDate desc, sr.id desc
+		""")
+	Slice<StudyRecordHistoryRow> findBookmarkedHistoryFirstPage(
+		@Param("memberId") Long memberId,
+		@Param("statuses") List<QuizProgressStatus> statuses,
+		Pageable pageable
+	);
+
+	@Query("""
+			select new com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow(
+				sr.id, sr.quizSubmittedDate, sr.bookmarked, sr.dailyContentId.value)
+			from StudyRecord sr
+			where sr.memberId.value = :memberId
+			and sr.bookmarked = true
+			and sr.quizProgressStatus in :statuses
+			and sr.quizSubmittedDate <= :lastSubmittedDate
+			and (sr.quizSubmittedDate, sr.id) < (:lastSubmittedDate, :lastStudyRecordId)
+			order by sr.memberId.value desc, sr.bookmarked desc, sr.quizSubmittedDate desc, sr.id desc
 		""")
-	Slice<StudyRecord> findBookmarkedByLastStudyRecordIdAndMemberId(
+	Slice<StudyRecordHistoryRow> findBookmarkedHistoryNextPage(
 		@Param("memberId") Long memberId,
 		@Param("lastStudyRecordId") Long lastStudyRecordId,
 		@Param("lastSubmittedDate") LocalDate lastSubmittedDate,
 		@Param("statuses") List<QuizProgressStatus> statuses,
-		@Param("isBookmarked") boolean isBookmarked,
 		Pageable pageable
 	);
-}
 
+	// 내보내기 전에 콘텐츠 요약을 한 번에 읽어 두기 위한 dailyContentId 목록 (콘텐츠 수 이하)
+	@Query("""
+			select distinct sr.dailyContentId.value
+			from StudyRecord sr
+			where sr.memberId.value = :memberId
+			and sr.quizProgressStatus in :statuses
+		""")
+	List<Long> findDistinctHistoryDailyContentIds(
+		@Param("memberId") Long memberId,
+		@Param("statuses") List<QuizProgressStatus> statuses
+	);
+
+	@Query("""
+			select distinct sr.missionId.value
+			from StudyRecord sr
+			where sr.quizProgressStatus in :statuses
+		""")
+	List<Long> findDistinctMissionIdsByStatuses(@Param("statuses") List<QuizProgressStatus> statuses);
+
+	@Query("""
+			select distinct sr
+			from StudyRecord sr
+			left join fetch sr.attempts a
+			where sr.missionId.value = :missionId
+			and sr.quizProgressStatus in :statuses
+		""")
+	List<StudyRecord> findByMissionIdAndStatusesWithAttempts(
+		@Param("missionId") Long missionId,
+		@Param("statuses") List<QuizProgressStatus> statuses);
+}
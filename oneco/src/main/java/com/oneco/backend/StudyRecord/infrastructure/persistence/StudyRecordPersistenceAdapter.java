@@ -1,24 +1,63 @@
 package com.oneco.backend.StudyRecord.infrastructure.persistence;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow;
 import com.oneco.backend.StudyRecord.application.port.out.StudyRecordPersistencePort;
 import com.oneco.backend.StudyRecord.domain.studyRecord.QuizProgressStatus;
 import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
 
 @Component
-@RequiredArgsConstructor
 public class StudyRecordPersistenceAdapter implements StudyRecordPersistencePort {
+	// 퀴즈를 한 번이라도 제출한 상태
+	private static final List<QuizProgressStatus> SUBMITTED_STATUSES =
+		List.of(QuizProgressStatus.RETRY_AVAILABLE, QuizProgressStatus.PASSED, QuizProgressStatus.FAILED);
+
+	// 히스토리 전체 내보내기 (idx_member_history 순서 그대로 끝까지 읽는다)
+	private static final String HISTORY_EXPORT_QUERY = """
+			select new com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow(
+				sr.id, sr.quizSubmittedDate, sr.bookmarked, sr.dailyContentId.value)
+			from StudyRecord sr
+			where sr.memberId.value = :memberId
+			and sr.quizProgressStatus in :statuses
+			order by sr.memberId.value desc, sr.quizSubmittedDate desc, sr.id desc
+		""";
+
 	private final StudyRecordJpaRepository studyRecordJpaRepository;
+	private final EntityManager entityManager;
+	private final int exportFetchSize;
+
+	/**
+	 * @param exportFetchSize 내보내기 쿼리의 JDBC fetch size
+	 *                        - MySQL: Integer.MIN_VALUE 여야 드라이버가 결과 전체를 메모리에 올리지 않고 한 행씩 읽는다.
+	 *                          (읽는 동안 같은 커넥션으로 다른 쿼리를 보낼 수 없다)
+	 *                        - H2 등: 양수
+	 */
+	public StudyRecordPersistenceAdapter(
+		StudyRecordJpaRepository studyRecordJpaRepository,
+		EntityManager entityManager,
+		@Value("${study-record.export.fetch-size:1000}") int exportFetchSize
+	) {
+		this.studyRecordJpaRepository = studyRecordJpaRepository;
+		this.entityManager = entityManager;
+		this.exportFetchSize = exportFetchSize;
+	}
 
 	@Override
 	@Transactional(readOnly = true)
@@ -41,30 +80,87 @@ public class StudyRecordPersistenceAdapter implements StudyRecordPersistencePort
 		return sr;
 	}
 
+	/**
+	 * insert ... on duplicate key 한 문장으로 생성하고, 잠금 읽기로 (새 기록이든 먼저 만들어진 기록이든) 돌려준다.
+	 * save + flush 와 달리 uk_member_daily 충돌이 예외로 올라오지 않는다.
+	 */
+	@Override
+	@Transactional
+	public StudyRecord createOrGet(StudyRecord draft) {
+		Long memberId = draft.getMemberId().getValue();
+		Long dailyContentId = draft.getDailyContentId().getValue();
+
+		studyRecordJpaRepository.insertIfAbsent(
+			draft.getMissionId().getValue(),
+			memberId,
+			draft.getCategoryId().getValue(),
+			dailyContentId,
+			draft.getQuizProgressStatus().name(),
+			Instant.now()
+		);
+		return studyRecordJpaRepository.findByMemberIdAndDailyContentIdForShare(memberId, dailyContentId)
+			.orElseThrow(() -> BaseException.from(GlobalErrorCode.DATABASE_ERROR,
+				"study record upsert failed. memberId=" + memberId + ", dailyContentId=" + dailyContentId));
+	}
+
 	@Override
 	@Transactional(readOnly = true)
-	public Slice<StudyRecord> findByLastStudyRecordIdAndMemberId(Long memberId, Long lastStudyRecordId,
+	public Slice<StudyRecordHistoryRow> findHistoryByMemberId(Long memberId, Long lastStudyRecordId,
 		LocalDate lastSubmittedDate, int size) {
-		return studyRecordJpaRepository.findByLastStudyRecordIdAndMemberId(
+		if (lastSubmittedDate == null) {
+			return studyRecordJpaRepository.findHistoryFirstPage(memberId, SUBMITTED_STATUSES, PageRequest.of(0, size));
+		}
+		return studyRecordJpaRepository.findHistoryNextPage(
 			memberId,
 			lastStudyRecordId,
 			lastSubmittedDate,
-			List.of(QuizProgressStatus.RETRY_AVAILABLE, QuizProgressStatus.PASSED, QuizProgressStatus.FAILED),
+			SUBMITTED_STATUSES,
 			PageRequest.of(0, size)
 		);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
-	public Slice<StudyRecord> findBookmarkedByLastStudyRecordIdAndMemberId(Long memberId, Long lastStudyRecordId,
+	public Slice<StudyRecordHistoryRow> findBookmarkedHistoryByMemberId(Long memberId, Long lastStudyRecordId,
 		LocalDate lastSubmittedDate, int size) {
-		return studyRecordJpaRepository.findBookmarkedByLastStudyRecordIdAndMemberId(
+		if (lastSubmittedDate == null) {
+			return studyRecordJpaRepository.findBookmarkedHistoryFirstPage(
+				memberId, SUBMITTED_STATUSES, PageRequest.of(0, size));
+		}
+		return studyRecordJpaRepository.findBookmarkedHistoryNextPage(
 			memberId,
 			lastStudyRecordId,
 			lastSubmittedDate,
-			List.of(QuizProgressStatus.RETRY_AVAILABLE, QuizProgressStatus.PASSED, QuizProgressStatus.FAILED),
-			true,
+			SUBMITTED_STATUSES,
 			PageRequest.of(0, size)
 		);
 	}
+
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.MANDATORY) // 스트림은 호출한 쪽 트랜잭션에서 소비
+	public Stream<StudyRecordHistoryRow> streamHistoryByMemberId(Long memberId) {
+		return entityManager.createQuery(HISTORY_EXPORT_QUERY, StudyRecordHistoryRow.class)
+			.setParameter("memberId", memberId)
+			.setParameter("statuses", SUBMITTED_STATUSES)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+			.getResultStream();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> findHistoryDailyContentIds(Long memberId) {
+		return studyRecordJpaRepository.findDistinctHistoryDailyContentIds(memberId, SUBMITTED_STATUSES);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> findMissionIdsWithSubmissions() {
+		return studyRecordJpaRepository.findDistinctMissionIdsByStatuses(SUBMITTED_STATUSES);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<StudyRecord> findSubmittedByMissionIdWithAttempts(Long missionId) {
+		return studyRecordJpaRepository.findByMissionIdAndStatusesWithAttempts(missionId, SUBMITTED_STATUSES);
+	}
 }
@@ -1,11 +1,14 @@
 package com.oneco.backend.StudyRecord.presentation;
 
+import java.util.TreeMap;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,6 +23,8 @@ import com.oneco.backend.StudyRecord.application.port.in.StartQuizAttemptUseCase
 import com.oneco.backend.StudyRecord.application.port.in.StartStudyUseCase;
 import com.oneco.backend.StudyRecord.application.port.in.StudyRecordBookmarkUseCase;
 import com.oneco.backend.StudyRecord.application.port.in.SubmitQuizSubmissionUseCase;
+import com.oneco.backend.global.idempotency.application.IdempotentExecutor;
+import com.oneco.backend.global.idempotency.application.IdempotentResult;
 import com.oneco.backend.global.response.DataResponse;
 import com.oneco.backend.global.security.jwt.JwtPrincipal;
 import com.oneco.backend.member.domain.FamilyRole;
@@ -38,10 +43,14 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/study-records")
 @Tag(name = "StudyRecord", description = "학습 기록 관련 API")
 public class StudyRecordController {
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
 	private final StartStudyUseCase startStudyUseCase;
 	private final StartQuizAttemptUseCase startQuizAttemptUseCase;
 	private final SubmitQuizSubmissionUseCase submitQuizSubmissionUseCase;
 	private final StudyRecordBookmarkUseCase studyRecordBookmarkUseCase;
+	private final IdempotentExecutor idempotentExecutor;
 	// 1) 마스터하기 (학습 시작)
 
 	/**
@@ -128,7 +137,9 @@ public class StudyRecordController {
 	// 3) 퀴즈 제출하기
 	@Operation(
 		summary = "퀴즈 제출",
-		description = "attemptId에 대한 사용자의 답안을 제출하고 채점 결과를 반환합니다."
+		description = "attemptId에 대한 사용자의 답안을 제출하고 채점 결과를 반환합니다. "
+			+ "Idempotency-Key 헤더를 보내면 같은 키로 다시 보낸 요청(재시도/중복 탭)에는 처음 결과를 그대로 돌려줍니다. "
+			+ "(응답 헤더 Idempotent-Replayed: true)"
 	)
 	@PostMapping("/{studyRecordId}/quiz-attempts/{attemptId}/submissions")
 	public ResponseEntity<DataResponse<SubmitQuizSubmissionResult>> submitQuiz(
@@ -141,6 +152,9 @@ public class StudyRecordController {
 		@Parameter(description = "퀴즈 시도 ID", example = "5", required = true)
 		@PathVariable @NotNull Long attemptId,
 
+		@Parameter(description = "중복 제출 방지 키 (UUID 권장, 1~64자)", example = "3f1c9b7e-5a2d-4c1e-9f0a-7b6d2e8c4a11")
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+
 		@io.swagger.v3.oas.annotations.parameters.RequestBody(
 			required = true,
 			description = "답안 제출 요청",
@@ -163,9 +177,25 @@ public class StudyRecordController {
 		@RequestBody @Valid SubmitQuizSubmissionCommand command
 	) {
 		SubmitQuizSubmissionCommand commandWithPath = command.withPath(studyRecordId, attemptId);
-		SubmitQuizSubmissionResult result = submitQuizSubmissionUseCase.submit(commandWithPath, principal.memberId());
-
-		return ResponseEntity.ok(DataResponse.from(result));
+		Long memberId = principal.memberId();
+
+		if (idempotencyKey == null) {
+			SubmitQuizSubmissionResult result = submitQuizSubmissionUseCase.submit(commandWithPath, memberId);
+			return ResponseEntity.ok(DataResponse.from(result));
+		}
+
+		// 트랜잭션 밖에서 중복 여부를 먼저 확인한다. (중복 요청은 DB를 건드리지 않고 첫 결과를 재생)
+		IdempotentResult<SubmitQuizSubmissionResult> result = idempotentExecutor.execute(
+			"quiz-submit:" + memberId,
+			idempotencyKey,
+			studyRecordId + "|" + attemptId + "|" + new TreeMap<>(command.answers()),
+			SubmitQuizSubmissionResult.class,
+			() -> submitQuizSubmissionUseCase.submit(commandWithPath, memberId)
+		);
+
+		return ResponseEntity.ok()
+			.header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+			.body(DataResponse.from(result.value()));
 	}
 
 	@Operation(summary = "공부 기록 북마크 설정", description = "자식 계정만 북마크를 설정할 수 있다.")
@@ -1,17 +1,29 @@
 package com.oneco.backend.StudyRecord.presentation;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.oneco.backend.StudyRecord.application.dto.command.HistoryExportFormat;
 import com.oneco.backend.StudyRecord.application.dto.command.HistoryViewMode;
+import com.oneco.backend.StudyRecord.application.dto.result.FamilyHistoryResult;
 import com.oneco.backend.StudyRecord.application.dto.result.HistoryResult;
+import com.oneco.backend.StudyRecord.application.service.FamilyHistoryService;
+import com.oneco.backend.StudyRecord.application.service.HistoryExportService;
+import com.oneco.backend.StudyRecord.application.service.HistoryExportService.ExportSlot;
 import com.oneco.backend.StudyRecord.application.service.HistoryService;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
 import com.oneco.backend.global.response.DataResponse;
 import com.oneco.backend.global.security.jwt.JwtPrincipal;
 import com.oneco.backend.member.domain.FamilyRole;
@@ -29,6 +41,8 @@ import lombok.RequiredArgsConstructor;
 public class StudyRecordHistoryController {
 
 	private final HistoryService historyService;
+	private final HistoryExportService historyExportService;
+	private final FamilyHistoryService familyHistoryService;
 
 	/**
 	 * [공부 기록 히스토리 조회]
@@ -142,4 +156,106 @@ public class StudyRecordHistoryController {
 		return ResponseEntity.ok(DataResponse.from(result));
 	}
 
+	/**
+	 * [가족 히스토리 조회 - 부모 전용]
+	 * <p>
+	 * - 연결된 자녀 전체의 히스토리를 제출일 최신순 하나의 목록으로 합쳐서 내려준다.
+	 * - 커서는 자녀별 위치를 담은 문자열이다. 이전 응답의 nextCursor를 그대로 보낸다.
+	 */
+	@Operation(
+		summary = "가족 히스토리 조회(자녀 전체, 커서 페이징)",
+		description = """
+			부모 계정 전용. 연결된 모든 자녀의 공부 기록을 제출일 최신순으로 합쳐서 조회한다.
+			각 아이템의 childId로 어느 자녀의 기록인지 구분한다.
+			
+			[첫 페이지]
+			- cursor를 보내지 않는다.
+			- 예) /api/study-records/history/family?size=20
+			
+			[다음 페이지]
+			- 이전 응답의 nextCursor를 그대로 전달한다. (hasNext=false면 마지막 페이지)
+			- 예) /api/study-records/history/family?size=20&cursor=MTI6MjA0NjE6MTAz
+			"""
+	)
+	@GetMapping("/family")
+	public ResponseEntity<DataResponse<FamilyHistoryResult>> getFamilyStudyRecordHistory(
+		@Parameter(
+			description = "커서: 이전 응답의 nextCursor (첫 페이지면 null)",
+			required = false
+		)
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(
+			description = "가져올 항목 수 (페이지 크기)",
+			required = true,
+			schema = @Schema(example = "20", minimum = "1", maximum = "100")
+		)
+		@RequestParam int size,
+
+		@AuthenticationPrincipal JwtPrincipal principal
+	) {
+		if (FamilyRole.valueOf(principal.familyRole()) != FamilyRole.PARENT) {
+			throw BaseException.from(StudyErrorCode.INVALID_FAMILY_ROLE);
+		}
+
+		FamilyHistoryResult result = familyHistoryService.load(principal.memberId(), cursor, size);
+		return ResponseEntity.ok(DataResponse.from(result));
+	}
+
+	/**
+	 * [공부 기록 히스토리 전체 내보내기]
+	 * <p>
+	 * - 권한 확인은 응답을 시작하기 전에 끝낸다. (오류면 일반 에러 응답)
+	 * - 본문은 StreamingResponseBody로 DB 커서를 읽으면서 바로 쓴다. 기록 수와 무관하게 메모리 사용량이 같다.
+	 * - 다운로드 동안 DB 커넥션을 쥐므로 노드당 동시 내보내기 수를 제한한다. 한도를 넘으면 503
+	 */
+	@Operation(
+		summary = "공부 기록 히스토리 전체 내보내기(NDJSON / CSV)",
+		description = """
+			제출한 공부 기록 전체를 최신순으로 내려준다. (첨부 파일)
+			- format=NDJSON: 한 줄에 JSON 1건 (application/x-ndjson)
+			- format=CSV: UTF-8 BOM + 헤더 (text/csv)
+			
+			[부모 계정]
+			- childId를 주면 해당 자녀 기록을 내보낸다.
+			- childId가 없으면(=null) 첫 번째 자녀를 기본 선택한다. 연결된 자녀가 없으면 빈 파일
+			"""
+	)
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportStudyRecordHistory(
+		@Parameter(
+			description = "부모가 자녀 기록을 내보낼 때 사용할 자녀 ID (자식 계정이면 null)",
+			required = false,
+			schema = @Schema(example = "55")
+		)
+		@RequestParam(required = false) Long childId,
+
+		@Parameter(
+			description = "내보내기 형식",
+			required = false,
+			schema = @Schema(example = "NDJSON or CSV")
+		)
+		@RequestParam(required = false, defaultValue = "NDJSON") HistoryExportFormat format,
+
+		@AuthenticationPrincipal JwtPrincipal principal
+	) {
+		FamilyRole familyRole = FamilyRole.valueOf(principal.familyRole());
+		Optional<Long> target = historyExportService.resolveTarget(familyRole, principal.memberId(), childId);
+
+		// 응답을 시작하기 전에 동시 내보내기 자리를 잡는다. (없으면 503) 다 쓰고 나면 돌려준다.
+		ExportSlot slot = historyExportService.acquireSlot();
+		StreamingResponseBody body = out -> {
+			try (slot) {
+				historyExportService.export(target.orElse(null), format, out);
+			}
+		};
+
+		return ResponseEntity.ok()
+			.contentType(format == HistoryExportFormat.CSV
+				? new MediaType("text", "csv", StandardCharsets.UTF_8)
+				: MediaType.APPLICATION_NDJSON)
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"study-history." + format.name().toLowerCase() + "\"")
+			.body(body);
+	}
 }
@@ -3,6 +3,7 @@ package com.oneco.backend.auth.application;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.oneco.backend.auth.application.bridge.OAuthStateStore;
 import com.oneco.backend.auth.application.dto.KakaoLoginResponse;
 import com.oneco.backend.auth.domain.oauth.SocialAccount;
 import com.oneco.backend.auth.domain.oauth.SocialAccountRepository;
@@ -33,11 +34,12 @@ public class AuthService {
 	private final MemberJpaRepository memberJpaRepository;
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final OAuthStateStore oAuthStateStore;
 
 	@Transactional
-	public KakaoLoginResponse loginWithKakao(String code, String state, String expectedState) {
-		// 1. state 검증
-		validateState(state, expectedState);
+	public KakaoLoginResponse loginWithKakao(String code, String state, String browserBinding) {
+		// 1. state 검증 (서명 / 만료 / 1회성 / 로그인을 시작한 브라우저인지)
+		validateState(state, browserBinding);
 
 		// 2. 인가코드 -> 토큰
 		KakaoTokenResponse kakaoTokenResponse = kakaoOAuthClient.requestAccessToken(code);
@@ -93,8 +95,8 @@ public class AuthService {
 			});
 	}
 
-	private void validateState(String state, String expectedState) {
-		if (expectedState == null || !expectedState.equals(state)) {
+	private void validateState(String state, String browserBinding) {
+		if (!oAuthStateStore.consume(state, browserBinding)) {
 			throw BaseException.from(GlobalErrorCode.INVALID_OAUTH_STATE);
 		}
 	}
@@ -0,0 +1,33 @@
+package com.oneco.backend.auth.application.bridge;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 단일 JVM 용 nonce 저장소 (테스트 / 로컬 실행)
+ * - 같은 JVM 안에서만 재사용을 막는다.
+ * - 만료된 nonce는 기록할 때 함께 지운다. (state 유효시간 동안 발급된 수만큼만 남는다)
+ */
+public class InMemoryOAuthStateNonceStore implements OAuthStateNonceStore {
+
+	private final Clock clock;
+	private final Map<String, Instant> usedNonces = new HashMap<>();
+
+	public InMemoryOAuthStateNonceStore() {
+		this(Clock.systemUTC());
+	}
+
+	public InMemoryOAuthStateNonceStore(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public synchronized boolean markUsed(String nonce, Duration ttl) {
+		Instant now = clock.instant();
+		usedNonces.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+		return usedNonces.putIfAbsent(nonce, now.plus(ttl)) == null;
+	}
+}
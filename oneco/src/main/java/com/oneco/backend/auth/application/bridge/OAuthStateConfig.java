@@ -0,0 +1,41 @@
+package com.oneco.backend.auth.application.bridge;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class OAuthStateConfig {
+
+	@Bean(name = "inMemoryOAuthStateNonceStore")
+	@ConditionalOnProperty(name = "oauth.state.nonce-store", havingValue = "memory") // 테스트/로컬: oauth.state.nonce-store=memory
+	public OAuthStateNonceStore inMemoryOAuthStateNonceStore() {
+		return new InMemoryOAuthStateNonceStore();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(OAuthStateNonceStore.class) // 기본값: 여러 인스턴스가 공유하는 Redis
+	public OAuthStateNonceStore redisOAuthStateNonceStore(StringRedisTemplate stringRedisTemplate) {
+		return new RedisOAuthStateNonceStore(stringRedisTemplate);
+	}
+
+	/**
+	 * @param secretKey Base64 서명 키 (32바이트 이상). 모든 인스턴스가 같은 값을 써야 한다.
+	 * @param ttl       state 유효시간 (카카오 로그인 화면에 머무는 시간)
+	 */
+	@Bean
+	public OAuthStateStore oAuthStateStore(
+		@Value("${oauth.state.secret-key}") String secretKey,
+		@Value("${oauth.state.ttl:PT10M}") Duration ttl,
+		OAuthStateNonceStore oAuthStateNonceStore
+	) {
+		return new SignedOAuthStateStore(Base64.getDecoder().decode(secretKey), ttl, oAuthStateNonceStore, Clock.systemUTC());
+	}
+}
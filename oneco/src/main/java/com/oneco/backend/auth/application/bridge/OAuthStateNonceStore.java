@@ -0,0 +1,13 @@
+package com.oneco.backend.auth.application.bridge;
+
+import java.time.Duration;
+
+/**
+ * 사용한 state nonce 기록 (재사용 방지)
+ * - state 자체의 만료 시각까지만 기억하면 된다. 그 뒤에는 서명 검증에서 만료로 걸러진다.
+ */
+public interface OAuthStateNonceStore {
+
+	// 처음 사용하는 nonce면 기록하고 true, 이미 사용했으면 false
+	boolean markUsed(String nonce, Duration ttl);
+}
@@ -1,9 +1,20 @@
 package com.oneco.backend.auth.application.bridge;
 
+/**
+ * OAuth 로그인 state (CSRF 방지)
+ * - 서버 세션 없이 어느 인스턴스에서든 발급 / 검증할 수 있어야 한다.
+ * - state만으로는 로그인을 시작한 브라우저를 알 수 없다. (남이 발급받은 state + 자기 code를 담은 콜백 링크로
+ *   피해자를 공격자 계정에 로그인시킬 수 있다) 그래서 발급 시 브라우저 바인딩 값을 함께 주고,
+ *   콜백에서 그 브라우저가 돌려준 값과 state가 짝이 맞는지 확인한다.
+ */
 public interface OAuthStateStore {
-	String getExpectedState(String stateKey);
 
-	void remove(String stateKey);
-}
+	// authorize 요청에 실어 보낼 새 state + 로그인을 시작한 브라우저에 심을 바인딩 값
+	IssuedState issue();
 
+	// 콜백으로 돌아온 state 검증 + 브라우저 바인딩 확인 + 1회성 소비. 위조 / 만료 / 재사용 / 다른 브라우저면 false
+	boolean consume(String state, String browserBinding);
 
+	record IssuedState(String state, String browserBinding) {
+	}
+}
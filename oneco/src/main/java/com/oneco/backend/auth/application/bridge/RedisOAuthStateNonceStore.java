@@ -0,0 +1,25 @@
+package com.oneco.backend.auth.application.bridge;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis nonce 저장소 (기본값)
+ * - 키: oauth:state:nonce:{nonce} (PX = state 남은 유효시간)
+ * - SET NX 한 번으로 "확인 후 기록"을 처리하므로 같은 state로 동시에 들어온 콜백 중 하나만 통과한다.
+ */
+@RequiredArgsConstructor
+public class RedisOAuthStateNonceStore implements OAuthStateNonceStore {
+
+	private static final String KEY_PREFIX = "oauth:state:nonce:";
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Override
+	public boolean markUsed(String nonce, Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + nonce, "1", ttl));
+	}
+}
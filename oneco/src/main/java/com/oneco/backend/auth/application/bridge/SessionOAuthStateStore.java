@@ -1,6 +0,0 @@
-// package com.oneco.backend.auth.application;
-//
-// public class SessionOAuthStateStore extends OAuthStateStore{
-//
-//
-// }
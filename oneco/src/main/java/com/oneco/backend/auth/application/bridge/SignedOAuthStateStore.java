@@ -0,0 +1,111 @@
+package com.oneco.backend.auth.application.bridge;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 서명된 state (서버 세션 없이 발급 / 검증)
+ * <p>
+ * 형식: "{nonce}.{만료 epoch초}.{서명}"
+ * - nonce: 랜덤 16바이트 (Base64 URL)
+ * - 서명: HMAC-SHA256("{nonce}.{만료 epoch초}") (Base64 URL)
+ * <p>
+ * - 서명 키는 모든 인스턴스가 같으므로 로그인 시작과 콜백이 다른 인스턴스로 가도 검증된다. (sticky 세션 불필요)
+ * - 위조 / 만료는 서명과 만료 시각으로 거르고, 재사용은 nonce 저장소(Redis)에 남은 유효시간만큼 기록해서 막는다.
+ * - 브라우저 바인딩 값은 nonce다. 로그인 시작 응답에서 HttpOnly 쿠키로 심고, 콜백에서 state의 nonce와 같은지 본다.
+ */
+public class SignedOAuthStateStore implements OAuthStateStore {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int MIN_KEY_BYTES = 32;
+	private static final int NONCE_BYTES = 16;
+	// 정상 state 길이(약 80자)보다 넉넉하게. 조작된 긴 값은 서명 계산 전에 버린다.
+	private static final int MAX_STATE_LENGTH = 128;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final SecretKeySpec key;
+	private final Duration ttl;
+	private final OAuthStateNonceStore nonceStore;
+	private final Clock clock;
+	private final SecureRandom random = new SecureRandom();
+
+	public SignedOAuthStateStore(byte[] secretKey, Duration ttl, OAuthStateNonceStore nonceStore, Clock clock) {
+		if (secretKey == null || secretKey.length < MIN_KEY_BYTES) {
+			throw new IllegalStateException("oauth.state.secret-key는 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다.");
+		}
+		this.key = new SecretKeySpec(secretKey, ALGORITHM);
+		this.ttl = ttl;
+		this.nonceStore = nonceStore;
+		this.clock = clock;
+	}
+
+	@Override
+	public IssuedState issue() {
+		byte[] bytes = new byte[NONCE_BYTES];
+		random.nextBytes(bytes);
+		String nonce = ENCODER.encodeToString(bytes);
+		String payload = nonce + "." + clock.instant().plus(ttl).getEpochSecond();
+		return new IssuedState(payload + "." + sign(payload), nonce);
+	}
+
+	@Override
+	public boolean consume(String state, String browserBinding) {
+		if (state == null || state.isEmpty() || state.length() > MAX_STATE_LENGTH) {
+			return false;
+		}
+		int signatureAt = state.lastIndexOf('.');
+		int expiresAt = state.indexOf('.');
+		if (expiresAt <= 0 || signatureAt <= expiresAt + 1) {
+			return false;
+		}
+		String payload = state.substring(0, signatureAt);
+		byte[] signature;
+		try {
+			signature = DECODER.decode(state.substring(signatureAt + 1));
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		if (!MessageDigest.isEqual(signature, mac(payload))) {
+			return false;
+		}
+
+		// 서명이 맞으면 아래 값은 이 서버가 만든 것이다.
+		String nonce = state.substring(0, expiresAt);
+		if (browserBinding == null || !MessageDigest.isEqual(
+			nonce.getBytes(StandardCharsets.US_ASCII), browserBinding.getBytes(StandardCharsets.US_ASCII))) {
+			return false;
+		}
+		Instant expiry = Instant.ofEpochSecond(Long.parseLong(state.substring(expiresAt + 1, signatureAt)));
+		Duration remaining = Duration.between(clock.instant(), expiry);
+		if (remaining.isNegative() || remaining.isZero()) {
+			return false;
+		}
+		return nonceStore.markUsed(nonce, remaining);
+	}
+
+	private String sign(String payload) {
+		return ENCODER.encodeToString(mac(payload));
+	}
+
+	// Mac은 스레드 안전하지 않으므로 호출마다 만든다. (로그인 시작 / 콜백에서만 쓰인다)
+	private byte[] mac(String payload) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("state 서명에 실패했습니다.", e);
+		}
+	}
+}
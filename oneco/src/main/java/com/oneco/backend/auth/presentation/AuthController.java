@@ -3,12 +3,11 @@ package com.oneco.backend.auth.presentation;
 import static com.oneco.backend.global.security.jwt.filter.RefreshTokenFilter.*;
 
 import java.net.URI;
-import java.util.Enumeration;
-import java.util.UUID;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
@@ -20,6 +19,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 import com.oneco.backend.auth.application.AuthService;
 import com.oneco.backend.auth.application.TokenReissueService;
 import com.oneco.backend.auth.application.bridge.LoginBridgeStore;
+import com.oneco.backend.auth.application.bridge.OAuthStateStore;
+import com.oneco.backend.auth.application.bridge.OAuthStateStore.IssuedState;
 import com.oneco.backend.auth.application.dto.KakaoLoginResponse;
 import com.oneco.backend.auth.application.dto.TokenReissueResponse;
 import com.oneco.backend.auth.infrastructure.oauth.kakao.config.KakaoOAuthProperties;
@@ -36,9 +37,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,16 +50,18 @@ public class AuthController {
 
 	private final KakaoOAuthProperties kakaoOAuthProperties;
 	private final AuthService authService;
-	private static final String KAKAO_OAUTH_STATE_SESSION_KEY = "KAKAO_OAUTH_STATE";
 	private final TokenReissueService tokenReissueService;
 	private final FrontendProperties frontendProperties;
 	private final LoginBridgeStore loginBridgeStore;
+	private final OAuthStateStore oAuthStateStore;
+	private final OAuthStateCookie oAuthStateCookie;
 
 	@Operation(
 		summary = "카카오 로그인 시작(Authorize로 리다이렉트)",
 		description = """
 			카카오 OAuth 인가 페이지로 302 리다이렉트한다.
-			서버에서 state를 생성해 세션(또는 Redis)에 저장한 뒤 authorize URL에 포함한다.
+			서버에서 서명된 1회용 state를 발급해 authorize URL에 포함한다. (서버 세션을 쓰지 않는다)
+			state와 짝이 되는 값을 콜백 경로 전용 HttpOnly 쿠키로 심는다. 콜백은 이 쿠키를 가진 브라우저만 통과한다.
 			"""
 	)
 	@ApiResponses({
@@ -69,24 +70,8 @@ public class AuthController {
 	})
 	@GetMapping("/kakao/login")
 	public ResponseEntity<Void> redirectTokKakao(
-		@Parameter(hidden = true) HttpSession session,
 		@Parameter(hidden = true) HttpServletRequest request
 	) {
-		// ✅ 쿠키에서 JSESSIONID 확인
-		String jsessionidCookie = null;
-		Cookie[] cookies = request.getCookies();
-		if (cookies != null) {
-			for (Cookie c : cookies) {
-				if ("JSESSIONID".equalsIgnoreCase(c.getName())) {
-					jsessionidCookie = c.getValue();
-					break;
-				}
-			}
-		}
-		String jsessionidMasked = (jsessionidCookie != null
-			? jsessionidCookie.substring(0, Math.min(12, jsessionidCookie.length())) + "..."
-			: "null");
-
 		// ✅ 요청/호스트/프록시/세션 진단
 		log.info("[카카오 로그인 시작] 요청 정보: method={} url={}{}",
 			request.getMethod(),
@@ -110,18 +95,6 @@ public class AuthController {
 			request.getHeader("Referer"),
 			request.getHeader("User-Agent")
 		);
-		log.info("[카카오 로그인 시작] 세션 요청 ID: requestedSessionId={} valid={} fromCookie={} (Cookie JSESSIONID={})",
-			request.getRequestedSessionId(),
-			request.isRequestedSessionIdValid(),
-			request.isRequestedSessionIdFromCookie(),
-			jsessionidMasked
-		);
-		log.info("[카카오 로그인 시작] 서버 세션: sessionId={} isNew={} creationTime={} lastAccessedTime={}",
-			session.getId(),
-			session.isNew(),
-			session.getCreationTime(),
-			session.getLastAccessedTime()
-		);
 
 		String redirectUri = kakaoOAuthProperties.getRedirectUri();
 		log.info("[카카오 로그인 시작] 카카오 redirectUri(설정)={}", redirectUri);
@@ -132,27 +105,13 @@ public class AuthController {
 		String clientIdMasked = (clientId != null ? clientId.substring(0, Math.min(6, clientId.length())) + "..." : "null");
 		log.info("[카카오 로그인 시작] 카카오 clientId(앞6자리)={}", clientIdMasked);
 
-		// state 생성 + 세션에 저장
-		String state = UUID.randomUUID().toString();
+		// state 발급 (서명된 1회용 값이라 서버에 저장하지 않는다. 콜백은 어느 인스턴스로 와도 된다)
+		// 로그인을 시작한 브라우저에만 바인딩 쿠키를 심어, 남이 발급받은 state로 온 콜백을 거른다. (login CSRF)
+		IssuedState issued = oAuthStateStore.issue();
+		String state = issued.state();
 		String stateMasked = state.substring(0, Math.min(12, state.length())) + "...";
 		log.info("[카카오 로그인 시작] 생성한 state={}", stateMasked);
 
-		session.setAttribute(KAKAO_OAUTH_STATE_SESSION_KEY, state);
-
-		// ✅ 저장 직후 read-back
-		String saved = (String) session.getAttribute(KAKAO_OAUTH_STATE_SESSION_KEY);
-		String savedMasked = (saved != null ? saved.substring(0, Math.min(12, saved.length())) + "..." : "null");
-		log.info("[카카오 로그인 시작] state 세션 저장 여부={} (readBack={})", (saved != null), savedMasked);
-
-		// ✅ 세션 attribute 이름만 덤프(값은 출력 X)
-		StringBuilder attrNames = new StringBuilder();
-		Enumeration<String> names = session.getAttributeNames();
-		while (names.hasMoreElements()) {
-			if (attrNames.length() > 0) attrNames.append(", ");
-			attrNames.append(names.nextElement());
-		}
-		log.info("[카카오 로그인 시작] 세션 attribute 목록(이름만)=[{}]", attrNames);
-
 		// scope 구성
 		String scope = "openid profile_nickname profile_image";
 		log.info("[카카오 로그인 시작] 요청 scope={}", scope);
@@ -173,6 +132,7 @@ public class AuthController {
 
 		HttpHeaders headers = new HttpHeaders();
 		headers.setLocation(kakaoAuthorizeUri);
+		headers.add(HttpHeaders.SET_COOKIE, oAuthStateCookie.bind(issued.browserBinding()).toString());
 
 		return ResponseEntity.status(HttpStatus.FOUND)
 			.headers(headers)
@@ -190,24 +150,10 @@ public class AuthController {
 		@RequestParam("code") String code,
 		@Parameter(description = "CSRF 방지용 state", required = true)
 		@RequestParam("state") String state,
-		@Parameter(hidden = true) HttpSession session,
+		@Parameter(hidden = true)
+		@CookieValue(name = OAuthStateCookie.NAME, required = false) String browserBinding,
 		@Parameter(hidden = true) HttpServletRequest request
 	) {
-		// ✅ 쿠키에서 JSESSIONID 확인
-		String jsessionidCookie = null;
-		Cookie[] cookies = request.getCookies();
-		if (cookies != null) {
-			for (Cookie c : cookies) {
-				if ("JSESSIONID".equalsIgnoreCase(c.getName())) {
-					jsessionidCookie = c.getValue();
-					break;
-				}
-			}
-		}
-		String jsessionidMasked = (jsessionidCookie != null
-			? jsessionidCookie.substring(0, Math.min(12, jsessionidCookie.length())) + "..."
-			: "null");
-
 		// ✅ 콜백 요청/호스트/프록시/세션 진단
 		log.info("[카카오 콜백] 요청 정보: method={} url={}{}",
 			request.getMethod(),
@@ -231,38 +177,16 @@ public class AuthController {
 			request.getHeader("Referer"),
 			request.getHeader("User-Agent")
 		);
-		log.info("[카카오 콜백] 세션 요청 ID: requestedSessionId={} valid={} fromCookie={} (Cookie JSESSIONID={})",
-			request.getRequestedSessionId(),
-			request.isRequestedSessionIdValid(),
-			request.isRequestedSessionIdFromCookie(),
-			jsessionidMasked
-		);
-		log.info("[카카오 콜백] 서버 세션: sessionId={} isNew={} creationTime={} lastAccessedTime={}",
-			session.getId(),
-			session.isNew(),
-			session.getCreationTime(),
-			session.getLastAccessedTime()
-		);
 
 		String stateMasked = (state != null ? state.substring(0, Math.min(12, state.length())) + "..." : "null");
-		log.info("[카카오 콜백] 받은 파라미터: code길이={} state={}",
+		log.info("[카카오 콜백] 받은 파라미터: code길이={} state={} 바인딩쿠키있음={}",
 			(code != null ? code.length() : 0),
-			stateMasked
-		);
-
-		String expectedState = (String) session.getAttribute(KAKAO_OAUTH_STATE_SESSION_KEY);
-		String expectedMasked = (expectedState != null ? expectedState.substring(0, Math.min(12, expectedState.length())) + "..." : "null");
-
-		log.info("[카카오 콜백] 세션에서 꺼낸 expectedState={}", expectedMasked);
-		log.info("[카카오 콜백] state 일치 여부={}", (expectedState != null && expectedState.equals(state)));
-
-		// ✅ 로그 확인 후 제거(디버깅 시점에서는 이 순서가 안전)
-		session.removeAttribute(KAKAO_OAUTH_STATE_SESSION_KEY);
-		log.info("[카카오 콜백] expectedState 세션 제거 완료. 현재 존재 여부={}",
-			(session.getAttribute(KAKAO_OAUTH_STATE_SESSION_KEY) != null)
+			stateMasked,
+			(browserBinding != null)
 		);
 
-		KakaoLoginResponse response = authService.loginWithKakao(code, state, expectedState);
+		// state 검증(서명 / 만료 / 1회성 / 바인딩 쿠키 일치)은 AuthService에서 한다.
+		KakaoLoginResponse response = authService.loginWithKakao(code, state, browserBinding);
 
 		// ✅ 브릿지 저장소에 저장하고 key 발급
 		String key = loginBridgeStore.save(response);
@@ -283,6 +207,7 @@ public class AuthController {
 
 		return ResponseEntity.status(HttpStatus.FOUND)
 			.location(redirect)
+			.header(HttpHeaders.SET_COOKIE, oAuthStateCookie.clear().toString())
 			.build();
 	}
 
@@ -0,0 +1,50 @@
+package com.oneco.backend.auth.presentation;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 로그인을 시작한 브라우저를 표시하는 쿠키 (OAuthStateStore의 브라우저 바인딩 값)
+ * <p>
+ * - HttpOnly / Secure / SameSite=Lax, 콜백 경로에서만 전송된다.
+ *   (카카오 인가 페이지에서 콜백으로 돌아오는 것은 최상위 GET 이동이라 Lax로도 실린다)
+ * - 유효시간은 state와 같다. 콜백 응답에서 지운다.
+ */
+@Component
+public class OAuthStateCookie {
+
+	public static final String NAME = "oauth_state";
+	static final String PATH = "/api/auth/kakao/callback";
+
+	private final Duration ttl;
+	private final boolean secure;
+
+	public OAuthStateCookie(
+		@Value("${oauth.state.ttl:PT10M}") Duration ttl,
+		@Value("${oauth.state.cookie-secure:true}") boolean secure
+	) {
+		this.ttl = ttl;
+		this.secure = secure;
+	}
+
+	public ResponseCookie bind(String browserBinding) {
+		return build(browserBinding, ttl);
+	}
+
+	public ResponseCookie clear() {
+		return build("", Duration.ZERO);
+	}
+
+	private ResponseCookie build(String value, Duration maxAge) {
+		return ResponseCookie.from(NAME, value)
+			.httpOnly(true)
+			.secure(secure)
+			.sameSite("Lax")
+			.path(PATH)
+			.maxAge(maxAge)
+			.build();
+	}
+}
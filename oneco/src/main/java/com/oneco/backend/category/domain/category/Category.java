@@ -1,5 +1,12 @@
 package com.oneco.backend.category.domain.category;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
+import com.oneco.backend.category.domain.event.CategoryChangedEvent;
 import com.oneco.backend.category.domain.exception.constant.CategoryErrorCode;
 import com.oneco.backend.global.exception.BaseException;
 
@@ -13,6 +20,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -57,6 +65,11 @@ public class Category {
 	@Column(name = "difficulty", nullable = false, length = 20)
 	private CategoryDifficulty difficulty = CategoryDifficulty.EASY;
 
+	// 저장(repository.save) 시 발행할 변경 이벤트 (CategorySnapshot 재적재)
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private final List<CategoryChangedEvent> changedEvents = new ArrayList<>();
+
 	// 생성 메서드
 	// 상태와 난이도는 기본값으로 설정(VISIBLE, EASY)
 	// displayOrder는 현재 null
@@ -73,6 +86,7 @@ public class Category {
 		this.title = requireNonNull(title, "title");
 		this.summary = requireNonNull(summary, "summary");
 		this.defaultMissionDays = requireNonNull(defaultMissionDays, "defaultMissionDays");
+		registerChange("created");
 	}
 
 	private static <T> T requireNonNull(T value, String field) {
@@ -85,18 +99,22 @@ public class Category {
 
 	public void renameCategoryTitle(CategoryTitle newTitle) {
 		this.title = requireNonNull(newTitle, "newTitle");
+		registerChange("titleRenamed");
 	}
 
 	public void updateSummary(CategorySummary newSummary) {
 		this.summary = requireNonNull(newSummary, "newSummary");
+		registerChange("summaryUpdated");
 	}
 
 	public void changeDisplayOrder(DisplayOrder displayOrder) {
 		this.displayOrder = requireNonNull(displayOrder, "displayOrder");
+		registerChange("displayOrderChanged");
 	}
 
 	public void changeDefaultMissionDays(MissionDays defaultMissionDays) {
 		this.defaultMissionDays = requireNonNull(defaultMissionDays, "defaultMissionDays");
+		registerChange("defaultMissionDaysChanged");
 	}
 
 	public void hideCategory() {
@@ -104,6 +122,7 @@ public class Category {
 			throw BaseException.from(CategoryErrorCode.CATEGORY_ALREADY_HIDDEN);
 		}
 		this.visibility = CategoryVisibility.HIDDEN;
+		registerChange("hidden");
 	}
 
 	public void showCategory() {
@@ -111,6 +130,24 @@ public class Category {
 			throw BaseException.from(CategoryErrorCode.CATEGORY_ALREADY_VISIBLE);
 		}
 		this.visibility = CategoryVisibility.VISIBLE;
+		registerChange("shown");
 	}
 
+	// =============================
+	// 변경 이벤트
+	// =============================
+
+	@DomainEvents
+	protected List<CategoryChangedEvent> changedEvents() {
+		return List.copyOf(changedEvents);
+	}
+
+	@AfterDomainEventPublication
+	protected void clearChangedEvents() {
+		changedEvents.clear();
+	}
+
+	private void registerChange(String reason) {
+		changedEvents.add(new CategoryChangedEvent(id, reason));
+	}
 }
@@ -0,0 +1,12 @@
+package com.oneco.backend.category.domain.event;
+
+/**
+ * Category가 생성/변경되었음을 알리는 이벤트
+ * - Category 의 생성/변경 메서드가 등록하고, 저장(repository.save) 시 Spring Data가 발행한다.
+ * - 커밋 이후 CategorySnapshot 재적재에 사용한다.
+ *
+ * @param categoryId 변경된 Category ID (저장 전이면 null)
+ * @param reason     로그용 변경 사유
+ */
+public record CategoryChangedEvent(Long categoryId, String reason) {
+}
@@ -0,0 +1,69 @@
+package com.oneco.backend.category.infrastructure.catalog;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oneco.backend.category.domain.category.Category;
+import com.oneco.backend.category.domain.category.CategoryTitle;
+import com.oneco.backend.category.domain.category.MissionDays;
+
+/**
+ * Category 읽기 전용 스냅샷 (불변)
+ * <p>
+ * - 카테고리는 수십 건이고 거의 바뀌지 않으므로 전체(숨김 포함)를 메모리에 올려 두고
+ *   미션 목록/상세의 제목, 미션 상태 변경의 기본 미션 일수를 DB 대신 여기서 읽는다.
+ * - 숨김 카테고리도 포함한다. 이미 만들어진 미션은 숨김 카테고리를 가리킬 수 있다.
+ * - 갱신은 새 인스턴스를 만들어 통째로 교체한다. (CategorySnapshotProvider)
+ */
+public final class CategorySnapshot {
+
+	private final long version;
+	private final Instant builtAt;
+	private final Map<Long, Entry> entriesById;
+
+	public record Entry(CategoryTitle title, MissionDays defaultMissionDays) {
+	}
+
+	private CategorySnapshot(long version, Instant builtAt, Map<Long, Entry> entriesById) {
+		this.version = version;
+		this.builtAt = builtAt;
+		this.entriesById = entriesById;
+	}
+
+	public static CategorySnapshot empty() {
+		return new CategorySnapshot(0, Instant.EPOCH, Map.of());
+	}
+
+	public static CategorySnapshot build(long version, List<Category> categories) {
+		Map<Long, Entry> entries = new HashMap<>(categories.size() * 2);
+		for (Category category : categories) {
+			entries.put(category.getId(), new Entry(category.getTitle(), category.getDefaultMissionDays()));
+		}
+		return new CategorySnapshot(version, Instant.now(), Map.copyOf(entries));
+	}
+
+	// 없으면 null
+	public Entry find(Long categoryId) {
+		return entriesById.get(categoryId);
+	}
+
+	// 버전 / 적재 시각을 빼고 내용이 같은지
+	public boolean hasSameEntries(CategorySnapshot other) {
+		return entriesById.equals(other.entriesById);
+	}
+
+	public long version() {
+		return version;
+	}
+
+	public int size() {
+		return entriesById.size();
+	}
+
+	@Override
+	public String toString() {
+		return "CategorySnapshot{version=" + version + ", categories=" + entriesById.size() + ", builtAt=" + builtAt + "}";
+	}
+}
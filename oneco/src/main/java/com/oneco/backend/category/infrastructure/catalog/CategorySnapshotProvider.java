@@ -0,0 +1,83 @@
+package com.oneco.backend.category.infrastructure.catalog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneco.backend.category.domain.event.CategoryChangedEvent;
+import com.oneco.backend.category.infrastructure.CategoryJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 CategorySnapshot을 들고 있는 컴포넌트
+ * <p>
+ * - 애플리케이션 기동 완료 시 1회 적재, CategoryChangedEvent 발행 시(커밋 이후) 재적재한다.
+ * - CategoryChangedEvent는 저장한 인스턴스에서만 받으므로, 다른 인스턴스나 DB에서 직접 바뀐 내용은
+ *   reload-interval 주기의 재적재로 반영한다. (Category에는 수정 시각이 없고 수십 건이라 전체를 다시 읽는다)
+ * - 새 스냅샷을 다 만든 뒤 volatile 참조를 한 번에 바꿔 끼운다. (읽는 쪽은 락 없음)
+ * - 적재에 실패하면 이전 스냅샷을 그대로 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategorySnapshotProvider {
+
+	private final CategoryJpaRepository categoryJpaRepository;
+
+	private final AtomicLong versionSequence = new AtomicLong();
+	private volatile CategorySnapshot current = CategorySnapshot.empty();
+
+	public CategorySnapshot current() {
+		return current;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		refresh();
+	}
+
+	// 카테고리 변경 트랜잭션이 커밋된 뒤에 다시 적재한다. (트랜잭션 밖에서 발행되면 즉시 실행)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryChanged(CategoryChangedEvent event) {
+		log.info("[CategorySnapshot] 카테고리 변경 감지 - categoryId={}, reason={}", event.categoryId(), event.reason());
+		refresh();
+	}
+
+	// 내용이 그대로면 스냅샷을 바꾸지 않는다. (버전 / 로그가 주기마다 늘지 않도록)
+	@Scheduled(
+		initialDelayString = "${category.snapshot.reload-interval:PT1M}",
+		fixedDelayString = "${category.snapshot.reload-interval:PT1M}")
+	public synchronized void reloadIfChanged() {
+		try {
+			CategorySnapshot loaded = CategorySnapshot.build(current.version(), categoryJpaRepository.findAll());
+			if (loaded.hasSameEntries(current)) {
+				return;
+			}
+		} catch (RuntimeException e) {
+			log.warn("[CategorySnapshot] 주기 재적재 확인 실패 - 이전 스냅샷(version={}) 유지", current.version(), e);
+			return;
+		}
+		log.info("[CategorySnapshot] 다른 곳에서 변경된 카테고리 감지 - 재적재");
+		refresh();
+	}
+
+	// 동시에 여러 번 호출되어도 적재는 한 번에 하나씩만 수행한다.
+	public synchronized CategorySnapshot refresh() {
+		try {
+			CategorySnapshot built = CategorySnapshot.build(versionSequence.incrementAndGet(), categoryJpaRepository.findAll());
+			current = built;
+
+			log.info("[CategorySnapshot] 적재 완료 - {}", built);
+			return built;
+		} catch (RuntimeException e) {
+			log.error("[CategorySnapshot] 적재 실패 - 이전 스냅샷(version={}) 유지", current.version(), e);
+			return current;
+		}
+	}
+}
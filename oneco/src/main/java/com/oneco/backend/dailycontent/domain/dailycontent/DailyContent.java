@@ -3,9 +3,13 @@ package com.oneco.backend.dailycontent.domain.dailycontent;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
 import com.oneco.backend.category.domain.category.CategoryId;
 import com.oneco.backend.dailycontent.domain.common.ImageFile;
 import com.oneco.backend.dailycontent.domain.common.WebLink;
+import com.oneco.backend.dailycontent.domain.event.ContentChangedEvent;
 import com.oneco.backend.dailycontent.domain.exception.constant.ContentErrorCode;
 import com.oneco.backend.dailycontent.domain.news.NewsItem;
 import com.oneco.backend.dailycontent.domain.news.NewsItemOrder;
@@ -30,6 +34,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -84,6 +89,11 @@ public class DailyContent extends BaseTimeEntity {
 	@JoinColumn(name = "daily_content_id", nullable = false)
 	private List<Quiz> quizzes = new ArrayList<>();
 
+	// 저장(repository.save) 시 발행할 변경 이벤트 (ContentCatalog 재적재 / 정답 캐시 무효화)
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private final List<ContentChangedEvent> changedEvents = new ArrayList<>();
+
 	private DailyContent(
 		CategoryId categoryId,
 		DaySequence daySequence,
@@ -129,19 +139,23 @@ public class DailyContent extends BaseTimeEntity {
 			throw BaseException.from(ContentErrorCode.REQUIRED_VALUE_MISSING, "newDescription is null");
 		}
 		this.description = newDescription;
+		registerChange("description");
 	}
 
 	public void changeSummary(String newSummary) {
 		// summary의 null/blank/length 검증은 ContentDescription 내부에서 처리됨
 		this.description = this.description.withSummary(newSummary);
+		registerChange("summary");
 	}
 
 	public void changeTitle(String newTitle) {
 		this.description = this.description.withTitle(newTitle);
+		registerChange("title");
 	}
 
 	public void changeBodyText(String newBodyText) {
 		this.description = this.description.withBodyText(newBodyText);
+		registerChange("bodyText");
 	}
 
 	public List<NewsItem> getNewsItems() {
@@ -160,6 +174,7 @@ public class DailyContent extends BaseTimeEntity {
 
 		// newTitle 검증은 NewsItem.changeTitle 내부에서 처리(NEWS_TITLE_EMPTY 등)
 		target.changeTitle(newTitle);
+		registerChange("newsTitle");
 	}
 
 	public void updateQuizQuestion(QuestionOrder order, String newQuestion) {
@@ -174,6 +189,7 @@ public class DailyContent extends BaseTimeEntity {
 
 		// newQuestion 검증은 Quiz.changeQuestion 내부에서 처리(QUIZ_QUESTION_EMPTY 등)
 		target.changeQuestion(newQuestion);
+		registerChange("quizQuestion");
 	}
 
 	public NewsItem addNewsItem(
@@ -200,6 +216,7 @@ public class DailyContent extends BaseTimeEntity {
 		// title blank/trim, link 규칙, imageFile 규칙 등은 NewsItem/VO 내부에서 검증
 		NewsItem item = NewsItem.create(title, link, order, imageFile);
 		newsItems.add(item);
+		registerChange("newsAdded");
 		return item;
 	}
 
@@ -207,7 +224,9 @@ public class DailyContent extends BaseTimeEntity {
 		if (item == null) {
 			throw BaseException.from(ContentErrorCode.REQUIRED_VALUE_MISSING, "item is null");
 		}
-		newsItems.remove(item);
+		if (newsItems.remove(item)) {
+			registerChange("newsRemoved");
+		}
 	}
 
 	public void removeNewsItemByOrder(NewsItemOrder order) {
@@ -219,6 +238,7 @@ public class DailyContent extends BaseTimeEntity {
 		if (!removed) {
 			throw BaseException.from(ContentErrorCode.NEWS_ITEM_NOT_FOUND);
 		}
+		registerChange("newsRemoved");
 	}
 
 	public void changeKeyword(Keyword newKeyword) {
@@ -226,6 +246,7 @@ public class DailyContent extends BaseTimeEntity {
 			throw BaseException.from(ContentErrorCode.REQUIRED_VALUE_MISSING, "newKeyword is null");
 		}
 		this.keyword = newKeyword;
+		registerChange("keyword");
 	}
 
 	public void changeImage(ImageFile newImageFile) {
@@ -233,6 +254,7 @@ public class DailyContent extends BaseTimeEntity {
 			throw BaseException.from(ContentErrorCode.REQUIRED_VALUE_MISSING, "newImageFile is null");
 		}
 		this.imageFile = newImageFile;
+		registerChange("image");
 	}
 
 	public boolean isSameCategory(CategoryId other) {
@@ -270,6 +292,8 @@ public class DailyContent extends BaseTimeEntity {
 		// question blank, answerIndex 범위 등은 Quiz 내부에서 검증
 		Quiz quiz = Quiz.create(question, order, options, answerIndex);
 		quizzes.add(quiz);
+		// 새 퀴즈는 아직 ID가 없으므로 캐시에 남아 있을 수 없다. (카탈로그만 재적재)
+		registerChange("quizAdded");
 		return quiz;
 	}
 
@@ -277,7 +301,9 @@ public class DailyContent extends BaseTimeEntity {
 		if (quiz == null) {
 			throw BaseException.from(ContentErrorCode.REQUIRED_VALUE_MISSING, "quiz is null");
 		}
-		quizzes.remove(quiz);
+		if (quizzes.remove(quiz)) {
+			registerQuizChange("quizRemoved", quiz.getId() == null ? List.of() : List.of(quiz.getId()));
+		}
 	}
 
 	public void removeQuizByOrder(QuestionOrder order) {
@@ -285,10 +311,42 @@ public class DailyContent extends BaseTimeEntity {
 			throw BaseException.from(ContentErrorCode.REQUIRED_VALUE_MISSING, "order is null");
 		}
 
-		boolean removed = this.quizzes.removeIf(q -> q.getQuestionOrder().equals(order));
+		List<Long> removedQuizIds = new ArrayList<>();
+		boolean removed = this.quizzes.removeIf(q -> {
+			if (!q.getQuestionOrder().equals(order)) {
+				return false;
+			}
+			if (q.getId() != null) {
+				removedQuizIds.add(q.getId());
+			}
+			return true;
+		});
 		if (!removed) {
 			throw BaseException.from(ContentErrorCode.QUIZ_NOT_FOUND);
 		}
+		registerQuizChange("quizRemoved", removedQuizIds);
+	}
+
+	// =============================
+	// 변경 이벤트
+	// =============================
+
+	@DomainEvents
+	protected List<ContentChangedEvent> changedEvents() {
+		return List.copyOf(changedEvents);
+	}
+
+	@AfterDomainEventPublication
+	protected void clearChangedEvents() {
+		changedEvents.clear();
+	}
+
+	private void registerChange(String reason) {
+		changedEvents.add(ContentChangedEvent.of(id, reason));
+	}
+
+	private void registerQuizChange(String reason, List<Long> quizIds) {
+		changedEvents.add(ContentChangedEvent.quizzesChanged(id, quizIds, reason));
 	}
 
 	private void validateNewsOrderDuplicate(NewsItemOrder order) {
@@ -0,0 +1,27 @@
+package com.oneco.backend.dailycontent.domain.event;
+
+import java.util.List;
+
+/**
+ * DailyContent / Quiz / NewsItem이 바뀌었음을 알리는 이벤트
+ * - DailyContent 의 변경 메서드가 등록하고, 저장(repository.save) 시 Spring Data가 발행한다.
+ * - 커밋 이후 ContentCatalog 재적재 / 정답 캐시 무효화에 사용한다.
+ *
+ * @param dailyContentId 변경된 DailyContent ID (저장 전이면 null)
+ * @param quizIds        정답 정보가 바뀌었거나 삭제된 퀴즈 ID (없으면 빈 리스트)
+ * @param reason         로그용 변경 사유
+ */
+public record ContentChangedEvent(Long dailyContentId, List<Long> quizIds, String reason) {
+
+	public ContentChangedEvent {
+		quizIds = (quizIds == null) ? List.of() : List.copyOf(quizIds);
+	}
+
+	public static ContentChangedEvent of(Long dailyContentId, String reason) {
+		return new ContentChangedEvent(dailyContentId, List.of(), reason);
+	}
+
+	public static ContentChangedEvent quizzesChanged(Long dailyContentId, List<Long> quizIds, String reason) {
+		return new ContentChangedEvent(dailyContentId, quizIds, reason);
+	}
+}
@@ -0,0 +1,310 @@
+package com.oneco.backend.dailycontent.infrastructure.catalog;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContent;
+import com.oneco.backend.dailycontent.domain.news.NewsItem;
+import com.oneco.backend.dailycontent.domain.quiz.Quiz;
+
+/**
+ * DailyContent / Quiz / NewsItem 읽기 전용 카탈로그 (불변 스냅샷)
+ * <p>
+ * - 편집 데이터는 거의 바뀌지 않으므로 시작 시점(및 변경 시점)에 한 번 적재해 두고
+ *   학습 시작 / 퀴즈 시작 / 제출 / 히스토리 조회에서 DB 대신 사용한다.
+ * - 한 번 만들어진 인스턴스는 절대 바뀌지 않는다. 갱신은 새 인스턴스를 만들어 통째로 교체한다.
+ *   (ContentCatalogProvider가 volatile 참조를 원자적으로 바꿔 끼운다)
+ * <p>
+ * 인덱스
+ * - 카테고리별 DayEntry 배열: index = daySequence - 1 (빈 일차는 null)
+ * - dailyContentId -> DayEntry
+ * - quizId -> QuizEntry
+ */
+public final class ContentCatalog {
+
+	// 메모리 추정치 계산용 상수 (64bit JVM + compressed oops 기준의 대략값)
+	private static final long OBJECT_HEADER_BYTES = 16;
+	private static final long REFERENCE_BYTES = 4;
+	private static final long MAP_ENTRY_BYTES = 32;
+
+	private static final DayEntry[] NO_DAYS = new DayEntry[0];
+
+	private final long version;
+	private final Instant builtAt;
+	private final Duration buildDuration;
+	private final long estimatedBytes;
+
+	private final Map<Long, DayEntry[]> daysByCategoryId;
+	private final Map<Long, DayEntry> dayByDailyContentId;
+	private final Map<Long, QuizEntry> quizByQuizId;
+
+	private ContentCatalog(
+		long version,
+		Instant builtAt,
+		Duration buildDuration,
+		Map<Long, DayEntry[]> daysByCategoryId,
+		Map<Long, DayEntry> dayByDailyContentId,
+		Map<Long, QuizEntry> quizByQuizId
+	) {
+		this.version = version;
+		this.builtAt = builtAt;
+		this.buildDuration = buildDuration;
+		this.daysByCategoryId = daysByCategoryId;
+		this.dayByDailyContentId = dayByDailyContentId;
+		this.quizByQuizId = quizByQuizId;
+		this.estimatedBytes = estimateBytes(daysByCategoryId, dayByDailyContentId, quizByQuizId);
+	}
+
+	// 아직 적재되지 않은 상태 (모든 조회가 miss -> 호출 측에서 DB로 조회)
+	public static ContentCatalog empty() {
+		return new ContentCatalog(0, Instant.EPOCH, Duration.ZERO, Map.of(), Map.of(), Map.of());
+	}
+
+	/**
+	 * 엔티티 목록으로 카탈로그를 만든다.
+	 *
+	 * @param version          카탈로그 버전 (교체될 때마다 증가)
+	 * @param withQuizzes      quizzes가 fetch 된 DailyContent 목록
+	 * @param withNewsItems    newsItems가 fetch 된 DailyContent 목록
+	 * @param loadStartedNanos DB 적재를 시작한 시점(System.nanoTime) - 빌드 시간 측정용
+	 */
+	public static ContentCatalog build(
+		long version,
+		List<DailyContent> withQuizzes,
+		List<DailyContent> withNewsItems,
+		long loadStartedNanos
+	) {
+		// 1) dailyContentId -> 뉴스 목록
+		Map<Long, List<NewsEntry>> newsByDailyContentId = new HashMap<>();
+		for (DailyContent dc : withNewsItems) {
+			List<NewsEntry> news = new ArrayList<>(dc.getNewsItems().size());
+			for (NewsItem ni : dc.getNewsItems()) {
+				news.add(new NewsEntry(
+					ni.getTitle(),
+					ni.getWebLink() == null ? null : ni.getWebLink().getUrl(),
+					ni.getImageFile() == null ? null : ni.getImageFile().getUrl()
+				));
+			}
+			newsByDailyContentId.put(dc.getId(), List.copyOf(news));
+		}
+
+		// 2) DayEntry / QuizEntry 생성 + id 인덱스
+		Map<Long, DayEntry> dayByDailyContentId = new HashMap<>();
+		Map<Long, QuizEntry> quizByQuizId = new HashMap<>();
+		Map<Long, List<DayEntry>> daysByCategory = new HashMap<>();
+
+		for (DailyContent dc : withQuizzes) {
+			List<QuizEntry> quizzes = new ArrayList<>(dc.getQuizzes().size());
+			for (Quiz q : dc.getQuizzes()) {
+				QuizEntry quiz = new QuizEntry(
+					q.getId(),
+					dc.getId(),
+					q.getQuestion(),
+					q.getQuestionOrder().value(),
+					q.getAnswerIndex().getValue(),
+					List.copyOf(q.getOptions().getOptionTexts())
+				);
+				quizzes.add(quiz);
+				quizByQuizId.put(quiz.quizId(), quiz);
+			}
+
+			DayEntry day = new DayEntry(
+				dc.getId(),
+				dc.getCategoryId().getValue(),
+				dc.getDaySequence().value(),
+				dc.getDescription().getTitle(),
+				dc.getDescription().getSummary(),
+				dc.getDescription().getBodyText(),
+				dc.getKeyword().getValue(),
+				dc.getImageFile().getUrl(),
+				List.copyOf(quizzes),
+				newsByDailyContentId.getOrDefault(dc.getId(), List.of())
+			);
+			dayByDailyContentId.put(day.dailyContentId(), day);
+			daysByCategory.computeIfAbsent(day.categoryId(), k -> new ArrayList<>()).add(day);
+		}
+
+		// 3) 카테고리별 배열 (index = daySequence - 1)
+		Map<Long, DayEntry[]> daysByCategoryId = new HashMap<>();
+		for (Map.Entry<Long, List<DayEntry>> entry : daysByCategory.entrySet()) {
+			int maxDaySequence = 0;
+			for (DayEntry day : entry.getValue()) {
+				maxDaySequence = Math.max(maxDaySequence, day.daySequence());
+			}
+			DayEntry[] days = new DayEntry[maxDaySequence];
+			for (DayEntry day : entry.getValue()) {
+				days[day.daySequence() - 1] = day;
+			}
+			daysByCategoryId.put(entry.getKey(), days);
+		}
+
+		return new ContentCatalog(
+			version,
+			Instant.now(),
+			Duration.ofNanos(System.nanoTime() - loadStartedNanos),
+			Map.copyOf(daysByCategoryId),
+			Map.copyOf(dayByDailyContentId),
+			Map.copyOf(quizByQuizId)
+		);
+	}
+
+	// =============================
+	// 조회
+	// =============================
+
+	public Optional<DayEntry> findDay(Long dailyContentId) {
+		return Optional.ofNullable(dayByDailyContentId.get(dailyContentId));
+	}
+
+	public Optional<DayEntry> findDay(Long categoryId, int daySequence) {
+		DayEntry[] days = daysByCategoryId.getOrDefault(categoryId, NO_DAYS);
+		if (daySequence < 1 || daySequence > days.length) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(days[daySequence - 1]);
+	}
+
+	// 카테고리의 DayEntry를 daySequence 오름차순으로 반환한다. (빈 일차는 건너뜀)
+	public List<DayEntry> daysOf(Long categoryId) {
+		DayEntry[] days = daysByCategoryId.getOrDefault(categoryId, NO_DAYS);
+		List<DayEntry> result = new ArrayList<>(days.length);
+		for (DayEntry day : days) {
+			if (day != null) {
+				result.add(day);
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	public Optional<QuizEntry> findQuiz(Long quizId) {
+		return Optional.ofNullable(quizByQuizId.get(quizId));
+	}
+
+	// =============================
+	// 상태
+	// =============================
+
+	public long version() {
+		return version;
+	}
+
+	public Instant builtAt() {
+		return builtAt;
+	}
+
+	public Duration buildDuration() {
+		return buildDuration;
+	}
+
+	// 카탈로그가 차지하는 힙 메모리 추정치(byte)
+	public long estimatedBytes() {
+		return estimatedBytes;
+	}
+
+	public int dailyContentCount() {
+		return dayByDailyContentId.size();
+	}
+
+	public int quizCount() {
+		return quizByQuizId.size();
+	}
+
+	@Override
+	public String toString() {
+		return "ContentCatalog{version=" + version
+			+ ", categories=" + daysByCategoryId.size()
+			+ ", dailyContents=" + dayByDailyContentId.size()
+			+ ", quizzes=" + quizByQuizId.size()
+			+ ", estimatedBytes=" + estimatedBytes
+			+ ", buildMillis=" + buildDuration.toMillis() + "}";
+	}
+
+	// =============================
+	// 메모리 추정
+	// =============================
+
+	// 정확한 측정(JOL 등) 대신 객체 헤더 + 참조 + 문자열 길이로 근사한다.
+	// 문자열은 한글이 섞이는 경우가 많아 UTF-16(문자당 2byte)으로 계산한다.
+	private static long estimateBytes(
+		Map<Long, DayEntry[]> daysByCategoryId,
+		Map<Long, DayEntry> dayByDailyContentId,
+		Map<Long, QuizEntry> quizByQuizId
+	) {
+		long bytes = 0;
+
+		for (DayEntry[] days : daysByCategoryId.values()) {
+			bytes += MAP_ENTRY_BYTES + OBJECT_HEADER_BYTES + REFERENCE_BYTES * days.length;
+		}
+
+		for (DayEntry day : dayByDailyContentId.values()) {
+			bytes += MAP_ENTRY_BYTES + OBJECT_HEADER_BYTES + REFERENCE_BYTES * 10 + 8 + 4;
+			bytes += stringBytes(day.title()) + stringBytes(day.summary()) + stringBytes(day.bodyText())
+				+ stringBytes(day.keyword()) + stringBytes(day.imageUrl());
+			bytes += OBJECT_HEADER_BYTES * 2 + REFERENCE_BYTES * (day.quizzes().size() + day.newsItems().size());
+			for (NewsEntry news : day.newsItems()) {
+				bytes += OBJECT_HEADER_BYTES + REFERENCE_BYTES * 3
+					+ stringBytes(news.title()) + stringBytes(news.url()) + stringBytes(news.imageUrl());
+			}
+		}
+
+		for (QuizEntry quiz : quizByQuizId.values()) {
+			bytes += MAP_ENTRY_BYTES + OBJECT_HEADER_BYTES + REFERENCE_BYTES * 4 + 8 + 8 + 4 + 4;
+			bytes += stringBytes(quiz.question()) + OBJECT_HEADER_BYTES + REFERENCE_BYTES * quiz.options().size();
+			for (String option : quiz.options()) {
+				bytes += stringBytes(option);
+			}
+		}
+
+		return bytes;
+	}
+
+	private static long stringBytes(String value) {
+		if (value == null) {
+			return 0;
+		}
+		// String 객체 + byte[] 헤더 + 내용
+		return OBJECT_HEADER_BYTES + 8 + OBJECT_HEADER_BYTES + 4 + value.length() * 2L;
+	}
+
+	// =============================
+	// 엔트리
+	// =============================
+
+	public record DayEntry(
+		Long dailyContentId,
+		Long categoryId,
+		int daySequence,
+		String title,
+		String summary,
+		String bodyText,
+		String keyword,
+		String imageUrl,
+		List<QuizEntry> quizzes,
+		List<NewsEntry> newsItems
+	) {
+	}
+
+	public record QuizEntry(
+		Long quizId,
+		Long dailyContentId,
+		String question,
+		int questionOrder,
+		int answerIndex,
+		List<String> options
+	) {
+	}
+
+	public record NewsEntry(
+		String title,
+		String url,
+		String imageUrl
+	) {
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.oneco.backend.dailycontent.infrastructure.catalog;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContent;
+import com.oneco.backend.dailycontent.domain.event.ContentChangedEvent;
+import com.oneco.backend.dailycontent.infrastructure.persistence.DailyContentJpaRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 ContentCatalog를 들고 있는 컴포넌트
+ * <p>
+ * - 애플리케이션 기동 완료 시 1회 적재, ContentChangedEvent 발행 시(커밋 이후) 재적재한다.
+ * - 인스턴스마다 check-interval 간격으로 DB 요약값(ContentCatalogSignature)을 비교해
+ *   다른 인스턴스나 DB에서 직접 바뀐 콘텐츠도 재적재한다. 요약값으로 잡지 못하는 변경은 max-age가 지나면 재적재한다.
+ * - 변경을 감지했는데 재적재에 실패하면 카탈로그를 stale로 표시하고, 성공할 때까지 빈 카탈로그를 내준다.
+ *   (모든 조회가 miss -> 호출 측에서 DB로 조회)
+ * - 새 카탈로그를 다 만든 뒤 volatile 참조를 한 번에 바꿔 끼우므로
+ *   읽는 쪽은 락 없이 항상 "완성된" 카탈로그 하나만 보게 된다.
+ */
+@Slf4j
+@Component
+public class ContentCatalogProvider {
+
+	private static final ContentCatalog EMPTY = ContentCatalog.empty();
+
+	private final DailyContentJpaRepository dailyContentJpaRepository;
+	private final Duration maxAge;
+
+	private final AtomicLong versionSequence = new AtomicLong();
+	private volatile ContentCatalog current = EMPTY;
+	private volatile boolean stale;
+	private ContentCatalogSignature loadedSignature;
+
+	/**
+	 * @param maxAge 요약값이 같아도 이 시간이 지나면 다시 적재한다. (Quiz / NewsItem 내용 수정 반영 상한)
+	 */
+	public ContentCatalogProvider(
+		DailyContentJpaRepository dailyContentJpaRepository,
+		@Value("${content.catalog.max-age:PT10M}") Duration maxAge
+	) {
+		this.dailyContentJpaRepository = dailyContentJpaRepository;
+		this.maxAge = maxAge;
+	}
+
+	public ContentCatalog current() {
+		return stale ? EMPTY : current;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		refresh();
+	}
+
+	// 콘텐츠 변경 트랜잭션이 커밋된 뒤에 다시 적재한다. (트랜잭션 밖에서 발행되면 즉시 실행)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onContentChanged(ContentChangedEvent event) {
+		log.info("[ContentCatalog] 콘텐츠 변경 감지 - dailyContentId={}, reason={}", event.dailyContentId(), event.reason());
+		refresh();
+	}
+
+	// 다른 인스턴스 / DB 직접 수정 감지
+	@Scheduled(
+		initialDelayString = "${content.catalog.check-interval:PT30S}",
+		fixedDelayString = "${content.catalog.check-interval:PT30S}"
+	)
+	public synchronized void checkForChanges() {
+		ContentCatalogSignature signature;
+		try {
+			signature = dailyContentJpaRepository.findCatalogSignature();
+		} catch (RuntimeException e) {
+			log.warn("[ContentCatalog] 변경 확인 실패 - 다음 주기에 다시 확인", e);
+			return;
+		}
+
+		boolean changed = !Objects.equals(signature, loadedSignature);
+		boolean expired = current.builtAt().plus(maxAge).isBefore(Instant.now());
+		if (!changed && !expired) {
+			return;
+		}
+		if (changed) {
+			// 재적재가 끝나기 전까지 이전 카탈로그를 내주지 않는다.
+			stale = true;
+			log.info("[ContentCatalog] DB 변경 감지 - loaded={}, db={}", loadedSignature, signature);
+		}
+		refresh();
+	}
+
+	// 동시에 여러 번 호출되어도 적재는 한 번에 하나씩만 수행한다.
+	public synchronized ContentCatalog refresh() {
+		long startedNanos = System.nanoTime();
+		try {
+			// 요약값을 먼저 읽는다. 적재 중에 바뀐 내용은 다음 확인에서 다시 감지된다.
+			ContentCatalogSignature signature = dailyContentJpaRepository.findCatalogSignature();
+
+			// quizzes / newsItems 는 둘 다 List(bag)라 한 쿼리로 동시에 fetch join 할 수 없어 2번에 나눠 조회한다.
+			List<DailyContent> withQuizzes = dailyContentJpaRepository.findAllWithQuizzes();
+			List<DailyContent> withNewsItems = dailyContentJpaRepository.findAllWithNewsItems();
+
+			ContentCatalog built = ContentCatalog.build(
+				versionSequence.incrementAndGet(), withQuizzes, withNewsItems, startedNanos);
+			current = built;
+			loadedSignature = signature;
+			stale = false;
+
+			log.info("[ContentCatalog] 적재 완료 - {}", built);
+			return built;
+		} catch (RuntimeException e) {
+			log.error("[ContentCatalog] 적재 실패 - 이전 카탈로그(version={}, stale={}) 유지", current.version(), stale, e);
+			return current();
+		}
+	}
+
+	// DB 변경을 감지했지만 아직 재적재하지 못한 상태
+	public boolean isStale() {
+		return stale;
+	}
+}
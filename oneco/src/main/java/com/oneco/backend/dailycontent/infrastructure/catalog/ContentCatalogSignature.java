@@ -0,0 +1,21 @@
+package com.oneco.backend.dailycontent.infrastructure.catalog;
+
+import java.time.Instant;
+
+/**
+ * ContentCatalog 변경 감지용 DB 요약값 (쿼리 1번으로 조회)
+ * <p>
+ * - 행 추가/삭제: 테이블별 건수와 최대 id가 바뀐다.
+ * - DailyContent 수정: max(updatedAt)이 바뀐다.
+ * - Quiz / NewsItem 은 수정 시각 컬럼이 없어 내용만 바뀐 경우는 잡지 못한다.
+ *   (ContentCatalogProvider의 max-age 재적재로 보완)
+ */
+public record ContentCatalogSignature(
+	long dailyContentCount,
+	Instant lastUpdatedAt,
+	long quizCount,
+	Long lastQuizId,
+	long newsItemCount,
+	Long lastNewsItemId
+) {
+}
@@ -8,8 +8,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardDaySnapshot;
 import com.oneco.backend.dailycontent.domain.dailycontent.DailyContent;
 import com.oneco.backend.dailycontent.domain.dailycontent.DaySequence;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalogSignature;
 
 @Repository
 public interface DailyContentJpaRepository extends JpaRepository<DailyContent, Long> {
@@ -49,6 +51,44 @@ public interface DailyContentJpaRepository extends JpaRepository<DailyContent, L
 	// 카테고리의 모든 DailyContent를 순서대로 조회한다.
 	List<DailyContent> findAllByCategoryId_ValueOrderByDaySequence(Long categoryId);
 
+	// 홈 대시보드 캘린더용: 카테고리의 DailyContent 전체를 daySequence 순으로 필요한 컬럼만 조회한다.
+	@Query("""
+		select new com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardDaySnapshot(
+			dc.id, dc.daySequence, dc.keyword.value
+		)
+		from DailyContent dc
+		where dc.categoryId.value = :categoryId
+		order by dc.daySequence asc
+		""")
+	List<HomeDashboardDaySnapshot> findDashboardDaysByCategoryId(@Param("categoryId") Long categoryId);
+
+	// ContentCatalog 적재용: 전체 DailyContent를 Quizzes와 함께 조회한다.
+	@Query("""
+		select distinct dc
+		from DailyContent dc
+		left join fetch dc.quizzes q
+		""")
+	List<DailyContent> findAllWithQuizzes();
+
+	// ContentCatalog 적재용: 전체 DailyContent를 NewsItems와 함께 조회한다.
+	@Query("""
+		select distinct dc
+		from DailyContent dc
+		left join fetch dc.newsItems ni
+		""")
+	List<DailyContent> findAllWithNewsItems();
+
+	// ContentCatalog 변경 감지용: 건수 / 최대 id / 최종 수정 시각을 한 번에 조회한다.
+	@Query("""
+		select new com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalogSignature(
+			count(dc), max(dc.updatedAt),
+			(select count(q) from Quiz q), (select max(q.id) from Quiz q),
+			(select count(ni) from NewsItem ni), (select max(ni.id) from NewsItem ni)
+		)
+		from DailyContent dc
+		""")
+	ContentCatalogSignature findCatalogSignature();
+
 	// 여러 DailyContent를 NewsItems와 함께 조회한다.
 	// distinct를 사용하는 이유:
 	// - DailyContent와 NewsItems는 일대다 관계이므로
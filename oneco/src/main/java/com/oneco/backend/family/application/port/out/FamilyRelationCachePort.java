@@ -0,0 +1,15 @@
+package com.oneco.backend.family.application.port.out;
+
+import java.util.List;
+
+import com.oneco.backend.family.domain.relation.ConnectedRelation;
+import com.oneco.backend.member.domain.MemberId;
+
+public interface FamilyRelationCachePort {
+
+	// 멤버가 속한 연결된 가족 관계 목록 (캐시 -> 없으면 DB)
+	List<ConnectedRelation> findConnectedRelations(MemberId memberId);
+
+	// 가족 관계가 연결/해제되면 양쪽 멤버의 캐시를 비운다.
+	void evict(MemberId parentId, MemberId childId);
+}
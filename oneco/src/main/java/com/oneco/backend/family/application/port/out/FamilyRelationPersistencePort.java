@@ -1,6 +1,5 @@
 package com.oneco.backend.family.application.port.out;
 
-import java.util.List;
 import java.util.Optional;
 
 import com.oneco.backend.family.domain.relation.FamilyRelation;
@@ -16,8 +15,4 @@ public interface FamilyRelationPersistencePort {
 	int countActiveParentsByChildId(MemberId childId);
 
 	Optional<FamilyRelation> findByParentIdAndChildId(MemberId parentId, MemberId childId);
-
-	boolean existsByMemberId(MemberId memberId);
-
-	List<FamilyRelation> findConnectedRelationsByMemberId(MemberId memberId);
 }
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.oneco.backend.family.application.dto.command.ConnectFamilyRelationCommand;
 import com.oneco.backend.family.application.dto.result.FamilyRelationResult;
 import com.oneco.backend.family.application.port.in.ConnectFamilyRelationUseCase;
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
 import com.oneco.backend.family.application.port.out.FamilyRelationPersistencePort;
 import com.oneco.backend.family.application.port.out.MemberLookupPort;
 import com.oneco.backend.family.domain.exception.constant.FamilyErrorCode;
@@ -28,6 +29,7 @@ public class ConnectFamilyRelationService implements ConnectFamilyRelationUseCas
 
 	private final FamilyRelationPersistencePort relationPort;
 	private final MemberLookupPort memberLookupPort;
+	private final FamilyRelationCachePort relationCachePort;
 
 	@Override
 	@Transactional(isolation = Isolation.SERIALIZABLE)
@@ -59,6 +61,9 @@ public class ConnectFamilyRelationService implements ConnectFamilyRelationUseCas
 				}
 			});
 
+		// 4. 양쪽 멤버의 가족 관계 캐시 무효화
+		relationCachePort.evict(parentId, childId);
+
 		return FamilyRelationResult.of(
 			relation.getId(),
 			relation.getParentId().getValue(),
@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.oneco.backend.family.application.dto.command.DisconnectFamilyRelationCommand;
 import com.oneco.backend.family.application.dto.result.FamilyRelationResult;
 import com.oneco.backend.family.application.port.in.DisconnectFamilyRelationUseCase;
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
 import com.oneco.backend.family.application.port.out.FamilyRelationPersistencePort;
 import com.oneco.backend.family.domain.exception.constant.FamilyErrorCode;
 import com.oneco.backend.family.domain.relation.FamilyRelation;
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class DisconnectFamilyRelationService implements DisconnectFamilyRelationUseCase {
 	private final FamilyRelationPersistencePort relationPort;
+	private final FamilyRelationCachePort relationCachePort;
 
 	@Override
 	public FamilyRelationResult disconnect(DisconnectFamilyRelationCommand command) {
@@ -27,6 +29,9 @@ public class DisconnectFamilyRelationService implements DisconnectFamilyRelation
 
 		relation.disconnect(MemberId.of(command.actorId()));
 
+		// 양쪽 멤버의 가족 관계 캐시 무효화
+		relationCachePort.evict(relation.getParentId(), relation.getChildId());
+
 		return FamilyRelationResult.of(
 			relation.getId(),
 			relation.getParentId().getValue(),
@@ -3,7 +3,7 @@ package com.oneco.backend.family.application.service;
 import org.springframework.stereotype.Service;
 
 import com.oneco.backend.family.application.port.in.ExistsFamilyRelationUseCase;
-import com.oneco.backend.family.application.port.out.FamilyRelationPersistencePort;
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
 import com.oneco.backend.member.domain.MemberId;
 
 import lombok.RequiredArgsConstructor;
@@ -12,11 +12,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ExistsFamilyRelationService implements ExistsFamilyRelationUseCase {
 
-	private final FamilyRelationPersistencePort relationPort;
+	private final FamilyRelationCachePort relationCachePort;
 
 	// 회원의 가족 관계 존재 여부 확인 구현
 	@Override
 	public boolean existsFamilyRelation(MemberId memberId) {
-		return relationPort.existsByMemberId(memberId);
+		return !relationCachePort.findConnectedRelations(memberId).isEmpty();
 	}
 }
@@ -9,10 +9,10 @@ import org.springframework.transaction.annotation.Transactional;
 import com.oneco.backend.family.application.dto.result.FamilyMembersResult;
 import com.oneco.backend.family.application.dto.result.FamilyMembersResult.FamilyMemberResult;
 import com.oneco.backend.family.application.port.in.GetFamilyMembersUseCase;
-import com.oneco.backend.family.application.port.out.FamilyRelationPersistencePort;
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
 import com.oneco.backend.family.application.port.out.MemberLookupPort;
 import com.oneco.backend.family.domain.exception.constant.FamilyErrorCode;
-import com.oneco.backend.family.domain.relation.FamilyRelation;
+import com.oneco.backend.family.domain.relation.ConnectedRelation;
 import com.oneco.backend.global.exception.BaseException;
 import com.oneco.backend.member.domain.Member;
 import com.oneco.backend.member.domain.MemberId;
@@ -24,12 +24,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class FamilyMemberReadService implements GetFamilyMembersUseCase {
 
-	private final FamilyRelationPersistencePort relationPort;
+	private final FamilyRelationCachePort relationCachePort;
 	private final MemberLookupPort memberLookupPort;
 
 	@Override
 	public Optional<FamilyMembersResult> getFamilyMembers(MemberId memberId) {
-		List<FamilyRelation> relations = relationPort.findConnectedRelationsByMemberId(memberId);
+		List<ConnectedRelation> relations = relationCachePort.findConnectedRelations(memberId);
 
 		// 가족 관계가 없는 경우 빈 Optional 반환
 		if (relations.isEmpty()) {
@@ -45,12 +45,10 @@ public class FamilyMemberReadService implements GetFamilyMembersUseCase {
 	}
 
 	// 요청자의 상대방 멤버 정보를 조회하는 메서드
-	private FamilyMemberResult resolveCounterpart(FamilyRelation relation, MemberId requesterId) {
+	private FamilyMemberResult resolveCounterpart(ConnectedRelation relation, MemberId requesterId) {
 
 		// 요청자가 부모인지 자식인지에 따라 상대방 멤버 ID 결정
-		MemberId counterpartId = relation.getParentId().equals(requesterId)
-			? relation.getChildId()
-			: relation.getParentId();
+		MemberId counterpartId = relation.counterpartOf(requesterId);
 
 		Member counterpart = memberLookupPort.findById(counterpartId)
 			.orElseThrow(() -> BaseException.from(FamilyErrorCode.FAMILY_MEMBER_NOT_FOUND));
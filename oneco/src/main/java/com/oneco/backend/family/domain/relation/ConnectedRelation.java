@@ -0,0 +1,34 @@
+package com.oneco.backend.family.domain.relation;
+
+import com.oneco.backend.member.domain.MemberId;
+
+/**
+ * 연결(CONNECTED)된 가족 관계의 식별자만 담은 읽기 전용 값
+ * - 엔티티 대신 캐시에 보관하기 위한 불변 값이다. (영속성 컨텍스트와 무관)
+ */
+public record ConnectedRelation(
+	Long relationId,
+	Long parentId,
+	Long childId
+) {
+
+	// 해당 멤버가 이 관계의 부모 또는 자녀인지 확인
+	public boolean involves(MemberId memberId) {
+		return parentId.equals(memberId.getValue()) || childId.equals(memberId.getValue());
+	}
+
+	// 두 멤버가 (순서 상관없이) 이 관계의 부모-자녀인지 확인
+	public boolean connects(MemberId memberA, MemberId memberB) {
+		return (parentId.equals(memberA.getValue()) && childId.equals(memberB.getValue()))
+			|| (parentId.equals(memberB.getValue()) && childId.equals(memberA.getValue()));
+	}
+
+	// 요청자의 상대방 멤버 ID
+	public MemberId counterpartOf(MemberId memberId) {
+		return parentId.equals(memberId.getValue()) ? MemberId.of(childId) : MemberId.of(parentId);
+	}
+
+	public boolean isParent(MemberId memberId) {
+		return parentId.equals(memberId.getValue());
+	}
+}
@@ -0,0 +1,173 @@
+package com.oneco.backend.family.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
+import com.oneco.backend.family.domain.relation.ConnectedRelation;
+import com.oneco.backend.family.infrastructure.persistence.FamilyRelationJpaRepository;
+import com.oneco.backend.member.domain.MemberId;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * memberId -> 연결된 가족 관계 목록 캐시
+ * <p>
+ * - 가족 관계는 연결/해제 때만 바뀌는데, 미션 화면마다 (parent OR child) 조회가 반복되므로 메모리에 둔다.
+ * - 가족이 없는 멤버도 빈 목록으로 캐시한다. (존재 여부 확인이 가장 흔한 호출)
+ * - 최대 capacity 명까지만 보관하고, 넘치면 가장 오래 쓰지 않은 멤버부터 버린다. (LRU)
+ * <p>
+ * 무효화
+ * - ConnectFamilyRelationService / DisconnectFamilyRelationService가 evict()를 호출한다.
+ * - 즉시 비우고, 트랜잭션 안이라면 커밋 직후에 한 번 더 비운다.
+ *   (커밋 전에 다른 요청이 옛 상태를 다시 올려놓는 경우를 정리)
+ * - DB 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않는다. (generation 비교)
+ * - evict()는 이 인스턴스만 비운다. 다른 인스턴스의 항목은 적재 후 ttl이 지나면 버려지므로
+ *   연결/해제가 다른 인스턴스에 반영되기까지 최대 ttl이 걸린다. (미션 / 히스토리 접근 검사가 이 값을 쓰므로 짧게 둔다)
+ */
+@Slf4j
+@Component
+public class FamilyRelationCache implements FamilyRelationCachePort {
+
+	private final FamilyRelationJpaRepository repository;
+	private final int capacity;
+	private final Duration ttl;
+	private final Clock clock;
+
+	// access-order LinkedHashMap (this로 동기화)
+	private final Map<Long, Entry> entries;
+	private final AtomicLong generation = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	@Autowired
+	public FamilyRelationCache(
+		FamilyRelationJpaRepository repository,
+		@Value("${family-relation-cache.capacity:10000}") int capacity,
+		@Value("${family-relation-cache.ttl:PT30S}") Duration ttl
+	) {
+		this(repository, capacity, ttl, Clock.systemUTC());
+	}
+
+	public FamilyRelationCache(FamilyRelationJpaRepository repository, int capacity, Duration ttl, Clock clock) {
+		this.repository = repository;
+		this.capacity = capacity;
+		this.ttl = ttl;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+				return size() > FamilyRelationCache.this.capacity;
+			}
+		};
+	}
+
+	@Override
+	public List<ConnectedRelation> findConnectedRelations(MemberId memberId) {
+		Long key = memberId.getValue();
+		Instant now = clock.instant();
+		Entry cached;
+		synchronized (this) {
+			cached = entries.get(key);
+			if (cached != null && !now.isBefore(cached.expiresAt())) {
+				entries.remove(key);
+				cached = null;
+			}
+		}
+		if (cached != null) {
+			hits.increment();
+			return cached.relations();
+		}
+
+		misses.increment();
+		long loadedGeneration = generation.get();
+		List<ConnectedRelation> loaded = List.copyOf(repository.findConnectedRelationViewsByMemberId(memberId));
+
+		synchronized (this) {
+			if (generation.get() == loadedGeneration) {
+				// 만료는 DB 조회 전 시각 기준 (조회가 오래 걸려도 ttl을 넘겨 보관하지 않는다)
+				entries.put(key, new Entry(loaded, now.plus(ttl)));
+			}
+		}
+		return loaded;
+	}
+
+	@Override
+	public void evict(MemberId parentId, MemberId childId) {
+		evictNow(parentId.getValue(), childId.getValue());
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(parentId.getValue(), childId.getValue());
+				}
+			});
+		}
+	}
+
+	// 전체 비우기 (운영 중 수동 정리 / 테스트)
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		synchronized (this) {
+			entries.clear();
+		}
+	}
+
+	private void evictNow(Long parentId, Long childId) {
+		generation.incrementAndGet();
+		synchronized (this) {
+			entries.remove(parentId);
+			entries.remove(childId);
+		}
+		evictions.increment();
+		log.debug("[FamilyRelationCache] evict - parentId={}, childId={}", parentId, childId);
+	}
+
+	// =============================
+	// 지표
+	// =============================
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	public double hitRate() {
+		long hit = hits.sum();
+		long total = hit + misses.sum();
+		return total == 0 ? 0.0 : (double)hit / total;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	private record Entry(List<ConnectedRelation> relations, Instant expiresAt) {
+	}
+}
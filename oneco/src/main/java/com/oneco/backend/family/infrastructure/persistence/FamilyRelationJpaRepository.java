@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
 
 import com.oneco.backend.StudyRecord.application.dto.result.MemberItem;
+import com.oneco.backend.family.domain.relation.ConnectedRelation;
 import com.oneco.backend.family.domain.relation.FamilyRelation;
 import com.oneco.backend.member.domain.MemberId;
 
@@ -30,17 +31,15 @@ public interface FamilyRelationJpaRepository extends JpaRepository<FamilyRelatio
 	@Lock(LockModeType.PESSIMISTIC_WRITE) // 낙관적 잠금 설정
 	Optional<FamilyRelation> findByParentIdAndChildId(MemberId parentId, MemberId childId);
 
-	// 멤버가 속한 가족 관계 조회 (부모 또는 자녀)
-	@Query("select f from FamilyRelation f " +
-		"where (f.parentId = :memberId or f.childId = :memberId) " +
-		"and f.status = 'CONNECTED'")
-	List<FamilyRelation> findConnectedRelationByMemberId(MemberId memberId);
-
-	// 멤버가 연결된 가족 관계를 갖고 있는지 여부 확인
-	@Query("select (count(f) > 0) from FamilyRelation f " +
-		"where (f.parentId = :memberId or f.childId = :memberId) " +
-		"and f.status = 'CONNECTED'")
-	boolean existsConnectedRelationByMemberId(MemberId memberId);
+	// 캐시 적재용: 멤버가 속한 연결된 가족 관계의 식별자만 조회 (엔티티를 올리지 않음)
+	@Query("""
+		select new com.oneco.backend.family.domain.relation.ConnectedRelation(f.id, f.parentId.value, f.childId.value)
+			from FamilyRelation f
+			where (f.parentId = :memberId or f.childId = :memberId)
+			and f.status = 'CONNECTED'
+			order by f.id asc
+	""")
+	List<ConnectedRelation> findConnectedRelationViewsByMemberId(@Param("memberId") MemberId memberId);
 
 	// 부모 ID를 통해서 연결된 자녀 목록 조회
 	@Query("""
@@ -1,6 +1,5 @@
 package com.oneco.backend.family.infrastructure.persistence;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
@@ -41,14 +40,4 @@ public class FamilyRelationPersistenceAdapter implements FamilyRelationPersisten
 		return repository.findByParentIdAndChildId(parentId, childId);
 	}
 
-	@Override
-	public boolean existsByMemberId(MemberId memberId) {
-		return repository.existsConnectedRelationByMemberId(memberId);
-	}
-
-	@Override
-	public List<FamilyRelation> findConnectedRelationsByMemberId(MemberId memberId) {
-		return repository.findConnectedRelationByMemberId(memberId);
-	}
-
 }
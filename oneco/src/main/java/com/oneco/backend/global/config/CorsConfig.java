@@ -26,7 +26,7 @@ public class CorsConfig {
 
 		config.setAllowedHeaders(List.of("*"));
 
-		config.setExposedHeaders(List.of("Authorization"));
+		config.setExposedHeaders(List.of("Authorization", "Idempotent-Replayed"));
 
 		config.setAllowCredentials(true);
 
@@ -0,0 +1,11 @@
+package com.oneco.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+	// MissionBatchService의 @Scheduled 메서드(자정 실패 처리 / 00:10 시작 처리)가
+	// 실제로 실행되도록 스케쥴링을 활성화하는 설정 클래스입니다.
+}
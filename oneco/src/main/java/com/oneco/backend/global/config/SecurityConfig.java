@@ -16,6 +16,7 @@ import com.oneco.backend.global.security.jwt.filter.AccessTokenFilter;
 import com.oneco.backend.global.security.jwt.filter.OnboardingTokenFilter;
 import com.oneco.backend.global.security.jwt.filter.RefreshTokenFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -59,6 +60,9 @@ public class SecurityConfig {
 
 			// 4. URL 별 인가(authorization) 규칙
 			.authorizeHttpRequests(auth -> auth
+				// StreamingResponseBody(히스토리 내보내기) 응답을 다 쓴 뒤의 ASYNC 디스패치
+				// - 인가는 첫 요청(REQUEST 디스패치)에서 끝났고, STATELESS라 ASYNC 디스패치에는 인증 정보가 없다.
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				//인증 없이 누구나 접근 가능한 URL 패턴
 				.requestMatchers(
 					"/api/auth/kakao/login/**", //로그인, 회원가입, 토큰 재발급
@@ -67,7 +71,9 @@ public class SecurityConfig {
 					"/api/auth/refresh",
 					"/swagger-ui/**",
 					"/api/onboarding/**",
-					"/v3/api-docs/**"
+					"/v3/api-docs/**",
+					"/actuator/health/**", // Docker HEALTHCHECK
+					"/actuator/info"
 				).permitAll()
 				//관리자 전용 URL 패턴
 				//                        .requestMatchers(
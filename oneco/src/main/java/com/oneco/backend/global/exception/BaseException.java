@@ -1,31 +1,62 @@
 package com.oneco.backend.global.exception;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.http.HttpStatus;
 
 import com.oneco.backend.global.exception.constant.ErrorCode;
 
 import lombok.Getter;
 
+/**
+ * 도메인 공통 예외
+ * <p>
+ * - 예상된 비즈니스 오류(ErrorCode.isExpected(), 기본값: 4xx)는 스택 트레이스를 채우지 않는다.
+ *   이미 제출된 퀴즈, 만료된 토큰처럼 평범한 요청 결과인데도 필터/AOP/Hibernate 프록시를 거친
+ *   깊은 스택을 매번 복사하는 비용을 없앤다. (GlobalExceptionHandler도 이 경우 트레이스를 남기지 않는다)
+ * - 메시지가 고정인 from(errorCode)는 ErrorCode당 인스턴스 1개를 재사용한다.
+ *   스택 트레이스/suppressed/cause가 없는 불변 객체라 여러 스레드에서 동시에 던져도 안전하다.
+ * - 예상하지 못한 오류(5xx)는 지금처럼 매번 새로 만들고 전체 스택 트레이스를 남긴다.
+ */
 @Getter
 public class BaseException extends RuntimeException {
 
+	private static final Map<ErrorCode, BaseException> EXPECTED_CACHE = new ConcurrentHashMap<>();
+
 	private final HttpStatus httpStatus;
 	private final String code;
+	private final boolean expected;
 
 	protected BaseException(String message, HttpStatus httpStatus, String code) {
 		super(message);
 		this.httpStatus = httpStatus;
 		this.code = code;
+		this.expected = false;
+	}
+
+	// 스택 트레이스/suppressed 없이 만든다. (예상된 비즈니스 오류 전용)
+	private BaseException(String message, ErrorCode errorCode) {
+		super(message, null, false, false);
+		this.httpStatus = errorCode.getHttpStatus();
+		this.code = errorCode.getCode();
+		this.expected = true;
 	}
 
 	public static BaseException from(ErrorCode errorCode) {
+		if (errorCode.isExpected()) {
+			return EXPECTED_CACHE.computeIfAbsent(errorCode,
+				code -> new BaseException(code.getMessage(), code));
+		}
 		return new BaseException(errorCode.getMessage(), errorCode.getHttpStatus(), errorCode.getCode()) {
 		};
 	}
 
 	public static BaseException from(ErrorCode errorCode, String detailMessage){
+		if (errorCode.isExpected()) {
+			return new BaseException(detailMessage, errorCode);
+		}
 		return new BaseException(detailMessage, errorCode.getHttpStatus(), errorCode.getCode()) {
 		};
 	}
 }
-
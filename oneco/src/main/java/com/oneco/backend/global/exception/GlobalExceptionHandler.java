@@ -26,7 +26,12 @@ public class GlobalExceptionHandler {
 	@ExceptionHandler(BaseException.class)
 	public ResponseEntity<Object> handleBaseException(BaseException e) {
 
-		log.info("{}: {}", e.getClass().getSimpleName(), e.getMessage(), e);
+		// 예상된 비즈니스 오류는 한 줄만 남기고, 예상하지 못한 오류만 전체 스택 트레이스를 남긴다.
+		if (e.isExpected()) {
+			log.info("[{}] {}", e.getCode(), e.getMessage());
+		} else {
+			log.error("[{}] {}", e.getCode(), e.getMessage(), e);
+		}
 
 		return ResponseEntity
 			.status(e.getHttpStatus())
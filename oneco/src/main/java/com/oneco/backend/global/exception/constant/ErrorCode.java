@@ -9,4 +9,10 @@ public interface ErrorCode {
 
 	HttpStatus getHttpStatus();
 
+	// 평범한 요청 결과로 일어나는 비즈니스 오류인지 (true면 BaseException이 스택 트레이스를 남기지 않는다)
+	// - 기본값: 4xx는 예상된 오류, 5xx는 예상하지 못한 오류
+	default boolean isExpected() {
+		return getHttpStatus().is4xxClientError();
+	}
+
 }
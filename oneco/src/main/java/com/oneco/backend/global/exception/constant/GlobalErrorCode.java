@@ -11,6 +11,7 @@ public enum GlobalErrorCode implements ErrorCode {
 
 	// 400 Bad Request
 	INVALID_REQUEST(HttpStatus.BAD_REQUEST, "유효하지 않은 요청입니다.", "CLIENT_ERROR_400_INVALID_REQUEST"),
+	INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 헤더 값이 올바르지 않습니다.", "CLIENT_ERROR_400_INVALID_IDEMPOTENCY_KEY"),
 	VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "요청 값이 유효하지 않습니다.", "CLIENT_ERROR_400_VALIDATION_ERROR"),
 	MISSING_PARAMETER(HttpStatus.BAD_REQUEST, "필수 요청 값이 누락되었습니다.", "CLIENT_ERROR_400_MISSING_PARAMETER"),
 	TYPE_MISMATCH(HttpStatus.BAD_REQUEST, "요청 값의 형식이 올바르지 않습니다.", "CLIENT_ERROR_400_TYPE_MISMATCH"),
@@ -36,6 +37,12 @@ public enum GlobalErrorCode implements ErrorCode {
 	// 409 Conflict
 	CONFLICT(HttpStatus.CONFLICT, "요청이 현재 리소스 상태와 충돌합니다.", "CLIENT_ERROR_409_CONFLICT"),
 	DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "이미 존재하는 리소스입니다.", "CLIENT_ERROR_409_DUPLICATE_RESOURCE"),
+	IDEMPOTENCY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다. 잠시 후 다시 시도해 주세요.",
+		"CLIENT_ERROR_409_IDEMPOTENCY_IN_PROGRESS"),
+
+	// 422 Unprocessable Entity
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 내용의 요청을 보낼 수 없습니다.",
+		"CLIENT_ERROR_422_IDEMPOTENCY_KEY_REUSED"),
 
 	// 415 Unsupported Media Type
 	UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 콘텐츠 타입입니다.",
@@ -51,6 +58,7 @@ public enum GlobalErrorCode implements ErrorCode {
 	EXTERNAL_API_ERROR(HttpStatus.BAD_GATEWAY, "외부 API 통신 오류입니다.", "SERVER_ERROR_502_EXTERNAL_API_ERROR"),
 	SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "현재 서비스를 이용할 수 없습니다.", "SERVER_ERROR_503_SERVICE_UNAVAILABLE"),
 	GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "게이트웨이 시간 초과입니다.", "SERVER_ERROR_504_GATEWAY_TIMEOUT"),
+	JOB_LEASE_LOST(HttpStatus.SERVICE_UNAVAILABLE, "스케쥴 작업 실행권을 잃어 작업을 중단했습니다.", "SERVER_ERROR_503_JOB_LEASE_LOST"),
 	;
 
 	private final HttpStatus httpStatus;
@@ -0,0 +1,205 @@
+package com.oneco.backend.global.idempotency.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+import com.oneco.backend.global.idempotency.domain.IdempotencyEntry;
+import com.oneco.backend.global.idempotency.domain.IdempotencyStore;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리
+ * <p>
+ * 1. 같은 인스턴스에서 같은 키가 처리 중이면, 새로 실행하지 않고 그 결과를 기다렸다가 같이 돌려준다. (coalescing)
+ * 2. 저장소에 키를 "처리 중"으로 점유한다.
+ *    - 이미 완료된 키: 저장된 첫 응답을 그대로 돌려준다. (DB를 전혀 건드리지 않는다)
+ *    - 다른 인스턴스에서 처리 중인 키: waitTimeout 동안 완료를 기다린다. 그래도 안 끝나면 IDEMPOTENCY_IN_PROGRESS
+ *    - 같은 키 + 다른 요청 내용: IDEMPOTENCY_KEY_REUSED
+ * 3. 점유에 성공하면 실행하고, 성공한 응답만 retention 동안 저장한다.
+ *    실패(예외)하면 점유를 풀어서 같은 키로 다시 시도할 수 있게 한다.
+ * <p>
+ * 트랜잭션 밖(컨트롤러)에서 호출해야 중복 요청이 트랜잭션/DB 조회를 시작하지 않는다.
+ */
+@Component
+public class IdempotentExecutor {
+
+	// 클라이언트가 보내는 키: UUID 등 1~64자 (영문/숫자/-/_/.)
+	private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+	private static final long POLL_INTERVAL_MILLIS = 50;
+
+	private final IdempotencyStore idempotencyStore;
+	private final ObjectMapper objectMapper;
+	private final Duration lockTtl;
+	private final Duration retention;
+	private final Duration waitTimeout;
+	private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+	public IdempotentExecutor(
+		IdempotencyStore idempotencyStore,
+		ObjectMapper objectMapper,
+		@Value("${idempotency.lock-ttl:PT30S}") Duration lockTtl,
+		@Value("${idempotency.retention:PT24H}") Duration retention,
+		@Value("${idempotency.wait-timeout:PT3S}") Duration waitTimeout
+	) {
+		this.idempotencyStore = idempotencyStore;
+		this.objectMapper = objectMapper;
+		this.lockTtl = lockTtl;
+		this.retention = retention;
+		this.waitTimeout = waitTimeout;
+	}
+
+	/**
+	 * @param scope              키 범위 (예: quiz-submit:{memberId}). 다른 사용자/API의 키와 섞이지 않게 한다.
+	 * @param idempotencyKey     클라이언트가 보낸 Idempotency-Key
+	 * @param requestFingerprint 요청 내용을 나타내는 문자열 (같은 키로 다른 내용을 보냈는지 확인용)
+	 * @param responseType       저장된 응답을 되살릴 타입
+	 * @param action             실제 처리
+	 */
+	public <T> IdempotentResult<T> execute(
+		String scope,
+		String idempotencyKey,
+		String requestFingerprint,
+		Class<T> responseType,
+		Supplier<T> action
+	) {
+		if (idempotencyKey == null || !KEY_PATTERN.matcher(idempotencyKey).matches()) {
+			throw BaseException.from(GlobalErrorCode.INVALID_IDEMPOTENCY_KEY);
+		}
+		String key = scope + ":" + idempotencyKey;
+		String requestHash = sha256(requestFingerprint);
+
+		// 1) 같은 인스턴스에서 처리 중인 요청과 합친다.
+		InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+		InFlight running = inFlight.putIfAbsent(key, mine);
+		if (running != null) {
+			if (!running.requestHash().equals(requestHash)) {
+				throw BaseException.from(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+			}
+			return IdempotentResult.replayed(read(await(running.response()), responseType));
+		}
+
+		try {
+			// 2) 저장소 점유 (이미 있으면 재생 또는 대기)
+			Optional<IdempotencyEntry> existing = idempotencyStore.claim(key, requestHash, lockTtl);
+			if (existing.isPresent()) {
+				String response = awaitStored(key, requestHash, existing.get());
+				mine.response().complete(response);
+				return IdempotentResult.replayed(read(response, responseType));
+			}
+
+			// 3) 실행 + 저장
+			T result;
+			String response;
+			try {
+				result = action.get();
+				response = write(result);
+			} catch (RuntimeException e) {
+				idempotencyStore.release(key, requestHash);
+				throw e;
+			}
+			idempotencyStore.complete(key, requestHash, response, retention);
+			mine.response().complete(response);
+			return IdempotentResult.executed(result);
+
+		} catch (RuntimeException e) {
+			mine.response().completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	// 다른 인스턴스가 점유한 키: 완료될 때까지 잠깐 기다린다.
+	private String awaitStored(String key, String requestHash, IdempotencyEntry entry) {
+		long deadline = System.nanoTime() + waitTimeout.toNanos();
+		IdempotencyEntry current = entry;
+		while (true) {
+			if (!current.isSameRequest(requestHash)) {
+				throw BaseException.from(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+			}
+			if (current.isCompleted()) {
+				return current.response();
+			}
+			if (System.nanoTime() >= deadline) {
+				throw BaseException.from(GlobalErrorCode.IDEMPOTENCY_IN_PROGRESS);
+			}
+			sleep();
+			// 첫 요청이 실패해서 점유가 풀렸으면, 이번 요청도 다시 시도하도록 알린다.
+			current = idempotencyStore.find(key)
+				.orElseThrow(() -> BaseException.from(GlobalErrorCode.IDEMPOTENCY_IN_PROGRESS));
+		}
+	}
+
+	// 같은 인스턴스의 처리 결과를 기다린다. 처리 중 예외가 났으면 같은 예외를 던진다.
+	private String await(CompletableFuture<String> response) {
+		try {
+			return response.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw BaseException.from(GlobalErrorCode.IDEMPOTENCY_IN_PROGRESS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw BaseException.from(GlobalErrorCode.IDEMPOTENCY_IN_PROGRESS);
+		} catch (ExecutionException | CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw BaseException.from(GlobalErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+		}
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(POLL_INTERVAL_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw BaseException.from(GlobalErrorCode.IDEMPOTENCY_IN_PROGRESS);
+		}
+	}
+
+	private String write(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw BaseException.from(GlobalErrorCode.INTERNAL_SERVER_ERROR, "idempotent response serialize failed");
+		}
+	}
+
+	private <T> T read(String response, Class<T> type) {
+		try {
+			return objectMapper.readValue(response, type);
+		} catch (JsonProcessingException e) {
+			throw BaseException.from(GlobalErrorCode.INTERNAL_SERVER_ERROR, "idempotent response deserialize failed");
+		}
+	}
+
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record InFlight(String requestHash, CompletableFuture<String> response) {
+	}
+}
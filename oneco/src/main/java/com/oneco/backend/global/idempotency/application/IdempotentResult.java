@@ -0,0 +1,19 @@
+package com.oneco.backend.global.idempotency.application;
+
+/**
+ * @param value    응답 값
+ * @param replayed true면 이번 요청은 실행하지 않고 처음 요청의 응답을 돌려준 것
+ */
+public record IdempotentResult<T>(
+	T value,
+	boolean replayed
+) {
+
+	static <T> IdempotentResult<T> executed(T value) {
+		return new IdempotentResult<>(value, false);
+	}
+
+	static <T> IdempotentResult<T> replayed(T value) {
+		return new IdempotentResult<>(value, true);
+	}
+}
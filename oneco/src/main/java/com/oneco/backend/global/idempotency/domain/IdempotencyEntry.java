@@ -0,0 +1,21 @@
+package com.oneco.backend.global.idempotency.domain;
+
+/**
+ * Idempotency-Key 1개의 저장 상태
+ *
+ * @param requestHash 처음 요청 내용의 해시 (같은 키로 다른 내용을 보냈는지 확인용)
+ * @param response    처음 요청의 응답(JSON). 아직 처리 중이면 null
+ */
+public record IdempotencyEntry(
+	String requestHash,
+	String response
+) {
+
+	public boolean isCompleted() {
+		return response != null;
+	}
+
+	public boolean isSameRequest(String requestHash) {
+		return this.requestHash.equals(requestHash);
+	}
+}
@@ -0,0 +1,23 @@
+package com.oneco.backend.global.idempotency.domain;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key별 처리 상태와 첫 응답을 보관한다.
+ * - 운영: Redis (RedisIdempotencyStore) - 여러 인스턴스가 공유
+ * - 테스트/단일 인스턴스: 메모리 (InMemoryIdempotencyStore)
+ */
+public interface IdempotencyStore {
+
+	// 키가 비어 있으면 lockTtl 동안 "처리 중"으로 점유하고 empty. 이미 있으면 기존 상태를 반환한다.
+	Optional<IdempotencyEntry> claim(String key, String requestHash, Duration lockTtl);
+
+	Optional<IdempotencyEntry> find(String key);
+
+	// 내가 점유한 키(같은 requestHash)의 "처리 중"을 응답으로 바꾸고 retention 동안 보관한다.
+	void complete(String key, String requestHash, String response, Duration retention);
+
+	// 처리에 실패했을 때 "처리 중"을 지워서 같은 키로 다시 시도할 수 있게 한다. (완료된 응답은 지우지 않는다)
+	void release(String key, String requestHash);
+}
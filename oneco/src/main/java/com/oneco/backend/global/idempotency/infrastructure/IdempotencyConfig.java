@@ -0,0 +1,25 @@
+package com.oneco.backend.global.idempotency.infrastructure;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.oneco.backend.global.idempotency.domain.IdempotencyStore;
+
+@Configuration
+public class IdempotencyConfig {
+
+	@Bean(name = "inMemoryIdempotencyStore")
+	@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory") // 테스트/로컬: idempotency.store=memory
+	public IdempotencyStore inMemoryIdempotencyStore() {
+		return new InMemoryIdempotencyStore();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(IdempotencyStore.class) // 기본값: 여러 인스턴스가 공유하는 Redis
+	public IdempotencyStore redisIdempotencyStore(StringRedisTemplate stringRedisTemplate) {
+		return new RedisIdempotencyStore(stringRedisTemplate);
+	}
+}
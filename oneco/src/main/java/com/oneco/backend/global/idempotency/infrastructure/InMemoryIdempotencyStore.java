@@ -0,0 +1,70 @@
+package com.oneco.backend.global.idempotency.infrastructure;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.oneco.backend.global.idempotency.domain.IdempotencyEntry;
+import com.oneco.backend.global.idempotency.domain.IdempotencyStore;
+
+/**
+ * 단일 JVM 용 Idempotency 저장소 (테스트 / 로컬 실행)
+ * - 같은 JVM 안에서만 중복 요청을 막는다.
+ * - 만료 시각은 주입받은 Clock으로 판단한다.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+	private final Clock clock;
+	private final Map<String, Held> entries = new HashMap<>();
+
+	public InMemoryIdempotencyStore() {
+		this(Clock.systemUTC());
+	}
+
+	public InMemoryIdempotencyStore(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public synchronized Optional<IdempotencyEntry> claim(String key, String requestHash, Duration lockTtl) {
+		Optional<IdempotencyEntry> existing = find(key);
+		if (existing.isPresent()) {
+			return existing;
+		}
+		entries.put(key, new Held(new IdempotencyEntry(requestHash, null), clock.instant().plus(lockTtl)));
+		return Optional.empty();
+	}
+
+	@Override
+	public synchronized Optional<IdempotencyEntry> find(String key) {
+		Held held = entries.get(key);
+		if (held == null || !held.expiresAt().isAfter(clock.instant())) {
+			entries.remove(key);
+			return Optional.empty();
+		}
+		return Optional.of(held.entry());
+	}
+
+	@Override
+	public synchronized void complete(String key, String requestHash, String response, Duration retention) {
+		Optional<IdempotencyEntry> existing = find(key);
+		if (existing.isPresent() && (existing.get().isCompleted() || !existing.get().isSameRequest(requestHash))) {
+			return;
+		}
+		entries.put(key, new Held(new IdempotencyEntry(requestHash, response), clock.instant().plus(retention)));
+	}
+
+	@Override
+	public synchronized void release(String key, String requestHash) {
+		Held held = entries.get(key);
+		if (held != null && !held.entry().isCompleted() && held.entry().isSameRequest(requestHash)) {
+			entries.remove(key);
+		}
+	}
+
+	private record Held(IdempotencyEntry entry, Instant expiresAt) {
+	}
+}
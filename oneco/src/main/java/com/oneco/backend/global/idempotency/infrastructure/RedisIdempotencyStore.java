@@ -0,0 +1,107 @@
+package com.oneco.backend.global.idempotency.infrastructure;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.oneco.backend.global.idempotency.domain.IdempotencyEntry;
+import com.oneco.backend.global.idempotency.domain.IdempotencyStore;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis Idempotency 저장소
+ * <p>
+ * 키: idem:{scope}:{Idempotency-Key}
+ * - 처리 중: "P|{requestHash}"            (PX lockTtl)
+ * - 완료:    "D|{requestHash}|{응답 JSON}" (PX retention)
+ * <p>
+ * 점유/완료/해제는 Lua 스크립트 한 번으로 처리해서 "확인 후 변경" 사이에 다른 인스턴스가 끼어들지 못하게 한다.
+ * 응답은 이미 JSON 문자열이므로 StringRedisTemplate을 사용한다.
+ */
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+	private static final String KEY_PREFIX = "idem:";
+	private static final String PENDING = "P|";
+	private static final String DONE = "D|";
+
+	// 비어 있으면 점유하고 nil, 이미 있으면 기존 값
+	private static final RedisScript<String> CLAIM = new DefaultRedisScript<>("""
+		local value = redis.call('get', KEYS[1])
+		if value then
+			return value
+		end
+		redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2])
+		return false
+		""", String.class);
+
+	// 내가 점유한 상태(또는 점유가 만료되어 빈 상태)일 때만 응답으로 바꾼다.
+	private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>("""
+		local value = redis.call('get', KEYS[1])
+		if (not value) or value == ARGV[1] then
+			redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3])
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[1]) == ARGV[1] then
+			return redis.call('del', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Override
+	public Optional<IdempotencyEntry> claim(String key, String requestHash, Duration lockTtl) {
+		String value = redisTemplate.execute(
+			CLAIM,
+			List.of(redisKey(key)),
+			PENDING + requestHash,
+			String.valueOf(lockTtl.toMillis())
+		);
+		return Optional.ofNullable(value).map(RedisIdempotencyStore::parse);
+	}
+
+	@Override
+	public Optional<IdempotencyEntry> find(String key) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(redisKey(key)))
+			.map(RedisIdempotencyStore::parse);
+	}
+
+	@Override
+	public void complete(String key, String requestHash, String response, Duration retention) {
+		redisTemplate.execute(
+			COMPLETE,
+			List.of(redisKey(key)),
+			PENDING + requestHash,
+			DONE + requestHash + "|" + response,
+			String.valueOf(retention.toMillis())
+		);
+	}
+
+	@Override
+	public void release(String key, String requestHash) {
+		redisTemplate.execute(RELEASE, List.of(redisKey(key)), PENDING + requestHash);
+	}
+
+	private static String redisKey(String key) {
+		return KEY_PREFIX + key;
+	}
+
+	// requestHash는 16진수 문자열이라 '|'가 없다. 응답 JSON 안의 '|'는 그대로 둔다.
+	private static IdempotencyEntry parse(String value) {
+		if (value.startsWith(DONE)) {
+			int separator = value.indexOf('|', DONE.length());
+			return new IdempotencyEntry(value.substring(DONE.length(), separator), value.substring(separator + 1));
+		}
+		return new IdempotencyEntry(value.substring(PENDING.length()), null);
+	}
+}
@@ -0,0 +1,227 @@
+package com.oneco.backend.global.lease.application;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.oneco.backend.global.lease.domain.JobLease;
+import com.oneco.backend.global.lease.domain.JobLeaseStore;
+import com.oneco.backend.global.lease.domain.JobRunOutcome;
+import com.oneco.backend.global.lease.domain.JobRunRecord;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케쥴 작업을 실행한다.
+ * <p>
+ * 1. 이번 실행 구간(window)이 이미 끝났으면 건너뛴다.
+ * 2. 실행권을 얻지 못하면(다른 인스턴스가 실행 중) 건너뛴다.
+ * 3. 실행권을 얻은 뒤 구간 완료 여부를 다시 확인한다. (1과 2 사이에 다른 인스턴스가 끝내고 반납했을 수 있다)
+ * 4. 실행하는 동안 ttl/3 마다 실행권을 연장한다. 연장에 실패하면 JobExecution을 lost로 표시한다.
+ *    작업은 청크마다 JobExecution.checkHeld()로 저장소의 실행권을 확인한다.
+ * 5. 정상 종료하면 구간 완료를 표시하고, 어떤 경우든 실행권을 반납한다.
+ * <p>
+ * 작업별 실행/건너뜀 횟수와 마지막 실행 기록(누가, 언제, 어떤 토큰으로)을 보관한다.
+ */
+@Slf4j
+@Component
+public class ExclusiveJobRunner {
+
+	private final JobLeaseStore jobLeaseStore;
+	private final Duration ttl;
+	private final Duration completedRetention;
+	private final String ownerId;
+	private final ScheduledExecutorService renewer;
+	private final Map<String, JobRunStats> stats = new ConcurrentHashMap<>();
+	private MeterRegistry meterRegistry; // actuator가 없으면 null
+
+	public ExclusiveJobRunner(
+		JobLeaseStore jobLeaseStore,
+		@Value("${job-lease.ttl:PT2M}") Duration ttl,
+		@Value("${job-lease.completed-retention:P2D}") Duration completedRetention
+	) {
+		this.jobLeaseStore = jobLeaseStore;
+		this.ttl = ttl;
+		this.completedRetention = completedRetention;
+		// pid@host + 재시작 구분용 난수
+		this.ownerId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+		this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "job-lease-renewer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @param jobName 작업 이름
+	 * @param window  실행 구간 (예: 실행 날짜). 같은 구간에서는 한 번만 실행된다.
+	 * @param task    실행할 작업. 쓰기 전에 JobExecution.checkHeld()를 호출해야 한다.
+	 * @return 이 인스턴스가 실행했으면 작업 결과, 건너뛰었으면 empty
+	 */
+	public <T> Optional<T> run(String jobName, String window, Function<JobExecution, T> task) {
+		JobRunStats jobStats = stats.computeIfAbsent(jobName, k -> new JobRunStats());
+		Instant startedAt = Instant.now();
+
+		if (jobLeaseStore.isCompleted(jobName, window)) {
+			record(jobStats, new JobRunRecord(jobName, window, ownerId, 0, JobRunOutcome.SKIPPED_DONE, startedAt, startedAt));
+			log.info("[ExclusiveJobRunner] {}({}) 이미 완료된 구간이라 건너뜁니다.", jobName, window);
+			return Optional.empty();
+		}
+
+		Optional<JobLease> acquired = jobLeaseStore.tryAcquire(jobName, ownerId, ttl);
+		if (acquired.isEmpty()) {
+			record(jobStats, new JobRunRecord(jobName, window, ownerId, 0, JobRunOutcome.SKIPPED_BUSY, startedAt, startedAt));
+			log.info("[ExclusiveJobRunner] {}({}) 다른 인스턴스가 실행 중이라 건너뜁니다.", jobName, window);
+			return Optional.empty();
+		}
+
+		JobLease lease = acquired.get();
+		if (isCompletedWhileHolding(jobName, window, lease)) {
+			releaseQuietly(lease);
+			record(jobStats, new JobRunRecord(
+				jobName, window, ownerId, lease.fencingToken(), JobRunOutcome.SKIPPED_DONE, startedAt, Instant.now()
+			));
+			log.info("[ExclusiveJobRunner] {}({}) 실행권을 얻는 사이 다른 인스턴스가 완료해서 건너뜁니다.", jobName, window);
+			return Optional.empty();
+		}
+
+		JobExecution execution = new JobExecution(lease, jobLeaseStore);
+		ScheduledFuture<?> renewal = scheduleRenewal(execution);
+		log.info("[ExclusiveJobRunner] {}({}) 실행 시작 - owner={}, fencingToken={}",
+			jobName, window, ownerId, lease.fencingToken());
+
+		JobRunOutcome outcome = JobRunOutcome.FAILED;
+		try {
+			T result = task.apply(execution);
+			execution.checkHeld();
+			jobLeaseStore.markCompleted(jobName, window, lease, completedRetention);
+			outcome = JobRunOutcome.COMPLETED;
+			return Optional.of(result);
+		} catch (RuntimeException e) {
+			if (execution.isLost()) {
+				outcome = JobRunOutcome.LEASE_LOST;
+			}
+			log.error("[ExclusiveJobRunner] {}({}) 실행 중단 - outcome={}, fencingToken={}",
+				jobName, window, outcome, lease.fencingToken(), e);
+			return Optional.empty();
+		} finally {
+			renewal.cancel(false);
+			releaseQuietly(lease);
+			record(jobStats, new JobRunRecord(
+				jobName, window, ownerId, lease.fencingToken(), outcome, startedAt, Instant.now()
+			));
+		}
+	}
+
+	private ScheduledFuture<?> scheduleRenewal(JobExecution execution) {
+		long periodMillis = Math.max(1, ttl.toMillis() / 3);
+		return renewer.scheduleAtFixedRate(() -> {
+			if (execution.isLost()) {
+				return;
+			}
+			try {
+				if (!jobLeaseStore.renew(execution.lease(), ttl)) {
+					execution.markLost();
+					log.warn("[ExclusiveJobRunner] {} 실행권 연장 실패 - fencingToken={}",
+						execution.lease().jobName(), execution.fencingToken());
+				}
+			} catch (RuntimeException e) {
+				// 저장소에 닿지 않으면 실행권이 유지되는지 알 수 없으므로 잃은 것으로 본다.
+				execution.markLost();
+				log.warn("[ExclusiveJobRunner] {} 실행권 연장 중 오류", execution.lease().jobName(), e);
+			}
+		}, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+	}
+
+	// 확인 중 오류가 나도 실행권은 반납한다.
+	private boolean isCompletedWhileHolding(String jobName, String window, JobLease lease) {
+		try {
+			return jobLeaseStore.isCompleted(jobName, window);
+		} catch (RuntimeException e) {
+			releaseQuietly(lease);
+			throw e;
+		}
+	}
+
+	private void releaseQuietly(JobLease lease) {
+		try {
+			jobLeaseStore.release(lease);
+		} catch (RuntimeException e) {
+			// 반납에 실패해도 ttl이 지나면 풀린다.
+			log.warn("[ExclusiveJobRunner] {} 실행권 반납 실패", lease.jobName(), e);
+		}
+	}
+
+	// oneco.job.runs{job, outcome} 카운터로도 내보낸다.
+	// owner는 재시작마다 바뀌므로 태그로 쓰지 않는다. (지표 시리즈가 계속 늘어남, 마지막 실행 기록에서 확인)
+	@Autowired(required = false)
+	void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	private void record(JobRunStats jobStats, JobRunRecord record) {
+		jobStats.record(record);
+		if (meterRegistry != null) {
+			meterRegistry.counter("oneco.job.runs",
+				"job", record.jobName(),
+				"outcome", record.outcome().name()
+			).increment();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		renewer.shutdownNow();
+	}
+
+	// =============================
+	// 실행 지표
+	// =============================
+
+	public String ownerId() {
+		return ownerId;
+	}
+
+	public long count(String jobName, JobRunOutcome outcome) {
+		JobRunStats jobStats = stats.get(jobName);
+		return jobStats == null ? 0 : jobStats.counts.get(outcome).sum();
+	}
+
+	public Optional<JobRunRecord> lastRun(String jobName) {
+		JobRunStats jobStats = stats.get(jobName);
+		return jobStats == null ? Optional.empty() : Optional.ofNullable(jobStats.lastRun);
+	}
+
+	private static final class JobRunStats {
+
+		private final Map<JobRunOutcome, LongAdder> counts = new ConcurrentHashMap<>();
+		private volatile JobRunRecord lastRun;
+
+		private JobRunStats() {
+			for (JobRunOutcome outcome : JobRunOutcome.values()) {
+				counts.put(outcome, new LongAdder());
+			}
+		}
+
+		private void record(JobRunRecord record) {
+			counts.get(record.outcome()).increment();
+			lastRun = record;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.oneco.backend.global.lease.application;
+
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+import com.oneco.backend.global.lease.domain.JobLease;
+import com.oneco.backend.global.lease.domain.JobLeaseStore;
+
+/**
+ * 실행 중인 작업에 넘겨주는 실행권 핸들
+ * - 작업은 쓰기(청크) 직전에 checkHeld()를 호출한다.
+ * - checkHeld()는 로컬 플래그(갱신 실패)뿐 아니라 저장소에서 실행권을 다시 확인한다. (청크마다 조회 1번)
+ *   GC 등으로 멈춘 사이 ttl이 지나 다른 인스턴스가 실행권을 가져갔다면 예외로 작업을 멈춘다.
+ * - 확인과 청크 커밋 사이에 멈추는 경우까지 막지는 못한다. (DB 쓰기가 토큰을 검사하지 않음)
+ *   그래서 청크 하나는 ttl보다 충분히 짧아야 하고, 청크 쓰기는 상태 조건부 UPDATE라 중복 실행돼도 결과가 같다.
+ */
+public final class JobExecution {
+
+	private final JobLease lease;
+	private final JobLeaseStore jobLeaseStore;
+	private volatile boolean lost;
+
+	JobExecution(JobLease lease, JobLeaseStore jobLeaseStore) {
+		this.lease = lease;
+		this.jobLeaseStore = jobLeaseStore;
+	}
+
+	public JobLease lease() {
+		return lease;
+	}
+
+	public long fencingToken() {
+		return lease.fencingToken();
+	}
+
+	public boolean isLost() {
+		return lost;
+	}
+
+	public void checkHeld() {
+		if (!lost && !heldInStore()) {
+			markLost();
+		}
+		if (lost) {
+			throw BaseException.from(
+				GlobalErrorCode.JOB_LEASE_LOST,
+				"job=" + lease.jobName() + ", fencingToken=" + lease.fencingToken()
+			);
+		}
+	}
+
+	private boolean heldInStore() {
+		try {
+			return jobLeaseStore.isHeld(lease);
+		} catch (RuntimeException e) {
+			// 저장소에 닿지 않으면 실행권이 유지되는지 알 수 없으므로 잃은 것으로 본다.
+			return false;
+		}
+	}
+
+	void markLost() {
+		this.lost = true;
+	}
+}
@@ -0,0 +1,19 @@
+package com.oneco.backend.global.lease.domain;
+
+import java.time.Instant;
+
+/**
+ * 스케쥴 작업 실행권(lease)
+ *
+ * @param jobName      작업 이름 (예: failOverdueMissions)
+ * @param ownerId      실행권을 가진 인스턴스 식별자
+ * @param fencingToken 실행권을 얻을 때마다 단조 증가하는 번호. 갱신/반납/점유 확인(isHeld)은 같은 토큰일 때만 성공한다.
+ * @param acquiredAt   실행권을 얻은 시각
+ */
+public record JobLease(
+	String jobName,
+	String ownerId,
+	long fencingToken,
+	Instant acquiredAt
+) {
+}
@@ -0,0 +1,30 @@
+package com.oneco.backend.global.lease.domain;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 같은 스케쥴 작업을 동시에 실행하지 않도록 실행권을 관리한다.
+ * - 운영: Redis (RedisJobLeaseStore)
+ * - 테스트/단일 인스턴스: 메모리 (InMemoryJobLeaseStore)
+ */
+public interface JobLeaseStore {
+
+	// 실행권이 비어 있으면 ttl 동안 점유하고 새 fencing token을 발급한다. 이미 누가 점유 중이면 empty.
+	Optional<JobLease> tryAcquire(String jobName, String ownerId, Duration ttl);
+
+	// 내가 가진 실행권(같은 owner + 같은 token)일 때만 ttl을 연장한다.
+	boolean renew(JobLease lease, Duration ttl);
+
+	// 저장소 기준으로 지금도 이 실행권(같은 owner + 같은 token, 만료 전)을 갖고 있는지 확인한다.
+	boolean isHeld(JobLease lease);
+
+	// 내가 가진 실행권일 때만 반납한다. (만료 후 다른 인스턴스가 가져간 실행권은 건드리지 않는다)
+	void release(JobLease lease);
+
+	// 해당 실행 구간(window, 예: 2025-03-10)에 이미 작업이 끝났는지 확인한다.
+	boolean isCompleted(String jobName, String window);
+
+	// 실행 구간 완료 표시 (retention 동안 유지)
+	void markCompleted(String jobName, String window, JobLease lease, Duration retention);
+}
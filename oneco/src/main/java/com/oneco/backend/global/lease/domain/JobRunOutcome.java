@@ -0,0 +1,9 @@
+package com.oneco.backend.global.lease.domain;
+
+public enum JobRunOutcome {
+	COMPLETED,      // 실행 완료
+	FAILED,         // 실행 중 예외
+	LEASE_LOST,     // 실행 중 실행권을 잃어서 중단
+	SKIPPED_BUSY,   // 다른 인스턴스가 실행 중이라 건너뜀
+	SKIPPED_DONE    // 이번 실행 구간은 이미 다른 인스턴스가 끝내서 건너뜀
+}
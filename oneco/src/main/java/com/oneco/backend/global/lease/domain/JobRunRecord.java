@@ -0,0 +1,19 @@
+package com.oneco.backend.global.lease.domain;
+
+import java.time.Instant;
+
+/**
+ * 스케쥴 작업 1회 실행 기록 (누가, 언제, 어떤 실행권으로 실행했는지)
+ *
+ * @param fencingToken 실행권을 얻지 못하고 건너뛴 경우 0
+ */
+public record JobRunRecord(
+	String jobName,
+	String window,
+	String ownerId,
+	long fencingToken,
+	JobRunOutcome outcome,
+	Instant startedAt,
+	Instant finishedAt
+) {
+}
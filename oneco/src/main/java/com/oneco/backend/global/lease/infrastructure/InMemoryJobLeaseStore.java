@@ -0,0 +1,89 @@
+package com.oneco.backend.global.lease.infrastructure;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.oneco.backend.global.lease.domain.JobLease;
+import com.oneco.backend.global.lease.domain.JobLeaseStore;
+
+/**
+ * 단일 JVM 용 실행권 저장소 (테스트 / 로컬 실행)
+ * - 같은 JVM 안에서만 배타성이 보장된다.
+ * - 만료 시각은 주입받은 Clock으로 판단하므로 테스트에서 시간을 움직여 만료를 재현할 수 있다.
+ */
+public class InMemoryJobLeaseStore implements JobLeaseStore {
+
+	private final Clock clock;
+	private final Map<String, Held> leases = new HashMap<>();
+	private final Map<String, Long> fencingTokens = new HashMap<>();
+	private final Map<String, Instant> completedWindows = new HashMap<>();
+
+	public InMemoryJobLeaseStore() {
+		this(Clock.systemUTC());
+	}
+
+	public InMemoryJobLeaseStore(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public synchronized Optional<JobLease> tryAcquire(String jobName, String ownerId, Duration ttl) {
+		Instant now = clock.instant();
+		Held held = leases.get(jobName);
+		if (held != null && held.expiresAt().isAfter(now)) {
+			return Optional.empty();
+		}
+
+		long token = fencingTokens.merge(jobName, 1L, Long::sum);
+		JobLease lease = new JobLease(jobName, ownerId, token, now);
+		leases.put(jobName, new Held(lease, now.plus(ttl)));
+		return Optional.of(lease);
+	}
+
+	@Override
+	public synchronized boolean renew(JobLease lease, Duration ttl) {
+		Instant now = clock.instant();
+		Held held = leases.get(lease.jobName());
+		if (held == null || !held.lease().equals(lease) || !held.expiresAt().isAfter(now)) {
+			return false;
+		}
+		leases.put(lease.jobName(), new Held(lease, now.plus(ttl)));
+		return true;
+	}
+
+	@Override
+	public synchronized boolean isHeld(JobLease lease) {
+		Held held = leases.get(lease.jobName());
+		return held != null && held.lease().equals(lease) && held.expiresAt().isAfter(clock.instant());
+	}
+
+	@Override
+	public synchronized void release(JobLease lease) {
+		Held held = leases.get(lease.jobName());
+		if (held != null && held.lease().equals(lease)) {
+			leases.remove(lease.jobName());
+		}
+	}
+
+	@Override
+	public synchronized boolean isCompleted(String jobName, String window) {
+		Instant expiresAt = completedWindows.get(completedKey(jobName, window));
+		return expiresAt != null && expiresAt.isAfter(clock.instant());
+	}
+
+	@Override
+	public synchronized void markCompleted(String jobName, String window, JobLease lease, Duration retention) {
+		completedWindows.put(completedKey(jobName, window), clock.instant().plus(retention));
+	}
+
+	private static String completedKey(String jobName, String window) {
+		return jobName + ":" + window;
+	}
+
+	private record Held(JobLease lease, Instant expiresAt) {
+	}
+}
@@ -0,0 +1,25 @@
+package com.oneco.backend.global.lease.infrastructure;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.oneco.backend.global.lease.domain.JobLeaseStore;
+
+@Configuration
+public class JobLeaseConfig {
+
+	@Bean(name = "inMemoryJobLeaseStore")
+	@ConditionalOnProperty(name = "job-lease.store", havingValue = "memory") // 테스트/로컬: job-lease.store=memory
+	public JobLeaseStore inMemoryJobLeaseStore() {
+		return new InMemoryJobLeaseStore();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(JobLeaseStore.class) // 기본값: 여러 인스턴스가 공유하는 Redis
+	public JobLeaseStore redisJobLeaseStore(StringRedisTemplate stringRedisTemplate) {
+		return new RedisJobLeaseStore(stringRedisTemplate);
+	}
+}
@@ -0,0 +1,120 @@
+package com.oneco.backend.global.lease.infrastructure;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.oneco.backend.global.lease.domain.JobLease;
+import com.oneco.backend.global.lease.domain.JobLeaseStore;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 실행권 저장소
+ * <p>
+ * 키
+ * - job:lease:{jobName}               = "{ownerId}|{fencingToken}" (PX ttl)
+ * - job:lease:{jobName}:fence         = fencing token 카운터 (INCR, 만료 없음)
+ * - job:lease:{jobName}:done:{window} = 완료한 실행권 (PX retention)
+ * <p>
+ * 점유/갱신/반납은 Lua 스크립트 한 번으로 처리해서 "확인 후 변경" 사이에 다른 인스턴스가 끼어들지 못하게 한다.
+ * 값은 JSON 직렬화가 필요 없으므로 StringRedisTemplate을 사용한다.
+ */
+@RequiredArgsConstructor
+public class RedisJobLeaseStore implements JobLeaseStore {
+
+	private static final String KEY_PREFIX = "job:lease:";
+
+	// 비어 있을 때만 토큰을 올리고 점유한다. 점유 중이면 -1
+	private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+		if redis.call('exists', KEYS[1]) == 1 then
+			return -1
+		end
+		local token = redis.call('incr', KEYS[2])
+		redis.call('set', KEYS[1], ARGV[1] .. '|' .. token, 'PX', ARGV[2])
+		return token
+		""", Long.class);
+
+	private static final RedisScript<Long> RENEW = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[1]) == ARGV[1] then
+			return redis.call('pexpire', KEYS[1], ARGV[2])
+		end
+		return 0
+		""", Long.class);
+
+	private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[1]) == ARGV[1] then
+			return redis.call('del', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Override
+	public Optional<JobLease> tryAcquire(String jobName, String ownerId, Duration ttl) {
+		Long token = redisTemplate.execute(
+			ACQUIRE,
+			List.of(leaseKey(jobName), fenceKey(jobName)),
+			ownerId,
+			String.valueOf(ttl.toMillis())
+		);
+		if (token == null || token < 0) {
+			return Optional.empty();
+		}
+		return Optional.of(new JobLease(jobName, ownerId, token, Instant.now()));
+	}
+
+	@Override
+	public boolean renew(JobLease lease, Duration ttl) {
+		Long renewed = redisTemplate.execute(
+			RENEW,
+			List.of(leaseKey(lease.jobName())),
+			leaseValue(lease),
+			String.valueOf(ttl.toMillis())
+		);
+		return renewed != null && renewed == 1L;
+	}
+
+	@Override
+	public boolean isHeld(JobLease lease) {
+		// 만료된 키는 Redis가 지우므로 값이 같으면 아직 유효한 실행권이다.
+		return leaseValue(lease).equals(redisTemplate.opsForValue().get(leaseKey(lease.jobName())));
+	}
+
+	@Override
+	public void release(JobLease lease) {
+		redisTemplate.execute(RELEASE, List.of(leaseKey(lease.jobName())), leaseValue(lease));
+	}
+
+	@Override
+	public boolean isCompleted(String jobName, String window) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(doneKey(jobName, window)));
+	}
+
+	@Override
+	public void markCompleted(String jobName, String window, JobLease lease, Duration retention) {
+		redisTemplate.opsForValue().set(doneKey(jobName, window), leaseValue(lease), retention);
+	}
+
+	private static String leaseKey(String jobName) {
+		return KEY_PREFIX + jobName;
+	}
+
+	private static String fenceKey(String jobName) {
+		return KEY_PREFIX + jobName + ":fence";
+	}
+
+	private static String doneKey(String jobName, String window) {
+		return KEY_PREFIX + jobName + ":done:" + window;
+	}
+
+	private static String leaseValue(JobLease lease) {
+		return lease.ownerId() + "|" + lease.fencingToken();
+	}
+}
@@ -0,0 +1,113 @@
+package com.oneco.backend.global.logging;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 로거별 샘플링 + 초당 건수 제한 필터 (logback-spring.xml의 ASYNC 앱더에 붙인다)
+ * <p>
+ * - 대상: loggers에 등록한 prefix로 시작하는 로거의 INFO 이하 이벤트
+ *   WARN/ERROR는 항상 통과한다.
+ * - sampleRate: 0.0~1.0 (1.0이면 샘플링하지 않음)
+ * - maxPerSecond: 로거 1개가 1초에 남길 수 있는 최대 건수 (0이면 제한 없음)
+ * <p>
+ * 앱더 필터는 큐에 넣기 전에 실행되므로, 버려진 이벤트는 메시지 포맷팅(인자 toString)을 하지 않는다.
+ * 초 단위 고정 윈도우라 윈도우 경계에서 최대 2배까지 통과할 수 있다. (로그 양 제한 용도라 허용)
+ */
+public class LogSamplingFilter extends Filter<ILoggingEvent> {
+
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+	private final LongAdder dropped = new LongAdder();
+
+	private String[] loggerPrefixes = new String[0];
+	private double sampleRate = 1.0;
+	private int maxPerSecond;
+
+	@Override
+	public FilterReply decide(ILoggingEvent event) {
+		if (event.getLevel().isGreaterOrEqual(Level.WARN) || !isTarget(event.getLoggerName())) {
+			return FilterReply.NEUTRAL;
+		}
+
+		if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			dropped.increment();
+			return FilterReply.DENY;
+		}
+
+		if (maxPerSecond > 0) {
+			Window window = windows.computeIfAbsent(event.getLoggerName(), name -> new Window());
+			if (!window.tryAcquire(event.getTimeStamp() / 1000, maxPerSecond)) {
+				dropped.increment();
+				return FilterReply.DENY;
+			}
+		}
+		return FilterReply.NEUTRAL;
+	}
+
+	private boolean isTarget(String loggerName) {
+		for (String prefix : loggerPrefixes) {
+			if (loggerName.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 샘플링/속도 제한으로 버린 이벤트 수 (시작 이후 누적)
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	// =============================
+	// logback 설정 (setter 주입)
+	// =============================
+
+	// 콤마로 구분한 로거 이름 prefix (예: com.oneco.backend.StudyRecord.application.service)
+	public void setLoggers(String loggers) {
+		this.loggerPrefixes = loggers == null || loggers.isBlank()
+			? new String[0]
+			: Arrays.stream(loggers.split(","))
+			.map(String::trim)
+			.filter(prefix -> !prefix.isEmpty())
+			.toArray(String[]::new);
+	}
+
+	public void setSampleRate(double sampleRate) {
+		if (sampleRate < 0.0 || sampleRate > 1.0) {
+			throw new IllegalArgumentException("sampleRate must be between 0.0 and 1.0: " + sampleRate);
+		}
+		this.sampleRate = sampleRate;
+	}
+
+	public void setMaxPerSecond(int maxPerSecond) {
+		if (maxPerSecond < 0) {
+			throw new IllegalArgumentException("maxPerSecond must be >= 0: " + maxPerSecond);
+		}
+		this.maxPerSecond = maxPerSecond;
+	}
+
+	// 로거 1개의 초 단위 윈도우
+	private static final class Window {
+
+		private final AtomicLong epochSecond = new AtomicLong(Long.MIN_VALUE);
+		private final AtomicInteger count = new AtomicInteger();
+
+		boolean tryAcquire(long nowSecond, int limit) {
+			long current = epochSecond.get();
+			if (current != nowSecond && epochSecond.compareAndSet(current, nowSecond)) {
+				count.set(0);
+			}
+			return count.incrementAndGet() <= limit;
+		}
+	}
+}
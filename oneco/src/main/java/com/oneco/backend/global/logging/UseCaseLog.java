@@ -0,0 +1,73 @@
+package com.oneco.backend.global.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * 유스케이스 1회당 1줄 요약 로그 (structured key-value)
+ * <p>
+ * - 단계마다 log.info를 남기는 대신 핵심 필드만 모아서 마지막에 한 번만 남긴다.
+ *   단계별 상세는 log.debug로 남기고, 필요할 때만 해당 로거를 DEBUG로 올려서 본다.
+ * - 필드는 SLF4J key-value로 넘긴다. (로컬: 패턴의 %kvp, 운영: logstash JSON 필드)
+ * - 시작 시점에 INFO가 꺼져 있으면 필드를 모으지 않는다.
+ * <p>
+ * 사용 예
+ * <pre>
+ * UseCaseLog event = UseCaseLog.start(log, "quiz.submit");
+ * ...
+ * event.with("attemptId", attemptId).with("correct", correct).emit();
+ * </pre>
+ */
+public final class UseCaseLog {
+
+	// 요약 이벤트 1건에 담는 최대 필드 수 (넘치는 필드는 버린다)
+	private static final int MAX_FIELDS = 10;
+
+	private final Logger logger;
+	private final String event;
+	private final long startedNanos;
+	private final boolean enabled;
+
+	private final String[] keys;
+	private final Object[] values;
+	private int size;
+
+	private UseCaseLog(Logger logger, String event) {
+		this.logger = logger;
+		this.event = event;
+		this.startedNanos = System.nanoTime();
+		this.enabled = logger.isInfoEnabled();
+		this.keys = enabled ? new String[MAX_FIELDS] : null;
+		this.values = enabled ? new Object[MAX_FIELDS] : null;
+	}
+
+	/**
+	 * @param logger 유스케이스 서비스의 로거 (로거별 샘플링/속도 제한 기준)
+	 * @param event  이벤트 이름 (예: quiz.submit, study.start)
+	 */
+	public static UseCaseLog start(Logger logger, String event) {
+		return new UseCaseLog(logger, event);
+	}
+
+	public UseCaseLog with(String key, Object value) {
+		if (enabled && size < MAX_FIELDS) {
+			keys[size] = key;
+			values[size] = value;
+			size++;
+		}
+		return this;
+	}
+
+	// 모은 필드 + 소요 시간(tookMs)으로 INFO 이벤트 1건을 남긴다.
+	public void emit() {
+		if (!enabled) {
+			return;
+		}
+		LoggingEventBuilder builder = logger.atInfo();
+		for (int i = 0; i < size; i++) {
+			builder.addKeyValue(keys[i], values[i]);
+		}
+		builder.addKeyValue("tookMs", (System.nanoTime() - startedNanos) / 1_000_000)
+			.log(event);
+	}
+}
@@ -0,0 +1,72 @@
+package com.oneco.backend.global.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.oneco.backend.StudyRecord.infrastructure.cache.AnswerKeyCache;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalogProvider;
+import com.oneco.backend.family.infrastructure.cache.FamilyRelationCache;
+import com.oneco.backend.global.security.jwt.JwtTokenValidator;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 각 모듈이 메모리에 들고 있는 캐시 / 카탈로그 지표를 Micrometer에 연결한다.
+ * - 값은 각 컴포넌트의 LongAdder/상태를 그대로 읽는다. (조회 시점에만 계산)
+ * - 해당 빈이 없는 구성(슬라이스 테스트 등)에서는 건너뛴다.
+ */
+@Configuration
+public class InProcessMetricsConfig {
+
+	@Bean
+	public MeterBinder familyRelationCacheMetrics(ObjectProvider<FamilyRelationCache> provider) {
+		return registry -> provider.ifAvailable(cache -> {
+			FunctionCounter.builder("oneco.cache.hits", cache, FamilyRelationCache::hitCount)
+				.tag("cache", "familyRelation").register(registry);
+			FunctionCounter.builder("oneco.cache.misses", cache, FamilyRelationCache::missCount)
+				.tag("cache", "familyRelation").register(registry);
+			FunctionCounter.builder("oneco.cache.evictions", cache, FamilyRelationCache::evictionCount)
+				.tag("cache", "familyRelation").register(registry);
+			Gauge.builder("oneco.cache.size", cache, FamilyRelationCache::size)
+				.tag("cache", "familyRelation").register(registry);
+		});
+	}
+
+	@Bean
+	public MeterBinder answerKeyCacheMetrics(ObjectProvider<AnswerKeyCache> provider) {
+		return registry -> provider.ifAvailable(cache -> {
+			FunctionCounter.builder("oneco.cache.hits", cache, AnswerKeyCache::hitCount)
+				.tag("cache", "answerKey").register(registry);
+			FunctionCounter.builder("oneco.cache.misses", cache, AnswerKeyCache::missCount)
+				.tag("cache", "answerKey").register(registry);
+		});
+	}
+
+	@Bean
+	public MeterBinder jwtClaimsCacheMetrics(ObjectProvider<JwtTokenValidator> provider) {
+		return registry -> provider.ifAvailable(validator -> {
+			Gauge.builder("oneco.jwt.claims_cache.hit_ratio", validator, JwtTokenValidator::claimsCacheHitRate)
+				.register(registry);
+			Gauge.builder("oneco.jwt.claims_cache.size", validator, JwtTokenValidator::claimsCacheSize)
+				.register(registry);
+			// 캐시 덕분에 AccessTokenFilter에서 줄어든 검증 시간(초) 누적 추정치
+			Gauge.builder("oneco.jwt.claims_cache.saved", validator, v -> v.estimatedSavedNanos() / 1e9)
+				.baseUnit("seconds").register(registry);
+		});
+	}
+
+	@Bean
+	public MeterBinder contentCatalogMetrics(ObjectProvider<ContentCatalogProvider> provider) {
+		return registry -> provider.ifAvailable(catalogProvider -> {
+			Gauge.builder("oneco.catalog.version", catalogProvider, p -> p.current().version())
+				.register(registry);
+			Gauge.builder("oneco.catalog.bytes", catalogProvider, p -> p.current().estimatedBytes())
+				.baseUnit("bytes").register(registry);
+			Gauge.builder("oneco.catalog.daily_contents", catalogProvider, p -> p.current().dailyContentCount())
+				.register(registry);
+		});
+	}
+}
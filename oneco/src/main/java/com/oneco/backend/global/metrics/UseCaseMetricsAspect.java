@@ -0,0 +1,117 @@
+package com.oneco.backend.global.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유스케이스(inbound) / 포트(outbound) 호출 시간을 Micrometer Timer로 기록한다.
+ * <p>
+ * - oneco.usecase{usecase, method, outcome, exception} : 서비스(유스케이스) 1회 실행 시간
+ * - oneco.port{port, method, outcome, exception}       : JPA / Redis 어댑터, Kakao Feign 클라이언트 1회 호출 시간
+ * <p>
+ * 두 지표를 같은 요청 안에서 비교하면 지연이 어느 구간(서비스 로직 / DB / Redis / 외부 API)에서 생기는지 볼 수 있다.
+ * 모든 Timer는 백분위 히스토그램(p50/p95/p99)을 함께 내보낸다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class UseCaseMetricsAspect {
+
+	static final String USECASE_TIMER = "oneco.usecase";
+	static final String PORT_TIMER = "oneco.port";
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry meterRegistry;
+
+	// 메서드별 태그(usecase/port 이름) - 리플렉션은 메서드당 한 번만
+	private final Map<Method, String> ownerNames = new ConcurrentHashMap<>();
+	// 정상 종료 Timer는 매번 조회하지 않고 캐시해 둔다.
+	private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+	// =============================
+	// Pointcut
+	// =============================
+
+	// port.in 인터페이스를 구현한 서비스 + 인터페이스 없이 컨트롤러가 직접 부르는 서비스
+	@Pointcut("execution(public * com.oneco.backend..application.port.in..*+.*(..))"
+		+ " || execution(public * com.oneco.backend.StudyRecord.application.service.HistoryService.*(..))"
+		+ " || execution(public * com.oneco.backend.mission.application.service.MissionReadService.*(..))"
+		+ " || execution(public * com.oneco.backend.mission.application.service.MissionBatchService.*(..))"
+		+ " || execution(public * com.oneco.backend.auth.application.*Service.*(..))")
+	void inboundUseCase() {
+	}
+
+	// JPA / Redis 어댑터, Kakao Feign 클라이언트
+	@Pointcut("execution(public * com.oneco.backend..infrastructure..*Adapter.*(..))"
+		+ " || execution(public * com.oneco.backend..Redis*Store.*(..))"
+		+ " || execution(* com.oneco.backend..*FeignClient.*(..))")
+	void outboundPort() {
+	}
+
+	@Around("inboundUseCase()")
+	public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, USECASE_TIMER, "usecase");
+	}
+
+	@Around("outboundPort() && !inboundUseCase()")
+	public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, PORT_TIMER, "port");
+	}
+
+	// =============================
+	// 기록
+	// =============================
+
+	private Object record(ProceedingJoinPoint joinPoint, String timerName, String ownerTag) throws Throwable {
+		Method method = ((MethodSignature)joinPoint.getSignature()).getMethod();
+		long startedNanos = System.nanoTime();
+		try {
+			Object result = joinPoint.proceed();
+			successTimers.computeIfAbsent(method, m -> timer(timerName, ownerTag, m, "success", NONE))
+				.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+			return result;
+		} catch (Throwable e) {
+			timer(timerName, ownerTag, method, "error", e.getClass().getSimpleName())
+				.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+			throw e;
+		}
+	}
+
+	private Timer timer(String timerName, String ownerTag, Method method, String outcome, String exception) {
+		return Timer.builder(timerName)
+			.tag(ownerTag, ownerNames.computeIfAbsent(method, UseCaseMetricsAspect::ownerName))
+			.tag("method", method.getName())
+			.tag("outcome", outcome)
+			.tag("exception", exception)
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	// 어댑터는 구현한 port 인터페이스 이름으로, 나머지는 선언 타입 이름으로 묶는다.
+	static String ownerName(Method method) {
+		Class<?> declaringType = method.getDeclaringClass();
+		if (!declaringType.isInterface()) {
+			for (Class<?> candidate : declaringType.getInterfaces()) {
+				if (candidate.getPackageName().contains(".port.")) {
+					return candidate.getSimpleName();
+				}
+			}
+		}
+		return declaringType.getSimpleName();
+	}
+}
@@ -1,8 +1,9 @@
 package com.oneco.backend.global.security.jwt;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
-
-import javax.crypto.SecretKey;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.stereotype.Component;
 
@@ -17,9 +18,9 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.MacAlgorithm;
-import lombok.RequiredArgsConstructor;
 
 /**
  * JwtTokenValidator
@@ -39,14 +40,36 @@ import lombok.RequiredArgsConstructor;
  * - 토큰 누락/공백: TOKEN_NOT_FOUND
  * - 알고리즘 mismatch: TOKEN_ALG_MISMATCH
  * - 목적 mistmatch : TOKEN_PURPOSE_MISMATCH
+ * <p>
+ * 4. 성능
+ * - 목적별 JwtParser는 생성 시점에 한 번만 만든다. (JwtParser는 불변/스레드 안전)
+ * - ACCESS 토큰은 검증이 끝난 Claims를 VerifiedClaimsCache에 exp까지 보관해서
+ *   같은 토큰이 다시 오면 서명 검증/파싱을 건너뛴다. (목적/알고리즘 검증은 캐시 조회 시에도 동일하게 적용)
  */
-@RequiredArgsConstructor
 @Component
 public class JwtTokenValidator {
 	private static final String CLAIM_PURPOSE = "purpose";
 
 	private final JwtProperties jwtProperties;
-	private final JwtKeyProvider jwtKeyProvider;
+	private final Map<JwtPurpose, JwtParser> parsers = new EnumMap<>(JwtPurpose.class);
+	private final VerifiedClaimsCache claimsCache; // 비활성화 시 null
+
+	// 전체 검증 / 캐시 조회에 걸린 시간 (ACCESS 기준)
+	private final LongAdder verifiedCount = new LongAdder();
+	private final LongAdder verifiedNanos = new LongAdder();
+	private final LongAdder cachedCount = new LongAdder();
+	private final LongAdder cachedNanos = new LongAdder();
+
+	public JwtTokenValidator(JwtProperties jwtProperties, JwtKeyProvider jwtKeyProvider) {
+		this.jwtProperties = jwtProperties;
+		for (JwtPurpose purpose : JwtPurpose.values()) {
+			parsers.put(purpose, Jwts.parser()
+				.verifyWith(jwtKeyProvider.getKey(purpose)) // 서명 검증용 키 지정
+				.build());
+		}
+		JwtProperties.ClaimsCacheProps cacheProps = jwtProperties.getClaimsCache();
+		this.claimsCache = cacheProps.isEnabled() ? new VerifiedClaimsCache(cacheProps.getCapacity()) : null;
+	}
 
 	public Claims validateAndGetClaims(String token, JwtPurpose expectedPurpose) {
 		// token이 null이 아니고 빈 문자열/공백 문자열이 아닌지 확인
@@ -54,15 +77,35 @@ public class JwtTokenValidator {
 		// 객체가 null이 아닌지 확인
 		Objects.requireNonNull(expectedPurpose, "expectedPurpose must not be null");
 
-		SecretKey key = jwtKeyProvider.getKey(expectedPurpose);
 		JwtProperties.PurposeProps props = jwtProperties.get(expectedPurpose);
 		MacAlgorithm expectedAlg = props.getAlgorithm().toJjwt();
 
+		if (claimsCache == null || expectedPurpose != JwtPurpose.ACCESS) {
+			return verify(token, expectedPurpose, expectedAlg);
+		}
+
+		long startedNanos = System.nanoTime();
+		long nowMillis = System.currentTimeMillis();
+		String digest = VerifiedClaimsCache.digest(token);
+
+		Claims cached = claimsCache.get(digest, expectedPurpose, expectedAlg.getId(), nowMillis);
+		if (cached != null) {
+			cachedCount.increment();
+			cachedNanos.add(System.nanoTime() - startedNanos);
+			return cached;
+		}
+
+		Claims claims = verify(token, expectedPurpose, expectedAlg);
+		claimsCache.put(digest, expectedPurpose, expectedAlg.getId(), claims, nowMillis);
+		verifiedCount.increment();
+		verifiedNanos.add(System.nanoTime() - startedNanos);
+		return claims;
+	}
+
+	private Claims verify(String token, JwtPurpose expectedPurpose, MacAlgorithm expectedAlg) {
 		try {
-			// JJWT 파서 구성
-			Jws<Claims> jws = Jwts.parser()
-				.verifyWith(key) // 서명 검증용 키 지정
-				.build()
+			// 목적별로 미리 만들어 둔 파서로 서명 검증
+			Jws<Claims> jws = parsers.get(expectedPurpose)
 				.parseSignedClaims(token); //서명된 JWT를 파싱하고 Claims까지 반환
 
 			// payload(Claims) 추출
@@ -91,6 +134,30 @@ public class JwtTokenValidator {
 
 	}
 
+	// =============================
+	// 지표 (ACCESS 토큰)
+	// =============================
+
+	public double claimsCacheHitRate() {
+		return claimsCache == null ? 0.0 : claimsCache.hitRate();
+	}
+
+	public int claimsCacheSize() {
+		return claimsCache == null ? 0 : claimsCache.size();
+	}
+
+	// 캐시 덕분에 줄어든 검증 시간 추정치(ns) = 캐시 hit 수 x (전체 검증 평균 - 캐시 조회 평균)
+	public long estimatedSavedNanos() {
+		long verified = verifiedCount.sum();
+		long cached = cachedCount.sum();
+		if (verified == 0 || cached == 0) {
+			return 0;
+		}
+		long averageVerifyNanos = verifiedNanos.sum() / verified;
+		long averageCachedNanos = cachedNanos.sum() / cached;
+		return Math.max(0, averageVerifyNanos - averageCachedNanos) * cached;
+	}
+
 	private void validateHeaderAlgorithm(JwsHeader header, MacAlgorithm expectedAlg) {
 		if (header == null) {
 			throw BaseException.from(JwtErrorCode.TOKEN_ALG_MISMATCH);
@@ -0,0 +1,146 @@
+package com.oneco.backend.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oneco.backend.global.security.jwt.config.JwtPurpose;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * VerifiedClaimsCache
+ * <p>
+ * 역할
+ * - 서명/목적/알고리즘 검증을 모두 통과한 토큰의 Claims를 토큰 만료(exp) 시각까지 보관한다.
+ * - 같은 Access 토큰이 1시간 동안 수백 번 들어와도 HMAC 검증과 JSON 파싱은 한 번만 한다.
+ * <p>
+ * 설계 포인트
+ * 1. 키는 토큰 원문이 아니라 SHA-256 digest(hex)다. (메모리에 토큰 원문을 남기지 않는다)
+ * 2. 엔트리는 토큰 exp를 넘겨서 살아있지 않는다. 만료된 엔트리는 조회 시 버리고 원래 검증 경로로 보낸다.
+ *    -> 만료 토큰은 원래 경로에서 EXPIRED_TOKEN으로 거절된다.
+ * 3. 목적(purpose)과 헤더 알고리즘(alg)을 엔트리에 같이 저장하고, 조회 시 기대값과 다르면 캐시를 쓰지 않는다.
+ *    -> 목적/알고리즘 검증은 캐시 여부와 상관없이 항상 같은 결과가 된다.
+ * 4. capacity를 넘으면 만료 엔트리를 먼저 정리하고, 그래도 가득 차 있으면 새 엔트리를 넣지 않는다. (크기 상한)
+ */
+public class VerifiedClaimsCache {
+
+	// 가득 찼을 때 만료 엔트리 정리는 최소 이 간격으로만 한다.
+	private static final long PURGE_INTERVAL_MILLIS = 1_000;
+
+	private final int capacity;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong lastPurgeMillis = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	public VerifiedClaimsCache(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * @return 유효한 캐시 엔트리의 Claims. 없거나(만료/목적·알고리즘 불일치 포함) 쓸 수 없으면 null
+	 */
+	public Claims get(String digest, JwtPurpose expectedPurpose, String expectedAlg, long nowMillis) {
+		Entry entry = entries.get(digest);
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		if (entry.expiresAtMillis() <= nowMillis) {
+			entries.remove(digest, entry);
+			misses.increment();
+			return null;
+		}
+		if (entry.purpose() != expectedPurpose || !entry.algorithm().equals(expectedAlg)) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return entry.claims();
+	}
+
+	public void put(String digest, JwtPurpose purpose, String algorithm, Claims claims, long nowMillis) {
+		if (claims.getExpiration() == null) {
+			// exp가 없는 토큰은 만료 시점을 알 수 없으므로 보관하지 않는다.
+			return;
+		}
+		long expiresAtMillis = claims.getExpiration().getTime();
+		if (expiresAtMillis <= nowMillis) {
+			return;
+		}
+		if (entries.size() >= capacity) {
+			purgeExpired(nowMillis);
+			if (entries.size() >= capacity) {
+				rejected.increment();
+				return;
+			}
+		}
+		entries.put(digest, new Entry(purpose, algorithm, claims, expiresAtMillis));
+	}
+
+	private void purgeExpired(long nowMillis) {
+		long last = lastPurgeMillis.get();
+		if (nowMillis - last < PURGE_INTERVAL_MILLIS || !lastPurgeMillis.compareAndSet(last, nowMillis)) {
+			return;
+		}
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().expiresAtMillis() <= nowMillis) {
+				iterator.remove();
+			}
+		}
+	}
+
+	public void invalidateAll() {
+		entries.clear();
+	}
+
+	// 토큰 원문 -> SHA-256 hex
+	public static String digest(String token) {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+
+	// =============================
+	// 지표
+	// =============================
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	// 가득 차서 넣지 못한 횟수
+	public long rejectedCount() {
+		return rejected.sum();
+	}
+
+	public double hitRate() {
+		long hit = hits.sum();
+		long total = hit + misses.sum();
+		return total == 0 ? 0.0 : (double)hit / total;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private record Entry(JwtPurpose purpose, String algorithm, Claims claims, long expiresAtMillis) {
+	}
+}
@@ -14,6 +14,7 @@ public class JwtProperties {
 	private PurposeProps access = new PurposeProps();
 	private PurposeProps refresh = new PurposeProps();
 	private PurposeProps onboarding = new PurposeProps();
+	private ClaimsCacheProps claimsCache = new ClaimsCacheProps();
 
 	@Getter
 	@Setter
@@ -23,6 +24,14 @@ public class JwtProperties {
 		private long validityInSeconds;
 	}
 
+	// 검증이 끝난 ACCESS 토큰의 Claims 캐시 (VerifiedClaimsCache)
+	@Getter
+	@Setter
+	public static class ClaimsCacheProps {
+		private boolean enabled = true;
+		private int capacity = 10_000;
+	}
+
 
 	public PurposeProps get(JwtPurpose purpose) {
 		return switch (purpose) {
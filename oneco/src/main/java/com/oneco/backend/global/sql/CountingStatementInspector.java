@@ -0,0 +1,13 @@
+package com.oneco.backend.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 JDBC로 보내기 직전의 SQL을 받아 현재 요청의 문장 수/지문을 기록한다. (SQL은 그대로 돌려준다)
+public class CountingStatementInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		SqlStatementCounter.recordStatement(sql);
+		return sql;
+	}
+}
@@ -0,0 +1,19 @@
+package com.oneco.backend.global.sql;
+
+import org.hibernate.SessionEventListener;
+
+// 세션(=EntityManager)마다 생성되어 JDBC 실행(execute) 시간을 현재 요청의 통계에 더한다.
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+	private long executeStartedNanos;
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		executeStartedNanos = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		SqlStatementCounter.recordJdbcTime(System.nanoTime() - executeStartedNanos);
+	}
+}
@@ -0,0 +1,18 @@
+package com.oneco.backend.global.sql;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+// Hibernate에 SQL 카운터(StatementInspector)와 JDBC 시간 측정 리스너를 등록한다.
+@Configuration
+public class SqlBudgetConfig implements HibernatePropertiesCustomizer {
+
+	@Override
+	public void customize(Map<String, Object> hibernateProperties) {
+		hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+		hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+	}
+}
@@ -0,0 +1,83 @@
+package com.oneco.backend.global.sql;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 1건의 SQL 예산(statement 수)을 검사한다.
+ * <p>
+ * - 요청 시작 시 SqlStatementCounter 범위를 열고, 끝나면 닫는다.
+ * - sql-budget.expose-header=true(기본, prod에서는 false)면 응답이 커밋되기 직전에
+ *   X-Sql-Count / X-Sql-Time-Ms / X-Sql-Repeated 헤더를 붙인다.
+ * - 문장 수가 sql-budget.max-statements를 넘으면 반복된 SQL 지문과 함께 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+	static final String COUNT_HEADER = "X-Sql-Count";
+	static final String TIME_HEADER = "X-Sql-Time-Ms";
+	static final String REPEATED_HEADER = "X-Sql-Repeated";
+
+	private final int maxStatements;
+	private final boolean exposeHeader;
+
+	public SqlBudgetFilter(
+		@Value("${sql-budget.max-statements:10}") int maxStatements,
+		@Value("${sql-budget.expose-header:true}") boolean exposeHeader
+	) {
+		this.maxStatements = maxStatements;
+		this.exposeHeader = exposeHeader;
+	}
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+		SqlRequestStats stats = SqlStatementCounter.start();
+		try {
+			HttpServletResponse target = exposeHeader ? new SqlHeaderResponse(response, stats) : response;
+			filterChain.doFilter(request, target);
+		} finally {
+			SqlStatementCounter.stop();
+			if (stats.statementCount() > maxStatements) {
+				log.warn("[SqlBudget] {} {} - SQL 예산 초과 (budget={}) {}",
+					request.getMethod(), request.getRequestURI(), maxStatements, stats);
+			}
+		}
+	}
+
+	// 응답 본문이 나가기(커밋) 직전에 그때까지의 통계를 헤더로 붙인다.
+	private static final class SqlHeaderResponse extends OnCommittedResponseWrapper {
+
+		private final SqlRequestStats stats;
+
+		private SqlHeaderResponse(HttpServletResponse response, SqlRequestStats stats) {
+			super(response);
+			this.stats = stats;
+		}
+
+		@Override
+		protected void onResponseCommitted() {
+			HttpServletResponse response = (HttpServletResponse)getResponse();
+			response.setHeader(COUNT_HEADER, String.valueOf(stats.statementCount()));
+			response.setHeader(TIME_HEADER, String.valueOf(stats.jdbcMillis()));
+			response.setHeader(REPEATED_HEADER, String.valueOf(stats.repeatedStatements().size()));
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.oneco.backend.global.sql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청(또는 테스트 메서드) 1건 동안 실행된 SQL 통계
+ * - 한 스레드에서만 접근한다. (SqlStatementCounter의 ThreadLocal)
+ */
+public final class SqlRequestStats {
+
+	// 요청 하나에서 기억할 서로 다른 SQL 지문 수 상한 (메모리 보호)
+	private static final int MAX_FINGERPRINTS = 64;
+
+	private int statementCount;
+	private long jdbcNanos;
+	private final Map<String, Integer> fingerprints = new HashMap<>();
+
+	void recordStatement(String fingerprint) {
+		statementCount++;
+		if (fingerprints.containsKey(fingerprint) || fingerprints.size() < MAX_FINGERPRINTS) {
+			fingerprints.merge(fingerprint, 1, Integer::sum);
+		}
+	}
+
+	void recordJdbcTime(long nanos) {
+		jdbcNanos += nanos;
+	}
+
+	public int statementCount() {
+		return statementCount;
+	}
+
+	public long jdbcMillis() {
+		return jdbcNanos / 1_000_000;
+	}
+
+	// 같은 지문이 두 번 이상 실행된 SQL (N+1 후보) - 많이 반복된 순
+	public List<Repeated> repeatedStatements() {
+		List<Repeated> repeated = new ArrayList<>();
+		for (Map.Entry<String, Integer> entry : fingerprints.entrySet()) {
+			if (entry.getValue() > 1) {
+				repeated.add(new Repeated(entry.getKey(), entry.getValue()));
+			}
+		}
+		repeated.sort(Comparator.comparingInt(Repeated::count).reversed());
+		return repeated;
+	}
+
+	@Override
+	public String toString() {
+		return "statements=" + statementCount + ", jdbcMillis=" + jdbcMillis() + ", repeated=" + repeatedStatements();
+	}
+
+	public record Repeated(String fingerprint, int count) {
+	}
+}
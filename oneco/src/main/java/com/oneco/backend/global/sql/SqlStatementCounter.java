@@ -0,0 +1,61 @@
+package com.oneco.backend.global.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드(요청)의 SQL 통계를 모은다.
+ * <p>
+ * - SqlBudgetFilter(HTTP 요청) 또는 테스트의 @SqlBudget 확장이 start()/stop()으로 범위를 연다.
+ * - 범위 밖(배치, 스케쥴러 등)에서 실행된 SQL은 세지 않는다.
+ * - Hibernate StatementInspector(문장 수/지문)와 SessionEventListener(JDBC 실행 시간)가 값을 채운다.
+ */
+public final class SqlStatementCounter {
+
+	private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+	// 지문: 리터럴/IN 목록 길이/공백 차이를 지워서 "같은 모양의 SQL"을 하나로 묶는다.
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private SqlStatementCounter() {
+	}
+
+	public static SqlRequestStats start() {
+		SqlRequestStats stats = new SqlRequestStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static SqlRequestStats stop() {
+		SqlRequestStats stats = CURRENT.get();
+		CURRENT.remove();
+		return stats;
+	}
+
+	public static SqlRequestStats current() {
+		return CURRENT.get();
+	}
+
+	static void recordStatement(String sql) {
+		SqlRequestStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.recordStatement(fingerprint(sql));
+		}
+	}
+
+	static void recordJdbcTime(long nanos) {
+		SqlRequestStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.recordJdbcTime(nanos);
+		}
+	}
+
+	static String fingerprint(String sql) {
+		String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+		normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+		normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+		return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase();
+	}
+}
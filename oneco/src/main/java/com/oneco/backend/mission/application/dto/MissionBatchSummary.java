@@ -0,0 +1,16 @@
+package com.oneco.backend.mission.application.dto;
+
+import java.time.Duration;
+
+// 배치 1회 실행 결과 요약
+public record MissionBatchSummary(
+	String job,          // 배치 이름 (failOverdueMissions / startScheduledMissions)
+	int chunks,          // 처리한 청크 수
+	long scanned,        // 조회한 미션 ID 수
+	long updated,        // 실제로 상태가 바뀐 미션 수
+	long skipped,        // 조회 후 다른 요청이 먼저 상태를 바꿔서 건너뛴 미션 수
+	int failedChunks,    // 오류로 롤백된 청크 수
+	long failedMissions, // 오류로 롤백된 청크에 포함된 미션 수
+	Duration elapsed
+) {
+}
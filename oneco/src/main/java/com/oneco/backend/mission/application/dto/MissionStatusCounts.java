@@ -0,0 +1,61 @@
+package com.oneco.backend.mission.application.dto;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+
+/**
+ * 가족관계 하나의 상태별 미션 수
+ * - 한 번의 GROUP BY (또는 카운터 캐시)로 전체/진행중/종료/진행중 존재 여부를 모두 답한다.
+ * - 미션이 없는 상태는 0
+ */
+public record MissionStatusCounts(Map<MissionStatus, Long> countsByStatus) {
+
+	public MissionStatusCounts {
+		EnumMap<MissionStatus, Long> copy = new EnumMap<>(MissionStatus.class);
+		countsByStatus.forEach((status, count) -> {
+			if (count != null && count > 0) {
+				copy.put(status, count);
+			}
+		});
+		countsByStatus = Collections.unmodifiableMap(copy);
+	}
+
+	public long count(MissionStatus status) {
+		return countsByStatus.getOrDefault(status, 0L);
+	}
+
+	public long total() {
+		long total = 0;
+		for (long count : countsByStatus.values()) {
+			total += count;
+		}
+		return total;
+	}
+
+	public long inProgress() {
+		long count = 0;
+		for (Map.Entry<MissionStatus, Long> entry : countsByStatus.entrySet()) {
+			if (entry.getKey().isInProgress()) {
+				count += entry.getValue();
+			}
+		}
+		return count;
+	}
+
+	public long finished() {
+		long count = 0;
+		for (Map.Entry<MissionStatus, Long> entry : countsByStatus.entrySet()) {
+			if (entry.getKey().isFinished()) {
+				count += entry.getValue();
+			}
+		}
+		return count;
+	}
+
+	public boolean hasInProgress() {
+		return inProgress() > 0;
+	}
+}
@@ -1,5 +1,8 @@
 package com.oneco.backend.mission.application.port.out;
 
+import java.util.Collection;
+import java.util.Map;
+
 import com.oneco.backend.category.domain.category.CategoryId;
 import com.oneco.backend.category.domain.category.MissionDays;
 import com.oneco.backend.category.domain.category.CategoryTitle;
@@ -12,4 +15,7 @@ public interface CategoryLookupPort {
 
 	CategoryTitle getCategoryTitle(CategoryId categoryId);
 
+	// 여러 카테고리 제목 일괄 조회 (목록 화면용). 없는 카테고리가 있으면 예외
+	Map<CategoryId, CategoryTitle> getCategoryTitles(Collection<CategoryId> categoryIds);
+
 }
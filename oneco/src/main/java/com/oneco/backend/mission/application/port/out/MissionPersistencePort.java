@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.oneco.backend.category.domain.category.CategoryId;
 import com.oneco.backend.family.domain.relation.FamilyRelationId;
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
 import com.oneco.backend.mission.domain.mission.Mission;
 import com.oneco.backend.mission.domain.mission.MissionStatus;
 
@@ -15,8 +16,14 @@ public interface MissionPersistencePort {
 
 	Mission findById(Long missionId);
 
-	// 진행중인 미션들 중, 마감기한이 지난 미션들을 모두 조회한다.
-	List<Mission> findAllOverdueMissions(LocalDate today);
+	// 배치용: 진행중이면서 마감기한이 지난 미션 ID를 lastId 이후로 size개 조회한다. (id 오름차순)
+	List<Long> findOverdueMissionIds(LocalDate today, Long lastId, int size);
+
+	// 배치용: 승인 완료 상태이면서 오늘이 시작일인 미션 ID를 lastId 이후로 size개 조회한다. (id 오름차순)
+	List<Long> findMissionIdsStartingToday(LocalDate today, Long lastId, int size);
+
+	// 배치용: ids 중 현재 상태가 from 인 미션만 to 로 변경하고, 변경된 건수를 반환한다.
+	int updateStatusInBulk(List<Long> missionIds, MissionStatus from, MissionStatus to);
 
 	// 상태는 IN_PROGRESS, APPROVAL_ACCEPTED, APPROVAL_REQUEST일 때 조회
 	List<Mission> findByFamilyRelationAndInProgressStatus(FamilyRelationId relationId, Long lastId, int size);
@@ -24,15 +31,9 @@ public interface MissionPersistencePort {
 	// 상태는 COMPLETED, REJECTED, EXPIRED, CANCELED, FAILED 일 때 조회
 	List<Mission> findByFamilyRelationAndFinishedStatus(FamilyRelationId relationId, Long lastId, int size);
 
-	// 오늘이 미션 시작일인 모든 미션을 조회한다.
-	List<Mission> findAllMissionsStartingToday(LocalDate today);
-
-	// 가족관계를 기반으로 미션 개수를 조회한다.
-	long countMissionsByFamilyRelation(FamilyRelationId relationId);
-
-	// 가족관계를 기반으로 주어진 상태 목록의 미션 개수를 조회한다.
-	long countMissionsByFamilyRelationAndStatuses(FamilyRelationId relationId, List<MissionStatus> statuses);
+	// 가족관계의 상태별 미션 수를 한 번의 집계 쿼리로 조회한다.
+	MissionStatusCounts countMissionsByStatus(FamilyRelationId relationId);
 
-	// 가족관계와 진행중인 상태의 미션 존재 여부를 확인한다.
-	boolean existsByFamilyRelationAndInProgressStatus(FamilyRelationId relationId, List<MissionStatus> statuses);
+	// 배치용: 미션 ID들의 가족관계 ID (중복 없음)
+	List<Long> findFamilyRelationIdsByMissionIds(List<Long> missionIds);
 }
@@ -0,0 +1,13 @@
+package com.oneco.backend.mission.application.port.out;
+
+import java.util.Optional;
+
+import com.oneco.backend.mission.domain.mission.MissionId;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+// 미션 진행 현황(mission_progress) 조회 포트
+public interface MissionProgressLookupPort {
+
+	// 아직 제출 기록이 없는 미션이면 빈 Optional
+	Optional<MissionProgress> findByMissionId(MissionId missionId);
+}
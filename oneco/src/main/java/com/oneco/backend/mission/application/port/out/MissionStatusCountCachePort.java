@@ -0,0 +1,30 @@
+package com.oneco.backend.mission.application.port.out;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+
+/**
+ * 가족관계별 상태 카운터 캐시 (선택 기능)
+ * <p>
+ * generation: 가족관계마다 "카운터에 영향을 주는 변경"이 있을 때마다 올라가는 번호.
+ * DB 집계로 카운터를 다시 채울 때, 집계 전에 읽은 generation이 그대로일 때만 저장한다.
+ * (집계와 저장 사이에 커밋된 변경을 덮어쓰지 않기 위해)
+ */
+public interface MissionStatusCountCachePort {
+
+	Optional<MissionStatusCounts> find(Long familyRelationId);
+
+	long currentGeneration(Long familyRelationId);
+
+	// 카운터가 없고 generation이 그대로일 때만 저장한다.
+	void storeIfUnchanged(Long familyRelationId, long generation, MissionStatusCounts counts);
+
+	// 상태 전이 1건 반영. 카운터가 없으면 generation만 올린다. (from == null: 생성)
+	void applyTransition(Long familyRelationId, MissionStatus from, MissionStatus to);
+
+	// 카운터를 버린다. (다음 조회에서 DB 집계로 다시 채운다)
+	void evict(Collection<Long> familyRelationIds);
+}
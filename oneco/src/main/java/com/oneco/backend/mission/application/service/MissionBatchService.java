@@ -1,14 +1,16 @@
 package com.oneco.backend.mission.application.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.oneco.backend.global.lease.application.ExclusiveJobRunner;
+import com.oneco.backend.mission.application.dto.MissionBatchSummary;
 import com.oneco.backend.mission.application.port.out.MissionPersistencePort;
-import com.oneco.backend.mission.domain.mission.Mission;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,109 +21,136 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class MissionBatchService {
-	// 1. MissionPersistencePort를 이용하여 마감기한이 지난 미션들을 DB 에서 조회한다.
-	// 2. 조회된 미션들을 순회하며 MissionStatusChanger.toFailed()를 호출한다.
+	// 1. MissionPersistencePort로 대상 미션 ID를 id 오름차순 keyset 페이지(청크)로 조회한다. (엔티티를 올리지 않음)
+	// 2. 청크마다 MissionStatusChanger의 벌크 상태 변경(REQUIRES_NEW)을 호출한다.
+	//    -> 미션 N건 = 조회 N/chunkSize 번 + update N/chunkSize 번
+	// 3. 청크 하나가 실패해도 다음 청크는 계속 진행하고, 마지막에 실행 요약을 남긴다.
+	// 4. 스케쥴 실행은 ExclusiveJobRunner로 감싸서 여러 인스턴스 중 한 곳에서, 날짜(구간)당 한 번만 실행한다.
+
+	private static final String FAIL_OVERDUE_JOB = "failOverdueMissions";
+	private static final String START_SCHEDULED_JOB = "startScheduledMissions";
+	private static final Runnable NO_LEASE_CHECK = () -> {
+	};
 
 	private final MissionPersistencePort missionPort;
 	private final MissionStatusChanger missionStatusChanger;
+	private final ExclusiveJobRunner exclusiveJobRunner;
+
+	@Value("${mission-batch.chunk-size:1000}")
+	private int chunkSize;
 
 	// 매일 자정에 실행한다.
 	@Scheduled(cron = "0 0 0 * * *") // 매일 자정
 	public void failOverdueMissions() {
-		LocalDate now = LocalDate.now(); // 현재 날짜
-		long successCount = 0;
-		long errorCount = 0; // 실패 처리 중 오류 발생 건수
-
-		// 1. 마감기한이 지났고, 아직 완료되지 않은 (진행중인) 미션들을 조회한다.
-		List<Mission> overdueMissions = missionPort.findAllOverdueMissions(now);
-
-		// =============================
-		// 스케줄러 로그 출력
-		// =============================
+		LocalDate today = LocalDate.now();
+		exclusiveJobRunner.run(FAIL_OVERDUE_JOB, today.toString(),
+			execution -> failOverdueMissions(today, execution::checkHeld));
+	}
 
-		if (overdueMissions.isEmpty()) {
-			// 1. 처리할 미션이 없다면 종료
-			log.info("[MissionBatchService-failOverdueMissions] 마감기한이 지난 미션이 없습니다. - {}", LocalDateTime.now());
-			return;
-		}
+	// 마감기한이 지났고, 아직 진행중인 미션들을 실패 처리한다.
+	public MissionBatchSummary failOverdueMissions(LocalDate today) {
+		return failOverdueMissions(today, NO_LEASE_CHECK);
+	}
 
-		// 2. 처리할 미션이 있다면 로그 출력
-		log.info(
-			"[MissionBatchService-failOverdueMissions] 마감기한이 지난 미션 {}건 처리 시작 - {}",
-			overdueMissions.size(),
-			LocalDateTime.now()
+	private MissionBatchSummary failOverdueMissions(LocalDate today, Runnable leaseCheck) {
+		return run(
+			FAIL_OVERDUE_JOB,
+			lastId -> missionPort.findOverdueMissionIds(today, lastId, chunkSize),
+			missionStatusChanger::toFailedInBulk,
+			leaseCheck
 		);
-
-		// =============================
-		// 미션 실패 처리
-		// =============================
-
-		// 1. 순회하며 외부 서비스 호출한다. (프록시 타게 됨 -> 트랜잭션 정상 작동)
-		for (Mission mission : overdueMissions) {
-			try {
-				// 여기서 외부 빈(Bean)의 호출 -> 프록시를 타게 됨 -> 트랜잭션 정상 작동
-				missionStatusChanger.processBatchFailure(mission);
-				successCount++;
-			} catch (Exception e) {
-				errorCount++;
-				log.error("[MissionBatchService-failOverdueMissions] 미션 ID {} 실패 처리 중 오류", mission.getId(), e);
-			}
-		}
-
-		log.info("[MissionBatchService-failOverdueMissions] 처리 완료. 성공: {}/{}", successCount, overdueMissions.size());
-		log.info("[MissionBatchService-failOverdueMissions] 오류 발생 건수: {}", errorCount);
 	}
 
 	// 매일 00:10 에 실행한다.
 	// 미션 수락 상태에서 Mission의 startDate이 되면 미션 진행중으로 변경한다.
 	@Scheduled(cron = "0 10 0 * * *")
 	public void startScheduledMissions() {
-		LocalDate today = LocalDate.now(); // 현재 날짜
-		long successCount = 0; // 성공 처리 건수
-		long errorCount = 0; // 실패 처리 중 오류 발생 건수
-
-		// 1. 오늘이 시작일이면서 미션 상태가 APPROVAL_ACCEPTED인 미션들을 조회한다.
-		List<Mission> missionsToStart = missionPort.findAllMissionsStartingToday(today);
-
-		// =============================
-		// 스케줄러 로그 출력
-		// =============================
-
-		// 1. 처리할 미션이 없다면 종료
-		if (missionsToStart.isEmpty()) {
-			log.info(
-				"[MissionBatchService-startScheduledMissions] 오늘 시작할 미션이 없습니다. - {}", LocalDateTime.now()
-			);
-			return;
-		}
+		LocalDate today = LocalDate.now();
+		exclusiveJobRunner.run(START_SCHEDULED_JOB, today.toString(),
+			execution -> startScheduledMissions(today, execution::checkHeld));
+	}
 
-		// 2. 처리할 미션이 있다면 로그 출력
-		log.info(
-			"[MissionBatchService-startScheduledMissions] 오늘 시작하는 미션 {}건 처리 시작 - {}",
-			missionsToStart.size(),
-			LocalDateTime.now()
+	// 오늘이 시작일이면서 미션 상태가 APPROVAL_ACCEPTED인 미션들을 진행중으로 변경한다.
+	public MissionBatchSummary startScheduledMissions(LocalDate today) {
+		return startScheduledMissions(today, NO_LEASE_CHECK);
+	}
+
+	private MissionBatchSummary startScheduledMissions(LocalDate today, Runnable leaseCheck) {
+		return run(
+			START_SCHEDULED_JOB,
+			lastId -> missionPort.findMissionIdsStartingToday(today, lastId, chunkSize),
+			missionStatusChanger::toInProgressInBulk,
+			leaseCheck
 		);
+	}
+
+	// =============================
+	// 청크 처리 공통
+	// =============================
 
-		// =============================
-		// 미션 진행중 상태로 변경 처리
-		// =============================
+	@FunctionalInterface
+	private interface ChunkReader {
+		List<Long> read(Long lastId);
+	}
+
+	@FunctionalInterface
+	private interface ChunkWriter {
+		int write(List<Long> missionIds);
+	}
 
-		// 1. 순회하며 미션을 진행중 상태로 변경한다.
-		for (Mission mission : missionsToStart) {
+	// leaseCheck: 실행권을 잃었으면 예외를 던진다. (청크 실패와 달리 다음 청크로 넘어가지 않고 배치를 멈춘다)
+	private MissionBatchSummary run(String job, ChunkReader reader, ChunkWriter writer, Runnable leaseCheck) {
+		long startedNanos = System.nanoTime();
+		int chunks = 0;
+		long scanned = 0;
+		long updated = 0;
+		int failedChunks = 0;
+		long failedMissions = 0;
+
+		// keyset: 마지막으로 읽은 id 이후부터 다음 청크를 읽는다.
+		// (상태가 바뀐 미션은 조회 조건에서 빠지지만, 실패한 청크도 건너뛸 수 있도록 offset 대신 id 기준으로 이동)
+		Long lastId = 0L;
+		while (true) {
+			List<Long> missionIds = reader.read(lastId);
+			if (missionIds.isEmpty()) {
+				break;
+			}
+			chunks++;
+			scanned += missionIds.size();
+			lastId = missionIds.get(missionIds.size() - 1);
+
+			leaseCheck.run();
 			try {
-				// 여기서 외부 빈(Bean)의 호출 -> 프록시를 타게 됨 -> 트랜잭션 정상 작동
-				missionStatusChanger.toInProgress(mission);
-				successCount++;
-				log.info("[MissionBatchService-startScheduledMissions] 미션 ID {} 진행중 상태로 변경 완료", mission.getId());
+				// 외부 빈(Bean)의 public 메서드 호출 -> 프록시를 타게 됨 -> 청크마다 새 트랜잭션
+				updated += writer.write(missionIds);
 			} catch (Exception e) {
-				errorCount++;
-				log.error("[MissionBatchService-startScheduledMissions] 미션 ID {} 진행중 전환 실패", mission.getId(), e);
+				failedChunks++;
+				failedMissions += missionIds.size();
+				log.error("[MissionBatchService-{}] 청크 처리 중 오류 - missionId {}~{} ({}건) 롤백",
+					job, missionIds.get(0), lastId, missionIds.size(), e);
+			}
+
+			if (missionIds.size() < chunkSize) {
+				break;
 			}
 		}
 
-		log.info("[MissionBatchService-startScheduledMissions] 오늘 시작하는 미션 처리 완료. 성공: {}/{}", successCount,
-			missionsToStart.size());
-		log.info("[MissionBatchService-startScheduledMissions] 오류 발생 건수: {}", errorCount);
-	}
+		MissionBatchSummary summary = new MissionBatchSummary(
+			job,
+			chunks,
+			scanned,
+			updated,
+			scanned - updated - failedMissions,
+			failedChunks,
+			failedMissions,
+			Duration.ofNanos(System.nanoTime() - startedNanos)
+		);
 
+		if (scanned == 0) {
+			log.info("[MissionBatchService-{}] 처리할 미션이 없습니다.", job);
+		} else {
+			log.info("[MissionBatchService-{}] 처리 완료 - {}", job, summary);
+		}
+		return summary;
+	}
 }
@@ -1,23 +1,25 @@
 package com.oneco.backend.mission.application.service;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.category.domain.category.CategoryTitle;
 import com.oneco.backend.global.exception.BaseException;
 import com.oneco.backend.family.domain.relation.FamilyRelationId;
 import com.oneco.backend.global.response.CursorResponse;
 import com.oneco.backend.member.domain.Member;
 import com.oneco.backend.member.domain.MemberId;
 import com.oneco.backend.member.infrastructure.persistence.MemberJpaRepository;
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
 import com.oneco.backend.mission.application.port.out.CategoryLookupPort;
 import com.oneco.backend.mission.application.port.out.FamilyRelationLookupPort;
 import com.oneco.backend.mission.application.port.out.MissionPersistencePort;
 import com.oneco.backend.mission.domain.mission.Mission;
-import com.oneco.backend.mission.domain.mission.MissionStatus;
 import com.oneco.backend.mission.domain.exception.MissionErrorCode;
 import com.oneco.backend.mission.presentation.response.MissionCountResponse;
 import com.oneco.backend.mission.presentation.response.MissionExistsResponse;
@@ -34,6 +36,7 @@ public class MissionReadService {
 	private final MissionPersistencePort missionPort;
 	private final FamilyRelationLookupPort familyRelationPort;
 	private final CategoryLookupPort categoryLookupPort;
+	private final MissionStatusCountService missionStatusCountService;
 	private final MemberJpaRepository memberJpaRepository;
 
 	// 현재 진행중인 미션을 조회한다.
@@ -62,9 +65,12 @@ public class MissionReadService {
 	}
 
 	private CursorResponse<MissionResponse> toCursorResponse(List<Mission> missions, int pageSize) {
+		// 카테고리 제목은 페이지 전체를 한 번에 조회 (미션마다 조회하지 않는다)
+		Map<CategoryId, CategoryTitle> categoryTitles = categoryLookupPort.getCategoryTitles(
+			missions.stream().map(Mission::getCategoryId).collect(Collectors.toSet()));
 		// Mission을 MissionResponse로 변환
 		List<MissionResponse> content = missions.stream()
-			.map(this::toMissionResponse)
+			.map(mission -> toMissionResponse(mission, categoryTitles.get(mission.getCategoryId())))
 			.collect(Collectors.toList());
 		// 다음 커서 설정: 마지막 미션의 ID, 없으면 null
 		Long nextCursor = missions.isEmpty() ? null : missions.get(missions.size() - 1).getId();
@@ -72,8 +78,8 @@ public class MissionReadService {
 		return CursorResponse.of(content, nextCursor, hasNext);
 	}
 
-	private MissionResponse toMissionResponse(Mission mission) {
-		String missionTitle = categoryLookupPort.getCategoryTitle(mission.getCategoryId()).getValue();
+	private MissionResponse toMissionResponse(Mission mission, CategoryTitle categoryTitle) {
+		String missionTitle = categoryTitle.getValue();
 
 		// rewardTitle이 null일 수 있으므로 조건부로 처리
 		String rewardTitle = mission.getReward() == null ? null : mission.getReward().getTitle();
@@ -85,40 +91,21 @@ public class MissionReadService {
 		);
 	}
 
+	// 전체/진행중/종료 미션 수: 상태별 집계 1번 (카운터 캐시가 있으면 DB 조회 없음)
 	public MissionCountResponse countMyMissions(MemberId memberId) {
 		// memberId로 가족 관계 조회
 		FamilyRelationId relationId = familyRelationPort.findRelationIdByMemberId(memberId);
 
-		// 전체 미션 개수, 진행중인 미션 개수, 종료된 미션 개수 조회
-		long totalCount = missionPort.countMissionsByFamilyRelation(relationId);
-
-		// 진행중인 상태와 종료된 상태의 MissionStatus 리스트 생성
-		List<MissionStatus> inProgressStatuses = Arrays.stream(MissionStatus.values())
-			.filter(MissionStatus::isInProgress)
-			.toList();
-		List<MissionStatus> finishedStatuses = Arrays.stream(MissionStatus.values())
-			.filter(MissionStatus::isFinished)
-			.toList();
-
-		long inProgressCount = missionPort.countMissionsByFamilyRelationAndStatuses(relationId, inProgressStatuses);
-		long finishedCount = missionPort.countMissionsByFamilyRelationAndStatuses(relationId, finishedStatuses);
-
-		return MissionCountResponse.of(totalCount, inProgressCount, finishedCount);
+		MissionStatusCounts counts = missionStatusCountService.load(relationId);
+		return MissionCountResponse.of(counts.total(), counts.inProgress(), counts.finished());
 	}
 
-	// 회원의 진행중인 미션이 있는지 확인하는 메서드
+	// 회원의 진행중인 미션이 있는지 확인하는 메서드 (countMyMissions와 같은 집계를 사용)
 	public MissionExistsResponse existsInProgressMission(MemberId memberId) {
 		// memberId로 가족 관계 조회
 		FamilyRelationId relationId = familyRelationPort.findRelationIdByMemberId(memberId);
 
-		// 진행중인 상태의 MissionStatus 리스트 생성
-		List<MissionStatus> inProgressStatuses = Arrays.stream(MissionStatus.values())
-			.filter(MissionStatus::isInProgress)
-			.toList();
-
-		// 진행중인 미션 존재 여부 확인
-		boolean exists = missionPort.existsByFamilyRelationAndInProgressStatus(relationId, inProgressStatuses);
-		return new MissionExistsResponse(exists);
+		return new MissionExistsResponse(missionStatusCountService.load(relationId).hasInProgress());
 	}
 
 	public MissionDetailResponse getMissionDetailById(MemberId memberId, Long missionId) {
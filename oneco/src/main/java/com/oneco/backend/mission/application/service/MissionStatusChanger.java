@@ -1,11 +1,17 @@
 package com.oneco.backend.mission.application.service;
 
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.mission.application.port.out.CategoryLookupPort;
 import com.oneco.backend.mission.application.port.out.MissionPersistencePort;
+import com.oneco.backend.mission.application.port.out.MissionProgressLookupPort;
+import com.oneco.backend.mission.domain.event.MissionStatusBulkChangedEvent;
 import com.oneco.backend.mission.domain.exception.MissionErrorCode;
 import com.oneco.backend.mission.domain.judge.MissionJudgementService;
 import com.oneco.backend.mission.domain.judge.dto.MissionFailureJudgement;
@@ -13,6 +19,9 @@ import com.oneco.backend.mission.domain.judge.dto.MissionProgressSnapshot;
 import com.oneco.backend.mission.domain.judge.dto.MissionSuccessJudgement;
 import com.oneco.backend.mission.domain.mission.Mission;
 import com.oneco.backend.mission.domain.mission.MissionId;
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+import com.oneco.backend.mission.domain.policy.MissionSuccessPolicy;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,16 +31,19 @@ public class MissionStatusChanger {
 
 	private final MissionJudgementService missionJudgementService;
 	private final MissionPersistencePort missionPort;
-
-	// 미션 진행중으로 상태 변경한다.
-	// 미션 Period 에서 시작일이 되면 호출된다.
-	// todo: 스케줄러에서 미션 시작일이 되면 호출하도록 구현 필요함.
-	// processBatchFailure
+	private final MissionProgressLookupPort missionProgressLookupPort;
+	private final CategoryLookupPort categoryLookupPort;
+	private final ApplicationEventPublisher eventPublisher;
+
+	// 미션 진행중으로 상태 변경한다. (배치: 청크 단위)
+	// 미션 Period 에서 시작일이 되면 MissionBatchService가 호출한다.
+	// - Mission.markInProgress()와 같은 규칙: APPROVAL_ACCEPTED 인 미션만 IN_PROGRESS 로 바뀐다.
+	// - 청크마다 새 트랜잭션: 한 청크가 실패해도 이미 커밋된 청크는 유지된다.
+	// - 외부 빈(MissionBatchService)에서 public 메서드로 호출하므로 프록시를 타고 트랜잭션이 정상 적용된다.
+	// 반환값: 실제로 상태가 바뀐 미션 수
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void toInProgress(Mission mission) {
-		mission.markInProgress();
-		missionPort.save(mission); // 명시적으로 영속성 계층에 변경 사항을 저장
-
+	public int toInProgressInBulk(List<Long> missionIds) {
+		return updateStatusInBulk(missionIds, MissionStatus.APPROVAL_ACCEPTED, MissionStatus.IN_PROGRESS);
 	}
 
 	// 미션 성공으로 상태를 변경한다.
@@ -55,10 +67,17 @@ public class MissionStatusChanger {
 
 		// 도메인 요구사항 중, 미션 성공 시, 자동 보상 요청 상태로 변경한다.
 		toRequestReward(mission);
+		missionPort.save(mission); // 상태 변경 이벤트 발행
 
 		return judgement;
 	}
 
+	// mission_progress projection 1 row를 읽어 스냅샷을 만든 뒤 성공 판정/완료 처리한다.
+	// study_records를 훑지 않으므로 O(1) 조회로 판정할 수 있다.
+	public MissionSuccessJudgement toCompleted(MissionId missionId) {
+		return toCompleted(missionId, loadProgressSnapshot(missionId));
+	}
+
 	// 미션 보상 요청 상태로 변경
 	// 미션이 완료되면 자동으로 호출해서 보상 요청 상태로 변경한다.
 	public void toRequestReward(Mission mission) {
@@ -71,6 +90,7 @@ public class MissionStatusChanger {
 		// MissionId로 미션을 조회하고 보상 승인 상태로 변경
 		Mission mission = missionPort.findById(missionId.getValue());
 		mission.completeReward();
+		missionPort.save(mission); // 상태 변경 이벤트 발행
 	}
 
 	// =============================
@@ -96,17 +116,44 @@ public class MissionStatusChanger {
 		// MissionId로 미션을 조회하고 실패 상태로 변경
 		Mission mission = missionPort.findById(missionId.getValue());
 		mission.markFailed();
+		missionPort.save(mission); // 상태 변경 이벤트 발행
 		return judgement;
 	}
 
-	// MissionBatchProcessor 에서 호출하는 메서드
-	// 미션 마감 기한이 지났는지는 미션 도메인의 스케쥴러에서 처리하므로 protected로 감싼다.
+	// mission_progress projection 1 row를 읽어 스냅샷을 만든 뒤 조기 실패 판정/실패 처리한다.
+	public MissionFailureJudgement toFailed(MissionId missionId) {
+		return toFailed(missionId, loadProgressSnapshot(missionId));
+	}
+
+	// 미션 진행 현황 projection -> 판정용 스냅샷
+	// - 총 키워드 수는 카테고리의 기본 학습일수(= 평일 학습일 수)와 같다.
+	// - 아직 제출 기록이 없으면 빈 진행 현황으로 판정한다.
+	private MissionProgressSnapshot loadProgressSnapshot(MissionId missionId) {
+		Mission mission = missionPort.findById(missionId.getValue());
+		int totalKeywords = categoryLookupPort.getDefaultMissionDays(mission.getCategoryId()).getValue();
+
+		return missionProgressLookupPort.findByMissionId(missionId)
+			.orElseGet(() -> MissionProgress.start(missionId.getValue()))
+			.toSnapshot(totalKeywords, MissionSuccessPolicy.QUIZZES_PER_KEYWORD);
+	}
+
+	// 마감 기한이 지난 미션을 실패 처리한다. (배치: 청크 단위)
+	// 미션 마감 기한이 지났는지는 MissionBatchService가 판단해서 ID 목록으로 넘긴다.
+	// - Mission.markFailed()와 같은 규칙: IN_PROGRESS 인 미션만 FAILED 로 바뀐다.
+	// - 청크마다 새 트랜잭션 (public + 외부 빈 호출 -> 프록시를 타므로 REQUIRES_NEW가 실제로 적용된다)
+	// 반환값: 실제로 상태가 바뀐 미션 수
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	protected void processBatchFailure(Mission mission) {
-		mission.markFailed(); // 1. 도메인 상태 변경
+	public int toFailedInBulk(List<Long> missionIds) {
+		return updateStatusInBulk(missionIds, MissionStatus.IN_PROGRESS, MissionStatus.FAILED);
+	}
 
-		// 2. 명시적으로 영속성 계층에 변경 사항을 저장
-		// Dirty Checking(JPA)이 동작하겠지만 JPA 구현체에 따라 다를 수 있으므로 명시적으로 저장
-		missionPort.save(mission);
+	// 벌크 update는 엔티티 이벤트가 나오지 않으므로, 대상 가족관계를 알려서 상태 카운터를 버리게 한다. (커밋 이후)
+	private int updateStatusInBulk(List<Long> missionIds, MissionStatus from, MissionStatus to) {
+		int updated = missionPort.updateStatusInBulk(missionIds, from, to);
+		if (updated > 0) {
+			List<Long> familyRelationIds = missionPort.findFamilyRelationIdsByMissionIds(missionIds);
+			eventPublisher.publishEvent(new MissionStatusBulkChangedEvent(familyRelationIds, from, to));
+		}
+		return updated;
 	}
 }
@@ -0,0 +1,80 @@
+package com.oneco.backend.mission.application.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneco.backend.family.domain.relation.FamilyRelationId;
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
+import com.oneco.backend.mission.application.port.out.MissionPersistencePort;
+import com.oneco.backend.mission.application.port.out.MissionStatusCountCachePort;
+import com.oneco.backend.mission.domain.event.MissionStatusBulkChangedEvent;
+import com.oneco.backend.mission.domain.event.MissionStatusChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가족관계별 상태별 미션 수
+ * <p>
+ * - 카운터 캐시가 있으면 O(1) 조회, 없거나 캐시에 없으면 GROUP BY 집계 1번으로 채운다.
+ * - 카운터는 미션 상태 변경 커밋 이후 이벤트로 +1/-1 반영한다. 배치 벌크 변경은 해당 가족관계 카운터를 버린다.
+ * - 캐시(Redis) 오류는 조회를 실패시키지 않는다. DB 집계로 답하고 로그만 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MissionStatusCountService {
+
+	private final MissionPersistencePort missionPort;
+	private final MissionStatusCountCachePort missionStatusCountCachePort;
+
+	public MissionStatusCounts load(FamilyRelationId relationId) {
+		Long familyRelationId = relationId.getValue();
+		try {
+			Optional<MissionStatusCounts> cached = missionStatusCountCachePort.find(familyRelationId);
+			if (cached.isPresent()) {
+				return cached.get();
+			}
+
+			// 집계 전에 generation을 읽어 둔다. 집계 중에 커밋된 변경이 있으면 저장하지 않는다.
+			long generation = missionStatusCountCachePort.currentGeneration(familyRelationId);
+			MissionStatusCounts counts = missionPort.countMissionsByStatus(relationId);
+			missionStatusCountCachePort.storeIfUnchanged(familyRelationId, generation, counts);
+			return counts;
+		} catch (RuntimeException e) {
+			log.warn("[MissionStatusCount] 카운터 캐시 오류 - DB 집계로 응답 - familyRelationId={}", familyRelationId, e);
+			return missionPort.countMissionsByStatus(relationId);
+		}
+	}
+
+	// 미션 상태 변경 트랜잭션이 커밋된 뒤에 반영한다. (트랜잭션 밖에서 발행되면 즉시 실행)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStatusChanged(MissionStatusChangedEvent event) {
+		try {
+			missionStatusCountCachePort.applyTransition(event.familyRelationId(), event.from(), event.to());
+		} catch (RuntimeException e) {
+			log.warn("[MissionStatusCount] 카운터 반영 실패 - missionId={}, {} -> {}",
+				event.missionId(), event.from(), event.to(), e);
+			evictQuietly(List.of(event.familyRelationId()));
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBulkStatusChanged(MissionStatusBulkChangedEvent event) {
+		log.debug("[MissionStatusCount] 벌크 상태 변경 - 카운터 무효화 - {} -> {}, 가족관계 수={}",
+			event.from(), event.to(), event.familyRelationIds().size());
+		evictQuietly(event.familyRelationIds());
+	}
+
+	private void evictQuietly(List<Long> familyRelationIds) {
+		try {
+			missionStatusCountCachePort.evict(familyRelationIds);
+		} catch (RuntimeException e) {
+			// 카운터 ttl이 지나면 DB 집계로 다시 채워진다.
+			log.error("[MissionStatusCount] 카운터 무효화 실패 - familyRelationIds={}", familyRelationIds, e);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.oneco.backend.mission.domain.event;
+
+import java.util.List;
+
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+
+/**
+ * 배치 벌크 update로 여러 미션의 상태가 바뀌었음을 알리는 이벤트
+ * - 벌크 update는 엔티티를 거치지 않아 MissionStatusChangedEvent가 나오지 않는다.
+ * - 가족관계별로 몇 건이 바뀌었는지 모르므로, 받는 쪽은 해당 가족관계의 카운터를 버린다.
+ *
+ * @param familyRelationIds 대상 미션들의 가족관계 ID (중복 없음)
+ */
+public record MissionStatusBulkChangedEvent(List<Long> familyRelationIds, MissionStatus from, MissionStatus to) {
+
+	public MissionStatusBulkChangedEvent {
+		familyRelationIds = List.copyOf(familyRelationIds);
+	}
+}
@@ -0,0 +1,16 @@
+package com.oneco.backend.mission.domain.event;
+
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+
+/**
+ * 미션 1건의 상태가 바뀌었음을 알리는 이벤트
+ * - Mission 의 생성/상태 변경 메서드가 등록하고, 저장(repository.save) 시 Spring Data가 발행한다.
+ * - 커밋 이후 가족관계별 상태 카운터 갱신에 사용한다.
+ *
+ * @param missionId        미션 ID (생성 시에는 저장 전이라 null)
+ * @param familyRelationId 가족관계 ID
+ * @param from             이전 상태 (생성이면 null)
+ * @param to               바뀐 상태
+ */
+public record MissionStatusChangedEvent(Long missionId, Long familyRelationId, MissionStatus from, MissionStatus to) {
+}
@@ -125,6 +125,11 @@ public enum MissionErrorCode implements ErrorCode {
 		HttpStatus.BAD_REQUEST,
 		"미션 종료일이 지난 후에는 승인할 수 없습니다.",
 		"MISSION_ERROR_400_LATE_MISSION_APPROVAL"
+	),
+	INVALID_MISSION_PROGRESS_DAY(
+		HttpStatus.BAD_REQUEST,
+		"미션 진행 현황에 기록할 학습 일차가 유효하지 않습니다.",
+		"MISSION_ERROR_400_INVALID_MISSION_PROGRESS_DAY"
 	);
 
 	private final HttpStatus httpStatus;
@@ -3,12 +3,18 @@ package com.oneco.backend.mission.domain.mission;
 import static lombok.AccessLevel.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import com.oneco.backend.category.domain.category.CategoryId;
 import com.oneco.backend.family.domain.relation.FamilyRelationId;
 import com.oneco.backend.global.entity.BaseTimeEntity;
 import com.oneco.backend.global.exception.BaseException;
 import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.event.MissionStatusChangedEvent;
 import com.oneco.backend.mission.domain.exception.MissionErrorCode;
 
 import jakarta.persistence.AttributeOverride;
@@ -20,11 +26,22 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(
+	indexes = {
+		// 회원 참여 미션 조회(수신자 / 요청자 각각)용. MissionJpaRepository.findLatestActive / findLatestActiveByCategory / findTop1LatestActiveDashboard 의 UNION ALL 가지마다 하나씩
+		// 변경 SQL: docs/migrations/2026-10-mission-member-status-index.sql
+		@Index(name = "idx_mission_recipient_status_created", columnList = "recipient_id, status, created_at"),
+		@Index(name = "idx_mission_requester_status_created", columnList = "requester_id, status, created_at")
+	}
+)
 @NoArgsConstructor(access = PROTECTED)
 public class Mission extends BaseTimeEntity {
 
@@ -58,6 +75,11 @@ public class Mission extends BaseTimeEntity {
 	@Enumerated(EnumType.STRING)
 	private MissionStatus status; // default: APPROVAL_REQUEST
 
+	// 저장(repository.save) 시 발행할 상태 변경 이벤트 (가족관계별 상태 카운터 갱신)
+	@Transient
+	@Getter(NONE)
+	private final List<MissionStatusChangedEvent> statusChangedEvents = new ArrayList<>();
+
 	private Mission(
 		MemberId requesterId,
 		MemberId recipientId,
@@ -103,6 +125,7 @@ public class Mission extends BaseTimeEntity {
 		this.period = period;
 		this.reward = reward;
 		this.status = MissionStatus.APPROVAL_REQUEST; // 미션 생성 시 기본 상태 값: 승인 요청
+		registerStatusChange(null);
 	}
 
 	// 미션 생성 메서드
@@ -122,7 +145,7 @@ public class Mission extends BaseTimeEntity {
 	// 미션 승인 요청
 	public void requestApproval() {
 		// TODO: 상태 전환 가능 여부 검증 로직 추가 ->
-		this.status = MissionStatus.APPROVAL_REQUEST;
+		changeStatus(MissionStatus.APPROVAL_REQUEST);
 	}
 
 	// 미션 승인 수락
@@ -134,7 +157,7 @@ public class Mission extends BaseTimeEntity {
 				"미션 승인 수락은 승인 요청 상태에서만 가능합니다."
 			);
 		}
-		this.status = MissionStatus.APPROVAL_ACCEPTED;
+		changeStatus(MissionStatus.APPROVAL_ACCEPTED);
 	}
 
 	// 미션 승인 거절
@@ -146,7 +169,7 @@ public class Mission extends BaseTimeEntity {
 				"미션 승인 거절은 승인 요청 상태에서만 가능합니다."
 			);
 		}
-		this.status = MissionStatus.APPROVAL_REJECTED;
+		changeStatus(MissionStatus.APPROVAL_REJECTED);
 	}
 
 	// 미션 진행 중
@@ -157,7 +180,7 @@ public class Mission extends BaseTimeEntity {
 				MissionErrorCode.INVALID_UPDATE_MISSION_STATUS,
 				"미션 진행은 승인 수락 상태에서만 가능합니다.");
 		}
-		this.status = MissionStatus.IN_PROGRESS;
+		changeStatus(MissionStatus.IN_PROGRESS);
 	}
 
 	// 미션 완료
@@ -169,7 +192,7 @@ public class Mission extends BaseTimeEntity {
 				"미션 완료는 진행 중 상태에서만 가능합니다."
 			);
 		}
-		this.status = MissionStatus.COMPLETED;
+		changeStatus(MissionStatus.COMPLETED);
 	}
 
 	// 미션 실패
@@ -181,7 +204,7 @@ public class Mission extends BaseTimeEntity {
 				"미션 실패는 진행 중 상태에서만 가능합니다."
 			);
 		}
-		this.status = MissionStatus.FAILED;
+		changeStatus(MissionStatus.FAILED);
 	}
 
 	// 보상 요청
@@ -192,7 +215,7 @@ public class Mission extends BaseTimeEntity {
 				MissionErrorCode.INVALID_UPDATE_MISSION_STATUS,
 				"보상 요청은 미션 완료 상태에서만 가능합니다.");
 		}
-		this.status = MissionStatus.REWARD_REQUESTED;
+		changeStatus(MissionStatus.REWARD_REQUESTED);
 	}
 
 	// 보상 완료
@@ -203,7 +226,7 @@ public class Mission extends BaseTimeEntity {
 				MissionErrorCode.INVALID_UPDATE_MISSION_STATUS,
 				"보상 완료는 보상 요청 상태에서만 가능합니다.");
 		}
-		this.status = MissionStatus.REWARD_COMPLETED;
+		changeStatus(MissionStatus.REWARD_COMPLETED);
 	}
 
 	// 현재 열린 일차 시퀀스 계산
@@ -214,4 +237,30 @@ public class Mission extends BaseTimeEntity {
 	public boolean isActiveForStudy() {
 		return this.status == MissionStatus.IN_PROGRESS;
 	}
+
+	// =============================
+	// 상태 변경 이벤트
+	// =============================
+
+	private void changeStatus(MissionStatus to) {
+		MissionStatus from = this.status;
+		this.status = to;
+		if (from != to) {
+			registerStatusChange(from);
+		}
+	}
+
+	private void registerStatusChange(MissionStatus from) {
+		statusChangedEvents.add(new MissionStatusChangedEvent(id, familyRelationId.getValue(), from, status));
+	}
+
+	@DomainEvents
+	protected List<MissionStatusChangedEvent> statusChangedEvents() {
+		return List.copyOf(statusChangedEvents);
+	}
+
+	@AfterDomainEventPublication
+	protected void clearStatusChangedEvents() {
+		statusChangedEvents.clear();
+	}
 }
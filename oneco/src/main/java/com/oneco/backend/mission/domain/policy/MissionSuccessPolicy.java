@@ -12,7 +12,7 @@ public class MissionSuccessPolicy {
 	// 2. 퀴즈 3*N개를 모두 풀었는가
 	// 3. 정답률이 80% 이상인가?
 
-	protected static final int QUIZZES_PER_KEYWORD = 3; // 키워드 당 퀴즈 수
+	public static final int QUIZZES_PER_KEYWORD = 3; // 키워드 당 퀴즈 수
 	protected static final double MIN_SUCCESS_RATE = 0.8; // 최소 성공률 (80%)
 
 	public MissionSuccessJudgement isMissionSuccessful(MissionProgressSnapshot snapshot) {
@@ -0,0 +1,139 @@
+package com.oneco.backend.mission.domain.progress;
+
+import java.time.Instant;
+import java.util.BitSet;
+
+import com.oneco.backend.category.domain.category.MissionDays;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.mission.domain.exception.MissionErrorCode;
+import com.oneco.backend.mission.domain.judge.dto.MissionProgressSnapshot;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미션 진행 현황 projection (mission_progress)
+ * <p>
+ * 역할
+ * - 미션 1건당 1 row로 "몇 번째 학습일을 완료했는지"를 비트셋으로 들고 있는다.
+ * - 홈 대시보드 / 미션 판정이 study_records 전체를 훑지 않고 이 row 하나만 읽도록 하기 위한 읽기 모델이다.
+ * <p>
+ * 갱신 규칙
+ * - StudyRecord.submitQuizAttempt로 상태가 바뀌는 같은 트랜잭션 안에서 applySubmission을 호출한다.
+ * - 첫 제출(1차 PASS/FAIL)로 해당 학습일은 완료(COMPLETED) 처리되고, 푼 퀴즈 수/정답 수가 누적된다.
+ * - 재도전(2차) 제출은 완료 일수를 늘리지 않고, 그 날의 정답 수만 2차 결과로 교체한다.
+ * <p>
+ * 비트셋 인코딩
+ * - daySequence n(1부터 시작) -> bit (n - 1)
+ * - BitSet.toByteArray() (little-endian) 형식으로 저장하며, 최대 MissionDays.MAX_DAYS 비트까지 허용한다.
+ */
+@Getter
+@Entity
+@Table(name = "mission_progress")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MissionProgress {
+
+	private static final int MAX_DAY_SEQUENCE = MissionDays.MAX_DAYS;
+	private static final int COMPLETED_DAYS_BYTES = (MAX_DAY_SEQUENCE + 7) / 8;
+
+	@Id
+	@Column(name = "mission_id")
+	private Long missionId;
+
+	@Getter(AccessLevel.NONE)
+	@Column(name = "completed_days", nullable = false, length = COMPLETED_DAYS_BYTES)
+	private byte[] completedDays = new byte[0];
+
+	@Column(name = "completed_count", nullable = false)
+	private int completedCount;
+
+	@Column(name = "solved_quiz_count", nullable = false)
+	private int solvedQuizCount;
+
+	@Column(name = "correct_quiz_count", nullable = false)
+	private int correctQuizCount;
+
+	@Column(name = "last_updated_at", nullable = false)
+	private Instant lastUpdatedAt;
+
+	private MissionProgress(Long missionId) {
+		if (missionId == null) {
+			throw BaseException.from(MissionErrorCode.INVALID_MISSION_ID, "missionId는 null일 수 없습니다.");
+		}
+		this.missionId = missionId;
+		this.lastUpdatedAt = Instant.now();
+	}
+
+	// 아직 제출 기록이 없는 빈 진행 현황 생성
+	public static MissionProgress start(Long missionId) {
+		return new MissionProgress(missionId);
+	}
+
+	/**
+	 * 퀴즈 제출 1건을 진행 현황에 반영한다.
+	 *
+	 * @param daySequence              제출한 DailyContent의 학습 일차 (1부터 시작)
+	 * @param solvedQuizCount          이번 제출에서 푼 퀴즈 수
+	 * @param correctQuizCount         이번 제출의 정답 수
+	 * @param previousCorrectQuizCount 같은 날 이전 제출의 정답 수 (첫 제출이면 0)
+	 */
+	public void applySubmission(int daySequence, int solvedQuizCount, int correctQuizCount,
+		int previousCorrectQuizCount) {
+		BitSet days = toBitSet();
+		int index = toBitIndex(daySequence);
+
+		if (!days.get(index)) {
+			// 첫 제출: 학습일 완료 처리 + 푼 문제/정답 누적
+			days.set(index);
+			this.completedDays = days.toByteArray();
+			this.completedCount++;
+			this.solvedQuizCount += solvedQuizCount;
+			this.correctQuizCount += correctQuizCount;
+		} else {
+			// 재도전 제출: 그 날의 정답 수를 최신 결과로 교체
+			this.correctQuizCount += correctQuizCount - previousCorrectQuizCount;
+		}
+		this.lastUpdatedAt = Instant.now();
+	}
+
+	// 해당 학습 일차를 완료했는지 여부
+	public boolean isCompleted(int daySequence) {
+		if (daySequence < 1 || daySequence > MAX_DAY_SEQUENCE) {
+			return false;
+		}
+		return toBitSet().get(daySequence - 1);
+	}
+
+	// 완료한 학습 일차 비트셋 (방어적 복사)
+	public BitSet getCompletedDays() {
+		return toBitSet();
+	}
+
+	// 미션 판정(MissionJudgementService)에 넘길 스냅샷으로 변환
+	public MissionProgressSnapshot toSnapshot(int totalKeywords, int quizzesPerKeyword) {
+		return new MissionProgressSnapshot(
+			totalKeywords,
+			completedCount,
+			totalKeywords * quizzesPerKeyword,
+			solvedQuizCount,
+			correctQuizCount
+		);
+	}
+
+	private BitSet toBitSet() {
+		return BitSet.valueOf(completedDays);
+	}
+
+	private int toBitIndex(int daySequence) {
+		if (daySequence < 1 || daySequence > MAX_DAY_SEQUENCE) {
+			throw BaseException.from(MissionErrorCode.INVALID_MISSION_PROGRESS_DAY,
+				"daySequence는 1 이상 " + MAX_DAY_SEQUENCE + " 이하여야 합니다. 입력값=" + daySequence);
+		}
+		return daySequence - 1;
+	}
+}
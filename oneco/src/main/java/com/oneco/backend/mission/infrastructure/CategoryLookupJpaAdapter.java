@@ -1,5 +1,9 @@
 package com.oneco.backend.mission.infrastructure;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
 
 import com.oneco.backend.category.domain.category.Category;
@@ -8,34 +12,61 @@ import com.oneco.backend.category.domain.category.MissionDays;
 import com.oneco.backend.category.domain.category.CategoryTitle;
 import com.oneco.backend.category.domain.exception.constant.CategoryErrorCode;
 import com.oneco.backend.category.infrastructure.CategoryJpaRepository;
+import com.oneco.backend.category.infrastructure.catalog.CategorySnapshot;
+import com.oneco.backend.category.infrastructure.catalog.CategorySnapshotProvider;
 import com.oneco.backend.global.exception.BaseException;
 import com.oneco.backend.mission.application.port.out.CategoryLookupPort;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 카테고리 조회는 CategorySnapshot(메모리)에서 한다.
+ * - 스냅샷에 없으면(기동 직후 적재 전, DB에 직접 넣은 카테고리 등) DB에서 1건 조회하고,
+ *   실제로 있으면 스냅샷을 다시 적재한다. 없는 ID는 지금처럼 INVALID_CATEGORY_ID.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CategoryLookupJpaAdapter implements CategoryLookupPort {
 
 	private final CategoryJpaRepository categoryJpaRepository;
+	private final CategorySnapshotProvider categorySnapshotProvider;
 
 	@Override
 	public MissionDays getDefaultMissionDays(CategoryId categoryId) {
-		return categoryJpaRepository.findById(categoryId.getValue())
-			.map(Category::getDefaultMissionDays)
-			.orElseThrow(() -> BaseException.from(
-				CategoryErrorCode.INVALID_CATEGORY_ID,
-				"Invalid categoryId: " + categoryId.getValue()
-			));
+		return find(categorySnapshotProvider.current(), categoryId).defaultMissionDays();
 	}
 
 	@Override
 	public CategoryTitle getCategoryTitle(CategoryId categoryId) {
-		return categoryJpaRepository.findById(categoryId.getValue())
-			.map(Category::getTitle)
+		return find(categorySnapshotProvider.current(), categoryId).title();
+	}
+
+	@Override
+	public Map<CategoryId, CategoryTitle> getCategoryTitles(Collection<CategoryId> categoryIds) {
+		CategorySnapshot snapshot = categorySnapshotProvider.current();
+		Map<CategoryId, CategoryTitle> titles = new HashMap<>();
+		for (CategoryId categoryId : categoryIds) {
+			titles.computeIfAbsent(categoryId, id -> find(snapshot, id).title());
+		}
+		return titles;
+	}
+
+	private CategorySnapshot.Entry find(CategorySnapshot snapshot, CategoryId categoryId) {
+		CategorySnapshot.Entry entry = snapshot.find(categoryId.getValue());
+		if (entry != null) {
+			return entry;
+		}
+
+		Category category = categoryJpaRepository.findById(categoryId.getValue())
 			.orElseThrow(() -> BaseException.from(
 				CategoryErrorCode.INVALID_CATEGORY_ID,
 				"Invalid categoryId: " + categoryId.getValue()
 			));
+		log.info("[CategorySnapshot] 스냅샷에 없는 카테고리 - categoryId={}, version={} -> 재적재",
+			categoryId.getValue(), snapshot.version());
+		categorySnapshotProvider.refresh();
+		return new CategorySnapshot.Entry(category.getTitle(), category.getDefaultMissionDays());
 	}
 }
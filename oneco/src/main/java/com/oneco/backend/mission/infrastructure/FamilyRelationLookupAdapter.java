@@ -4,10 +4,8 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
-import com.oneco.backend.family.domain.relation.FamilyRelation;
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
 import com.oneco.backend.family.domain.relation.FamilyRelationId;
-import com.oneco.backend.family.domain.relation.RelationStatus;
-import com.oneco.backend.family.infrastructure.persistence.FamilyRelationJpaRepository;
 import com.oneco.backend.member.domain.MemberId;
 import com.oneco.backend.global.exception.BaseException;
 import com.oneco.backend.family.domain.exception.constant.FamilyErrorCode;
@@ -15,42 +13,38 @@ import com.oneco.backend.mission.application.port.out.FamilyRelationLookupPort;
 
 import lombok.RequiredArgsConstructor;
 
+// 가족 관계는 연결/해제 때만 바뀌므로 FamilyRelationCache(memberId -> 연결된 관계 목록)에서 조회한다.
 @Component
 @RequiredArgsConstructor
 public class FamilyRelationLookupAdapter implements FamilyRelationLookupPort {
 
-	private final FamilyRelationJpaRepository repository;
+	private final FamilyRelationCachePort relationCachePort;
 
 	// 요청자와 수신자가 특정 FamilyRelation의 멤버인지 확인
+	// 캐시에는 연결된(CONNECTED) 관계만 있으므로 상태 확인이 따로 필요 없다.
 	@Override
 	public boolean isMembersOfRelation(FamilyRelationId relationId, MemberId requesterId, MemberId recipientId) {
-		return repository.findById(relationId.getValue())
-			.filter(relation -> relation.getStatus() == RelationStatus.CONNECTED) // 연결된 상태인지 확인
-			.filter(relation -> isMembersMatched(relation, requesterId, recipientId)) // 멤버 일치 여부 확인
-			.isPresent(); //
-	}
-
-	// 요청자와 수신자가 FamilyRelation의 멤버인지 확인
-	private boolean isMembersMatched(FamilyRelation relation, MemberId requesterId, MemberId recipientId) {
-		return (relation.getParentId().equals(requesterId) && relation.getChildId().equals(recipientId))
-			|| (relation.getParentId().equals(recipientId) && relation.getChildId().equals(requesterId));
+		return relationCachePort.findConnectedRelations(requesterId)
+			.stream()
+			.filter(relation -> relation.relationId().equals(relationId.getValue()))
+			.anyMatch(relation -> relation.connects(requesterId, recipientId)); // 멤버 일치 여부 확인
 	}
 
 	@Override
 	public FamilyRelationId findRelationIdByMemberId(MemberId memberId) {
-		return repository.findConnectedRelationByMemberId(memberId)
+		return relationCachePort.findConnectedRelations(memberId)
 			.stream()
 			.findFirst()
-			.map(relation -> FamilyRelationId.of(relation.getId()))
+			.map(relation -> FamilyRelationId.of(relation.relationId()))
 			.orElseThrow(() -> BaseException.from(FamilyErrorCode.FAMILY_RELATION_NOT_FOUND));
 	}
 
 	@Override
 	public Optional<FamilyRelationId> findConnectedRelationIdBetween(MemberId requesterId, MemberId recipientId) {
-		return repository.findConnectedRelationByMemberId(requesterId)
+		return relationCachePort.findConnectedRelations(requesterId)
 			.stream()
-			.filter(relation -> isMembersMatched(relation, requesterId, recipientId))
+			.filter(relation -> relation.connects(requesterId, recipientId))
 			.findFirst()
-			.map(relation -> FamilyRelationId.of(relation.getId()));
+			.map(relation -> FamilyRelationId.of(relation.relationId()));
 	}
 }
@@ -1,14 +1,17 @@
 package com.oneco.backend.mission.infrastructure;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
+import com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardMissionSnapshot;
 import com.oneco.backend.mission.domain.mission.Mission;
 import com.oneco.backend.mission.domain.mission.MissionStatus;
 
@@ -17,13 +20,32 @@ public interface MissionJpaRepository extends JpaRepository<Mission, Long> {
 	// FamilyRelationId와 CategoryId로 미션 존재 여부 확인
 	boolean existsByFamilyRelationIdValueAndCategoryIdValue(Long familyRelationId, Long categoryId);
 
+	/*
+	 * 회원 참여 미션 조회 (수신자 또는 요청자)
+	 * - (recipient_id = :memberId OR requester_id = :memberId)는 인덱스를 쓰지 못해 mission 전체를 읽는다.
+	 *   역할 컬럼마다 인덱스 범위를 따로 읽고 UNION ALL로 합친 뒤 PK로 조인한다.
+	 *   (idx_mission_recipient_status_created / idx_mission_requester_status_created)
+	 * - 두 번째 가지의 recipient_id <> :memberId는 첫 번째 가지와 겹치는 행을 뺀다.
+	 * - 가지 안에는 order by / limit을 두지 않는다. (Hibernate가 union의 마지막 가지 안으로 렌더링한다)
+	 *   회원 1명의 진행중 미션은 몇 건뿐이라 합친 뒤 정렬해도 비용이 작다.
+	 */
+
 	// 특정 카테고리의 최신 진행중인 미션 조회
 	@Query("""
-		select m from Mission m
-		where (m.recipientId.value = :memberId OR m.requesterId.value = :memberId)
-		  and m.categoryId.value = :categoryId
-		  and m.status = :status
-		order by m.createdAt desc
+		select m from (
+			select r.id as id, r.createdAt as createdAt from Mission r
+			where r.recipientId.value = :memberId
+			  and r.status = :status
+			  and r.categoryId.value = :categoryId
+			union all
+			select q.id as id, q.createdAt as createdAt from Mission q
+			where q.requesterId.value = :memberId
+			  and q.recipientId.value <> :memberId
+			  and q.status = :status
+			  and q.categoryId.value = :categoryId
+		) p
+		join Mission m on m.id = p.id
+		order by p.createdAt desc, p.id desc
 		""")
 	List<Mission> findLatestActiveByCategory(
 		@Param("memberId") Long memberId,
@@ -33,49 +55,118 @@ public interface MissionJpaRepository extends JpaRepository<Mission, Long> {
 
 	// 최신 진행중인 미션들 조회
 	@Query("""
-		select m from Mission m
-		where (m.recipientId.value = :memberId OR m.requesterId.value = :memberId)
-		  and m.status = :status
-		order by m.createdAt desc
+		select m from (
+			select r.id as id, r.createdAt as createdAt from Mission r
+			where r.recipientId.value = :memberId
+			  and r.status = :status
+			union all
+			select q.id as id, q.createdAt as createdAt from Mission q
+			where q.requesterId.value = :memberId
+			  and q.recipientId.value <> :memberId
+			  and q.status = :status
+		) p
+		join Mission m on m.id = p.id
+		order by p.createdAt desc, p.id desc
 		""")
 	List<Mission> findLatestActive(
 		@Param("memberId") Long memberId,
 		@Param("status") MissionStatus status
 	);
 
-	// 최신 진행중인 미션 1개 조회
+	// 홈 대시보드용: 최신 진행중인 미션 1개 + 자녀 ID + 카테고리 제목 + 진행 현황을 한 번의 쿼리로 조회
 	@Query("""
-		select m from Mission m
-		where (m.recipientId.value = :memberId OR m.requesterId.value = :memberId)
-		  and m.status = :status
-		order by m.createdAt desc
+		select new com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardMissionSnapshot(
+			m.id, f.childId.value, m.categoryId.value, c.title.value,
+			m.reward.title, m.period.startDate, m.period.endDate, mp
+		)
+		from (
+			select r.id as id, r.createdAt as createdAt from Mission r
+			where r.recipientId.value = :memberId
+			  and r.status = :status
+			union all
+			select q.id as id, q.createdAt as createdAt from Mission q
+			where q.requesterId.value = :memberId
+			  and q.recipientId.value <> :memberId
+			  and q.status = :status
+		) p
+		join Mission m on m.id = p.id
+		left join FamilyRelation f on f.id = m.familyRelationId.value
+		left join Category c on c.id = m.categoryId.value
+		left join MissionProgress mp on mp.missionId = m.id
+		order by p.createdAt desc, p.id desc
 		""")
-	List<Mission> findTop1LatestActive(
+	List<HomeDashboardMissionSnapshot> findTop1LatestActiveDashboard(
 		@Param("memberId") Long memberId,
 		@Param("status") MissionStatus status,
 		Pageable pageable
 	);
 
-	// 특정 미션 ID와 회원으로 진행중인 미션 조회
+	// 홈 대시보드용: 특정 미션 ID의 진행중인 미션 + 자녀 ID + 카테고리 제목 + 진행 현황을 한 번의 쿼리로 조회
+	// (m.id로 PK 조회 후 참여 여부만 거르므로 OR 조건이 있어도 전체를 읽지 않는다)
 	@Query("""
-		select m from Mission m
+		select new com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardMissionSnapshot(
+			m.id, f.childId.value, m.categoryId.value, c.title.value,
+			m.reward.title, m.period.startDate, m.period.endDate, mp
+		)
+		from Mission m
+		left join FamilyRelation f on f.id = m.familyRelationId.value
+		left join Category c on c.id = m.categoryId.value
+		left join MissionProgress mp on mp.missionId = m.id
 		where (m.recipientId.value = :memberId OR m.requesterId.value = :memberId)
 		  and m.id = :missionId
 		  and m.status = :status
 		""")
-	Optional<Mission> findActiveByIdAndMember(
+	Optional<HomeDashboardMissionSnapshot> findActiveDashboardByIdAndMember(
 		@Param("memberId") Long memberId,
 		@Param("missionId") Long missionId,
 		@Param("status") MissionStatus status
 	);
 
+	// 배치용: 마감기한이 지난 미션 ID를 id 오름차순 keyset 페이지로 조회한다. (엔티티를 올리지 않는다)
+	@Query("""
+		select m.id from Mission m
+		where m.status = :status
+		  and m.period.endDate < :today
+		  and m.id > :lastId
+		order by m.id asc
+		""")
+	List<Long> findOverdueMissionIds(
+		@Param("status") MissionStatus status,
+		@Param("today") LocalDate today,
+		@Param("lastId") Long lastId,
+		Pageable pageable
+	);
 
-	@Query("SELECT m FROM Mission m " +
-		"WHERE m.status = :status " +
-		"AND m.period.endDate < :today")
-	List<Mission> findAllOverdueMissions(
+	// 배치용: 오늘이 시작일인 미션 ID를 id 오름차순 keyset 페이지로 조회한다.
+	@Query("""
+		select m.id from Mission m
+		where m.status = :status
+		  and m.period.startDate = :today
+		  and m.id > :lastId
+		order by m.id asc
+		""")
+	List<Long> findMissionIdsStartingOn(
 		@Param("status") MissionStatus status,
-		@Param("today") LocalDate today
+		@Param("today") LocalDate today,
+		@Param("lastId") Long lastId,
+		Pageable pageable
+	);
+
+	// 배치용: 현재 상태가 from 인 미션만 to 로 한 번에 바꾼다.
+	// - 벌크 update는 엔티티 리스너(감사)를 거치지 않으므로 updatedAt을 직접 넣는다.
+	// - 그 사이 상태가 바뀐 미션은 where 조건에서 빠지므로 반환값(변경 건수)이 ids 수보다 작을 수 있다.
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		update Mission m
+		set m.status = :to, m.updatedAt = :now
+		where m.status = :from
+		  and m.id in :ids
+		""")
+	int bulkUpdateStatus(
+		@Param("ids") List<Long> ids,
+		@Param("from") MissionStatus from,
+		@Param("to") MissionStatus to,
+		@Param("now") Instant now
 	);
 
 	@Query("SELECT m FROM Mission m " +
@@ -112,19 +203,19 @@ public interface MissionJpaRepository extends JpaRepository<Mission, Long> {
 		Long lastId,
 		Pageable pageable);
 
-	// 오늘이 미션 시작일인 모든 미션을 조회한다.
-	@Query("SELECT m FROM Mission m " +
-		"WHERE m.period.startDate = :today " +
-		"AND m.status = :status")
-	List<Mission> findAllByStartDate(
-		@Param("today") LocalDate today,
-		@Param("status") MissionStatus status
-	);
-
-	long countByFamilyRelationIdValue(Long value);
-
-	long countByFamilyRelationIdValueAndStatusIn(Long value, List<MissionStatus> statuses);
+	// 가족관계의 상태별 미션 수를 한 번에 집계한다. (전체/진행중/종료/진행중 존재 여부를 모두 여기서 계산)
+	@Query("""
+		select new com.oneco.backend.mission.infrastructure.MissionStatusCountRow(m.status, count(m))
+		from Mission m
+		where m.familyRelationId.value = :familyRelationId
+		group by m.status
+		""")
+	List<MissionStatusCountRow> countByStatus(@Param("familyRelationId") Long familyRelationId);
 
-	// 가족관계와 진행중인 상태의 미션 존재 여부를 확인한다.
-	boolean existsByFamilyRelationIdValueAndStatusIn(Long value, List<MissionStatus> statuses);
+	// 배치용: 미션 ID들의 가족관계 ID (벌크 상태 변경 후 카운터 무효화 대상)
+	@Query("""
+		select distinct m.familyRelationId.value from Mission m
+		where m.id in :ids
+		""")
+	List<Long> findDistinctFamilyRelationIdsByIdIn(@Param("ids") List<Long> ids);
 }
@@ -1,7 +1,10 @@
 package com.oneco.backend.mission.infrastructure;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
@@ -9,6 +12,7 @@ import org.springframework.stereotype.Component;
 import com.oneco.backend.category.domain.category.CategoryId;
 import com.oneco.backend.family.domain.relation.FamilyRelationId;
 import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
 import com.oneco.backend.mission.application.port.out.MissionPersistencePort;
 import com.oneco.backend.mission.domain.exception.MissionErrorCode;
 import com.oneco.backend.mission.domain.mission.Mission;
@@ -38,10 +42,22 @@ public class MissionPersistenceAdapter implements MissionPersistencePort {
 		return repository.findById(missionId).orElseThrow(() -> BaseException.from(MissionErrorCode.MISSION_NOT_FOUND));
 	}
 
-	// 진행중인 미션들 중, 마감기한이 지난 미션들을 모두 조회한다.
 	@Override
-	public List<Mission> findAllOverdueMissions(LocalDate today) {
-		return repository.findAllOverdueMissions(MissionStatus.IN_PROGRESS, today);
+	public List<Long> findOverdueMissionIds(LocalDate today, Long lastId, int size) {
+		return repository.findOverdueMissionIds(MissionStatus.IN_PROGRESS, today, lastId, PageRequest.of(0, size));
+	}
+
+	@Override
+	public List<Long> findMissionIdsStartingToday(LocalDate today, Long lastId, int size) {
+		return repository.findMissionIdsStartingOn(MissionStatus.APPROVAL_ACCEPTED, today, lastId, PageRequest.of(0, size));
+	}
+
+	@Override
+	public int updateStatusInBulk(List<Long> missionIds, MissionStatus from, MissionStatus to) {
+		if (missionIds.isEmpty()) {
+			return 0;
+		}
+		return repository.bulkUpdateStatus(missionIds, from, to, Instant.now());
 	}
 
 	// 상태는 IN_PROGRESS, APPROVAL_ACCEPTED, APPROVAL_REQUEST일 때 조회
@@ -72,24 +88,20 @@ public class MissionPersistenceAdapter implements MissionPersistencePort {
 		);
 	}
 
-	// 오늘이 미션 시작일인 모든 미션을 조회한다.
-	@Override
-	public List<Mission> findAllMissionsStartingToday(LocalDate today) {
-		return repository.findAllByStartDate(today, MissionStatus.APPROVAL_ACCEPTED);
-	}
-
-	@Override
-	public long countMissionsByFamilyRelation(FamilyRelationId relationId) {
-		return repository.countByFamilyRelationIdValue(relationId.getValue());
-	}
-
 	@Override
-	public long countMissionsByFamilyRelationAndStatuses(FamilyRelationId relationId, List<MissionStatus> statuses) {
-		return repository.countByFamilyRelationIdValueAndStatusIn(relationId.getValue(), statuses);
+	public MissionStatusCounts countMissionsByStatus(FamilyRelationId relationId) {
+		Map<MissionStatus, Long> counts = new EnumMap<>(MissionStatus.class);
+		for (MissionStatusCountRow row : repository.countByStatus(relationId.getValue())) {
+			counts.put(row.status(), row.count());
+		}
+		return new MissionStatusCounts(counts);
 	}
 
 	@Override
-	public boolean existsByFamilyRelationAndInProgressStatus(FamilyRelationId relationId, List<MissionStatus> statuses) {
-		return repository.existsByFamilyRelationIdValueAndStatusIn(relationId.getValue(), statuses);
+	public List<Long> findFamilyRelationIdsByMissionIds(List<Long> missionIds) {
+		if (missionIds.isEmpty()) {
+			return List.of();
+		}
+		return repository.findDistinctFamilyRelationIdsByIdIn(missionIds);
 	}
 }
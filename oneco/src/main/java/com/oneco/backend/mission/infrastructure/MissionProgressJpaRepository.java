@@ -0,0 +1,37 @@
+package com.oneco.backend.mission.infrastructure;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+import jakarta.persistence.LockModeType;
+
+public interface MissionProgressJpaRepository extends JpaRepository<MissionProgress, Long> {
+
+	// 제출 반영/재구축 시 같은 미션의 동시 갱신을 막기 위해 비관적 잠금으로 조회한다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select mp from MissionProgress mp where mp.missionId = :missionId")
+	Optional<MissionProgress> findByIdForUpdate(@Param("missionId") Long missionId);
+
+	/**
+	 * 빈 진행 현황 row를 "없으면 생성" (한 문장)
+	 * - 같은 미션의 첫 제출이 동시에 와도 중복 키 예외 없이 하나만 만들어진다. (이미 있으면 0건 반영)
+	 * - MySQL 문법이라 H2 테스트는 MODE=MySQL 로 실행한다.
+	 */
+	@Modifying
+	@Query(value = """
+			insert into mission_progress
+				(mission_id, completed_days, completed_count, solved_quiz_count, correct_quiz_count, last_updated_at)
+			values
+				(:missionId, x'', 0, 0, 0, :now)
+			on duplicate key update mission_id = mission_id
+		""", nativeQuery = true)
+	int insertIfAbsent(@Param("missionId") Long missionId, @Param("now") Instant now);
+}
@@ -0,0 +1,23 @@
+package com.oneco.backend.mission.infrastructure;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.oneco.backend.mission.application.port.out.MissionProgressLookupPort;
+import com.oneco.backend.mission.domain.mission.MissionId;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MissionProgressLookupAdapter implements MissionProgressLookupPort {
+
+	private final MissionProgressJpaRepository repository;
+
+	@Override
+	public Optional<MissionProgress> findByMissionId(MissionId missionId) {
+		return repository.findById(missionId.getValue());
+	}
+}
@@ -0,0 +1,7 @@
+package com.oneco.backend.mission.infrastructure;
+
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+
+// 상태별 미션 수 집계 결과 1행
+public record MissionStatusCountRow(MissionStatus status, Long count) {
+}
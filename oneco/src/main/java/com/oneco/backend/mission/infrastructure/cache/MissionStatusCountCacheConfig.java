@@ -0,0 +1,31 @@
+package com.oneco.backend.mission.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.oneco.backend.mission.application.port.out.MissionStatusCountCachePort;
+
+@Configuration
+public class MissionStatusCountCacheConfig {
+
+	@Bean(name = "redisMissionStatusCountCache")
+	@ConditionalOnProperty(name = "mission.status-count-cache.store", havingValue = "redis") // 운영: 여러 인스턴스가 공유
+	public MissionStatusCountCachePort redisMissionStatusCountCache(
+		StringRedisTemplate stringRedisTemplate,
+		@Value("${mission.status-count-cache.ttl:PT1H}") Duration ttl
+	) {
+		return new RedisMissionStatusCountCache(stringRedisTemplate, ttl);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(MissionStatusCountCachePort.class) // 기본값: 캐시 없이 매번 DB 집계
+	public MissionStatusCountCachePort noOpMissionStatusCountCache() {
+		return new NoOpMissionStatusCountCache();
+	}
+}
@@ -0,0 +1,34 @@
+package com.oneco.backend.mission.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
+import com.oneco.backend.mission.application.port.out.MissionStatusCountCachePort;
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+
+// 카운터 캐시를 쓰지 않는다. (기본값) 매 조회마다 DB 집계 1번
+public class NoOpMissionStatusCountCache implements MissionStatusCountCachePort {
+
+	@Override
+	public Optional<MissionStatusCounts> find(Long familyRelationId) {
+		return Optional.empty();
+	}
+
+	@Override
+	public long currentGeneration(Long familyRelationId) {
+		return 0;
+	}
+
+	@Override
+	public void storeIfUnchanged(Long familyRelationId, long generation, MissionStatusCounts counts) {
+	}
+
+	@Override
+	public void applyTransition(Long familyRelationId, MissionStatus from, MissionStatus to) {
+	}
+
+	@Override
+	public void evict(Collection<Long> familyRelationIds) {
+	}
+}
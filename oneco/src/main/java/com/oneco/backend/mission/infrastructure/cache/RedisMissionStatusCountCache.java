@@ -0,0 +1,141 @@
+package com.oneco.backend.mission.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
+import com.oneco.backend.mission.application.port.out.MissionStatusCountCachePort;
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+
+/**
+ * Redis 가족관계별 상태 카운터
+ * <p>
+ * 키
+ * - mission:counts:{familyRelationId}     = hash { 상태 이름: 미션 수, "_": "0" } (PX ttl)
+ *   "_"는 미션이 0건인 가족관계도 카운터가 "있음"으로 보이게 하는 표시
+ * - mission:counts:{familyRelationId}:gen = generation (INCR, PX ttl * 2)
+ * <p>
+ * 전이 반영/저장/무효화는 Lua 스크립트 한 번으로 처리해서 확인과 변경 사이에 다른 요청이 끼어들지 못하게 한다.
+ * 이벤트 유실(커밋 후 Redis 장애 등)로 어긋난 카운터는 ttl이 지나면 DB 집계로 다시 채워진다.
+ */
+public class RedisMissionStatusCountCache implements MissionStatusCountCachePort {
+
+	private static final String KEY_PREFIX = "mission:counts:";
+	private static final String PRESENT_FIELD = "_";
+
+	// generation을 올리고, 카운터가 있을 때만 from -1 / to +1
+	private static final RedisScript<Long> APPLY = new DefaultRedisScript<>("""
+		redis.call('incr', KEYS[2])
+		redis.call('pexpire', KEYS[2], ARGV[4])
+		if redis.call('exists', KEYS[1]) == 0 then
+			return 0
+		end
+		if ARGV[1] ~= '' then
+			redis.call('hincrby', KEYS[1], ARGV[1], -1)
+		end
+		redis.call('hincrby', KEYS[1], ARGV[2], 1)
+		return 1
+		""", Long.class);
+
+	// generation이 집계 전과 같고 카운터가 없을 때만 저장
+	private static final RedisScript<Long> STORE = new DefaultRedisScript<>("""
+		local generation = redis.call('get', KEYS[2]) or '0'
+		if generation ~= ARGV[1] or redis.call('exists', KEYS[1]) == 1 then
+			return 0
+		end
+		redis.call('hset', KEYS[1], unpack(ARGV, 3))
+		redis.call('pexpire', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+		redis.call('incr', KEYS[2])
+		redis.call('pexpire', KEYS[2], ARGV[1])
+		return redis.call('del', KEYS[1])
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration ttl;
+
+	public RedisMissionStatusCountCache(StringRedisTemplate redisTemplate, Duration ttl) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = ttl;
+	}
+
+	@Override
+	public Optional<MissionStatusCounts> find(Long familyRelationId) {
+		Map<Object, Object> hash = redisTemplate.opsForHash().entries(countsKey(familyRelationId));
+		if (hash.isEmpty()) {
+			return Optional.empty();
+		}
+
+		Map<MissionStatus, Long> counts = new EnumMap<>(MissionStatus.class);
+		for (MissionStatus status : MissionStatus.values()) {
+			Object value = hash.get(status.name());
+			if (value != null) {
+				counts.put(status, Long.parseLong(value.toString()));
+			}
+		}
+		return Optional.of(new MissionStatusCounts(counts));
+	}
+
+	@Override
+	public long currentGeneration(Long familyRelationId) {
+		String generation = redisTemplate.opsForValue().get(generationKey(familyRelationId));
+		return generation == null ? 0 : Long.parseLong(generation);
+	}
+
+	@Override
+	public void storeIfUnchanged(Long familyRelationId, long generation, MissionStatusCounts counts) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(generation));
+		args.add(String.valueOf(ttl.toMillis()));
+		args.add(PRESENT_FIELD);
+		args.add("0");
+		counts.countsByStatus().forEach((status, count) -> {
+			args.add(status.name());
+			args.add(String.valueOf(count));
+		});
+		redisTemplate.execute(STORE, keys(familyRelationId), args.toArray());
+	}
+
+	@Override
+	public void applyTransition(Long familyRelationId, MissionStatus from, MissionStatus to) {
+		redisTemplate.execute(
+			APPLY,
+			keys(familyRelationId),
+			from == null ? "" : from.name(),
+			to.name(),
+			String.valueOf(ttl.toMillis()),
+			String.valueOf(ttl.toMillis() * 2)
+		);
+	}
+
+	@Override
+	public void evict(Collection<Long> familyRelationIds) {
+		for (Long familyRelationId : familyRelationIds) {
+			redisTemplate.execute(EVICT, keys(familyRelationId), String.valueOf(ttl.toMillis() * 2));
+		}
+	}
+
+	private List<String> keys(Long familyRelationId) {
+		return List.of(countsKey(familyRelationId), generationKey(familyRelationId));
+	}
+
+	private String countsKey(Long familyRelationId) {
+		return KEY_PREFIX + familyRelationId;
+	}
+
+	private String generationKey(Long familyRelationId) {
+		return KEY_PREFIX + familyRelationId + ":gen";
+	}
+}
@@ -0,0 +1,57 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.oneco.backend.StudyRecord.infrastructure.cache.AnswerKeyCache;
+import com.oneco.backend.dailycontent.domain.event.ContentChangedEvent;
+
+class AnswerKeyCacheTest {
+
+	@Test
+	void get_returnsPackedAnswerKeyAfterPut() {
+		AnswerKeyCache cache = new AnswerKeyCache(16);
+
+		cache.put(101L, 1, 2);
+		int packed = cache.get(101L);
+
+		assertNotEquals(AnswerKeyCache.MISS, packed);
+		assertEquals(1, AnswerKeyCache.correctIndex(packed));
+		assertEquals(2, AnswerKeyCache.optionCount(packed));
+		assertEquals(AnswerKeyCache.MISS, cache.get(102L));
+	}
+
+	@Test
+	void put_neverGrowsBeyondCapacity() {
+		AnswerKeyCache cache = new AnswerKeyCache(16);
+
+		for (long quizId = 1; quizId <= 1_000; quizId++) {
+			cache.put(quizId, 0, 2);
+		}
+
+		long cached = 0;
+		for (long quizId = 1; quizId <= 1_000; quizId++) {
+			if (cache.get(quizId) != AnswerKeyCache.MISS) {
+				cached++;
+			}
+		}
+		assertTrue(cached <= cache.capacity());
+	}
+
+	@Test
+	void onContentChanged_invalidatesRemovedQuizzesOrEverything() {
+		AnswerKeyCache cache = new AnswerKeyCache(64);
+		cache.put(101L, 1, 2);
+		cache.put(102L, 0, 2);
+
+		cache.onContentChanged(ContentChangedEvent.quizzesChanged(1L, List.of(101L), "quizRemoved"));
+		assertEquals(AnswerKeyCache.MISS, cache.get(101L));
+		assertNotEquals(AnswerKeyCache.MISS, cache.get(102L));
+
+		cache.onContentChanged(ContentChangedEvent.of(1L, "quizAdded"));
+		assertEquals(AnswerKeyCache.MISS, cache.get(102L));
+	}
+}
@@ -0,0 +1,168 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import com.oneco.backend.StudyRecord.application.dto.result.FamilyHistoryItem;
+import com.oneco.backend.StudyRecord.application.dto.result.FamilyHistoryResult;
+import com.oneco.backend.StudyRecord.application.dto.result.MemberItem;
+import com.oneco.backend.StudyRecord.application.port.dto.DailyContentSummary;
+import com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow;
+import com.oneco.backend.StudyRecord.application.port.out.DailyContentQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.FamilyRelationQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.StudyRecordPersistencePort;
+import com.oneco.backend.StudyRecord.application.service.FamilyHistoryService;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.sql.SqlRequestStats;
+import com.oneco.backend.global.sql.SqlStatementCounter;
+
+class FamilyHistoryServiceTest {
+
+	private static final long PARENT_ID = 1L;
+	private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+	private static final Comparator<StudyRecordHistoryRow> NEWEST_FIRST = Comparator
+		.comparing(StudyRecordHistoryRow::submittedDate)
+		.thenComparing(StudyRecordHistoryRow::studyRecordId)
+		.reversed();
+
+	private final StudyRecordPersistencePort studyRecordPersistencePort = mock(StudyRecordPersistencePort.class);
+	private final DailyContentQueryPort dailyContentQueryPort = mock(DailyContentQueryPort.class);
+	private final FamilyRelationQueryPort familyRelationQueryPort = mock(FamilyRelationQueryPort.class);
+	private final Map<Long, List<StudyRecordHistoryRow>> recordsByChild = new HashMap<>();
+	private final Map<Long, Long> childByRecord = new HashMap<>();
+	private final List<SqlRequestStats> statsSeenByChildQueries = new ArrayList<>();
+
+	private FamilyHistoryService familyHistoryService;
+
+	@BeforeEach
+	void setUp() {
+		// 자녀 3명: 기록 수와 날짜 간격이 달라서 타임라인이 섞인다. (같은 날 기록도 있음)
+		long id = 1;
+		for (long childId = 10; childId <= 12; childId++) {
+			List<StudyRecordHistoryRow> records = new ArrayList<>();
+			int count = childId == 10 ? 25 : childId == 11 ? 9 : 17;
+			for (int i = 0; i < count; i++) {
+				LocalDate day = FIRST_DAY.plusDays(i * (childId - 9));
+				records.add(new StudyRecordHistoryRow(id, day, i % 3 == 0, 500 + id % 7));
+				childByRecord.put(id, childId);
+				id++;
+			}
+			records.sort(NEWEST_FIRST);
+			recordsByChild.put(childId, records);
+		}
+
+		when(familyRelationQueryPort.findChildIdsByParentId(PARENT_ID)).thenReturn(List.of(
+			new MemberItem(10L, "첫째"), new MemberItem(11L, "둘째"), new MemberItem(12L, "셋째")));
+		when(studyRecordPersistencePort.findHistoryByMemberId(anyLong(), any(), any(), anyInt()))
+			.thenAnswer(inv -> {
+				statsSeenByChildQueries.add(SqlStatementCounter.current());
+				return page(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2), inv.getArgument(3));
+			});
+		when(dailyContentQueryPort.findDailyContentSummariesByIds(anyList())).thenAnswer(inv -> {
+			Map<Long, DailyContentSummary> summaries = new HashMap<>();
+			for (Long dailyContentId : inv.<List<Long>>getArgument(0)) {
+				summaries.put(dailyContentId, new DailyContentSummary(dailyContentId, "제목", "요약", List.of()));
+			}
+			return summaries;
+		});
+
+		familyHistoryService = new FamilyHistoryService(
+			studyRecordPersistencePort, dailyContentQueryPort, familyRelationQueryPort);
+	}
+
+	@Test
+	void load_mergesChildrenNewestFirstAcrossPages_withAtMostOneQueryPerChild() {
+		List<StudyRecordHistoryRow> expected = new ArrayList<>();
+		recordsByChild.values().forEach(expected::addAll);
+		expected.sort(NEWEST_FIRST);
+
+		List<FamilyHistoryItem> merged = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			clearInvocations(studyRecordPersistencePort);
+			FamilyHistoryResult result = familyHistoryService.load(PARENT_ID, cursor, 7);
+			verify(studyRecordPersistencePort, atMost(3)).findHistoryByMemberId(anyLong(), any(), any(), anyInt());
+
+			merged.addAll(result.historyItems());
+			cursor = result.nextCursor();
+			assertEquals(result.hasNext(), cursor != null);
+			assertEquals(3, result.memberItems().size());
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(expected.size(), merged.size());
+		assertEquals((expected.size() + 6) / 7, pages);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).studyRecordId(), merged.get(i).studyRecordId());
+			assertEquals(childByRecord.get(merged.get(i).studyRecordId()), merged.get(i).childId());
+		}
+	}
+
+	// 자녀별 조회가 요청 스레드에서 실행되어 요청 단위 SQL 예산에 잡힌다.
+	@Test
+	void load_runsChildQueriesInsideCallersSqlBudgetScope() {
+		SqlRequestStats stats = SqlStatementCounter.start();
+		try {
+			familyHistoryService.load(PARENT_ID, null, 7);
+		} finally {
+			SqlStatementCounter.stop();
+		}
+
+		assertEquals(3, statsSeenByChildQueries.size());
+		statsSeenByChildQueries.forEach(seen -> assertSame(stats, seen));
+	}
+
+	@Test
+	void load_skipsExhaustedChildren_andIgnoresChildrenNotConnected() {
+		// 둘째(11)는 끝났고, 99는 이 부모의 자녀가 아니다.
+		String cursor = encode("11:-,99:" + FIRST_DAY.toEpochDay() + ":1");
+
+		FamilyHistoryResult result = familyHistoryService.load(PARENT_ID, cursor, 5);
+
+		verify(studyRecordPersistencePort, never()).findHistoryByMemberId(eq(11L), any(), any(), anyInt());
+		verify(studyRecordPersistencePort, never()).findHistoryByMemberId(eq(99L), any(), any(), anyInt());
+		assertTrue(result.historyItems().stream().noneMatch(item -> item.childId() == 11L));
+		assertFalse(new String(Base64.getUrlDecoder().decode(result.nextCursor()), StandardCharsets.UTF_8)
+			.contains("99:"));
+	}
+
+	@Test
+	void load_rejectsMalformedCursor() {
+		for (String cursor : List.of("%%%", encode("10:abc:1"), encode("10:1"), encode("10:-,10:-"))) {
+			BaseException e = assertThrows(BaseException.class, () -> familyHistoryService.load(PARENT_ID, cursor, 5));
+			assertEquals(StudyErrorCode.INVALID_CURSOR.getCode(), e.getCode());
+		}
+	}
+
+	// 어댑터의 커서 페이징과 같은 규칙: (제출일, id) < 커서, 최신순, size + 1로 hasNext 판단
+	private SliceImpl<StudyRecordHistoryRow> page(Long childId, Long lastId, LocalDate lastDate, int size) {
+		List<StudyRecordHistoryRow> matched = recordsByChild.getOrDefault(childId, List.of()).stream()
+			.filter(row -> lastDate == null || row.submittedDate().isBefore(lastDate)
+				|| (row.submittedDate().isEqual(lastDate) && row.studyRecordId() < lastId))
+			.limit(size + 1L)
+			.toList();
+		boolean hasNext = matched.size() > size;
+		return new SliceImpl<>(hasNext ? matched.subList(0, size) : matched, Pageable.ofSize(size), hasNext);
+	}
+
+	private String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
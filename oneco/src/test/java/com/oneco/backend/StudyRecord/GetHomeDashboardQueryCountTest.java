@@ -0,0 +1,220 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult;
+import com.oneco.backend.StudyRecord.application.port.dto.result.HomeDashboardResult.StudyStatusResult;
+import com.oneco.backend.StudyRecord.application.service.GetHomeDashboardService;
+import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.HomeDashboardDailyContentReadAdapter;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.HomeDashboardMissionReadAdapter;
+import com.oneco.backend.category.domain.category.Category;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.category.domain.category.CategorySummary;
+import com.oneco.backend.category.domain.category.CategoryTitle;
+import com.oneco.backend.category.domain.category.MissionDays;
+import com.oneco.backend.dailycontent.domain.common.ImageFile;
+import com.oneco.backend.dailycontent.domain.dailycontent.ContentDescription;
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContent;
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
+import com.oneco.backend.dailycontent.domain.dailycontent.DaySequence;
+import com.oneco.backend.dailycontent.domain.dailycontent.Keyword;
+import com.oneco.backend.dailycontent.infrastructure.catalog.ContentCatalogProvider;
+import com.oneco.backend.dailycontent.infrastructure.persistence.DailyContentJpaRepository;
+import com.oneco.backend.family.domain.relation.FamilyRelation;
+import com.oneco.backend.family.domain.relation.FamilyRelationId;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.global.sql.SqlBudget;
+import com.oneco.backend.global.sql.SqlBudgetConfig;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.mission.Mission;
+import com.oneco.backend.mission.domain.mission.MissionId;
+import com.oneco.backend.mission.domain.mission.MissionPeriod;
+import com.oneco.backend.mission.domain.mission.Reward;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+import com.oneco.backend.mission.infrastructure.MissionJpaRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ContextConfiguration(classes = GetHomeDashboardQueryCountTest.TestConfig.class)
+class GetHomeDashboardQueryCountTest {
+
+	// 홈 대시보드 1회 조회에 허용되는 SQL 문장 수 (미션 헤더 1 + 캘린더 1)
+	private static final long QUERY_BUDGET = 2;
+	// ContentCatalog 적재 후에는 캘린더를 메모리에서 만들므로 미션 헤더 1개만 남는다.
+	private static final long QUERY_BUDGET_WITH_CATALOG = 1;
+
+	private static final long PARENT_ID = 1L;
+	private static final long CHILD_ID = 2L;
+	private static final int CONTENT_DAYS = 30;
+	private static final int COMPLETED_DAYS = 3;
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = {MissionJpaRepository.class, DailyContentJpaRepository.class})
+	@Import({
+		JpaConfig.class,
+		SqlBudgetConfig.class,
+		GetHomeDashboardService.class,
+		HomeDashboardMissionReadAdapter.class,
+		HomeDashboardDailyContentReadAdapter.class,
+		ContentCatalogProvider.class
+	})
+	static class TestConfig {
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private GetHomeDashboardService getHomeDashboardService;
+
+	@Autowired
+	private ContentCatalogProvider contentCatalogProvider;
+
+	private Long missionId;
+	private Long categoryId;
+
+	@BeforeEach
+	void setUp() {
+		Category category = em.persist(Category.create(
+			CategoryTitle.of("경제 기초"),
+			CategorySummary.of("경제 기초 개념 학습"),
+			MissionDays.of(CONTENT_DAYS)
+		));
+
+		categoryId = category.getId();
+
+		FamilyRelation relation = em.persist(FamilyRelation.connect(MemberId.of(PARENT_ID), MemberId.of(CHILD_ID)));
+
+		// 오늘이 항상 미션 기간 안에 들어오도록 2주 전부터 2주 뒤까지로 설정
+		LocalDate today = LocalDate.now();
+		Mission mission = Mission.of(
+			MemberId.of(PARENT_ID),
+			MemberId.of(CHILD_ID),
+			FamilyRelationId.of(relation.getId()),
+			CategoryId.of(category.getId()),
+			MissionPeriod.of(today.minusWeeks(2), today.plusWeeks(2)),
+			Reward.of("놀이공원", "잘했어!")
+		);
+		mission.acceptApproval();
+		mission.markInProgress();
+		em.persist(mission);
+		missionId = mission.getId();
+
+		for (int day = 1; day <= CONTENT_DAYS; day++) {
+			DailyContent dailyContent = em.persist(DailyContent.create(
+				CategoryId.of(category.getId()),
+				new DaySequence(day),
+				Keyword.of("키워드" + day),
+				ContentDescription.of("제목" + day, "요약" + day, "본문" + day),
+				ImageFile.of("https://image.oneco.com/" + day + ".png")
+			));
+
+			// 앞쪽 5일치만 학습 기록을 남긴다.
+			if (day <= 5) {
+				em.persist(StudyRecord.openStudy(
+					MissionId.of(missionId),
+					MemberId.of(CHILD_ID),
+					CategoryId.of(category.getId()),
+					DailyContentId.of(dailyContent.getId())
+				));
+			}
+		}
+
+		// 5일 중 앞쪽 3일만 퀴즈를 제출한 상태로 진행 현황을 만든다.
+		MissionProgress progress = MissionProgress.start(missionId);
+		for (int day = 1; day <= COMPLETED_DAYS; day++) {
+			progress.applySubmission(day, 3, 2, 0);
+		}
+		em.persist(progress);
+
+		em.flush();
+		em.clear();
+		statistics().clear();
+	}
+
+	@Test
+	@SqlBudget(max = (int)QUERY_BUDGET)
+	void getHomeDashboard_latestMission_staysWithinQueryBudget() {
+		HomeDashboardResult result = getHomeDashboardService.getHomeDashboard(CHILD_ID, null);
+
+		assertEquals(missionId, result.missionResult().missionId());
+		assertEquals(CHILD_ID, result.missionResult().childId());
+		assertEquals("경제 기초", result.category().categoryTitle());
+		assertFalse(result.dateList().isEmpty());
+		assertEquals(COMPLETED_DAYS, result.dateList().stream()
+			.filter(date -> date.studyStatus() == StudyStatusResult.COMPLETED)
+			.count());
+		assertEquals(COMPLETED_DAYS * 100L / CONTENT_DAYS, result.progressPercentage());
+		assertEquals(QUERY_BUDGET, statistics().getPrepareStatementCount());
+	}
+
+	@Test
+	@SqlBudget(max = (int)QUERY_BUDGET)
+	void getHomeDashboard_byMissionId_staysWithinQueryBudget() {
+		HomeDashboardResult result = getHomeDashboardService.getHomeDashboard(PARENT_ID, missionId);
+
+		assertEquals(CHILD_ID, result.missionResult().childId());
+		assertEquals(QUERY_BUDGET, statistics().getPrepareStatementCount());
+	}
+
+	@Test
+	void getHomeDashboard_withContentCatalog_readsCalendarFromMemory() {
+		contentCatalogProvider.refresh();
+		em.clear();
+		statistics().clear();
+
+		HomeDashboardResult result = getHomeDashboardService.getHomeDashboard(CHILD_ID, null);
+
+		assertEquals(CONTENT_DAYS, contentCatalogProvider.current().dailyContentCount());
+		assertTrue(contentCatalogProvider.current().estimatedBytes() > 0);
+		assertEquals(COMPLETED_DAYS, result.dateList().stream()
+			.filter(date -> date.studyStatus() == StudyStatusResult.COMPLETED)
+			.count());
+		assertEquals(QUERY_BUDGET_WITH_CATALOG, statistics().getPrepareStatementCount());
+	}
+
+	@Test
+	void checkForChanges_reloadsCatalogWhenContentAdded() {
+		contentCatalogProvider.refresh();
+
+		// 이벤트 없이 DB에만 추가된 일차 (다른 인스턴스 / 직접 입력)
+		em.persist(DailyContent.create(
+			CategoryId.of(categoryId),
+			new DaySequence(CONTENT_DAYS + 1),
+			Keyword.of("추가"),
+			ContentDescription.of("제목", "요약", "본문"),
+			ImageFile.of("https://image.oneco.com/extra.png")
+		));
+		em.flush();
+
+		contentCatalogProvider.checkForChanges();
+
+		assertFalse(contentCatalogProvider.isStale());
+		assertEquals(CONTENT_DAYS + 1, contentCatalogProvider.current().daysOf(categoryId).size());
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+}
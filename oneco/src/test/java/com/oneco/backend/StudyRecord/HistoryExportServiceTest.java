@@ -0,0 +1,181 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.oneco.backend.StudyRecord.application.dto.command.HistoryExportFormat;
+import com.oneco.backend.StudyRecord.application.dto.result.MemberItem;
+import com.oneco.backend.StudyRecord.application.port.dto.DailyContentSummary;
+import com.oneco.backend.StudyRecord.application.port.out.DailyContentQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.FamilyRelationQueryPort;
+import com.oneco.backend.StudyRecord.application.service.HistoryExportService;
+import com.oneco.backend.StudyRecord.application.service.HistoryExportService.ExportSlot;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.StudyRecordJpaRepository;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.StudyRecordPersistenceAdapter;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+import com.oneco.backend.member.domain.FamilyRole;
+
+// H2는 음수 fetch size(MySQL 행 단위 스트리밍 값)를 받지 않으므로 양수로 바꾼다.
+@DataJpaTest(properties = {"study-record.export.fetch-size=100", "study-record.export.max-concurrent=2"})
+@ContextConfiguration(classes = HistoryExportServiceTest.TestConfig.class)
+class HistoryExportServiceTest {
+
+	private static final long PARENT_ID = 1L;
+	private static final long CHILD_ID = 2L;
+	private static final int RECORDS = 1_250; // fetch size(100), flush 단위(500)보다 많게
+	private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = StudyRecordJpaRepository.class)
+	@Import({JpaConfig.class, StudyRecordPersistenceAdapter.class, HistoryExportService.class})
+	static class TestConfig {
+
+		@Bean
+		DailyContentQueryPort dailyContentQueryPort() {
+			return mock(DailyContentQueryPort.class);
+		}
+
+		@Bean
+		FamilyRelationQueryPort familyRelationQueryPort() {
+			return mock(FamilyRelationQueryPort.class);
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper().findAndRegisterModules()
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		}
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private HistoryExportService historyExportService;
+
+	@Autowired
+	private DailyContentQueryPort dailyContentQueryPort;
+
+	@Autowired
+	private FamilyRelationQueryPort familyRelationQueryPort;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void setUp() {
+		// 하루 1건 (dailyContentId = 1000 + i). 10건마다 1건은 미제출(READY)이라 제외된다.
+		Map<Long, DailyContentSummary> summaries = new HashMap<>();
+		for (int i = 1; i <= RECORDS; i++) {
+			boolean submitted = i % 10 != 0;
+			long dailyContentId = 1_000L + i;
+			insert(i, dailyContentId, submitted ? "PASSED" : "READY", submitted ? FIRST_DAY.plusDays(i) : null);
+			summaries.put(dailyContentId,
+				new DailyContentSummary(dailyContentId, "제목 " + dailyContentId, "요약, \"인용\"\n둘째 줄", List.of()));
+		}
+		when(dailyContentQueryPort.findDailyContentSummariesByIds(anyList())).thenReturn(summaries);
+		when(familyRelationQueryPort.findChildIdsByParentId(PARENT_ID))
+			.thenReturn(List.of(new MemberItem(CHILD_ID, "아이")));
+	}
+
+	@Test
+	void export_ndjson_writesEverySubmittedRecordNewestFirst() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long rows = historyExportService.export(CHILD_ID, HistoryExportFormat.NDJSON, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		int expected = RECORDS - RECORDS / 10;
+		assertEquals(expected, rows);
+		assertEquals(expected, lines.length);
+
+		JsonNode first = objectMapper.readTree(lines[0]);
+		assertEquals(RECORDS - 1, first.get("studyRecordId").asLong());
+		assertEquals(FIRST_DAY.plusDays(RECORDS - 1).toString(), first.get("submittedDate").asText());
+		assertEquals("제목 " + (1_000 + RECORDS - 1), first.get("title").asText());
+		assertEquals(1L, objectMapper.readTree(lines[lines.length - 1]).get("studyRecordId").asLong());
+	}
+
+	@Test
+	void export_csv_quotesTextAndStartsWithBomAndHeader() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		historyExportService.export(CHILD_ID, HistoryExportFormat.CSV, out);
+
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertTrue(csv.startsWith("\uFEFFstudyRecordId,submittedDate,bookmarked,dailyContentId,title,summary\r\n"));
+		assertTrue(csv.contains("\r\n1249,2029-06-03,false,2249,제목 2249,\"요약, \"\"인용\"\"\n둘째 줄\"\r\n"));
+	}
+
+	// 내보내기는 다운로드 동안 커넥션을 쥐므로 동시 실행 수를 넘으면 기다리지 않고 503
+	@Test
+	void acquireSlot_rejectsWhenConcurrentExportsAtLimit_untilOneFinishes() {
+		ExportSlot first = historyExportService.acquireSlot();
+		ExportSlot second = historyExportService.acquireSlot();
+
+		BaseException e = assertThrows(BaseException.class, historyExportService::acquireSlot);
+		assertEquals(GlobalErrorCode.SERVICE_UNAVAILABLE.getCode(), e.getCode());
+
+		first.close();
+		first.close(); // 두 번 닫아도 한 자리만 돌려준다.
+		ExportSlot third = historyExportService.acquireSlot();
+		assertThrows(BaseException.class, historyExportService::acquireSlot);
+
+		second.close();
+		third.close();
+	}
+
+	@Test
+	void resolveTarget_parentWithOtherChild_rejected() {
+		assertEquals(CHILD_ID, historyExportService.resolveTarget(FamilyRole.PARENT, PARENT_ID, null).orElseThrow());
+
+		BaseException e = assertThrows(BaseException.class,
+			() -> historyExportService.resolveTarget(FamilyRole.PARENT, PARENT_ID, 99L));
+		assertEquals(StudyErrorCode.INVALID_CHILD_ACCESS.getCode(), e.getCode());
+	}
+
+	private void insert(long id, long dailyContentId, String status, LocalDate submittedDate) {
+		Instant now = Instant.now();
+		em.getEntityManager().createNativeQuery("""
+				insert into study_records
+					(id, mission_id, member_id, category_id, daily_content_id, quiz_status, quiz_submitted_date,
+					 is_bookmarked, news_unlocked, created_at, updated_at)
+				values (:id, 1, :memberId, 3, :dailyContentId, :status, :submittedDate, false, false, :now, :now)
+				""")
+			.setParameter("id", id)
+			.setParameter("memberId", CHILD_ID)
+			.setParameter("dailyContentId", dailyContentId)
+			.setParameter("status", status)
+			.setParameter("submittedDate", submittedDate)
+			.setParameter("now", now)
+			.executeUpdate();
+	}
+}
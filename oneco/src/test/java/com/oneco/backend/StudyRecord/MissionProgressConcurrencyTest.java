@@ -0,0 +1,109 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneco.backend.StudyRecord.infrastructure.persistence.MissionProgressAdapter;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+import com.oneco.backend.mission.infrastructure.MissionProgressJpaRepository;
+
+// insert ... on duplicate key 는 MySQL 문법이라 H2를 MySQL 호환 모드로 띄운다.
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:mission_progress_upsert;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = MissionProgressConcurrencyTest.TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 자기 트랜잭션으로 커밋해야 경쟁이 재현된다.
+class MissionProgressConcurrencyTest {
+
+	private static final int THREADS = 16;
+	private static final long MISSION_ID = 1L;
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = MissionProgressJpaRepository.class)
+	@Import({JpaConfig.class, MissionProgressAdapter.class})
+	static class TestConfig {
+	}
+
+	@Autowired
+	private MissionProgressAdapter adapter;
+
+	@Autowired
+	private MissionProgressJpaRepository repository;
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void recordSubmission_concurrentFirstSubmissions_allAppliedWithoutError() throws Exception {
+		// row가 없는 미션에 서로 다른 일차의 첫 제출이 동시에 들어온다. 하나라도 예외가 나면 get()에서 실패한다.
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch ready = new CountDownLatch(THREADS);
+			CountDownLatch go = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				int daySequence = i + 1;
+				futures.add(pool.submit(() -> {
+					ready.countDown();
+					go.await();
+					adapter.recordSubmission(MISSION_ID, daySequence, 3, 2, 0);
+					return null;
+				}));
+			}
+			assertTrue(ready.await(5, TimeUnit.SECONDS));
+			go.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		MissionProgress progress = repository.findById(MISSION_ID).orElseThrow();
+		assertEquals(THREADS, progress.getCompletedCount());
+		assertEquals(THREADS, progress.getCompletedDays().cardinality());
+		assertEquals(THREADS * 3, progress.getSolvedQuizCount());
+		assertEquals(THREADS * 2, progress.getCorrectQuizCount());
+	}
+
+	@Test
+	void replace_overwritesExistingRow() {
+		adapter.recordSubmission(MISSION_ID, 1, 3, 1, 0);
+
+		MissionProgress rebuilt = MissionProgress.start(MISSION_ID);
+		rebuilt.applySubmission(2, 3, 3, 0);
+		adapter.replace(rebuilt);
+
+		MissionProgress stored = repository.findById(MISSION_ID).orElseThrow();
+		assertFalse(stored.isCompleted(1));
+		assertTrue(stored.isCompleted(2));
+		assertEquals(3, stored.getCorrectQuizCount());
+	}
+}
@@ -0,0 +1,102 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oneco.backend.StudyRecord.application.port.out.DailyContentQueryPort;
+import com.oneco.backend.StudyRecord.application.port.out.MissionProgressPort;
+import com.oneco.backend.StudyRecord.application.port.out.StudyRecordPersistencePort;
+import com.oneco.backend.StudyRecord.application.service.MissionProgressRebuildService;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AnswerSheet;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.CorrectCount;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.mission.MissionId;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+@ExtendWith(MockitoExtension.class)
+class MissionProgressRebuildServiceTest {
+
+	private static final long MISSION_ID = 1L;
+	private static final List<Long> QUIZ_IDS = List.of(11L, 12L, 13L);
+
+	@Mock
+	private StudyRecordPersistencePort studyRecordPersistencePort;
+	@Mock
+	private DailyContentQueryPort dailyContentQueryPort;
+	@Mock
+	private MissionProgressPort missionProgressPort;
+
+	@InjectMocks
+	private MissionProgressRebuildService missionProgressRebuildService;
+
+	private long attemptIdSequence;
+
+	@Test
+	void rebuild_replaysAttemptsLikeIncrementalSubmissions() {
+		// 1일차: 1차 FAIL(1개) -> 2차 PASS(3개), 2일차: 1차 PASS, 내용이 사라진 일차: 건너뜀
+		StudyRecord retried = submitted(101L, 1, 3);
+		StudyRecord passed = submitted(102L, 3);
+		StudyRecord orphan = submitted(999L, 3);
+		when(studyRecordPersistencePort.findSubmittedByMissionIdWithAttempts(MISSION_ID))
+			.thenReturn(List.of(retried, passed, orphan));
+		when(dailyContentQueryPort.findDaySequencesByIds(List.of(101L, 102L, 999L)))
+			.thenReturn(Map.of(101L, 1, 102L, 2));
+
+		MissionProgress rebuilt = missionProgressRebuildService.rebuild(MISSION_ID);
+
+		// 제출 시점에 recordSubmission이 적용했을 순서와 값
+		MissionProgress incremental = MissionProgress.start(MISSION_ID);
+		incremental.applySubmission(1, 3, 1, 0);
+		incremental.applySubmission(1, 3, 3, 1);
+		incremental.applySubmission(2, 3, 3, 0);
+
+		assertEquals(incremental.getCompletedDays(), rebuilt.getCompletedDays());
+		assertEquals(2, rebuilt.getCompletedCount());
+		assertEquals(incremental.getSolvedQuizCount(), rebuilt.getSolvedQuizCount());
+		assertEquals(6, rebuilt.getCorrectQuizCount());
+
+		ArgumentCaptor<MissionProgress> replaced = ArgumentCaptor.forClass(MissionProgress.class);
+		verify(missionProgressPort).replace(replaced.capture());
+		assertSame(rebuilt, replaced.getValue());
+	}
+
+	@Test
+	void rebuild_withoutSubmissions_replacesWithEmptyProgress() {
+		when(studyRecordPersistencePort.findSubmittedByMissionIdWithAttempts(MISSION_ID)).thenReturn(List.of());
+		when(dailyContentQueryPort.findDaySequencesByIds(List.of())).thenReturn(Map.of());
+
+		MissionProgress rebuilt = missionProgressRebuildService.rebuild(MISSION_ID);
+
+		assertEquals(0, rebuilt.getCompletedCount());
+		assertTrue(rebuilt.getCompletedDays().isEmpty());
+		verify(missionProgressPort).replace(rebuilt);
+	}
+
+	// 시도마다 정답 수만큼 맞힌 답안으로 제출한 학습 기록 (3개 미만이면 FAIL -> 다음 시도)
+	private StudyRecord submitted(long dailyContentId, int... correctCounts) {
+		StudyRecord record = StudyRecord.openStudy(
+			MissionId.of(MISSION_ID), MemberId.of(2L), CategoryId.of(3L), DailyContentId.of(dailyContentId));
+		for (int correct : correctCounts) {
+			QuizAttempt attempt = record.startQuizAttempt(QUIZ_IDS);
+			ReflectionTestUtils.setField(attempt, "id", ++attemptIdSequence);
+			record.submitQuizAttempt(attempt.getId(),
+				AnswerSheet.of(QUIZ_IDS, Map.of(11L, 0, 12L, 0, 13L, 0)), CorrectCount.of(correct));
+		}
+		return record;
+	}
+}
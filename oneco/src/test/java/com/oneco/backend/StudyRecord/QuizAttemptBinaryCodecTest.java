@@ -0,0 +1,64 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.oneco.backend.StudyRecord.infrastructure.converter.LongIntMapJsonConverter;
+import com.oneco.backend.StudyRecord.infrastructure.converter.LongListJsonConverter;
+import com.oneco.backend.StudyRecord.infrastructure.converter.QuizAttemptBinaryCodec;
+
+class QuizAttemptBinaryCodecTest {
+
+	@Test
+	void quizIds_roundTripsAndIsSmallerThanJson() {
+		List<Long> quizIds = List.of(10_231L, 10_232L, 10_233L);
+
+		byte[] encoded = QuizAttemptBinaryCodec.encodeQuizIds(quizIds);
+
+		assertEquals(quizIds, QuizAttemptBinaryCodec.decodeQuizIds(encoded));
+		assertEquals(7, encoded.length);
+		assertTrue(encoded.length * 2 < new LongListJsonConverter().convertToDatabaseColumn(quizIds).length());
+	}
+
+	@Test
+	void quizIds_roundTripsUnorderedAndLargeIds() {
+		List<Long> quizIds = List.of(Long.MAX_VALUE, 1L, 987_654_321L);
+
+		assertEquals(quizIds, QuizAttemptBinaryCodec.decodeQuizIds(QuizAttemptBinaryCodec.encodeQuizIds(quizIds)));
+	}
+
+	@Test
+	void answers_packsSmallIndexesIntoNibbles() {
+		Map<Long, Integer> answers = Map.of(10_231L, 1, 10_232L, 0, 10_233L, 1);
+
+		byte[] encoded = QuizAttemptBinaryCodec.encodeAnswers(answers);
+
+		assertEquals(answers, QuizAttemptBinaryCodec.decodeAnswers(encoded));
+		assertEquals(9, encoded.length);
+		assertTrue(encoded.length * 3 < new LongIntMapJsonConverter().convertToDatabaseColumn(answers).length());
+	}
+
+	@Test
+	void answers_fallsBackToBytePerIndexWhenIndexExceedsNibble() {
+		Map<Long, Integer> answers = Map.of(101L, 20, 102L, 0, 103L, 15);
+
+		assertEquals(answers, QuizAttemptBinaryCodec.decodeAnswers(QuizAttemptBinaryCodec.encodeAnswers(answers)));
+	}
+
+	@Test
+	void decode_rejectsUnknownVersionAndTruncatedData() {
+		byte[] encoded = QuizAttemptBinaryCodec.encodeQuizIds(List.of(1L, 2L, 3L));
+
+		byte[] unknownVersion = encoded.clone();
+		unknownVersion[0] = 9;
+		byte[] truncated = new byte[encoded.length - 1];
+		System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+
+		assertThrows(IllegalArgumentException.class, () -> QuizAttemptBinaryCodec.decodeQuizIds(unknownVersion));
+		assertThrows(IllegalArgumentException.class, () -> QuizAttemptBinaryCodec.decodeQuizIds(truncated));
+	}
+}
@@ -0,0 +1,55 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AnswerSheet;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.CorrectCount;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.mission.MissionId;
+
+// backfill 후 runbook에서 dual-write를 끄면 새 행은 바이너리 컬럼만 저장한다.
+@DataJpaTest(properties = "quiz-attempt.legacy-format.dual-write=false")
+@ContextConfiguration(classes = QuizAttemptFormatMigrationTest.TestConfig.class)
+class QuizAttemptDualWriteDisabledTest {
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Test
+	void submit_writesBinaryColumnsOnly() {
+		StudyRecord studyRecord = em.persistAndFlush(StudyRecord.openStudy(
+			MissionId.of(1L),
+			MemberId.of(2L),
+			CategoryId.of(3L),
+			DailyContentId.of(4L)
+		));
+		QuizAttempt attempt = studyRecord.startQuizAttempt(List.of(11L, 12L, 13L));
+		em.flush();
+		attempt.submit(AnswerSheet.of(List.of(11L, 12L, 13L), Map.of(11L, 1, 12L, 0, 13L, 1)), CorrectCount.of(2));
+		em.flush();
+		em.clear();
+
+		long binaryOnly = ((Number)em.getEntityManager()
+			.createNativeQuery("select count(*) from quiz_attempt where quiz_ids_bin is not null"
+				+ " and answers_bin is not null and quiz_ids is null and answers is null")
+			.getSingleResult()).longValue();
+		assertEquals(1L, binaryOnly);
+
+		QuizAttempt reloaded = em.find(QuizAttempt.class, attempt.getId());
+		assertEquals(List.of(11L, 12L, 13L), reloaded.getQuizIds());
+		assertEquals(Map.of(11L, 1, 12L, 0, 13L, 1), reloaded.getAnswers());
+	}
+}
@@ -0,0 +1,146 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.oneco.backend.StudyRecord.application.service.QuizAttemptFormatBackfillService;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AnswerSheet;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.CorrectCount;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.QuizAttempt;
+import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.QuizAttemptFormatMigrationAdapter;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.QuizAttemptJpaRepository;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.QuizAttemptLegacyFormatListener;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.mission.MissionId;
+
+@DataJpaTest
+@ContextConfiguration(classes = QuizAttemptFormatMigrationTest.TestConfig.class)
+class QuizAttemptFormatMigrationTest {
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = QuizAttemptJpaRepository.class)
+	@Import({JpaConfig.class, QuizAttemptFormatBackfillService.class, QuizAttemptFormatMigrationAdapter.class,
+		QuizAttemptLegacyFormatListener.class})
+	static class TestConfig {
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private QuizAttemptFormatBackfillService backfillService;
+
+	private Long studyRecordId;
+
+	@BeforeEach
+	void setUp() {
+		StudyRecord studyRecord = em.persistAndFlush(StudyRecord.openStudy(
+			MissionId.of(1L),
+			MemberId.of(2L),
+			CategoryId.of(3L),
+			DailyContentId.of(4L)
+		));
+		studyRecordId = studyRecord.getId();
+	}
+
+	@Test
+	void load_readsLegacyJsonRowsWhenBinaryColumnsAreEmpty() {
+		Long attemptId = insertLegacyAttempt(1, "[11,12,13]", "{\"11\":1,\"12\":0,\"13\":1}");
+
+		QuizAttempt attempt = em.find(QuizAttempt.class, attemptId);
+
+		assertEquals(List.of(11L, 12L, 13L), attempt.getQuizIds());
+		assertEquals(Map.of(11L, 1, 12L, 0, 13L, 1), attempt.getAnswers());
+	}
+
+	@Test
+	void load_inWriteTransaction_doesNotRewriteLegacyRow() {
+		Long attemptId = insertLegacyAttempt(1, "[11,12,13]", "{\"11\":1,\"12\":0,\"13\":1}");
+		em.clear();
+
+		em.find(QuizAttempt.class, attemptId).getQuizIds();
+		em.flush();
+
+		assertEquals(1L, countRows("quiz_ids_bin is null and quiz_ids is not null"));
+	}
+
+	@Test
+	void submit_writesBothFormats_whileDualWriteEnabled() {
+		startAndSubmit();
+
+		// 이전 버전(JSON만 읽음)으로 롤백해도 새 행을 읽을 수 있다.
+		assertEquals(1L, countRows("quiz_ids_bin is not null and answers_bin is not null"
+			+ " and quiz_ids is not null and answers is not null"));
+	}
+
+	@Test
+	void backfill_movesLegacyRowsToBinaryColumns() {
+		Long submitted = insertLegacyAttempt(1, "[11,12,13]", "{\"11\":1,\"12\":0,\"13\":1}");
+		Long inProgress = insertLegacyAttempt(2, "[21,22,23]", null);
+		em.clear();
+
+		List<Long> ids = backfillService.findLegacyAttemptIds(0L, 10);
+		assertEquals(List.of(submitted, inProgress), ids);
+
+		assertEquals(2, backfillService.upgrade(ids));
+		em.clear();
+
+		// 반환값은 실제 UPDATE된 행 수다. (다시 돌리면 0)
+		assertEquals(0, backfillService.upgrade(ids));
+		assertTrue(backfillService.findLegacyAttemptIds(0L, 10).isEmpty());
+		assertEquals(2L, countRows("quiz_ids_bin is not null and quiz_ids is not null"));
+
+		QuizAttempt reloaded = em.find(QuizAttempt.class, submitted);
+		assertEquals(List.of(11L, 12L, 13L), reloaded.getQuizIds());
+		assertEquals(Map.of(11L, 1, 12L, 0, 13L, 1), reloaded.getAnswers());
+		assertNull(em.find(QuizAttempt.class, inProgress).getAnswers());
+	}
+
+	private QuizAttempt startAndSubmit() {
+		StudyRecord studyRecord = em.find(StudyRecord.class, studyRecordId);
+		QuizAttempt attempt = studyRecord.startQuizAttempt(List.of(11L, 12L, 13L));
+		em.flush();
+		attempt.submit(AnswerSheet.of(List.of(11L, 12L, 13L), Map.of(11L, 1, 12L, 0, 13L, 1)), CorrectCount.of(2));
+		em.flush();
+		return attempt;
+	}
+
+	private Long insertLegacyAttempt(int attemptNo, String quizIdsJson, String answersJson) {
+		String answers = answersJson == null ? "null" : "'" + answersJson + "' format json";
+		em.getEntityManager().createNativeQuery(
+				"insert into quiz_attempt (attempt_no, attempt_status, study_record_id, quiz_ids, answers) "
+					+ "values (?1, ?2, ?3, ?4, " + answers + ")")
+			.setParameter(1, attemptNo)
+			.setParameter(2, answersJson == null ? "IN_PROGRESS" : "SUBMITTED")
+			.setParameter(3, studyRecordId)
+			.setParameter(4, quizIdsJson)
+			.executeUpdate();
+		return ((Number)em.getEntityManager()
+			.createNativeQuery("select max(id) from quiz_attempt")
+			.getSingleResult()).longValue();
+	}
+
+	private long countRows(String condition) {
+		return ((Number)em.getEntityManager()
+			.createNativeQuery("select count(*) from quiz_attempt where " + condition)
+			.getSingleResult()).longValue();
+	}
+}
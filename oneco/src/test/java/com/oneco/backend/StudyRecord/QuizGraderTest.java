@@ -0,0 +1,98 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.oneco.backend.StudyRecord.application.port.dto.QuizForGrading;
+import com.oneco.backend.StudyRecord.application.service.QuizGrader;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.BaseException;
+
+class QuizGraderTest {
+
+	private static final List<Long> QUIZ_IDS = List.of(101L, 102L, 103L);
+	private static final List<QuizForGrading> QUIZZES = List.of(
+		new QuizForGrading(101L, 1, 2),
+		new QuizForGrading(102L, 0, 2),
+		new QuizForGrading(103L, 1, 2)
+	);
+
+	private final QuizGrader quizGrader = new QuizGrader();
+
+	@Test
+	void grade_countsCorrectAnswersRegardlessOfSubmissionOrder() {
+		QuizGrader.Grading grading = quizGrader.grade(QUIZ_IDS, QUIZZES, Map.of(103L, 0, 101L, 1, 102L, 0));
+
+		assertEquals(2, grading.correctCount());
+		assertTrue(grading.answerSheet().isFor(QUIZ_IDS));
+		assertEquals(Map.of(101L, 1, 102L, 0, 103L, 0), grading.answerSheet().toAnswerMap());
+	}
+
+	@Test
+	void grade_throwsWhenSubmittedQuizIdsDiffer() {
+		assertErrorCode(StudyErrorCode.QUIZ_ID_MISMATCH,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, Map.of(101L, 1, 102L, 0)));
+		assertErrorCode(StudyErrorCode.QUIZ_ID_MISMATCH,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, Map.of(101L, 1, 102L, 0, 777L, 1)));
+	}
+
+	@Test
+	void grade_throwsWhenSelectedIndexOutOfRange() {
+		assertErrorCode(StudyErrorCode.INVALID_OPTION_INDEX,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, Map.of(101L, 2, 102L, 0, 103L, 1)));
+		assertErrorCode(StudyErrorCode.INVALID_OPTION_INDEX,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, Map.of(101L, -1, 102L, 0, 103L, 1)));
+	}
+
+	// 기존 SubmitQuizSubmissionService 검증과 같은 오류 코드 / 우선순위 (API 계약)
+	@Test
+	void grade_keepsSubmissionErrorContract() {
+		// 비어 있음
+		assertErrorCode(StudyErrorCode.INVALID_QUIZ_SUBMISSION,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, Map.of()));
+
+		// null key: 집합 불일치
+		Map<Long, Integer> nullKey = new HashMap<>(Map.of(101L, 1, 102L, 0));
+		nullKey.put(null, 1);
+		assertErrorCode(StudyErrorCode.QUIZ_ID_MISMATCH, () -> quizGrader.grade(QUIZ_IDS, QUIZZES, nullKey));
+
+		// null 보기
+		Map<Long, Integer> nullSelection = new HashMap<>(Map.of(101L, 1, 102L, 0));
+		nullSelection.put(103L, null);
+		assertErrorCode(StudyErrorCode.INVALID_QUIZ_SUBMISSION,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, nullSelection));
+
+		// 집합 불일치가 보기 오류보다 먼저 (순회 순서와 무관)
+		Map<Long, Integer> mismatchAfterInvalidIndex = new LinkedHashMap<>();
+		mismatchAfterInvalidIndex.put(101L, -1);
+		mismatchAfterInvalidIndex.put(102L, 0);
+		mismatchAfterInvalidIndex.put(777L, 0);
+		assertErrorCode(StudyErrorCode.QUIZ_ID_MISMATCH,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, mismatchAfterInvalidIndex));
+
+		// 보기 오류는 출제 순서대로 (101의 음수가 103의 null보다 먼저)
+		Map<Long, Integer> invalidInIssueOrder = new LinkedHashMap<>();
+		invalidInIssueOrder.put(103L, null);
+		invalidInIssueOrder.put(102L, 0);
+		invalidInIssueOrder.put(101L, -1);
+		assertErrorCode(StudyErrorCode.INVALID_OPTION_INDEX,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES, invalidInIssueOrder));
+	}
+
+	@Test
+	void grade_throwsWhenQuizMissing() {
+		assertErrorCode(StudyErrorCode.QUIZ_NOT_FOUND,
+			() -> quizGrader.grade(QUIZ_IDS, QUIZZES.subList(0, 2), Map.of(101L, 1, 102L, 0, 103L, 1)));
+	}
+
+	private void assertErrorCode(StudyErrorCode expected, Runnable action) {
+		BaseException e = assertThrows(BaseException.class, action::run);
+		assertEquals(expected.getCode(), e.getCode());
+	}
+}
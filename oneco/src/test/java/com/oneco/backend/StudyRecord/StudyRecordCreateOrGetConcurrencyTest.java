@@ -0,0 +1,131 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneco.backend.StudyRecord.domain.studyRecord.QuizProgressStatus;
+import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.StudyRecordJpaRepository;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.StudyRecordPersistenceAdapter;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.mission.MissionId;
+
+// insert ... on duplicate key 는 MySQL 문법이라 H2를 MySQL 호환 모드로 띄운다.
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:study_record_upsert;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = StudyRecordCreateOrGetConcurrencyTest.TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 자기 트랜잭션으로 커밋해야 경쟁이 재현된다.
+class StudyRecordCreateOrGetConcurrencyTest {
+
+	private static final int THREADS = 16;
+	private static final int ROUNDS = 5;
+	private static final long MEMBER_ID = 2L;
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = StudyRecordJpaRepository.class)
+	@Import({JpaConfig.class, StudyRecordPersistenceAdapter.class})
+	static class TestConfig {
+	}
+
+	@Autowired
+	private StudyRecordPersistenceAdapter adapter;
+
+	@Autowired
+	private StudyRecordJpaRepository repository;
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void createOrGet_concurrentFirstOpens_allGetSameRecordWithoutError() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (long dailyContentId = 1; dailyContentId <= ROUNDS; dailyContentId++) {
+				Set<Long> ids = hammer(pool, dailyContentId);
+
+				assertEquals(1, ids.size(), "같은 member/content 쌍은 한 기록으로 모여야 한다.");
+				assertTrue(repository.findByMemberId_ValueAndDailyContentId_Value(MEMBER_ID, dailyContentId)
+					.isPresent());
+			}
+			assertEquals(ROUNDS, repository.count());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void createOrGet_existingRecord_returnedUnchanged() {
+		StudyRecord first = adapter.createOrGet(draft(10L));
+
+		StudyRecord again = adapter.createOrGet(StudyRecord.openStudy(
+			MissionId.of(99L), MemberId.of(MEMBER_ID), CategoryId.of(3L), DailyContentId.of(10L)));
+
+		assertEquals(first.getId(), again.getId());
+		assertEquals(1L, again.getMissionId().getValue()); // 기존 값은 덮어쓰지 않는다.
+		assertEquals(QuizProgressStatus.READY, again.getQuizProgressStatus());
+		assertFalse(again.isNewsUnlocked());
+	}
+
+	// 모든 스레드를 한 번에 출발시켜 같은 쌍을 동시에 생성한다. 하나라도 예외가 나면 get()에서 실패한다.
+	private Set<Long> hammer(ExecutorService pool, long dailyContentId) throws Exception {
+		CountDownLatch ready = new CountDownLatch(THREADS);
+		CountDownLatch go = new CountDownLatch(1);
+		List<Future<Long>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(pool.submit(() -> {
+				ready.countDown();
+				go.await();
+				return adapter.createOrGet(draft(dailyContentId)).getId();
+			}));
+		}
+		assertTrue(ready.await(5, TimeUnit.SECONDS));
+		go.countDown();
+
+		Set<Long> ids = new HashSet<>();
+		for (Future<Long> future : futures) {
+			ids.add(future.get(10, TimeUnit.SECONDS));
+		}
+		return ids;
+	}
+
+	private static StudyRecord draft(long dailyContentId) {
+		return StudyRecord.openStudy(
+			MissionId.of(1L),
+			MemberId.of(MEMBER_ID),
+			CategoryId.of(3L),
+			DailyContentId.of(dailyContentId)
+		);
+	}
+}
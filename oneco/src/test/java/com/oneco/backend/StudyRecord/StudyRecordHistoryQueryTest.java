@@ -0,0 +1,130 @@
+package com.oneco.backend.StudyRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.oneco.backend.StudyRecord.application.port.dto.StudyRecordHistoryRow;
+import com.oneco.backend.StudyRecord.domain.studyRecord.QuizProgressStatus;
+import com.oneco.backend.StudyRecord.domain.studyRecord.StudyRecord;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.StudyRecordJpaRepository;
+import com.oneco.backend.StudyRecord.infrastructure.persistence.StudyRecordPersistenceAdapter;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.dailycontent.domain.dailycontent.DailyContentId;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.mission.MissionId;
+
+@DataJpaTest
+@ContextConfiguration(classes = StudyRecordHistoryQueryTest.TestConfig.class)
+class StudyRecordHistoryQueryTest {
+
+	private static final long MEMBER_ID = 2L;
+	private static final LocalDate DAY_1 = LocalDate.of(2026, 10, 1);
+	private static final LocalDate DAY_2 = LocalDate.of(2026, 10, 2);
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = StudyRecordJpaRepository.class)
+	@Import({JpaConfig.class, StudyRecordPersistenceAdapter.class})
+	static class TestConfig {
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private StudyRecordPersistenceAdapter adapter;
+
+	// 최신순 기대 순서: (DAY_2, 큰 id) -> (DAY_1, 작은 id)
+	private final List<Long> submittedNewestFirst = new ArrayList<>();
+	private final List<Long> bookmarkedNewestFirst = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		// 같은 날짜에 여러 건이 있어야 (제출일, id) 커서의 id 비교까지 검증된다.
+		Long a = insert(1L, QuizProgressStatus.PASSED, DAY_1, true);
+		Long b = insert(2L, QuizProgressStatus.FAILED, DAY_1, false);
+		Long c = insert(3L, QuizProgressStatus.RETRY_AVAILABLE, DAY_2, true);
+		Long d = insert(4L, QuizProgressStatus.PASSED, DAY_2, false);
+		Long e = insert(5L, QuizProgressStatus.PASSED, DAY_2, true);
+		insert(6L, QuizProgressStatus.IN_PROGRESS, DAY_2, true);  // 제출 상태가 아니면 제외
+		insert(7L, QuizProgressStatus.READY, null, false);
+		em.clear();
+
+		submittedNewestFirst.addAll(List.of(e, d, c, b, a));
+		bookmarkedNewestFirst.addAll(List.of(e, c, a));
+	}
+
+	@Test
+	void findHistory_pagesThroughAllSubmittedRecordsInOrder() {
+		assertEquals(submittedNewestFirst, readAll(false, 2));
+	}
+
+	@Test
+	void findBookmarkedHistory_pagesThroughBookmarkedRecordsOnly() {
+		assertEquals(bookmarkedNewestFirst, readAll(true, 2));
+	}
+
+	@Test
+	void findHistory_returnsProjectionColumns() {
+		StudyRecordHistoryRow first = adapter.findHistoryByMemberId(MEMBER_ID, null, null, 1).getContent().get(0);
+
+		assertEquals(submittedNewestFirst.get(0), first.studyRecordId());
+		assertEquals(DAY_2, first.submittedDate());
+		assertTrue(first.bookmarked());
+		assertEquals(5L, first.dailyContentId());
+	}
+
+	private List<Long> readAll(boolean bookmarked, int size) {
+		List<Long> ids = new ArrayList<>();
+		Long lastId = null;
+		LocalDate lastDate = null;
+		while (true) {
+			Slice<StudyRecordHistoryRow> slice = bookmarked
+				? adapter.findBookmarkedHistoryByMemberId(MEMBER_ID, lastId, lastDate, size)
+				: adapter.findHistoryByMemberId(MEMBER_ID, lastId, lastDate, size);
+			slice.getContent().forEach(row -> ids.add(row.studyRecordId()));
+			if (!slice.hasNext()) {
+				return ids;
+			}
+			StudyRecordHistoryRow last = slice.getContent().get(slice.getContent().size() - 1);
+			lastId = last.studyRecordId();
+			lastDate = last.submittedDate();
+		}
+	}
+
+	private Long insert(Long dailyContentId, QuizProgressStatus status, LocalDate submittedDate, boolean bookmarked) {
+		StudyRecord studyRecord = em.persistAndFlush(StudyRecord.openStudy(
+			MissionId.of(1L),
+			MemberId.of(MEMBER_ID),
+			CategoryId.of(3L),
+			DailyContentId.of(dailyContentId)
+		));
+		em.getEntityManager().createNativeQuery("""
+				update study_records
+				set quiz_status = :status, quiz_submitted_date = :submittedDate, is_bookmarked = :bookmarked
+				where id = :id
+				""")
+			.setParameter("status", status.name())
+			.setParameter("submittedDate", submittedDate)
+			.setParameter("bookmarked", bookmarked)
+			.setParameter("id", studyRecord.getId())
+			.executeUpdate();
+		return studyRecord.getId();
+	}
+}
@@ -16,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.oneco.backend.auth.application.AuthService;
 import com.oneco.backend.auth.application.KakaoOidcService;
+import com.oneco.backend.auth.application.bridge.OAuthStateStore;
 import com.oneco.backend.auth.application.dto.KakaoLoginResponse;
 import com.oneco.backend.auth.domain.oauth.SocialAccount;
 import com.oneco.backend.auth.domain.oauth.SocialAccountRepository;
@@ -44,6 +45,8 @@ class AuthServiceTest {
 	private MemberJpaRepository memberJpaRepository;
 	@Mock
 	private JwtTokenProvider jwtTokenProvider;
+	@Mock
+	private OAuthStateStore oAuthStateStore;
 
 	@InjectMocks
 	private AuthService authService;
@@ -70,7 +73,8 @@ class AuthServiceTest {
 		when(jwtTokenProvider.createRefreshToken(1L)).thenReturn("refresh-token");
 
 		// when: 정상적인 state 값으로 로그인 처리
-		KakaoLoginResponse response = authService.loginWithKakao("auth-code", "expected", "expected");
+		when(oAuthStateStore.consume("expected", "nonce")).thenReturn(true);
+		KakaoLoginResponse response = authService.loginWithKakao("auth-code", "expected", "nonce");
 
 		// then: 기존 회원 흐름이므로 isNew=false이며 access/refresh가 채워진다.
 		assertFalse(response.isNew());
@@ -97,7 +101,8 @@ class AuthServiceTest {
 		when(jwtTokenProvider.createOnboardingToken(SocialProvider.KAKAO, kakaoSub))
 			.thenReturn("onboarding-token");
 
-		KakaoLoginResponse response = authService.loginWithKakao("auth-code", "s", "s");
+		when(oAuthStateStore.consume("s", "nonce")).thenReturn(true);
+		KakaoLoginResponse response = authService.loginWithKakao("auth-code", "s", "nonce");
 
 		// then: 온보딩 분기이므로 isNew=true, 온보딩 토큰만 존재한다.
 		assertTrue(response.isNew());
@@ -129,7 +134,8 @@ class AuthServiceTest {
 		when(socialAccountRepository.save(any(SocialAccount.class)))
 			.thenAnswer(invocation -> invocation.getArgument(0));
 
-		KakaoLoginResponse response = authService.loginWithKakao("code", "state", "state");
+		when(oAuthStateStore.consume("state", "nonce")).thenReturn(true);
+		KakaoLoginResponse response = authService.loginWithKakao("code", "state", "nonce");
 
 		// then: 새 회원이므로 온보딩 토큰이 발급되며, 생성된 회원은 ONBOARDING 상태를 유지한다.
 		assertTrue(response.isNew());
@@ -148,10 +154,12 @@ class AuthServiceTest {
 
 	@Test
 	void loginWithKakao_invalidState_throwsBaseException() {
-		// when & then: state 값이 다르면 INVALID_OAUTH_STATE 예외가 발생
+		// when & then: state 검증(서명 / 만료 / 1회성 / 바인딩 쿠키)에 실패하면 INVALID_OAUTH_STATE 예외가 발생하고 카카오를 호출하지 않는다.
+		when(oAuthStateStore.consume("actual", null)).thenReturn(false);
 		BaseException ex = assertThrows(BaseException.class,
-			() -> authService.loginWithKakao("code", "actual", "expected"));
+			() -> authService.loginWithKakao("code", "actual", null));
 		assertEquals(GlobalErrorCode.INVALID_OAUTH_STATE.getCode(), ex.getCode());
+		verifyNoInteractions(kakaoOAuthClient);
 	}
 
 	private void setId(Member member, long id) throws Exception {
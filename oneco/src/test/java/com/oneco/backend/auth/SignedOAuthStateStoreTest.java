@@ -0,0 +1,121 @@
+package com.oneco.backend.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import com.oneco.backend.auth.application.bridge.InMemoryOAuthStateNonceStore;
+import com.oneco.backend.auth.application.bridge.OAuthStateNonceStore;
+import com.oneco.backend.auth.application.bridge.OAuthStateStore.IssuedState;
+import com.oneco.backend.auth.application.bridge.SignedOAuthStateStore;
+
+class SignedOAuthStateStoreTest {
+
+	private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2025-03-10T00:00:00Z"));
+	private final OAuthStateNonceStore sharedNonceStore = new InMemoryOAuthStateNonceStore(clock);
+
+	@Test
+	void consume_acceptsStateIssuedByAnotherNode_onlyOnce() {
+		// 로그인 시작과 콜백이 서로 다른 인스턴스로 간다. (서명 키와 nonce 저장소만 공유)
+		SignedOAuthStateStore nodeA = new SignedOAuthStateStore(KEY, TTL, sharedNonceStore, clock);
+		SignedOAuthStateStore nodeB = new SignedOAuthStateStore(KEY, TTL, sharedNonceStore, clock);
+
+		IssuedState issued = nodeA.issue();
+
+		assertTrue(nodeB.consume(issued.state(), issued.browserBinding()));
+		assertFalse(nodeA.consume(issued.state(), issued.browserBinding()));
+		assertFalse(nodeB.consume(issued.state(), issued.browserBinding()));
+	}
+
+	@Test
+	void consume_rejectsValidStateFromAnotherBrowser() {
+		// 공격자가 발급받은 state를 바인딩 쿠키가 없거나 다른 피해자 브라우저가 들고 온 경우 (login CSRF)
+		SignedOAuthStateStore store = new SignedOAuthStateStore(KEY, TTL, sharedNonceStore, clock);
+		IssuedState attacker = store.issue();
+		IssuedState victim = store.issue();
+
+		assertFalse(store.consume(attacker.state(), null));
+		assertFalse(store.consume(attacker.state(), ""));
+		assertFalse(store.consume(attacker.state(), victim.browserBinding()));
+
+		// 거부된 시도는 nonce를 소비하지 않는다.
+		assertTrue(store.consume(attacker.state(), attacker.browserBinding()));
+	}
+
+	@Test
+	void consume_rejectsExpiredState() {
+		SignedOAuthStateStore store = new SignedOAuthStateStore(KEY, TTL, sharedNonceStore, clock);
+		IssuedState issued = store.issue();
+
+		clock.advance(TTL);
+
+		assertFalse(store.consume(issued.state(), issued.browserBinding()));
+	}
+
+	@Test
+	void consume_rejectsTamperedOrForeignState() {
+		SignedOAuthStateStore store = new SignedOAuthStateStore(KEY, TTL, sharedNonceStore, clock);
+		SignedOAuthStateStore otherKey = new SignedOAuthStateStore(
+			"fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII), TTL, sharedNonceStore, clock);
+		IssuedState issued = store.issue();
+		String state = issued.state();
+		String binding = issued.browserBinding();
+		String[] parts = state.split("\\.");
+
+		// 만료 시각을 늘린 값, 다른 키로 서명한 값, 형식이 아닌 값
+		String extended = parts[0] + "." + (Long.parseLong(parts[1]) + 3600) + "." + parts[2];
+		assertFalse(store.consume(extended, binding));
+		IssuedState foreign = otherKey.issue();
+		assertFalse(store.consume(foreign.state(), foreign.browserBinding()));
+		for (String malformed : new String[] {null, "", "abc", "a.b", "..", parts[0] + ".x." + parts[2], state + "!"}) {
+			assertFalse(store.consume(malformed, binding), String.valueOf(malformed));
+		}
+
+		// 거부된 시도는 nonce를 소비하지 않는다.
+		assertTrue(store.consume(state, binding));
+	}
+
+	@Test
+	void constructor_rejectsShortKey() {
+		assertThrows(IllegalStateException.class,
+			() -> new SignedOAuthStateStore(new byte[16], TTL, sharedNonceStore, clock));
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.oneco.backend.family;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.oneco.backend.family.domain.relation.ConnectedRelation;
+import com.oneco.backend.family.domain.relation.FamilyRelation;
+import com.oneco.backend.family.infrastructure.cache.FamilyRelationCache;
+import com.oneco.backend.family.infrastructure.persistence.FamilyRelationJpaRepository;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.member.domain.MemberId;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"family-relation-cache.capacity=2"
+})
+@ContextConfiguration(classes = FamilyRelationCacheTest.TestConfig.class)
+class FamilyRelationCacheTest {
+
+	private static final MemberId PARENT = MemberId.of(1L);
+	private static final MemberId CHILD = MemberId.of(2L);
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = FamilyRelationJpaRepository.class)
+	@Import({JpaConfig.class, FamilyRelationCache.class})
+	static class TestConfig {
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private FamilyRelationCache familyRelationCache;
+
+	@Autowired
+	private FamilyRelationJpaRepository familyRelationJpaRepository;
+
+	private FamilyRelation relation;
+
+	@BeforeEach
+	void setUp() {
+		familyRelationCache.invalidateAll();
+		relation = em.persist(FamilyRelation.connect(PARENT, CHILD));
+		em.flush();
+		em.clear();
+		statistics().clear();
+	}
+
+	@Test
+	void findConnectedRelations_secondCall_servedFromCache() {
+		long hitsBefore = familyRelationCache.hitCount();
+		long missesBefore = familyRelationCache.missCount();
+
+		List<ConnectedRelation> first = familyRelationCache.findConnectedRelations(CHILD);
+		List<ConnectedRelation> second = familyRelationCache.findConnectedRelations(CHILD);
+
+		assertEquals(List.of(new ConnectedRelation(relation.getId(), 1L, 2L)), first);
+		assertSame(first, second);
+		assertEquals(1, statistics().getPrepareStatementCount());
+		assertEquals(1, familyRelationCache.hitCount() - hitsBefore);
+		assertEquals(1, familyRelationCache.missCount() - missesBefore);
+	}
+
+	@Test
+	void evict_afterDisconnect_reloadsFromDatabase() {
+		familyRelationCache.findConnectedRelations(PARENT);
+
+		FamilyRelation loaded = em.find(FamilyRelation.class, relation.getId());
+		loaded.disconnect(PARENT);
+		em.flush();
+		familyRelationCache.evict(PARENT, CHILD);
+
+		assertTrue(familyRelationCache.findConnectedRelations(PARENT).isEmpty());
+	}
+
+	@Test
+	void capacity_boundsNumberOfCachedMembers() {
+		for (long memberId = 10; memberId < 15; memberId++) {
+			familyRelationCache.findConnectedRelations(MemberId.of(memberId));
+		}
+
+		assertEquals(2, familyRelationCache.size());
+	}
+
+	@Test
+	void ttl_dropsEntryChangedOnAnotherInstance() {
+		// 다른 인스턴스에서 해제되면 이 인스턴스의 evict()는 호출되지 않는다.
+		MutableClock clock = new MutableClock(Instant.parse("2025-03-10T00:00:00Z"));
+		FamilyRelationCache cache = new FamilyRelationCache(familyRelationJpaRepository, 10, Duration.ofSeconds(30), clock);
+		assertEquals(1, cache.findConnectedRelations(PARENT).size());
+
+		FamilyRelation loaded = em.find(FamilyRelation.class, relation.getId());
+		loaded.disconnect(PARENT);
+		em.flush();
+
+		clock.advance(Duration.ofSeconds(29));
+		assertEquals(1, cache.findConnectedRelations(PARENT).size());
+		clock.advance(Duration.ofSeconds(1));
+		assertTrue(cache.findConnectedRelations(PARENT).isEmpty());
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
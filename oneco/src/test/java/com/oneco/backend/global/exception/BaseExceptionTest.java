@@ -0,0 +1,45 @@
+package com.oneco.backend.global.exception;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+
+class BaseExceptionTest {
+
+	@Test
+	void from_expectedErrorCode_reusesStacklessInstance() {
+		BaseException first = BaseException.from(StudyErrorCode.QUIZ_ALREADY_SUBMITTED);
+		BaseException second = BaseException.from(StudyErrorCode.QUIZ_ALREADY_SUBMITTED);
+
+		assertSame(first, second);
+		assertTrue(first.isExpected());
+		assertEquals(0, first.getStackTrace().length);
+		assertEquals(StudyErrorCode.QUIZ_ALREADY_SUBMITTED.getCode(), first.getCode());
+		assertEquals(StudyErrorCode.QUIZ_ALREADY_SUBMITTED.getHttpStatus(), first.getHttpStatus());
+
+		// 공유 인스턴스라 suppressed가 쌓이지 않아야 한다.
+		first.addSuppressed(new IllegalStateException());
+		assertEquals(0, second.getSuppressed().length);
+	}
+
+	@Test
+	void from_expectedErrorCodeWithDetail_createsNewStacklessInstance() {
+		BaseException e = BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION, "selected is null. quizId=1");
+
+		assertNotSame(e, BaseException.from(StudyErrorCode.INVALID_QUIZ_SUBMISSION, "selected is null. quizId=1"));
+		assertEquals("selected is null. quizId=1", e.getMessage());
+		assertEquals(0, e.getStackTrace().length);
+	}
+
+	@Test
+	void from_unexpectedErrorCode_keepsStackTrace() {
+		BaseException first = BaseException.from(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+
+		assertNotSame(first, BaseException.from(GlobalErrorCode.INTERNAL_SERVER_ERROR));
+		assertFalse(first.isExpected());
+		assertTrue(first.getStackTrace().length > 0);
+	}
+}
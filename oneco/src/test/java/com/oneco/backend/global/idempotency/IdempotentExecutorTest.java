@@ -0,0 +1,146 @@
+package com.oneco.backend.global.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneco.backend.StudyRecord.application.dto.result.AttemptSummary;
+import com.oneco.backend.StudyRecord.application.dto.result.NewsItemSummary;
+import com.oneco.backend.StudyRecord.application.dto.result.SubmitQuizSubmissionResult;
+import com.oneco.backend.StudyRecord.domain.exception.constant.StudyErrorCode;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AttemptResult;
+import com.oneco.backend.StudyRecord.domain.quizAttempt.AttemptStatus;
+import com.oneco.backend.StudyRecord.domain.studyRecord.QuizProgressStatus;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.exception.constant.GlobalErrorCode;
+import com.oneco.backend.global.idempotency.application.IdempotentExecutor;
+import com.oneco.backend.global.idempotency.application.IdempotentResult;
+import com.oneco.backend.global.idempotency.infrastructure.InMemoryIdempotencyStore;
+
+class IdempotentExecutorTest {
+
+	private static final String SCOPE = "quiz-submit:7";
+	private static final String KEY = "3f1c9b7e-5a2d-4c1e-9f0a-7b6d2e8c4a11";
+	private static final String REQUEST = "10|5|{1001=1, 1002=0, 1003=2}";
+
+	private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore();
+	private final IdempotentExecutor executor = new IdempotentExecutor(
+		store, new ObjectMapper(), Duration.ofSeconds(30), Duration.ofHours(24), Duration.ofSeconds(3));
+	private final AtomicInteger submitCount = new AtomicInteger();
+	private ExecutorService pool;
+
+	@BeforeEach
+	void setUp() {
+		pool = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdownNow();
+	}
+
+	@Test
+	void execute_duplicateKey_replaysFirstResultWithoutRunningAgain() {
+		IdempotentResult<SubmitQuizSubmissionResult> first = executor.execute(
+			SCOPE, KEY, REQUEST, SubmitQuizSubmissionResult.class, this::submit);
+		IdempotentResult<SubmitQuizSubmissionResult> retry = executor.execute(
+			SCOPE, KEY, REQUEST, SubmitQuizSubmissionResult.class, this::submit);
+
+		assertEquals(1, submitCount.get());
+		assertFalse(first.replayed());
+		assertTrue(retry.replayed());
+		assertEquals(first.value(), retry.value());
+	}
+
+	@Test
+	void execute_sameKeyDifferentRequest_rejected() {
+		executor.execute(SCOPE, KEY, REQUEST, SubmitQuizSubmissionResult.class, this::submit);
+
+		BaseException e = assertThrows(BaseException.class, () -> executor.execute(
+			SCOPE, KEY, "10|5|{1001=2, 1002=0, 1003=2}", SubmitQuizSubmissionResult.class, this::submit));
+
+		assertEquals(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED.getCode(), e.getCode());
+		assertEquals(1, submitCount.get());
+	}
+
+	@Test
+	void execute_concurrentDuplicates_coalescedIntoOneExecution() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<IdempotentResult<SubmitQuizSubmissionResult>> first = pool.submit(() -> executor.execute(
+			SCOPE, KEY, REQUEST, SubmitQuizSubmissionResult.class, () -> {
+				started.countDown();
+				await(release);
+				return submit();
+			}));
+		assertTrue(started.await(2, TimeUnit.SECONDS));
+
+		// 첫 요청이 처리 중일 때 같은 키로 들어온 요청은 실행하지 않고 기다린다.
+		Future<IdempotentResult<SubmitQuizSubmissionResult>> duplicate = pool.submit(() -> executor.execute(
+			SCOPE, KEY, REQUEST, SubmitQuizSubmissionResult.class, this::submit));
+		release.countDown();
+
+		assertFalse(first.get(2, TimeUnit.SECONDS).replayed());
+		assertTrue(duplicate.get(2, TimeUnit.SECONDS).replayed());
+		assertEquals(first.get().value(), duplicate.get().value());
+		assertEquals(1, submitCount.get());
+	}
+
+	@Test
+	void execute_failedRequest_releasesKeyForRetry() {
+		assertThrows(BaseException.class, () -> executor.execute(
+			SCOPE, KEY, REQUEST, SubmitQuizSubmissionResult.class, () -> {
+				throw BaseException.from(StudyErrorCode.INVALID_STUDY_STATUS);
+			}));
+
+		IdempotentResult<SubmitQuizSubmissionResult> retry = executor.execute(
+			SCOPE, KEY, REQUEST, SubmitQuizSubmissionResult.class, this::submit);
+
+		assertFalse(retry.replayed());
+		assertEquals(1, submitCount.get());
+	}
+
+	@Test
+	void execute_invalidKey_rejected() {
+		BaseException e = assertThrows(BaseException.class, () -> executor.execute(
+			SCOPE, "key with spaces", REQUEST, SubmitQuizSubmissionResult.class, this::submit));
+
+		assertEquals(GlobalErrorCode.INVALID_IDEMPOTENCY_KEY.getCode(), e.getCode());
+	}
+
+	private SubmitQuizSubmissionResult submit() {
+		submitCount.incrementAndGet();
+		return new SubmitQuizSubmissionResult(
+			10L,
+			345L,
+			new AttemptSummary(5L, 1, AttemptStatus.SUBMITTED),
+			new SubmitQuizSubmissionResult.GradingSummary(2, 3, AttemptResult.FAIL),
+			List.of(new NewsItemSummary("금리 인상", "https://news.example.com/1", null)),
+			QuizProgressStatus.RETRY_AVAILABLE,
+			false,
+			1
+		);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(2, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
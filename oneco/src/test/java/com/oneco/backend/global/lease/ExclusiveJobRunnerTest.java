@@ -0,0 +1,153 @@
+package com.oneco.backend.global.lease;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.global.lease.application.ExclusiveJobRunner;
+import com.oneco.backend.global.lease.domain.JobLease;
+import com.oneco.backend.global.lease.domain.JobRunOutcome;
+import com.oneco.backend.global.lease.infrastructure.InMemoryJobLeaseStore;
+
+class ExclusiveJobRunnerTest {
+
+	private static final String JOB = "failOverdueMissions";
+	private static final Duration TTL = Duration.ofMinutes(1);
+	private static final Duration RETENTION = Duration.ofDays(2);
+
+	@Test
+	void run_whileAnotherNodeHoldsLease_skips() {
+		InMemoryJobLeaseStore store = new InMemoryJobLeaseStore();
+		ExclusiveJobRunner nodeA = new ExclusiveJobRunner(store, TTL, RETENTION);
+		ExclusiveJobRunner nodeB = new ExclusiveJobRunner(store, TTL, RETENTION);
+
+		Optional<Optional<String>> nested = nodeA.run(JOB, "2025-03-10",
+			execution -> nodeB.run(JOB, "2025-03-10", other -> "B"));
+
+		assertEquals(Optional.of(Optional.empty()), nested);
+		assertEquals(1, nodeA.count(JOB, JobRunOutcome.COMPLETED));
+		assertEquals(1, nodeB.count(JOB, JobRunOutcome.SKIPPED_BUSY));
+		assertEquals(nodeA.ownerId(), nodeA.lastRun(JOB).orElseThrow().ownerId());
+	}
+
+	@Test
+	void run_sameWindowTwice_runsOnce_andNextWindowGetsNewToken() {
+		InMemoryJobLeaseStore store = new InMemoryJobLeaseStore();
+		ExclusiveJobRunner nodeA = new ExclusiveJobRunner(store, TTL, RETENTION);
+		ExclusiveJobRunner nodeB = new ExclusiveJobRunner(store, TTL, RETENTION);
+
+		assertTrue(nodeA.run(JOB, "2025-03-10", execution -> execution.fencingToken()).isPresent());
+		assertTrue(nodeB.run(JOB, "2025-03-10", execution -> execution.fencingToken()).isEmpty());
+		Optional<Long> nextToken = nodeB.run(JOB, "2025-03-11", execution -> execution.fencingToken());
+
+		assertEquals(1, nodeB.count(JOB, JobRunOutcome.SKIPPED_DONE));
+		assertEquals(Optional.of(2L), nextToken);
+	}
+
+	@Test
+	void run_windowCompletedWhileAcquiring_skipsAfterAcquire() {
+		ExclusiveJobRunner[] nodeA = new ExclusiveJobRunner[1];
+		// nodeB가 완료 여부를 확인한 뒤, 실행권을 얻기 직전에 nodeA가 같은 구간을 끝내고 반납한다.
+		InMemoryJobLeaseStore store = new InMemoryJobLeaseStore() {
+			private boolean interleaved;
+
+			@Override
+			public synchronized Optional<JobLease> tryAcquire(String jobName, String ownerId, Duration ttl) {
+				if (!interleaved && !ownerId.equals(nodeA[0].ownerId())) {
+					interleaved = true;
+					nodeA[0].run(JOB, "2025-03-10", execution -> "A");
+				}
+				return super.tryAcquire(jobName, ownerId, ttl);
+			}
+		};
+		nodeA[0] = new ExclusiveJobRunner(store, TTL, RETENTION);
+		ExclusiveJobRunner nodeB = new ExclusiveJobRunner(store, TTL, RETENTION);
+		AtomicBoolean ranOnB = new AtomicBoolean();
+
+		Optional<String> result = nodeB.run(JOB, "2025-03-10", execution -> {
+			ranOnB.set(true);
+			return "B";
+		});
+
+		assertTrue(result.isEmpty());
+		assertFalse(ranOnB.get());
+		assertEquals(1, nodeA[0].count(JOB, JobRunOutcome.COMPLETED));
+		assertEquals(1, nodeB.count(JOB, JobRunOutcome.SKIPPED_DONE));
+		assertTrue(store.tryAcquire(JOB, "node-c", TTL).isPresent()); // 건너뛰면서 실행권도 반납했다.
+	}
+
+	@Test
+	void checkHeld_afterLeaseExpiredAndTakenOver_stopsTask() {
+		MutableClock clock = new MutableClock(Instant.parse("2025-03-10T00:00:00Z"));
+		InMemoryJobLeaseStore store = new InMemoryJobLeaseStore(clock);
+		ExclusiveJobRunner nodeA = new ExclusiveJobRunner(store, TTL, RETENTION);
+
+		Optional<String> result = nodeA.run(JOB, "2025-03-10", execution -> {
+			execution.checkHeld();
+			// 연장 전에 멈춘 사이 ttl이 지나고 다른 인스턴스가 실행권을 가져갔다.
+			clock.advance(TTL.plusSeconds(1));
+			store.tryAcquire(JOB, "node-b", TTL).orElseThrow();
+			assertThrows(BaseException.class, execution::checkHeld);
+			assertTrue(execution.isLost());
+			execution.checkHeld();
+			return "A";
+		});
+
+		assertTrue(result.isEmpty());
+		assertEquals(1, nodeA.count(JOB, JobRunOutcome.LEASE_LOST));
+		assertFalse(store.isCompleted(JOB, "2025-03-10"));
+	}
+
+	@Test
+	void expiredLease_cannotRenewOrReleaseNewOwnersLease() {
+		MutableClock clock = new MutableClock(Instant.parse("2025-03-10T00:00:00Z"));
+		InMemoryJobLeaseStore store = new InMemoryJobLeaseStore(clock);
+
+		JobLease stale = store.tryAcquire(JOB, "node-a", TTL).orElseThrow();
+		clock.advance(TTL.plusSeconds(1));
+		JobLease current = store.tryAcquire(JOB, "node-b", TTL).orElseThrow();
+
+		assertTrue(current.fencingToken() > stale.fencingToken());
+		assertFalse(store.renew(stale, TTL));
+		store.release(stale);
+		assertTrue(store.tryAcquire(JOB, "node-c", TTL).isEmpty());
+		assertTrue(store.renew(current, TTL));
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.oneco.backend.global.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+
+class LogSamplingFilterTest {
+
+	private static final String TARGET = "com.oneco.backend.StudyRecord.application.service.SubmitQuizSubmissionService";
+	private static final String OTHER = "com.oneco.backend.mission.application.MissionService";
+
+	private final LoggerContext loggerContext = new LoggerContext();
+	private LogSamplingFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new LogSamplingFilter();
+		filter.setLoggers(" com.oneco.backend.StudyRecord.application.service , ");
+	}
+
+	@Test
+	void decide_overMaxPerSecond_dropsUntilNextSecond() {
+		filter.setMaxPerSecond(2);
+
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(TARGET, Level.INFO, 1_000)));
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(TARGET, Level.INFO, 1_100)));
+		assertEquals(FilterReply.DENY, filter.decide(event(TARGET, Level.INFO, 1_999)));
+		// 제한은 로거별로 따로 센다.
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(TARGET + "2", Level.INFO, 1_999)));
+
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(TARGET, Level.INFO, 2_000)));
+		assertEquals(1, filter.getDroppedCount());
+	}
+
+	@Test
+	void decide_warnOrOtherLogger_alwaysPasses() {
+		filter.setSampleRate(0.0);
+
+		assertEquals(FilterReply.DENY, filter.decide(event(TARGET, Level.INFO, 1_000)));
+		assertEquals(FilterReply.DENY, filter.decide(event(TARGET, Level.DEBUG, 1_000)));
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(TARGET, Level.WARN, 1_000)));
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(TARGET, Level.ERROR, 1_000)));
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(OTHER, Level.INFO, 1_000)));
+	}
+
+	@Test
+	void setSampleRate_outOfRange_throws() {
+		assertThrows(IllegalArgumentException.class, () -> filter.setSampleRate(1.5));
+		assertThrows(IllegalArgumentException.class, () -> filter.setMaxPerSecond(-1));
+	}
+
+	private LoggingEvent event(String loggerName, Level level, long timeStampMillis) {
+		LoggingEvent event = new LoggingEvent(
+			LogSamplingFilterTest.class.getName(), loggerContext.getLogger(loggerName), level, "quiz.submit", null, null);
+		event.setTimeStamp(timeStampMillis);
+		return event;
+	}
+}
@@ -0,0 +1,68 @@
+package com.oneco.backend.global.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.oneco.backend.family.application.port.in.ExistsFamilyRelationUseCase;
+import com.oneco.backend.family.application.port.out.FamilyRelationCachePort;
+import com.oneco.backend.family.application.service.ExistsFamilyRelationService;
+import com.oneco.backend.family.domain.relation.ConnectedRelation;
+import com.oneco.backend.member.domain.MemberId;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UseCaseMetricsAspectTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void useCaseCall_recordsTimerTaggedByUseCaseAndMethod() {
+		ExistsFamilyRelationUseCase useCase = proxy(new ExistsFamilyRelationService(new StubCachePort()));
+
+		useCase.existsFamilyRelation(MemberId.of(1L));
+		useCase.existsFamilyRelation(MemberId.of(2L));
+
+		Timer timer = registry.find(UseCaseMetricsAspect.USECASE_TIMER)
+			.tag("usecase", "ExistsFamilyRelationUseCase")
+			.tag("method", "existsFamilyRelation")
+			.tag("outcome", "success")
+			.timer();
+		assertNotNull(timer);
+		assertEquals(2, timer.count());
+	}
+
+	@Test
+	void failedCall_recordsErrorOutcomeWithExceptionName() {
+		ExistsFamilyRelationUseCase useCase = proxy(new ExistsFamilyRelationService(new StubCachePort()));
+
+		assertThrows(NullPointerException.class, () -> useCase.existsFamilyRelation(null));
+
+		assertNotNull(registry.find(UseCaseMetricsAspect.USECASE_TIMER)
+			.tag("outcome", "error")
+			.tag("exception", "NullPointerException")
+			.timer());
+	}
+
+	private ExistsFamilyRelationUseCase proxy(ExistsFamilyRelationUseCase target) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.addAspect(new UseCaseMetricsAspect(registry));
+		return factory.getProxy();
+	}
+
+	private static final class StubCachePort implements FamilyRelationCachePort {
+
+		@Override
+		public List<ConnectedRelation> findConnectedRelations(MemberId memberId) {
+			return memberId.getValue() == 1L ? List.of(new ConnectedRelation(10L, 1L, 2L)) : List.of();
+		}
+
+		@Override
+		public void evict(MemberId parentId, MemberId childId) {
+		}
+	}
+}
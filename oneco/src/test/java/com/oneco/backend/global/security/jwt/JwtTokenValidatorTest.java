@@ -61,6 +61,43 @@ class JwtTokenValidatorTest {
 		assertEquals(JwtErrorCode.TOKEN_ALG_MISMATCH.getCode(), ex.getCode());
 	}
 
+	@Test
+	void validateAndGetClaims_sameAccessTokenTwice_servedFromClaimsCache() {
+		Fixture fixture = createFixture();
+		String token = fixture.provider().createAccessToken(15L, "ROLE_USER");
+
+		Claims first = fixture.validator().validateAndGetClaims(token, JwtPurpose.ACCESS);
+		Claims second = fixture.validator().validateAndGetClaims(token, JwtPurpose.ACCESS);
+
+		assertSame(first, second);
+		assertEquals(1, fixture.validator().claimsCacheSize());
+		assertEquals(0.5, fixture.validator().claimsCacheHitRate());
+	}
+
+	@Test
+	void validateAndGetClaims_cachedToken_stillChecksAlgorithm() {
+		Fixture fixture = createFixture();
+		String token = fixture.provider().createAccessToken(1L, "ROLE_USER");
+		fixture.validator().validateAndGetClaims(token, JwtPurpose.ACCESS);
+
+		fixture.properties().getAccess().setAlgorithm(JwtMacAlgorithm.HS512);
+
+		BaseException ex = assertThrows(BaseException.class,
+			() -> fixture.validator().validateAndGetClaims(token, JwtPurpose.ACCESS));
+		assertEquals(JwtErrorCode.TOKEN_ALG_MISMATCH.getCode(), ex.getCode());
+	}
+
+	@Test
+	void validateAndGetClaims_cachedAccessToken_rejectedForOtherPurpose() {
+		Fixture fixture = createFixture();
+		String token = fixture.provider().createAccessToken(1L, "ROLE_USER");
+		fixture.validator().validateAndGetClaims(token, JwtPurpose.ACCESS);
+
+		BaseException ex = assertThrows(BaseException.class,
+			() -> fixture.validator().validateAndGetClaims(token, JwtPurpose.REFRESH));
+		assertEquals(JwtErrorCode.TOKEN_PURPOSE_MISMATCH.getCode(), ex.getCode());
+	}
+
 	private Fixture createFixture() {
 		JwtProperties properties = new JwtProperties();
 		String baseSecret = Base64.getEncoder()
@@ -0,0 +1,21 @@
+package com.oneco.backend.global.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 메서드 1건(@BeforeEach 제외)에서 실행되는 SQL 문장 수 상한
+ * - 컨텍스트에 SqlBudgetConfig가 등록되어 있어야 문장이 집계된다.
+ * - 초과하면 반복된 SQL 지문과 함께 실패한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+	int max();
+}
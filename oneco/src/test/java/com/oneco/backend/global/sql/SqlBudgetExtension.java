@@ -0,0 +1,29 @@
+package com.oneco.backend.global.sql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+// @SqlBudget: 테스트 본문 실행 동안만 SqlStatementCounter 범위를 열고, 끝나면 예산을 검사한다.
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+	@Override
+	public void beforeTestExecution(ExtensionContext context) {
+		SqlStatementCounter.start();
+	}
+
+	@Override
+	public void afterTestExecution(ExtensionContext context) {
+		SqlRequestStats stats = SqlStatementCounter.stop();
+		int max = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), SqlBudget.class)
+			.or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), SqlBudget.class))
+			.map(SqlBudget::max)
+			.orElseThrow();
+
+		assertTrue(stats.statementCount() <= max,
+			() -> "SQL 예산 초과 (budget=" + max + ") " + stats);
+	}
+}
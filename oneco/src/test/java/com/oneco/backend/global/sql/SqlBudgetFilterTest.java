@@ -0,0 +1,58 @@
+package com.oneco.backend.global.sql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class SqlBudgetFilterTest {
+
+	private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+	@Test
+	void fingerprint_ignoresLiteralsAndInListLength() {
+		assertEquals(
+			SqlStatementCounter.fingerprint("select * from member where id in (?, ?, ?) and name = 'a'"),
+			SqlStatementCounter.fingerprint("SELECT *  FROM member\n where id in (?) and name = 'bb'")
+		);
+	}
+
+	@Test
+	void doFilter_exposesStatementCountAndRepeatedFingerprints() throws Exception {
+		SqlBudgetFilter filter = new SqlBudgetFilter(2, true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// 회원 조회가 행마다 반복되는 N+1 상황을 흉내낸다.
+		HttpServlet servlet = new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+				inspector.inspect("select c.title from category c where c.id = ?");
+				inspector.inspect("select m.nickname from member m where m.id = 1");
+				inspector.inspect("select m.nickname from member m where m.id = 2");
+				res.getWriter().write("ok");
+				res.flushBuffer();
+			}
+		};
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/missions"), response, new MockFilterChain(servlet));
+
+		assertEquals("3", response.getHeader(SqlBudgetFilter.COUNT_HEADER));
+		assertEquals("1", response.getHeader(SqlBudgetFilter.REPEATED_HEADER));
+		assertNotNull(response.getHeader(SqlBudgetFilter.TIME_HEADER));
+		assertNull(SqlStatementCounter.current());
+	}
+
+	@Test
+	void inspect_outsideRequestScope_isNotCounted() {
+		assertEquals("select 1", inspector.inspect("select 1"));
+		assertNull(SqlStatementCounter.current());
+	}
+}
@@ -0,0 +1,101 @@
+package com.oneco.backend.mission;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oneco.backend.category.domain.category.Category;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.category.domain.category.CategorySummary;
+import com.oneco.backend.category.domain.category.CategoryTitle;
+import com.oneco.backend.category.domain.category.MissionDays;
+import com.oneco.backend.category.domain.event.CategoryChangedEvent;
+import com.oneco.backend.category.domain.exception.constant.CategoryErrorCode;
+import com.oneco.backend.category.infrastructure.CategoryJpaRepository;
+import com.oneco.backend.category.infrastructure.catalog.CategorySnapshotProvider;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.mission.infrastructure.CategoryLookupJpaAdapter;
+
+class CategoryLookupJpaAdapterTest {
+
+	private final CategoryJpaRepository categoryJpaRepository = mock(CategoryJpaRepository.class);
+	private final CategorySnapshotProvider categorySnapshotProvider = new CategorySnapshotProvider(categoryJpaRepository);
+	private final CategoryLookupJpaAdapter adapter =
+		new CategoryLookupJpaAdapter(categoryJpaRepository, categorySnapshotProvider);
+	private final List<Category> categories = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (long id = 1; id <= 3; id++) {
+			categories.add(category(id, "카테고리 " + id));
+		}
+		when(categoryJpaRepository.findAll()).thenAnswer(inv -> List.copyOf(categories));
+		categorySnapshotProvider.refresh();
+	}
+
+	@Test
+	void getCategoryTitles_resolvesFromSnapshotWithoutPerIdQueries() {
+		List<CategoryId> ids = List.of(CategoryId.of(1L), CategoryId.of(3L), CategoryId.of(1L));
+
+		Map<CategoryId, CategoryTitle> titles = adapter.getCategoryTitles(ids);
+
+		assertEquals(2, titles.size());
+		assertEquals("카테고리 3", titles.get(CategoryId.of(3L)).getValue());
+		assertEquals(7, adapter.getDefaultMissionDays(CategoryId.of(2L)).getValue());
+		verify(categoryJpaRepository, times(1)).findAll();
+		verify(categoryJpaRepository, never()).findById(anyLong());
+	}
+
+	@Test
+	void onCategoryChanged_reloadsSnapshot() {
+		categories.get(0).renameCategoryTitle(CategoryTitle.of("바뀐 제목"));
+
+		categorySnapshotProvider.onCategoryChanged(new CategoryChangedEvent(1L, "titleRenamed"));
+
+		assertEquals("바뀐 제목", adapter.getCategoryTitle(CategoryId.of(1L)).getValue());
+	}
+
+	// 다른 인스턴스에서 바뀐 경우: 이벤트 없이 주기 재적재로 반영, 그대로면 스냅샷 유지
+	@Test
+	void reloadIfChanged_picksUpChangeWithoutEvent() {
+		categorySnapshotProvider.reloadIfChanged();
+		assertEquals(1, categorySnapshotProvider.current().version());
+
+		categories.get(0).renameCategoryTitle(CategoryTitle.of("다른 서버에서 바뀐 제목"));
+		categorySnapshotProvider.reloadIfChanged();
+
+		assertEquals(2, categorySnapshotProvider.current().version());
+		assertEquals("다른 서버에서 바뀐 제목", adapter.getCategoryTitle(CategoryId.of(1L)).getValue());
+	}
+
+	@Test
+	void missingFromSnapshot_fallsBackToDbAndReloads_orRejectsUnknownId() {
+		Category added = category(4L, "새 카테고리");
+		categories.add(added);
+		when(categoryJpaRepository.findById(4L)).thenReturn(Optional.of(added));
+		when(categoryJpaRepository.findById(99L)).thenReturn(Optional.empty());
+
+		assertEquals("새 카테고리", adapter.getCategoryTitle(CategoryId.of(4L)).getValue());
+		assertEquals(2, categorySnapshotProvider.current().version());
+		assertEquals("새 카테고리", adapter.getCategoryTitles(List.of(CategoryId.of(4L))).get(CategoryId.of(4L)).getValue());
+		verify(categoryJpaRepository, times(1)).findById(4L);
+
+		BaseException e = assertThrows(BaseException.class, () -> adapter.getCategoryTitle(CategoryId.of(99L)));
+		assertEquals(CategoryErrorCode.INVALID_CATEGORY_ID.getCode(), e.getCode());
+	}
+
+	private Category category(long id, String title) {
+		Category category = Category.create(CategoryTitle.of(title), CategorySummary.of("요약"), MissionDays.of(7));
+		ReflectionTestUtils.setField(category, "id", id);
+		return category;
+	}
+}
@@ -0,0 +1,141 @@
+package com.oneco.backend.mission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.category.infrastructure.CategoryJpaRepository;
+import com.oneco.backend.category.infrastructure.catalog.CategorySnapshotProvider;
+import com.oneco.backend.family.domain.relation.FamilyRelationId;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.global.lease.application.ExclusiveJobRunner;
+import com.oneco.backend.global.lease.infrastructure.JobLeaseConfig;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.application.dto.MissionBatchSummary;
+import com.oneco.backend.mission.application.service.MissionBatchService;
+import com.oneco.backend.mission.application.service.MissionStatusChanger;
+import com.oneco.backend.mission.domain.judge.MissionJudgementService;
+import com.oneco.backend.mission.domain.mission.Mission;
+import com.oneco.backend.mission.domain.mission.MissionPeriod;
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+import com.oneco.backend.mission.domain.mission.Reward;
+import com.oneco.backend.mission.domain.policy.MissionFailurePolicy;
+import com.oneco.backend.mission.domain.policy.MissionSuccessPolicy;
+import com.oneco.backend.mission.infrastructure.CategoryLookupJpaAdapter;
+import com.oneco.backend.mission.infrastructure.MissionJpaRepository;
+import com.oneco.backend.mission.infrastructure.MissionPersistenceAdapter;
+import com.oneco.backend.mission.infrastructure.MissionProgressLookupAdapter;
+
+// 청크마다 REQUIRES_NEW로 커밋되므로 테스트 트랜잭션 없이 실행하고, 끝나면 직접 지운다.
+@DataJpaTest(properties = {"mission-batch.chunk-size=7", "job-lease.store=memory"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ContextConfiguration(classes = MissionBatchServiceTest.TestConfig.class)
+class MissionBatchServiceTest {
+
+	private static final int OVERDUE = 20;
+	private static final int STILL_OPEN = 3;
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = {MissionJpaRepository.class, CategoryJpaRepository.class})
+	@Import({
+		JpaConfig.class,
+		MissionBatchService.class,
+		MissionStatusChanger.class,
+		MissionPersistenceAdapter.class,
+		MissionProgressLookupAdapter.class,
+		CategoryLookupJpaAdapter.class,
+		CategorySnapshotProvider.class,
+		MissionJudgementService.class,
+		MissionSuccessPolicy.class,
+		MissionFailurePolicy.class,
+		ExclusiveJobRunner.class,
+		JobLeaseConfig.class
+	})
+	static class TestConfig {
+	}
+
+	@Autowired
+	private MissionBatchService missionBatchService;
+
+	@Autowired
+	private MissionJpaRepository missionJpaRepository;
+
+	private final LocalDate today = LocalDate.of(2025, 3, 10);
+
+	@BeforeEach
+	void setUp() {
+		List<Mission> missions = new ArrayList<>();
+		for (int i = 0; i < OVERDUE; i++) {
+			missions.add(inProgress(MissionPeriod.of(today.minusWeeks(3), today.minusDays(1))));
+		}
+		for (int i = 0; i < STILL_OPEN; i++) {
+			missions.add(inProgress(MissionPeriod.of(today.minusWeeks(1), today.plusDays(1))));
+		}
+		missionJpaRepository.saveAll(missions);
+	}
+
+	@AfterEach
+	void tearDown() {
+		missionJpaRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void failOverdueMissions_updatesEveryChunk() {
+		MissionBatchSummary summary = missionBatchService.failOverdueMissions(today);
+
+		// 20건 / 청크 7건 -> 7 + 7 + 6
+		assertEquals(3, summary.chunks());
+		assertEquals(OVERDUE, summary.scanned());
+		assertEquals(OVERDUE, summary.updated());
+		assertEquals(0, summary.failedChunks());
+		assertEquals(OVERDUE, countByStatus(MissionStatus.FAILED));
+		assertEquals(STILL_OPEN, countByStatus(MissionStatus.IN_PROGRESS));
+	}
+
+	@Test
+	void failOverdueMissions_secondRun_findsNothing() {
+		missionBatchService.failOverdueMissions(today);
+
+		MissionBatchSummary summary = missionBatchService.failOverdueMissions(today);
+
+		assertEquals(0, summary.chunks());
+		assertEquals(0, summary.updated());
+	}
+
+	private Mission inProgress(MissionPeriod period) {
+		Mission mission = Mission.of(
+			MemberId.of(1L),
+			MemberId.of(2L),
+			FamilyRelationId.of(1L),
+			CategoryId.of(1L),
+			period,
+			Reward.of("놀이공원", "잘했어!")
+		);
+		mission.acceptApproval();
+		mission.markInProgress();
+		return mission;
+	}
+
+	private long countByStatus(MissionStatus status) {
+		return missionJpaRepository.findAll().stream()
+			.filter(mission -> mission.getStatus() == status)
+			.count();
+	}
+}
@@ -0,0 +1,116 @@
+package com.oneco.backend.mission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.oneco.backend.StudyRecord.application.port.dto.HomeDashboardMissionSnapshot;
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.family.domain.relation.FamilyRelationId;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.domain.mission.Mission;
+import com.oneco.backend.mission.domain.mission.MissionPeriod;
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+import com.oneco.backend.mission.domain.mission.Reward;
+import com.oneco.backend.mission.infrastructure.MissionJpaRepository;
+
+// 회원 참여 미션 조회 (수신자 / 요청자 UNION ALL)가 기존 OR 조건과 같은 결과를 내는지 확인한다.
+@DataJpaTest
+@ContextConfiguration(classes = MissionMemberLookupTest.TestConfig.class)
+class MissionMemberLookupTest {
+
+	private static final long MEMBER_ID = 1L;
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+	@Autowired
+	private MissionJpaRepository missionJpaRepository;
+
+	private Long asRecipientOld;
+	private Long asRequester;
+	private Long asRecipientNew;
+
+	@BeforeEach
+	void setUp() {
+		// 저장 순서 = createdAt 순서
+		asRecipientOld = save(2L, MEMBER_ID, 10L, MissionStatus.IN_PROGRESS);
+		asRequester = save(MEMBER_ID, 3L, 20L, MissionStatus.IN_PROGRESS);
+		asRecipientNew = save(4L, MEMBER_ID, 10L, MissionStatus.IN_PROGRESS);
+		save(MEMBER_ID, 3L, 10L, MissionStatus.COMPLETED); // 다른 상태
+		save(5L, 6L, 10L, MissionStatus.IN_PROGRESS); // 다른 회원
+	}
+
+	@Test
+	void findLatestActive_readsBothRolesNewestFirst() {
+		List<Long> ids = missionJpaRepository.findLatestActive(MEMBER_ID, MissionStatus.IN_PROGRESS).stream()
+			.map(Mission::getId)
+			.toList();
+
+		assertEquals(List.of(asRecipientNew, asRequester, asRecipientOld), ids);
+	}
+
+	@Test
+	void findLatestActiveByCategory_filtersCategory() {
+		List<Mission> missions = missionJpaRepository.findLatestActiveByCategory(
+			MEMBER_ID, 20L, MissionStatus.IN_PROGRESS);
+
+		assertEquals(1, missions.size());
+		assertEquals(asRequester, missions.get(0).getId());
+	}
+
+	@Test
+	void findTop1LatestActiveDashboard_returnsNewest() {
+		List<HomeDashboardMissionSnapshot> snapshots = missionJpaRepository.findTop1LatestActiveDashboard(
+			MEMBER_ID, MissionStatus.IN_PROGRESS, PageRequest.of(0, 1));
+
+		assertEquals(1, snapshots.size());
+		assertEquals(asRecipientNew, snapshots.get(0).missionId());
+	}
+
+	@Test
+	void findLatestActive_returnsSelfMissionOnce() {
+		Long self = save(MEMBER_ID, MEMBER_ID, 30L, MissionStatus.IN_PROGRESS);
+
+		List<Long> ids = missionJpaRepository.findLatestActive(MEMBER_ID, MissionStatus.IN_PROGRESS).stream()
+			.map(Mission::getId)
+			.toList();
+
+		assertEquals(List.of(self, asRecipientNew, asRequester, asRecipientOld), ids);
+	}
+
+	private Long save(long requesterId, long recipientId, long categoryId, MissionStatus status) {
+		Mission mission = Mission.of(
+			MemberId.of(requesterId),
+			MemberId.of(recipientId),
+			FamilyRelationId.of(1L),
+			CategoryId.of(categoryId),
+			MissionPeriod.of(TODAY, TODAY.plusWeeks(1)),
+			Reward.of("놀이공원", "잘했어!")
+		);
+		mission.acceptApproval();
+		mission.markInProgress();
+		if (status == MissionStatus.COMPLETED) {
+			mission.markCompleted();
+		}
+		return missionJpaRepository.saveAndFlush(mission).getId();
+	}
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = MissionJpaRepository.class)
+	@Import(JpaConfig.class)
+	static class TestConfig {
+	}
+}
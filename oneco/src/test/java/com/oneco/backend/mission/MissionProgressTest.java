@@ -0,0 +1,68 @@
+package com.oneco.backend.mission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.oneco.backend.category.domain.category.MissionDays;
+import com.oneco.backend.global.exception.BaseException;
+import com.oneco.backend.mission.domain.judge.dto.MissionProgressSnapshot;
+import com.oneco.backend.mission.domain.progress.MissionProgress;
+
+class MissionProgressTest {
+
+	@Test
+	void applySubmission_firstSubmission_marksDayAndAccumulates() {
+		MissionProgress progress = MissionProgress.start(1L);
+
+		progress.applySubmission(1, 3, 2, 0);
+		progress.applySubmission(3, 3, 3, 0);
+
+		BitSet expected = new BitSet();
+		expected.set(0);
+		expected.set(2);
+		assertEquals(expected, progress.getCompletedDays());
+		assertTrue(progress.isCompleted(1));
+		assertFalse(progress.isCompleted(2));
+		assertTrue(progress.isCompleted(3));
+		assertEquals(2, progress.getCompletedCount());
+		assertEquals(6, progress.getSolvedQuizCount());
+		assertEquals(5, progress.getCorrectQuizCount());
+	}
+
+	@Test
+	void applySubmission_retry_replacesCorrectCountOnly() {
+		MissionProgress progress = MissionProgress.start(1L);
+		progress.applySubmission(2, 3, 1, 0);
+
+		// 2차 제출: 완료 일수 / 푼 문제 수는 그대로, 정답 수만 1 -> 3으로 교체
+		progress.applySubmission(2, 3, 3, 1);
+
+		assertEquals(1, progress.getCompletedCount());
+		assertEquals(3, progress.getSolvedQuizCount());
+		assertEquals(3, progress.getCorrectQuizCount());
+		assertEquals(new MissionProgressSnapshot(10, 1, 30, 3, 3), progress.toSnapshot(10, 3));
+	}
+
+	@Test
+	void applySubmission_lastAllowedDay_fitsInColumn() {
+		MissionProgress progress = MissionProgress.start(1L);
+
+		progress.applySubmission(MissionDays.MAX_DAYS, 3, 3, 0);
+
+		assertTrue(progress.isCompleted(MissionDays.MAX_DAYS));
+		assertEquals(MissionDays.MAX_DAYS, progress.getCompletedDays().length());
+	}
+
+	@Test
+	void applySubmission_outOfRangeDay_throws() {
+		MissionProgress progress = MissionProgress.start(1L);
+
+		assertThrows(BaseException.class, () -> progress.applySubmission(0, 3, 3, 0));
+		assertThrows(BaseException.class, () -> progress.applySubmission(MissionDays.MAX_DAYS + 1, 3, 3, 0));
+		assertFalse(progress.isCompleted(0));
+		assertEquals(0, progress.getCompletedCount());
+	}
+}
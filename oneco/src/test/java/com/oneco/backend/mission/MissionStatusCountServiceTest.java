@@ -0,0 +1,215 @@
+package com.oneco.backend.mission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneco.backend.category.domain.category.CategoryId;
+import com.oneco.backend.family.domain.relation.FamilyRelationId;
+import com.oneco.backend.global.config.JpaConfig;
+import com.oneco.backend.member.domain.MemberId;
+import com.oneco.backend.mission.application.dto.MissionStatusCounts;
+import com.oneco.backend.mission.application.port.out.MissionPersistencePort;
+import com.oneco.backend.mission.application.port.out.MissionStatusCountCachePort;
+import com.oneco.backend.mission.application.service.MissionStatusCountService;
+import com.oneco.backend.mission.domain.event.MissionStatusBulkChangedEvent;
+import com.oneco.backend.mission.domain.mission.Mission;
+import com.oneco.backend.mission.domain.mission.MissionPeriod;
+import com.oneco.backend.mission.domain.mission.MissionStatus;
+import com.oneco.backend.mission.domain.mission.Reward;
+import com.oneco.backend.mission.infrastructure.MissionJpaRepository;
+import com.oneco.backend.mission.infrastructure.MissionPersistenceAdapter;
+
+// 상태 변경 이벤트는 커밋 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 끝나면 직접 지운다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ContextConfiguration(classes = MissionStatusCountServiceTest.TestConfig.class)
+class MissionStatusCountServiceTest {
+
+	private static final FamilyRelationId RELATION = FamilyRelationId.of(1L);
+	private static final FamilyRelationId OTHER_RELATION = FamilyRelationId.of(2L);
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+	@Autowired
+	private MissionStatusCountService missionStatusCountService;
+
+	@Autowired
+	private MissionPersistencePort missionPersistencePort;
+
+	@Autowired
+	private MissionJpaRepository missionJpaRepository;
+
+	@Autowired
+	private InMemoryCounterCache counterCache;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 3; i++) {
+			missionJpaRepository.save(newMission(RELATION));
+		}
+		missionJpaRepository.save(newMission(OTHER_RELATION));
+	}
+
+	@AfterEach
+	void tearDown() {
+		missionJpaRepository.deleteAllInBatch();
+		counterCache.clear();
+	}
+
+	@Test
+	void load_aggregatesOnceThenFollowsTransitions() {
+		MissionStatusCounts first = missionStatusCountService.load(RELATION);
+		assertEquals(3, first.count(MissionStatus.APPROVAL_REQUEST));
+		assertEquals(3, first.total());
+		assertEquals(3, first.inProgress());
+		assertTrue(counterCache.find(RELATION.getValue()).isPresent());
+
+		List<Mission> missions = missionJpaRepository.findAll().stream()
+			.filter(mission -> mission.getFamilyRelationId().getValue().equals(RELATION.getValue()))
+			.toList();
+		Mission accepted = missions.get(0);
+		accepted.acceptApproval();
+		accepted.markInProgress();
+		missionJpaRepository.save(accepted);
+		Mission rejected = missions.get(1);
+		rejected.rejectApproval();
+		missionJpaRepository.save(rejected);
+		missionJpaRepository.save(newMission(RELATION));
+
+		// 카운터가 커밋 이벤트로 갱신되어 DB 집계와 같다.
+		MissionStatusCounts cached = counterCache.find(RELATION.getValue()).orElseThrow();
+		assertEquals(missionPersistencePort.countMissionsByStatus(RELATION), cached);
+		assertEquals(cached, missionStatusCountService.load(RELATION));
+		assertEquals(2, cached.count(MissionStatus.APPROVAL_REQUEST));
+		assertEquals(1, cached.count(MissionStatus.IN_PROGRESS));
+		assertEquals(1, cached.count(MissionStatus.APPROVAL_REJECTED));
+		assertEquals(4, cached.total());
+		assertEquals(3, cached.inProgress());
+		assertEquals(1, cached.finished());
+	}
+
+	@Test
+	void load_doesNotStoreAggregateWhenChangedMeanwhile() {
+		counterCache.beforeStore = () -> missionJpaRepository.save(newMission(RELATION));
+
+		MissionStatusCounts counts = missionStatusCountService.load(RELATION);
+
+		assertEquals(3, counts.total());
+		assertTrue(counterCache.find(RELATION.getValue()).isEmpty());
+		counterCache.beforeStore = null;
+		assertEquals(4, missionStatusCountService.load(RELATION).total());
+	}
+
+	@Test
+	void onBulkStatusChanged_evictsCounters() {
+		missionStatusCountService.load(RELATION);
+		missionStatusCountService.load(OTHER_RELATION);
+
+		missionStatusCountService.onBulkStatusChanged(new MissionStatusBulkChangedEvent(
+			List.of(RELATION.getValue()), MissionStatus.IN_PROGRESS, MissionStatus.FAILED));
+
+		assertTrue(counterCache.find(RELATION.getValue()).isEmpty());
+		assertTrue(counterCache.find(OTHER_RELATION.getValue()).isPresent());
+	}
+
+	private Mission newMission(FamilyRelationId relationId) {
+		return Mission.of(
+			MemberId.of(1L),
+			MemberId.of(2L),
+			relationId,
+			CategoryId.of(1L),
+			MissionPeriod.of(TODAY, TODAY.plusWeeks(1)),
+			Reward.of("놀이공원", "잘했어!")
+		);
+	}
+
+	// Redis 카운터와 같은 규칙: 변경마다 generation +1, 카운터가 있을 때만 +1/-1
+	static class InMemoryCounterCache implements MissionStatusCountCachePort {
+
+		private final Map<Long, EnumMap<MissionStatus, Long>> counters = new HashMap<>();
+		private final Map<Long, Long> generations = new HashMap<>();
+		private Runnable beforeStore;
+
+		@Override
+		public synchronized Optional<MissionStatusCounts> find(Long familyRelationId) {
+			return Optional.ofNullable(counters.get(familyRelationId)).map(MissionStatusCounts::new);
+		}
+
+		@Override
+		public synchronized long currentGeneration(Long familyRelationId) {
+			return generations.getOrDefault(familyRelationId, 0L);
+		}
+
+		@Override
+		public void storeIfUnchanged(Long familyRelationId, long generation, MissionStatusCounts counts) {
+			if (beforeStore != null) {
+				beforeStore.run();
+			}
+			synchronized (this) {
+				if (currentGeneration(familyRelationId) == generation && !counters.containsKey(familyRelationId)) {
+					EnumMap<MissionStatus, Long> copy = new EnumMap<>(MissionStatus.class);
+					copy.putAll(counts.countsByStatus());
+					counters.put(familyRelationId, copy);
+				}
+			}
+		}
+
+		@Override
+		public synchronized void applyTransition(Long familyRelationId, MissionStatus from, MissionStatus to) {
+			generations.merge(familyRelationId, 1L, Long::sum);
+			EnumMap<MissionStatus, Long> counter = counters.get(familyRelationId);
+			if (counter == null) {
+				return;
+			}
+			if (from != null) {
+				counter.merge(from, -1L, Long::sum);
+			}
+			counter.merge(to, 1L, Long::sum);
+		}
+
+		@Override
+		public synchronized void evict(Collection<Long> familyRelationIds) {
+			for (Long familyRelationId : familyRelationIds) {
+				generations.merge(familyRelationId, 1L, Long::sum);
+				counters.remove(familyRelationId);
+			}
+		}
+
+		synchronized void clear() {
+			counters.clear();
+			generations.clear();
+		}
+	}
+
+	@Configuration
+	@EntityScan(basePackages = "com.oneco.backend")
+	@EnableJpaRepositories(basePackageClasses = MissionJpaRepository.class)
+	@Import({JpaConfig.class, MissionPersistenceAdapter.class, MissionStatusCountService.class})
+	static class TestConfig {
+
+		@Bean
+		InMemoryCounterCache inMemoryCounterCache() {
+			return new InMemoryCounterCache();
+		}
+	}
+}